@@ -20,20 +20,25 @@ package org.apache.shenyu.admin.controller;
 import com.google.common.collect.Maps;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.shenyu.admin.listener.http.HttpLongPollingDataChangedListener;
+import org.apache.shenyu.admin.service.QuotaService;
 import org.apache.shenyu.admin.utils.ShenyuResultMessage;
 import org.apache.shenyu.admin.model.result.ShenyuAdminResult;
 import org.apache.shenyu.common.dto.ConfigData;
+import org.apache.shenyu.common.dto.QuotaData;
 import org.apache.shenyu.common.enums.ConfigGroupEnum;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import javax.annotation.Resource;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import javax.validation.constraints.NotNull;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -48,6 +53,9 @@ public class ConfigController {
     @Resource
     private HttpLongPollingDataChangedListener longPollingListener;
 
+    @Resource
+    private QuotaService quotaService;
+
     /**
      * Fetch configs shenyu result.
      *
@@ -75,4 +83,16 @@ public class ConfigController {
         longPollingListener.doLongPolling(request, response);
     }
 
+    /**
+     * Report the demand of a gateway node, and get the shares assigned to it.
+     *
+     * @param nodeId        the node id
+     * @param quotaDataList the quota data with the limit and the demand of every key
+     * @return the shenyu result with the quota data with the share of every key
+     */
+    @PostMapping(value = "/quota")
+    public ShenyuAdminResult quota(@RequestParam final String nodeId, @RequestBody final List<QuotaData> quotaDataList) {
+        return ShenyuAdminResult.success(ShenyuResultMessage.SUCCESS, quotaService.report(nodeId, quotaDataList));
+    }
+
 }
@@ -20,10 +20,18 @@ package org.apache.shenyu.admin.listener.websocket;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.collections4.MapUtils;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.shenyu.admin.service.QuotaService;
 import org.apache.shenyu.admin.service.SyncDataService;
+import org.apache.shenyu.admin.shiro.bean.StatelessToken;
 import org.apache.shenyu.admin.spring.SpringBeanUtils;
 import org.apache.shenyu.admin.utils.ThreadLocalUtil;
+import org.apache.shenyu.common.constant.Constants;
+import org.apache.shenyu.common.dto.QuotaData;
+import org.apache.shenyu.common.dto.WebsocketData;
 import org.apache.shenyu.common.enums.DataEventTypeEnum;
+import org.apache.shenyu.common.utils.GsonUtils;
+import org.apache.shiro.authc.AuthenticationException;
+import org.apache.shiro.mgt.SecurityManager;
 
 import javax.websocket.OnClose;
 import javax.websocket.OnError;
@@ -32,7 +40,9 @@ import javax.websocket.OnOpen;
 import javax.websocket.Session;
 import javax.websocket.server.ServerEndpoint;
 import java.io.IOException;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.CopyOnWriteArraySet;
 
@@ -49,6 +59,8 @@ public class WebsocketCollector {
 
     private static final String SESSION_KEY = "sessionKey";
 
+    private static final String AUTHENTICATED_KEY = "authenticated";
+
     /**
      * On open.
      *
@@ -87,7 +99,37 @@ public class WebsocketCollector {
             } finally {
                 ThreadLocalUtil.clear();
             }
+        } else if (message.startsWith("{")) {
+            WebsocketData<?> websocketData = GsonUtils.getInstance().fromJson(message, WebsocketData.class);
+            if (DataEventTypeEnum.QUOTA.name().equals(websocketData.getEventType())) {
+                if (!isAuthenticated(session)) {
+                    log.warn("websocket quota report of client[{}] ignored, the access token is missing or invalid", getClientIp(session));
+                    return;
+                }
+                List<QuotaData> quotaDataList = GsonUtils.getInstance().fromList(GsonUtils.getInstance().toJson(websocketData.getData()), QuotaData.class);
+                List<QuotaData> shares = SpringBeanUtils.getInstance().getBean(QuotaService.class).report(session.getId(), quotaDataList);
+                sendMessageBySession(session, GsonUtils.getInstance().toJson(new WebsocketData<>(null, DataEventTypeEnum.QUOTA.name(), shares)));
+            }
+        }
+    }
+
+    private static boolean isAuthenticated(final Session session) {
+        Map<String, Object> userProperties = session.getUserProperties();
+        Object authenticated = userProperties.get(AUTHENTICATED_KEY);
+        if (Objects.nonNull(authenticated)) {
+            return (Boolean) authenticated;
+        }
+        Object token = userProperties.get(Constants.X_ACCESS_TOKEN);
+        boolean result = false;
+        if (Objects.nonNull(token)) {
+            try {
+                result = Objects.nonNull(SpringBeanUtils.getInstance().getBean(SecurityManager.class).authenticate(new StatelessToken(token.toString())));
+            } catch (AuthenticationException e) {
+                log.warn("websocket access token of client[{}] is invalid: {}", getClientIp(session), e.getMessage());
+            }
         }
+        userProperties.put(AUTHENTICATED_KEY, result);
+        return result;
     }
 
     /**
@@ -18,11 +18,14 @@
 package org.apache.shenyu.admin.listener.websocket;
 
 import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.collections4.CollectionUtils;
+import org.apache.shenyu.common.constant.Constants;
 
 import javax.servlet.http.HttpSession;
 import javax.websocket.HandshakeResponse;
 import javax.websocket.server.HandshakeRequest;
 import javax.websocket.server.ServerEndpointConfig;
+import java.util.List;
 
 /**
  * The Websocket configurator.
@@ -36,6 +39,10 @@ public class WebsocketConfigurator extends ServerEndpointConfig.Configurator {
     public void modifyHandshake(final ServerEndpointConfig sec, final HandshakeRequest request, final HandshakeResponse response) {
         HttpSession httpSession = (HttpSession) request.getHttpSession();
         sec.getUserProperties().put(WebsocketListener.CLIENT_IP_NAME, httpSession.getAttribute(WebsocketListener.CLIENT_IP_NAME));
+        List<String> tokens = request.getHeaders().get(Constants.X_ACCESS_TOKEN);
+        if (CollectionUtils.isNotEmpty(tokens)) {
+            sec.getUserProperties().put(Constants.X_ACCESS_TOKEN, tokens.get(0));
+        }
         super.modifyHandshake(sec, request, response);
     }
 }
@@ -0,0 +1,42 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.admin.service;
+
+import org.apache.shenyu.common.dto.QuotaData;
+
+import java.util.List;
+
+/**
+ * The interface Quota service, splits the cluster wide rate limits between the gateway nodes.
+ *
+ * <p>The demands are kept in the memory of the admin they are reported to and not shared between admins, so a single
+ * admin has to own the allocation: with several admins the shares each one assigns add up to more than the limit.
+ * The gateway nodes report to the first admin of their sync urls and only fail over to the next one when it is
+ * unreachable, so every node has to list the admins in the same order.
+ */
+public interface QuotaService {
+
+    /**
+     * Record the demand reported by a gateway node, and assign its shares.
+     *
+     * @param nodeId        the node id
+     * @param quotaDataList the quota data with the limit and the demand of every key
+     * @return the quota data with the share of every key
+     */
+    List<QuotaData> report(String nodeId, List<QuotaData> quotaDataList);
+}
@@ -0,0 +1,137 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.admin.service.impl;
+
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import com.google.gson.JsonParseException;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.shenyu.admin.mapper.PluginMapper;
+import org.apache.shenyu.admin.mapper.RuleMapper;
+import org.apache.shenyu.admin.mapper.SelectorMapper;
+import org.apache.shenyu.admin.model.entity.PluginDO;
+import org.apache.shenyu.admin.model.entity.RuleDO;
+import org.apache.shenyu.admin.model.entity.SelectorDO;
+import org.apache.shenyu.admin.service.QuotaService;
+import org.apache.shenyu.common.dto.QuotaData;
+import org.apache.shenyu.common.dto.convert.RateLimiterHandle;
+import org.apache.shenyu.common.enums.PluginEnum;
+import org.apache.shenyu.common.enums.RateLimiterModeEnum;
+import org.apache.shenyu.common.utils.GsonUtils;
+import org.apache.shenyu.common.utils.QuotaTable;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Implementation of the {@link org.apache.shenyu.admin.service.QuotaService}.
+ *
+ * <p>Only the last demand of every node is kept per key, the shares are recomputed from them whenever a node reports,
+ * so they follow the demand within a report interval. A node which stops reporting is forgotten after
+ * {@link #NODE_EXPIRE_MILLIS}, and its share goes back to the others.
+ *
+ * <p>Only the keys of enabled rules of the rate limiter plugin in the cluster mode are accepted, and their limit is
+ * taken from the rule rather than from the report. The demands live in the memory of this admin, so the admin the
+ * gateway nodes report to owns the allocation, see {@link QuotaService}.
+ */
+@Slf4j
+@Service
+public class QuotaServiceImpl implements QuotaService {
+
+    private static final long NODE_EXPIRE_MILLIS = TimeUnit.SECONDS.toMillis(10);
+
+    private static final int MAX_KEYS = 10000;
+
+    private static final int MAX_NODES = 256;
+
+    private final QuotaTable quotaTable = new QuotaTable(NODE_EXPIRE_MILLIS, MAX_KEYS, MAX_NODES);
+
+    private final LoadingCache<String, Optional<Double>> clusterLimits;
+
+    private final RuleMapper ruleMapper;
+
+    private final SelectorMapper selectorMapper;
+
+    private final PluginMapper pluginMapper;
+
+    public QuotaServiceImpl(final RuleMapper ruleMapper, final SelectorMapper selectorMapper, final PluginMapper pluginMapper) {
+        this.ruleMapper = ruleMapper;
+        this.selectorMapper = selectorMapper;
+        this.pluginMapper = pluginMapper;
+        this.clusterLimits = CacheBuilder.newBuilder()
+                .maximumSize(MAX_KEYS)
+                .expireAfterWrite(NODE_EXPIRE_MILLIS, TimeUnit.MILLISECONDS)
+                .build(new CacheLoader<String, Optional<Double>>() {
+                    @Override
+                    public Optional<Double> load(final String ruleId) {
+                        return Optional.ofNullable(loadClusterLimit(ruleId));
+                    }
+                });
+    }
+
+    @Override
+    public List<QuotaData> report(final String nodeId, final List<QuotaData> quotaDataList) {
+        long now = System.currentTimeMillis();
+        List<QuotaData> shares = new ArrayList<>(quotaDataList.size());
+        for (QuotaData quotaData : quotaDataList) {
+            if (StringUtils.isBlank(quotaData.getKey())) {
+                continue;
+            }
+            Optional<Double> limit = clusterLimits.getUnchecked(StringUtils.substringBefore(quotaData.getKey(), "-"));
+            if (!limit.isPresent()) {
+                log.debug("quota of node {} ignored, {} is not a key of a cluster mode rule", nodeId, quotaData.getKey());
+                continue;
+            }
+            double share = quotaTable.report(nodeId, quotaData.getKey(), limit.get(), Math.max(0, quotaData.getDemand()), now);
+            if (share == QuotaTable.NO_SHARE) {
+                log.warn("quota of node {} ignored, the quota table has no room for {}", nodeId, quotaData.getKey());
+                continue;
+            }
+            shares.add(new QuotaData(quotaData.getKey(), limit.get(), quotaData.getDemand(), share));
+        }
+        return shares;
+    }
+
+    private Double loadClusterLimit(final String ruleId) {
+        RuleDO ruleDO = ruleMapper.selectById(ruleId);
+        if (Objects.isNull(ruleDO) || !Boolean.TRUE.equals(ruleDO.getEnabled()) || StringUtils.isBlank(ruleDO.getHandle())) {
+            return null;
+        }
+        SelectorDO selectorDO = selectorMapper.selectById(ruleDO.getSelectorId());
+        PluginDO pluginDO = Objects.isNull(selectorDO) ? null : pluginMapper.selectById(selectorDO.getPluginId());
+        if (Objects.isNull(pluginDO) || !PluginEnum.RATE_LIMITER.getName().equals(pluginDO.getName())) {
+            return null;
+        }
+        RateLimiterHandle limiterHandle;
+        try {
+            limiterHandle = GsonUtils.getInstance().fromJson(ruleDO.getHandle(), RateLimiterHandle.class);
+        } catch (JsonParseException e) {
+            return null;
+        }
+        if (Objects.isNull(limiterHandle) || RateLimiterModeEnum.CLUSTER != RateLimiterModeEnum.acquireByName(limiterHandle.getLimiterMode())) {
+            return null;
+        }
+        return limiterHandle.getReplenishRate();
+    }
+}
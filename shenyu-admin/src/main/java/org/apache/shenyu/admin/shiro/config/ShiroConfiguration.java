@@ -39,6 +39,8 @@ import java.util.Map;
 @Configuration
 public class ShiroConfiguration {
 
+    private static final String QUOTA_PATH = "/configs/quota";
+
     /**
      * generate WebSecurityManager.
      *
@@ -71,6 +73,8 @@ public class ShiroConfiguration {
 
         Map<String, String> filterChainDefinitionMap = new LinkedHashMap<>();
 
+        // the quota reports of the gateway nodes are authenticated, although the other sync paths are on the white list
+        filterChainDefinitionMap.put(QUOTA_PATH, "statelessAuth");
         for (String s : shiroProperties.getWhiteList()) {
             filterChainDefinitionMap.put(s, "anon");
         }
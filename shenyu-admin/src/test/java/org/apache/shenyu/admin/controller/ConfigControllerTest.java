@@ -18,9 +18,12 @@
 package org.apache.shenyu.admin.controller;
 
 import org.apache.shenyu.admin.listener.http.HttpLongPollingDataChangedListener;
+import org.apache.shenyu.admin.service.QuotaService;
 import org.apache.shenyu.admin.utils.ShenyuResultMessage;
 import org.apache.shenyu.common.dto.ConfigData;
+import org.apache.shenyu.common.dto.QuotaData;
 import org.apache.shenyu.common.enums.ConfigGroupEnum;
+import org.apache.shenyu.common.utils.GsonUtils;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -35,6 +38,7 @@ import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import java.util.Collections;
+import java.util.List;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.core.Is.is;
 import static org.mockito.ArgumentMatchers.any;
@@ -59,6 +63,9 @@ public final class ConfigControllerTest {
     @Mock
     private HttpLongPollingDataChangedListener mockLongPollingListener;
 
+    @Mock
+    private QuotaService mockQuotaService;
+
     @Before
     public void setUp() {
         this.mockMvc = MockMvcBuilders.standaloneSetup(configController).build();
@@ -94,4 +101,19 @@ public final class ConfigControllerTest {
         assertThat(response.getStatus()).isEqualTo(HttpStatus.OK.value());
         verify(mockLongPollingListener).doLongPolling(any(HttpServletRequest.class), any(HttpServletResponse.class));
     }
+
+    @Test
+    public void testQuota() throws Exception {
+        final List<QuotaData> quotaDataList = Collections.singletonList(new QuotaData("rule-1", 100, 80, 0));
+        doReturn(Collections.singletonList(new QuotaData("rule-1", 100, 80, 60))).when(mockQuotaService).report("node-1", quotaDataList);
+
+        // Run the test
+        mockMvc.perform(post("/configs/quota")
+                .param("nodeId", "node-1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(GsonUtils.getInstance().toJson(quotaDataList)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.message", is(ShenyuResultMessage.SUCCESS)))
+                .andExpect(jsonPath("$.data[0].share", is(60.0)));
+    }
 }
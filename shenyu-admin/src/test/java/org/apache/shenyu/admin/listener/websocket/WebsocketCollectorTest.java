@@ -17,10 +17,18 @@
 
 package org.apache.shenyu.admin.listener.websocket;
 
+import org.apache.shenyu.admin.service.QuotaService;
 import org.apache.shenyu.admin.service.SyncDataService;
+import org.apache.shenyu.admin.shiro.bean.StatelessToken;
 import org.apache.shenyu.admin.spring.SpringBeanUtils;
 import org.apache.shenyu.admin.utils.ThreadLocalUtil;
+import org.apache.shenyu.common.constant.Constants;
+import org.apache.shenyu.common.dto.QuotaData;
+import org.apache.shenyu.common.dto.WebsocketData;
 import org.apache.shenyu.common.enums.DataEventTypeEnum;
+import org.apache.shenyu.common.utils.GsonUtils;
+import org.apache.shiro.authc.SimpleAuthenticationInfo;
+import org.apache.shiro.mgt.SecurityManager;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -33,10 +41,14 @@ import org.springframework.test.util.ReflectionTestUtils;
 import javax.websocket.RemoteEndpoint;
 import javax.websocket.Session;
 import java.io.IOException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Set;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNull;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -54,6 +66,12 @@ public final class WebsocketCollectorTest {
     @Mock
     private SyncDataService syncDataService;
 
+    @Mock
+    private QuotaService quotaService;
+
+    @Mock
+    private SecurityManager securityManager;
+
     @Before
     public void setUp() {
         websocketCollector = new WebsocketCollector();
@@ -79,6 +97,39 @@ public final class WebsocketCollectorTest {
         websocketCollector.onClose(session);
     }
 
+    @Test
+    public void testOnQuotaMessage() throws IOException {
+        ConfigurableApplicationContext context = mock(ConfigurableApplicationContext.class);
+        SpringBeanUtils.getInstance().setCfgContext(context);
+        when(SpringBeanUtils.getInstance().getBean(QuotaService.class)).thenReturn(quotaService);
+        when(SpringBeanUtils.getInstance().getBean(SecurityManager.class)).thenReturn(securityManager);
+        when(securityManager.authenticate(any(StatelessToken.class))).thenReturn(new SimpleAuthenticationInfo());
+        when(session.getUserProperties()).thenReturn(new HashMap<>(Collections.singletonMap(Constants.X_ACCESS_TOKEN, "token")));
+        RemoteEndpoint.Basic basic = mock(RemoteEndpoint.Basic.class);
+        when(session.getBasicRemote()).thenReturn(basic);
+        when(session.getId()).thenReturn("node-1");
+        List<QuotaData> quotaDataList = Collections.singletonList(new QuotaData("rule-1", 100, 80, 0));
+        List<QuotaData> shares = Collections.singletonList(new QuotaData("rule-1", 100, 80, 60));
+        when(quotaService.report("node-1", quotaDataList)).thenReturn(shares);
+        websocketCollector.onOpen(session);
+        websocketCollector.onMessage(GsonUtils.getInstance().toJson(new WebsocketData<>(null, DataEventTypeEnum.QUOTA.name(), quotaDataList)), session);
+        Mockito.verify(basic).sendText(GsonUtils.getInstance().toJson(new WebsocketData<>(null, DataEventTypeEnum.QUOTA.name(), shares)));
+        websocketCollector.onClose(session);
+    }
+
+    @Test
+    public void testOnQuotaMessageWithoutToken() {
+        ConfigurableApplicationContext context = mock(ConfigurableApplicationContext.class);
+        SpringBeanUtils.getInstance().setCfgContext(context);
+        when(session.getUserProperties()).thenReturn(new HashMap<>());
+        List<QuotaData> quotaDataList = Collections.singletonList(new QuotaData("rule-1", 100, 80, 0));
+        websocketCollector.onOpen(session);
+        websocketCollector.onMessage(GsonUtils.getInstance().toJson(new WebsocketData<>(null, DataEventTypeEnum.QUOTA.name(), quotaDataList)), session);
+        Mockito.verify(context, Mockito.never()).getBean(QuotaService.class);
+        Mockito.verify(session, Mockito.never()).getBasicRemote();
+        websocketCollector.onClose(session);
+    }
+
     @Test
     public void testOnClose() {
         websocketCollector.onOpen(session);
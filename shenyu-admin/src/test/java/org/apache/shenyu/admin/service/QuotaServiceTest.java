@@ -0,0 +1,129 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.admin.service;
+
+import org.apache.shenyu.admin.mapper.PluginMapper;
+import org.apache.shenyu.admin.mapper.RuleMapper;
+import org.apache.shenyu.admin.mapper.SelectorMapper;
+import org.apache.shenyu.admin.model.entity.PluginDO;
+import org.apache.shenyu.admin.model.entity.RuleDO;
+import org.apache.shenyu.admin.model.entity.SelectorDO;
+import org.apache.shenyu.admin.service.impl.QuotaServiceImpl;
+import org.apache.shenyu.common.dto.QuotaData;
+import org.apache.shenyu.common.enums.PluginEnum;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * test for QuotaService.
+ */
+@RunWith(MockitoJUnitRunner.class)
+public final class QuotaServiceTest {
+
+    private static final double DELTA = 1e-9;
+
+    private static final String CLUSTER_HANDLE = "{\"algorithmName\":\"tokenBucket\",\"replenishRate\":100,\"burstCapacity\":100,\"limiterMode\":\"cluster\"}";
+
+    @Mock
+    private RuleMapper ruleMapper;
+
+    @Mock
+    private SelectorMapper selectorMapper;
+
+    @Mock
+    private PluginMapper pluginMapper;
+
+    private QuotaService quotaService;
+
+    @Before
+    public void setUp() {
+        lenient().when(ruleMapper.selectById("1")).thenReturn(buildRule("1", CLUSTER_HANDLE));
+        lenient().when(ruleMapper.selectById("2")).thenReturn(buildRule("2", CLUSTER_HANDLE.replace("100", "10")));
+        lenient().when(ruleMapper.selectById("3")).thenReturn(buildRule("3", CLUSTER_HANDLE.replace("cluster", "local")));
+        lenient().when(selectorMapper.selectById(anyString())).thenReturn(SelectorDO.builder().id("selector").pluginId("plugin").build());
+        lenient().when(pluginMapper.selectById("plugin")).thenReturn(PluginDO.builder().id("plugin").name(PluginEnum.RATE_LIMITER.getName()).build());
+        quotaService = new QuotaServiceImpl(ruleMapper, selectorMapper, pluginMapper);
+    }
+
+    @Test
+    public void testReportSingleNode() {
+        List<QuotaData> shares = quotaService.report("node-1", Collections.singletonList(new QuotaData("1", 0, 500, 0)));
+        assertEquals(1, shares.size());
+        assertEquals("1", shares.get(0).getKey());
+        assertEquals(100, shares.get(0).getLimit(), DELTA);
+        assertEquals(100, shares.get(0).getShare(), DELTA);
+    }
+
+    @Test
+    public void testReportSkewedNodes() {
+        quotaService.report("node-1", Collections.singletonList(new QuotaData("1-client", 100, 20, 0)));
+        double hot = quotaService.report("node-2", Collections.singletonList(new QuotaData("1-client", 100, 300, 0))).get(0).getShare();
+        double cold = quotaService.report("node-1", Collections.singletonList(new QuotaData("1-client", 100, 20, 0))).get(0).getShare();
+        assertEquals(80, hot, DELTA);
+        assertEquals(20, cold, DELTA);
+    }
+
+    @Test
+    public void testReportKeysApart() {
+        quotaService.report("node-1", Collections.singletonList(new QuotaData("1", 100, 100, 0)));
+        List<QuotaData> shares = quotaService.report("node-2", Arrays.asList(new QuotaData("1", 100, 100, 0), new QuotaData("2", 10, 100, 0)));
+        assertEquals(50, shares.get(0).getShare(), DELTA);
+        assertEquals(10, shares.get(1).getShare(), DELTA);
+    }
+
+    @Test
+    public void testReportUnknownKeysIgnored() {
+        List<QuotaData> shares = quotaService.report("node-1", Arrays.asList(new QuotaData("3", 100, 100, 0),
+                new QuotaData("4", 100, 100, 0), new QuotaData(null, 100, 100, 0), new QuotaData("1", 1000, 100, 0)));
+        assertEquals(1, shares.size());
+        assertEquals("1", shares.get(0).getKey());
+        assertEquals(100, shares.get(0).getShare(), DELTA);
+    }
+
+    @Test
+    public void testReportOtherPluginIgnored() {
+        lenient().when(pluginMapper.selectById("plugin")).thenReturn(PluginDO.builder().id("plugin").name(PluginEnum.DIVIDE.getName()).build());
+        assertTrue(quotaService.report("node-1", Collections.singletonList(new QuotaData("1", 100, 100, 0))).isEmpty());
+    }
+
+    @Test
+    public void testClusterRuleCached() {
+        for (int i = 0; i < 10; i++) {
+            quotaService.report("node-" + i, Collections.singletonList(new QuotaData("1-client-" + i, 100, 10, 0)));
+        }
+        verify(ruleMapper, times(1)).selectById("1");
+    }
+
+    private static RuleDO buildRule(final String id, final String handle) {
+        return RuleDO.builder().id(id).selectorId("selector").enabled(true).handle(handle).build();
+    }
+}
@@ -18,9 +18,12 @@
 package org.apache.shenyu.bootstrap.filter;
 
 import org.apache.shenyu.common.utils.JsonUtils;
+import org.apache.shenyu.plugin.base.warmup.ReferenceWarmup;
 import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.Status;
 import org.springframework.core.annotation.Order;
 import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
 import org.springframework.web.server.ServerWebExchange;
 import org.springframework.web.server.WebFilter;
@@ -30,7 +33,9 @@ import reactor.util.annotation.Nullable;
 
 import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
 /**
@@ -49,8 +54,28 @@ public final class HealthFilter implements WebFilter {
     }
 
     private Mono<Void> writeHealthInfo(final ServerWebExchange exchange) {
-        String result = JsonUtils.toJson(new Health.Builder().up().build());
+        ReferenceWarmup warmup = ReferenceWarmup.getInstance();
+        boolean ready = warmup.isReady();
+        Health.Builder builder = ready ? new Health.Builder().up() : new Health.Builder().down();
+        if (!ready || warmup.getSubmitted() > 0) {
+            builder.withDetail("warmup", warmupDetail(warmup));
+        }
+        Health health = builder.build();
+        if (!Status.UP.equals(health.getStatus())) {
+            exchange.getResponse().setStatusCode(HttpStatus.SERVICE_UNAVAILABLE);
+        }
+        String result = JsonUtils.toJson(health);
         DataBuffer dataBuffer = exchange.getResponse().bufferFactory().wrap(result.getBytes(StandardCharsets.UTF_8));
         return exchange.getResponse().writeWith(Mono.just(dataBuffer));
     }
+
+    private Map<String, Object> warmupDetail(final ReferenceWarmup warmup) {
+        Map<String, Object> detail = new LinkedHashMap<>(8);
+        detail.put("synced", warmup.isSynced());
+        detail.put("submitted", warmup.getSubmitted());
+        detail.put("completed", warmup.getCompleted());
+        detail.put("failed", warmup.getFailed());
+        detail.put("pending", warmup.getPending());
+        return detail;
+    }
 }
@@ -38,4 +38,9 @@ public class SofaRegisterConfig implements Serializable {
     private String group;
 
     private String protocol;
+
+    /**
+     * The max in-flight calls of one service, not limited when null or not positive.
+     */
+    private Integer maxInFlight;
 }
@@ -117,6 +117,11 @@ public interface Constants {
      */
     String PARAM_TRANSFORM = "param_transform";
 
+    /**
+     * The constant ADMISSION_CHECK, the pending admission decided by the first matched rule.
+     */
+    String ADMISSION_CHECK = "admissionCheck";
+
     /**
      * The constant DECODE.
      */
@@ -308,6 +313,11 @@ public interface Constants {
      */
     boolean AUTOMATIC_TRANSITION_FROM_OPEN_TO_HALF_OPEN_ENABLED = false;
 
+    /**
+     * bulkhead maxConcurrentCalls, 0 disables the bulkhead.
+     */
+    int BULKHEAD_MAX_CONCURRENT_CALLS = 0;
+
     /**
      * jwt handle key for secretKey.
      */
@@ -418,6 +428,16 @@ public interface Constants {
      */
     String CONTEXT_PATH_NAME_PREFIX = "/context-path";
 
+    /**
+     * the header of the admin access token.
+     */
+    String X_ACCESS_TOKEN = "X-Access-Token";
+
+    /**
+     * the path admin issues access tokens on.
+     */
+    String LOGIN_PATH = "/platform/login";
+
     /**
      * String q.
      */
@@ -0,0 +1,56 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.common.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.experimental.Accessors;
+
+/**
+ * The quota of one rate limiter key on a gateway node, exchanged between the gateway and admin.
+ *
+ * <p>The gateway reports the {@code limit} of the key for the whole cluster and the {@code demand} it observed,
+ * admin answers with the {@code share} of the limit the node may admit. All of them are per second.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Accessors(chain = true)
+public class QuotaData {
+
+    /**
+     * rate limiter key.
+     */
+    private String key;
+
+    /**
+     * the limit of the key for the whole cluster.
+     */
+    private double limit;
+
+    /**
+     * the demand observed on the node, the rejected requests included.
+     */
+    private double demand;
+
+    /**
+     * the share of the limit assigned to the node.
+     */
+    private double share;
+}
@@ -36,4 +36,10 @@ public class HystrixThreadPoolConfig {
     private int keepAliveTimeMinutes = Constants.HYSTRIX_THREAD_KEEP_ALIVE_TIME_MINUTE;
 
     private int maxQueueSize = Constants.HYSTRIX_THREAD_POOL_QUEUE_SIZE;
+
+    /**
+     * the rules with the same key share one bounded pool, sized by the first rule which creates it.
+     * blank keeps one pool per group key.
+     */
+    private String threadPoolKey;
 }
@@ -54,4 +54,9 @@ public class RateLimiterHandle {
      * key resolver name.
      */
     private String keyResolverName;
+
+    /**
+     * limiter mode, local, redis or hybrid.
+     */
+    private String limiterMode;
 }
@@ -93,6 +93,11 @@ public class Resilience4JHandle {
      */
     private Boolean automaticTransitionFromOpenToHalfOpenEnabled = Constants.AUTOMATIC_TRANSITION_FROM_OPEN_TO_HALF_OPEN_ENABLED;
 
+    /**
+     * bulkhead maxConcurrentCalls, the calls of the rule beyond it are rejected at once.
+     */
+    private int bulkheadMaxConcurrentCalls = Constants.BULKHEAD_MAX_CONCURRENT_CALLS;
+
     /**
      * check filed default value.
      *
@@ -111,5 +116,6 @@ public class Resilience4JHandle {
         resilience4JHandle.setWaitIntervalFunctionInOpenState(Math.max(resilience4JHandle.getWaitIntervalFunctionInOpenState(), Constants.WAIT_INTERVAL_FUNCTION_IN_OPEN_STATE));
         resilience4JHandle.setPermittedNumberOfCallsInHalfOpenState(Math.max(resilience4JHandle.getPermittedNumberOfCallsInHalfOpenState(), Constants.PERMITTED_NUMBER_OF_CALLS_IN_HALF_OPEN_STATE));
         resilience4JHandle.setFailureRateThreshold(Math.max(resilience4JHandle.getFailureRateThreshold(), Constants.FAILURE_RATE_THRESHOLD));
+        resilience4JHandle.setBulkheadMaxConcurrentCalls(Math.max(resilience4JHandle.getBulkheadMaxConcurrentCalls(), Constants.BULKHEAD_MAX_CONCURRENT_CALLS));
     }
 }
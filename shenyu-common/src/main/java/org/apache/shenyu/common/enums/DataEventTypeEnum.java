@@ -50,7 +50,12 @@ public enum DataEventTypeEnum {
     /**
      * Myself data event type enum.
      */
-    MYSELF;
+    MYSELF,
+
+    /**
+     * Quota data event type enum, the demand reported by a gateway node and the shares assigned to it.
+     */
+    QUOTA;
 
     /**
      * Acquire by name data event type enum.
@@ -60,6 +60,11 @@ public enum PluginEnum {
      */
     RATE_LIMITER(20, 0, "rate_limiter"),
 
+    /**
+     * Concurrency limiter plugin enum.
+     */
+    CONCURRENCY_LIMITER(21, 0, "concurrencyLimiter"),
+
     /**
      * Param mapping plugin enum.
      */
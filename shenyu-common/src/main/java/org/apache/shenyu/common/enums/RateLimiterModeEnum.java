@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.common.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Arrays;
+
+/**
+ * The enum Rate limiter mode enum.
+ */
+@RequiredArgsConstructor
+@Getter
+public enum RateLimiterModeEnum {
+
+    /**
+     * Decide in process, every gateway node limits on its own.
+     */
+    LOCAL("local"),
+
+    /**
+     * Decide with the redis scripts, the limit is shared by the whole cluster.
+     */
+    REDIS("redis"),
+
+    /**
+     * Lease batches of tokens from redis and decide locally until they run out,
+     * fall back to the local limiter when redis is unavailable.
+     */
+    HYBRID("hybrid"),
+
+    /**
+     * Decide in process within the share of the limit admin assigns to the node,
+     * the shares follow the demand every node reports over the sync channel.
+     */
+    CLUSTER("cluster");
+
+    /**
+     * Rate limiter mode name.
+     */
+    private final String name;
+
+    /**
+     * Acquire by name rate limiter mode enum.
+     *
+     * @param name rate limiter mode name
+     * @return RateLimiterModeEnum
+     */
+    public static RateLimiterModeEnum acquireByName(final String name) {
+        return Arrays.stream(RateLimiterModeEnum.values())
+                .filter(e -> e.getName().equals(name)).findFirst()
+                .orElse(RateLimiterModeEnum.REDIS);
+    }
+}
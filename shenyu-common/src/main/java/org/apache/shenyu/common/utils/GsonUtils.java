@@ -38,6 +38,7 @@ import org.apache.shenyu.common.constant.Constants;
 import org.springframework.util.LinkedMultiValueMap;
 
 import java.io.IOException;
+import java.io.Reader;
 import java.io.UnsupportedEncodingException;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
@@ -147,6 +148,18 @@ public class GsonUtils {
         return GSON.fromJson(json, TypeToken.getParameterized(List.class, clazz).getType());
     }
 
+    /**
+     * From json array list, the elements are read from the tree without printing it back to json.
+     *
+     * @param <T>       the type parameter
+     * @param jsonArray the json array
+     * @param clazz     the clazz
+     * @return the list
+     */
+    public <T> List<T> fromJsonArray(final JsonArray jsonArray, final Class<T> clazz) {
+        return GSON.fromJson(jsonArray, TypeToken.getParameterized(List.class, clazz).getType());
+    }
+
     /**
      * toGetParam.
      *
@@ -219,6 +232,17 @@ public class GsonUtils {
         return GSON.fromJson(json, TypeToken.getParameterized(Map.class, String.class, clazz).getType());
     }
 
+    /**
+     * To object map map.
+     *
+     * @param reader the json reader
+     * @return the map
+     */
+    public Map<String, Object> toObjectMapFromReader(final Reader reader) {
+        return GSON_MAP.fromJson(reader, new TypeToken<LinkedHashMap<String, Object>>() {
+        }.getType());
+    }
+
     /**
      * To object map list.
      *
@@ -266,7 +290,44 @@ public class GsonUtils {
         if (map == null || map.isEmpty()) {
             return map;
         }
+        convertEntries(map);
+        return map;
+    }
+
+    /**
+     * Convert the json object to map like {@link #convertToMap(String)}, the nested objects are read from the tree
+     * without printing them back to json.
+     *
+     * @param jsonObject the json object
+     * @return the map
+     */
+    public Map<String, Object> convertJsonObjectToMap(final JsonObject jsonObject) {
+        Map<String, Object> map = GSON_MAP.fromJson(jsonObject, new TypeToken<Map<String, Object>>() {
+        }.getType());
+
+        if (map == null || map.isEmpty()) {
+            return map;
+        }
+        convertEntries(map);
+        return map;
+    }
+
+    /**
+     * Convert the map returned by {@link #toObjectMap(String)} to map, the source map is not modified.
+     *
+     * @param objectMap the object map
+     * @return the map
+     */
+    public Map<String, Object> copyToObjectMap(final Map<String, Object> objectMap) {
+        if (objectMap == null || objectMap.isEmpty()) {
+            return objectMap;
+        }
+        Map<String, Object> map = new LinkedHashMap<>(objectMap);
+        convertEntries(map);
+        return map;
+    }
 
+    private void convertEntries(final Map<String, Object> map) {
         for (Map.Entry<String, Object> entry : map.entrySet()) {
             String key = entry.getKey();
             Object value = entry.getValue();
@@ -277,7 +338,7 @@ public class GsonUtils {
                     map.put(key, mv);
                 }
             } else if (value instanceof JsonObject) {
-                map.put(key, convertToMap(value.toString()));
+                map.put(key, convertJsonObjectToMap((JsonObject) value));
             } else if (value instanceof JsonArray) {
                 JsonArray jsonArray = (JsonArray) value;
                 map.put(key, jsonArrayToListInConvertToMap(jsonArray));
@@ -285,8 +346,6 @@ public class GsonUtils {
                 map.put(key, null);
             }
         }
-
-        return map;
     }
 
     /**
@@ -302,6 +361,10 @@ public class GsonUtils {
                 list.add(null);
                 continue;
             }
+            if (jsonElement.isJsonObject()) {
+                list.add(convertJsonObjectToMap(jsonElement.getAsJsonObject()));
+                continue;
+            }
             String objStr = jsonElement.getAsString();
             if (objStr.startsWith(LEFT_ANGLE_BRACKETS) && objStr.endsWith(RIGHT_ANGLE_BRACKETS)) {
                 list.add(convertToMap(jsonElement.toString()));
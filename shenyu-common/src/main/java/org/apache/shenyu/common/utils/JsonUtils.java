@@ -31,6 +31,7 @@ import com.fasterxml.jackson.datatype.jsr310.ser.LocalDateTimeSerializer;
 import com.fasterxml.jackson.datatype.jsr310.ser.LocalTimeSerializer;
 import lombok.extern.slf4j.Slf4j;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.text.SimpleDateFormat;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -80,6 +81,17 @@ public final class JsonUtils {
         }
     }
 
+    /**
+     * Write the object as json to the output stream, the keys named {@code class} of maps are skipped.
+     *
+     * @param outputStream the output stream
+     * @param object       the object
+     * @throws IOException the io exception
+     */
+    public static void writeJson(final OutputStream outputStream, final Object object) throws IOException {
+        MAPPER.writeValue(outputStream, object);
+    }
+
     /**
      * Remove class object.
      *
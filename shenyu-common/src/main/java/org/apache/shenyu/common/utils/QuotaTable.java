@@ -0,0 +1,138 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.common.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Quota table, keeps the latest demand every gateway node reported per key and splits the limit of the key
+ * between them with {@link QuotaUtils#allocate(double, double[])}.
+ *
+ * <p>A node which stops reporting is dropped once its demand expired. The number of keys and the number of nodes
+ * per key are bounded, a report beyond the bounds gets no share.
+ */
+public final class QuotaTable {
+
+    /**
+     * The share of a report the table has no room for.
+     */
+    public static final double NO_SHARE = -1;
+
+    private final long nodeExpireMillis;
+
+    private final int maxKeys;
+
+    private final int maxNodes;
+
+    private final ConcurrentMap<String, ConcurrentMap<String, NodeDemand>> demands = new ConcurrentHashMap<>();
+
+    private final AtomicLong lastSweep = new AtomicLong();
+
+    /**
+     * Instantiates a new Quota table.
+     *
+     * @param nodeExpireMillis the time after which the demand of a node which stopped reporting is dropped
+     * @param maxKeys          the max number of keys
+     * @param maxNodes         the max number of nodes per key
+     */
+    public QuotaTable(final long nodeExpireMillis, final int maxKeys, final int maxNodes) {
+        this.nodeExpireMillis = nodeExpireMillis;
+        this.maxKeys = maxKeys;
+        this.maxNodes = maxNodes;
+    }
+
+    /**
+     * Record the demand of a node for a key, and assign the share of the node.
+     *
+     * @param nodeId the node id
+     * @param key    the key
+     * @param limit  the limit of the key for the whole cluster
+     * @param demand the demand of the node
+     * @param now    the current time in millis
+     * @return the share of the node, {@link #NO_SHARE} if the table is full
+     */
+    public double report(final String nodeId, final String key, final double limit, final double demand, final long now) {
+        sweep(now);
+        ConcurrentMap<String, NodeDemand> nodeDemands = demands.get(key);
+        if (nodeDemands == null) {
+            if (demands.size() >= maxKeys) {
+                return NO_SHARE;
+            }
+            nodeDemands = demands.computeIfAbsent(key, k -> new ConcurrentHashMap<>());
+        }
+        nodeDemands.values().removeIf(nodeDemand -> nodeDemand.isExpired(now, nodeExpireMillis));
+        if (!nodeDemands.containsKey(nodeId) && nodeDemands.size() >= maxNodes) {
+            return NO_SHARE;
+        }
+        nodeDemands.put(nodeId, new NodeDemand(demand, now));
+        return share(nodeId, limit, nodeDemands);
+    }
+
+    /**
+     * Gets the number of the keys.
+     *
+     * @return the size
+     */
+    public int size() {
+        return demands.size();
+    }
+
+    private double share(final String nodeId, final double limit, final Map<String, NodeDemand> nodeDemands) {
+        List<String> nodeIds = new ArrayList<>(nodeDemands.size());
+        List<Double> values = new ArrayList<>(nodeDemands.size());
+        nodeDemands.forEach((id, nodeDemand) -> {
+            nodeIds.add(id);
+            values.add(nodeDemand.demand);
+        });
+        int index = nodeIds.indexOf(nodeId);
+        if (index < 0) {
+            return limit;
+        }
+        return QuotaUtils.allocate(limit, values.stream().mapToDouble(Double::doubleValue).toArray())[index];
+    }
+
+    private void sweep(final long now) {
+        long last = lastSweep.get();
+        if (now - last < nodeExpireMillis || !lastSweep.compareAndSet(last, now)) {
+            return;
+        }
+        demands.values().forEach(nodeDemands -> nodeDemands.values().removeIf(nodeDemand -> nodeDemand.isExpired(now, nodeExpireMillis)));
+        demands.values().removeIf(Map::isEmpty);
+    }
+
+    private static final class NodeDemand {
+
+        private final double demand;
+
+        private final long reportedAt;
+
+        NodeDemand(final double demand, final long reportedAt) {
+            this.demand = demand;
+            this.reportedAt = reportedAt;
+        }
+
+        boolean isExpired(final long now, final long expireMillis) {
+            return now - reportedAt > expireMillis;
+        }
+    }
+}
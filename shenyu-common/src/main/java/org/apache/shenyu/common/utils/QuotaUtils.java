@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.common.utils;
+
+import java.util.Comparator;
+import java.util.stream.IntStream;
+
+/**
+ * Quota utils, splits a cluster wide limit between the gateway nodes.
+ */
+public final class QuotaUtils {
+
+    private QuotaUtils() {
+    }
+
+    /**
+     * Allocate the limit max-min fairly: the nodes asking for less than an equal split get what they ask for,
+     * the rest of the limit is split equally between the others. What nobody asked for is spread evenly as headroom,
+     * so the shares always add up to the limit.
+     *
+     * @param limit   the limit of the whole cluster
+     * @param demands the demand of every node
+     * @return the share of every node, in the order of the demands
+     */
+    public static double[] allocate(final double limit, final double[] demands) {
+        int size = demands.length;
+        double[] shares = new double[size];
+        if (size == 0 || limit <= 0) {
+            return shares;
+        }
+        int[] order = IntStream.range(0, size).boxed()
+                .sorted(Comparator.comparingDouble(index -> demands[index]))
+                .mapToInt(Integer::intValue).toArray();
+        double remaining = limit;
+        for (int i = 0; i < size; i++) {
+            int node = order[i];
+            double share = Math.min(Math.max(demands[node], 0), remaining / (size - i));
+            shares[node] = share;
+            remaining -= share;
+        }
+        double headroom = remaining / size;
+        for (int i = 0; i < size; i++) {
+            shares[i] += headroom;
+        }
+        return shares;
+    }
+}
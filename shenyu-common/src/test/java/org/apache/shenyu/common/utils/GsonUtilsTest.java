@@ -21,6 +21,7 @@ import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
+import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParser;
@@ -32,6 +33,7 @@ import org.apache.commons.lang3.tuple.Pair;
 import org.junit.Assert;
 import org.junit.Test;
 
+import java.io.StringReader;
 import java.math.BigDecimal;
 import java.util.HashMap;
 import java.util.List;
@@ -266,6 +268,63 @@ public class GsonUtilsTest {
         Assert.assertNull(GsonUtils.getInstance().convertToMap(null));
     }
 
+    /**
+     * test method {@link GsonUtils#toObjectMapFromReader(java.io.Reader)}.
+     */
+    @Test
+    public void testToObjectMapFromReader() {
+        String json = "{\"name\":\"test\",\"id\":123,\"data\":{\"id\":1}}";
+
+        Map<String, Object> parseMap = GsonUtils.getInstance().toObjectMapFromReader(new StringReader(json));
+
+        Assert.assertEquals(GsonUtils.getInstance().toObjectMap(json), parseMap);
+    }
+
+    /**
+     * test method {@link GsonUtils#copyToObjectMap(java.util.Map)}.
+     */
+    @Test
+    public void testCopyToObjectMap() {
+        String json = "{\"code\":200,\"data\":{\"id\":123,\"name\":\"shenyu\"},\"list\":[1,2,3]}";
+        Map<String, Object> objectMap = GsonUtils.getInstance().toObjectMap(json);
+
+        Map<String, Object> parseMap = GsonUtils.getInstance().copyToObjectMap(objectMap);
+
+        Assert.assertEquals(GsonUtils.getInstance().convertToMap(json).toString(), parseMap.toString());
+        Assert.assertTrue(objectMap.get("data") instanceof JsonElement);
+        Assert.assertNull(GsonUtils.getInstance().copyToObjectMap(null));
+    }
+
+    /**
+     * test method {@link GsonUtils#convertJsonObjectToMap(com.google.gson.JsonObject)}.
+     */
+    @Test
+    public void testConvertJsonObjectToMap() {
+        String json = "{\"code\":200,\"data\":{\"id\":123,\"inner\":{\"name\":\"shenyu\"}},\"list\":[1,{\"id\":2},null]}";
+        JsonObject jsonObject = GsonUtils.getGson().fromJson(json, JsonObject.class);
+
+        Map<String, Object> parseMap = GsonUtils.getInstance().convertJsonObjectToMap(jsonObject);
+
+        Assert.assertEquals(200L, parseMap.get("code"));
+        Assert.assertEquals("shenyu", ((Map<?, ?>) ((Map<?, ?>) parseMap.get("data")).get("inner")).get("name"));
+        List<?> list = (List<?>) parseMap.get("list");
+        Assert.assertEquals("1", list.get(0));
+        Assert.assertEquals(2L, ((Map<?, ?>) list.get(1)).get("id"));
+        Assert.assertNull(list.get(2));
+        Assert.assertNull(GsonUtils.getInstance().convertJsonObjectToMap(null));
+    }
+
+    /**
+     * test method {@link GsonUtils#fromJsonArray(com.google.gson.JsonArray, Class)}.
+     */
+    @Test
+    public void testFromJsonArray() {
+        String json = "[1,\"a\",{\"id\":2}]";
+        JsonArray jsonArray = GsonUtils.getGson().fromJson(json, JsonArray.class);
+
+        Assert.assertEquals(GsonUtils.getInstance().fromList(json, Object.class), GsonUtils.getInstance().fromJsonArray(jsonArray, Object.class));
+    }
+
     @Test
     public void testPairGson() {
         Pair<String, String> testPair = Pair.of("1", "2");
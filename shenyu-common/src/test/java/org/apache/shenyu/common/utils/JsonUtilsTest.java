@@ -21,6 +21,9 @@ import lombok.Builder;
 import lombok.Data;
 import org.junit.Test;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
@@ -79,6 +82,16 @@ public final class JsonUtilsTest {
         assertEquals("{}", JsonUtils.toJson(o));
     }
 
+    @Test
+    public void writeJson() throws IOException {
+        Map<String, Object> map = new HashMap<>();
+        map.put("class", "org.apache.shenyu.Test");
+        map.put("name", "shenyu");
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        JsonUtils.writeJson(outputStream, map);
+        assertEquals("{\"name\":\"shenyu\"}", new String(outputStream.toByteArray(), StandardCharsets.UTF_8));
+    }
+
     @Test
     public void removeClass() {
         Map<String, Map<String, String>> testMap = new HashMap<>();
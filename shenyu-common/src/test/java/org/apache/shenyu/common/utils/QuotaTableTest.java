@@ -0,0 +1,71 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.common.utils;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Test Cases for QuotaTable.
+ */
+public final class QuotaTableTest {
+
+    private static final double DELTA = 1e-9;
+
+    private static final long EXPIRE = 10_000;
+
+    @Test
+    public void testReportSkewedNodes() {
+        QuotaTable quotaTable = new QuotaTable(EXPIRE, 10, 10);
+        assertEquals(100, quotaTable.report("node-1", "rule", 100, 20, 0), DELTA);
+        assertEquals(80, quotaTable.report("node-2", "rule", 100, 300, 100), DELTA);
+        assertEquals(20, quotaTable.report("node-1", "rule", 100, 20, 200), DELTA);
+    }
+
+    @Test
+    public void testExpiredNodeDropped() {
+        QuotaTable quotaTable = new QuotaTable(EXPIRE, 10, 10);
+        quotaTable.report("node-1", "rule", 100, 300, 0);
+        assertEquals(50, quotaTable.report("node-2", "rule", 100, 300, EXPIRE), DELTA);
+        assertEquals(100, quotaTable.report("node-2", "rule", 100, 300, EXPIRE + 1), DELTA);
+    }
+
+    @Test
+    public void testMaxKeys() {
+        QuotaTable quotaTable = new QuotaTable(EXPIRE, 2, 10);
+        quotaTable.report("node-1", "rule-1", 100, 10, 0);
+        quotaTable.report("node-1", "rule-2", 100, 10, 0);
+        assertEquals(QuotaTable.NO_SHARE, quotaTable.report("node-1", "rule-3", 100, 10, 0), DELTA);
+        assertEquals(2, quotaTable.size());
+        // the keys nobody reports any more are swept, which makes room again
+        assertEquals(100, quotaTable.report("node-1", "rule-3", 100, 10, 2 * EXPIRE + 1), DELTA);
+        assertEquals(1, quotaTable.size());
+    }
+
+    @Test
+    public void testMaxNodes() {
+        QuotaTable quotaTable = new QuotaTable(EXPIRE, 10, 2);
+        quotaTable.report("node-1", "rule", 100, 10, 0);
+        quotaTable.report("node-2", "rule", 100, 10, 0);
+        assertEquals(QuotaTable.NO_SHARE, quotaTable.report("node-3", "rule", 100, 10, 0), DELTA);
+        assertEquals(50, quotaTable.report("node-2", "rule", 100, 10, EXPIRE), DELTA);
+        // node-1 expired, so node-3 takes its place
+        assertEquals(50, quotaTable.report("node-3", "rule", 100, 10, EXPIRE + 1), DELTA);
+    }
+}
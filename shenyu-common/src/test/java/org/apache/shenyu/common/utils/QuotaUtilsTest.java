@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.common.utils;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Test Cases for QuotaUtils.
+ */
+public final class QuotaUtilsTest {
+
+    private static final double DELTA = 1e-9;
+
+    @Test
+    public void testAllocateUnderLimit() {
+        double[] shares = QuotaUtils.allocate(100, new double[]{10, 30});
+        assertArrayEquals(new double[]{40, 60}, shares, DELTA);
+    }
+
+    @Test
+    public void testAllocateOverLimit() {
+        double[] shares = QuotaUtils.allocate(100, new double[]{500, 10, 80});
+        assertArrayEquals(new double[]{45, 10, 45}, shares, DELTA);
+        assertEquals(100, Arrays.stream(shares).sum(), DELTA);
+    }
+
+    @Test
+    public void testAllocateIdleNodes() {
+        assertArrayEquals(new double[]{50, 50}, QuotaUtils.allocate(100, new double[]{0, 0}), DELTA);
+        assertArrayEquals(new double[]{0, 100}, QuotaUtils.allocate(100, new double[]{0, 200}), DELTA);
+    }
+
+    @Test
+    public void testAllocateNothing() {
+        assertEquals(0, QuotaUtils.allocate(100, new double[0]).length);
+        assertArrayEquals(new double[]{0, 0}, QuotaUtils.allocate(0, new double[]{10, 20}), DELTA);
+    }
+}
@@ -42,40 +42,43 @@ public final class PrometheusMetricsRegister implements MetricsRegister {
     
     @Override
     public void registerCounter(final String name, final String[] labelNames, final String document) {
-        if (!COUNTER_MAP.containsKey(name)) {
-            Counter.Builder builder = Counter.build().name(name).help(document);
+        COUNTER_MAP.computeIfAbsent(name, key -> {
+            Counter.Builder builder = Counter.build().name(key).help(document);
             if (null != labelNames) {
                 builder.labelNames(labelNames);
             }
-            COUNTER_MAP.put(name, builder.register());
-        }
+            return builder.register();
+        });
     }
     
     @Override
     public void registerGauge(final String name, final String[] labelNames, final String document) {
-        if (!GAUGE_MAP.containsKey(name)) {
-            Gauge.Builder builder = Gauge.build().name(name).help(document);
+        GAUGE_MAP.computeIfAbsent(name, key -> {
+            Gauge.Builder builder = Gauge.build().name(key).help(document);
             if (null != labelNames) {
                 builder.labelNames(labelNames);
             }
-            GAUGE_MAP.put(name, builder.register());
-        }
+            return builder.register();
+        });
     }
     
     @Override
     public void registerHistogram(final String name, final String[] labelNames, final String document) {
-        if (!HISTOGRAM_MAP.containsKey(name)) {
-            Histogram.Builder builder = Histogram.build().name(name).help(document);
+        HISTOGRAM_MAP.computeIfAbsent(name, key -> {
+            Histogram.Builder builder = Histogram.build().name(key).help(document);
             if (null != labelNames) {
                 builder.labelNames(labelNames);
             }
-            HISTOGRAM_MAP.put(name, builder.register());
-        }
+            return builder.register();
+        });
     }
     
     @Override
     public void counterIncrement(final String name, final String[] labelValues, final long count) {
         Counter counter = COUNTER_MAP.get(name);
+        if (null == counter) {
+            return;
+        }
         if (null != labelValues) {
             counter.labels(labelValues).inc(count);
         } else {
@@ -86,6 +89,9 @@ public final class PrometheusMetricsRegister implements MetricsRegister {
     @Override
     public void gaugeIncrement(final String name, final String[] labelValues) {
         Gauge gauge = GAUGE_MAP.get(name);
+        if (null == gauge) {
+            return;
+        }
         if (null != labelValues) {
             gauge.labels(labelValues).inc();
         } else {
@@ -96,6 +102,9 @@ public final class PrometheusMetricsRegister implements MetricsRegister {
     @Override
     public void gaugeDecrement(final String name, final String[] labelValues) {
         Gauge gauge = GAUGE_MAP.get(name);
+        if (null == gauge) {
+            return;
+        }
         if (null != labelValues) {
             gauge.labels(labelValues).dec();
         } else {
@@ -103,9 +112,25 @@ public final class PrometheusMetricsRegister implements MetricsRegister {
         }
     }
     
+    @Override
+    public void gaugeSet(final String name, final String[] labelValues, final double value) {
+        Gauge gauge = GAUGE_MAP.get(name);
+        if (null == gauge) {
+            return;
+        }
+        if (null != labelValues) {
+            gauge.labels(labelValues).set(value);
+        } else {
+            gauge.set(value);
+        }
+    }
+    
     @Override
     public void recordTime(final String name, final String[] labelValues, final long duration) {
         Histogram histogram = HISTOGRAM_MAP.get(name);
+        if (null == histogram) {
+            return;
+        }
         if (null != labelValues) {
             histogram.labels(labelValues).observe(duration);
         } else {
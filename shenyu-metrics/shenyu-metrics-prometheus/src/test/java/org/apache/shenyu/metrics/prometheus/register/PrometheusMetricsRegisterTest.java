@@ -18,6 +18,7 @@
 package org.apache.shenyu.metrics.prometheus.register;
 
 import io.prometheus.client.Counter;
+import io.prometheus.client.Gauge;
 import io.prometheus.client.Histogram;
 import org.apache.shenyu.common.utils.ReflectUtils;
 import org.junit.Test;
@@ -45,6 +46,18 @@ public final class PrometheusMetricsRegisterTest {
         assertThat(routeDatasourceCounter.labels(labelNames).get(), is(3.0d));
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    public void assertGauge() {
+        String limit = "concurrency_limit";
+        String[] labelNames = new String[] {"name"};
+        prometheusMetricsRegister.registerGauge(limit, labelNames, "the shenyu concurrency limit");
+        prometheusMetricsRegister.gaugeSet(limit, labelNames, 20);
+        prometheusMetricsRegister.gaugeIncrement(limit, labelNames);
+        Map<String, Gauge> gaugeMap = (Map<String, Gauge>) ReflectUtils.getFieldValue(prometheusMetricsRegister, "GAUGE_MAP");
+        assertThat(gaugeMap.get(limit).labels(labelNames).get(), is(21.0d));
+    }
+
     @Test
     @SuppressWarnings("unchecked")
     public void assertHistogram() {
@@ -60,4 +73,27 @@ public final class PrometheusMetricsRegisterTest {
         Histogram histogram = histogramMap.get(name);
         assertThat(histogram.labels(labelNames).get().sum, is(1000.0));
     }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void assertConcurrentRegister() throws InterruptedException {
+        String name = "concurrent_register_total";
+        Thread[] threads = new Thread[8];
+        for (int i = 0; i < threads.length; i++) {
+            threads[i] = new Thread(() -> prometheusMetricsRegister.registerCounter(name, null, "the concurrently registered count"));
+            threads[i].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        Map<String, Counter> counterMap = (Map<String, Counter>) ReflectUtils.getFieldValue(prometheusMetricsRegister, "COUNTER_MAP");
+        assertThat(counterMap.containsKey(name), is(true));
+    }
+
+    @Test
+    public void assertUnregistered() {
+        prometheusMetricsRegister.counterIncrement("unregistered_total", null, 1);
+        prometheusMetricsRegister.gaugeSet("unregistered", null, 1);
+        prometheusMetricsRegister.recordTime("unregistered_millis", null, 1);
+    }
 }
@@ -36,4 +36,54 @@ public final class LabelNames {
      * The constant EXECUTE_LATENCY_NAME.
      */
     public static final String EXECUTE_LATENCY_NAME = "shenyu_execute_latency_millis";
+    
+    /**
+     * The constant CONCURRENCY_LIMIT.
+     */
+    public static final String CONCURRENCY_LIMIT = "shenyu_concurrency_limit";
+    
+    /**
+     * The constant CONCURRENCY_LIMIT_RTT.
+     */
+    public static final String CONCURRENCY_LIMIT_RTT = "shenyu_concurrency_limit_rtt_millis";
+    
+    /**
+     * The constant CONCURRENCY_LIMIT_MIN_RTT.
+     */
+    public static final String CONCURRENCY_LIMIT_MIN_RTT = "shenyu_concurrency_limit_min_rtt_millis";
+    
+    /**
+     * The constant CONCURRENCY_LIMIT_REJECTED_TOTAL.
+     */
+    public static final String CONCURRENCY_LIMIT_REJECTED_TOTAL = "shenyu_concurrency_limit_rejected_total";
+    
+    /**
+     * The constant ADMISSION_EVENT_LOOP_LAG.
+     */
+    public static final String ADMISSION_EVENT_LOOP_LAG = "shenyu_admission_event_loop_lag_millis";
+    
+    /**
+     * The constant ADMISSION_PENDING.
+     */
+    public static final String ADMISSION_PENDING = "shenyu_admission_pending_requests";
+    
+    /**
+     * The constant ADMISSION_REJECTED_TOTAL.
+     */
+    public static final String ADMISSION_REJECTED_TOTAL = "shenyu_admission_rejected_total";
+    
+    /**
+     * The constant REFERENCE_WARMUP_TOTAL.
+     */
+    public static final String REFERENCE_WARMUP_TOTAL = "shenyu_reference_warmup_total";
+    
+    /**
+     * The constant REFERENCE_WARMUP_PENDING.
+     */
+    public static final String REFERENCE_WARMUP_PENDING = "shenyu_reference_warmup_pending";
+    
+    /**
+     * The constant ALIBABA_DUBBO_BLOCKING_PENDING.
+     */
+    public static final String ALIBABA_DUBBO_BLOCKING_PENDING = "shenyu_alibaba_dubbo_blocking_pending";
 }
@@ -77,6 +77,15 @@ public interface MetricsRegister {
      */
     void gaugeDecrement(String name, String[] labelValues);
     
+    /**
+     * Gauge set.
+     *
+     * @param name name
+     * @param labelValues label values
+     * @param value value
+     */
+    void gaugeSet(String name, String[] labelValues, double value);
+    
     /**
      * Record time by duration.
      *
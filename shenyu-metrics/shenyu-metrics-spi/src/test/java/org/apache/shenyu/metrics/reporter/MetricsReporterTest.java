@@ -92,6 +92,12 @@ public class MetricsReporterTest {
         MetricsReporter.gaugeDecrement("gaugeDecrement");
     }
 
+    @Test
+    public void testGaugeSet() {
+        MetricsReporter.gaugeSet("gaugeSet", new String[]{"label"}, 1.0);
+        MetricsReporter.gaugeSet("gaugeSet", 1.0);
+    }
+
     @Test
     public void testRecordTime() {
         MetricsReporter.recordTime("executeTime", new String[]{"label"}, 1L);
@@ -18,25 +18,45 @@
 package org.apache.shenyu.plugin.alibaba.dubbo.proxy;
 
 import com.alibaba.dubbo.config.ReferenceConfig;
+import com.alibaba.dubbo.remoting.exchange.ResponseCallback;
+import com.alibaba.dubbo.remoting.exchange.ResponseFuture;
+import com.alibaba.dubbo.rpc.Result;
+import com.alibaba.dubbo.rpc.RpcContext;
+import com.alibaba.dubbo.rpc.protocol.dubbo.FutureAdapter;
 import com.alibaba.dubbo.rpc.service.GenericException;
 import com.alibaba.dubbo.rpc.service.GenericService;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.apache.commons.lang3.tuple.Pair;
+import org.apache.shenyu.common.constant.Constants;
 import org.apache.shenyu.common.dto.MetaData;
+import org.apache.shenyu.common.enums.ResultEnum;
 import org.apache.shenyu.common.exception.ShenyuException;
-import org.apache.shenyu.common.utils.ParamCheckUtils;
+import org.apache.shenyu.metrics.constant.LabelNames;
+import org.apache.shenyu.metrics.reporter.MetricsReporter;
 import org.apache.shenyu.plugin.alibaba.dubbo.cache.ApplicationConfigCache;
 import org.apache.shenyu.plugin.api.param.BodyParamResolveService;
+import org.apache.shenyu.plugin.api.param.CachedRequestBody;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
 
 import java.util.Objects;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Alibaba dubbo proxy service is  use GenericService.
  */
 @Slf4j
 public class AlibabaDubboProxyService {
+
+    private static final Scheduler BLOCKING_SCHEDULER = Schedulers.newBoundedElastic(Schedulers.DEFAULT_BOUNDED_ELASTIC_SIZE,
+            Schedulers.DEFAULT_BOUNDED_ELASTIC_QUEUESIZE, "shenyu-alibaba-dubbo", 60, true);
+
+    private final AtomicInteger pendingBlockingCalls = new AtomicInteger();
     
     private final BodyParamResolveService bodyParamResolveService;
     
@@ -52,29 +72,95 @@ public class AlibabaDubboProxyService {
     /**
      * Generic invoker object.
      *
+     * <p>An async reference is invoked on the caller thread and completed by the dubbo response callback,
+     * any other reference is invoked on a bounded elastic scheduler so the event loop is never blocked.
+     *
      * @param body     the body
      * @param metaData the meta data
+     * @param exchange the exchange
      * @return the object
      * @throws ShenyuException the shenyu exception
      */
-    public Object genericInvoker(final String body, final MetaData metaData) throws ShenyuException {
+    public Mono<Object> genericInvoker(final CachedRequestBody body, final MetaData metaData, final ServerWebExchange exchange) throws ShenyuException {
         ReferenceConfig<GenericService> reference = ApplicationConfigCache.getInstance().get(metaData.getPath());
         if (Objects.isNull(reference) || StringUtils.isEmpty(reference.getInterface())) {
             ApplicationConfigCache.getInstance().invalidate(metaData.getPath());
             reference = ApplicationConfigCache.getInstance().initRef(metaData);
         }
         GenericService genericService = reference.get();
-        try {
-            Pair<String[], Object[]> pair;
-            if (StringUtils.isBlank(metaData.getParameterTypes()) || ParamCheckUtils.dubboBodyIsEmpty(body)) {
-                pair = new ImmutablePair<>(new String[]{}, new Object[]{});
-            } else {
-                pair = bodyParamResolveService.buildParameter(body, metaData.getParameterTypes());
+        Pair<String[], Object[]> pair;
+        if (StringUtils.isBlank(metaData.getParameterTypes()) || Objects.isNull(body) || body.isEmpty()) {
+            pair = new ImmutablePair<>(new String[]{}, new Object[]{});
+        } else {
+            pair = bodyParamResolveService.buildParameter(body, metaData.getParameterTypes());
+        }
+        Mono<Object> result;
+        if (Boolean.TRUE.equals(reference.isAsync())) {
+            result = Mono.defer(() -> invokeAsync(genericService, metaData.getMethodName(), pair.getLeft(), pair.getRight()));
+        } else {
+            // counted on subscribe, before the call waits in the queue of the scheduler
+            result = Mono.fromCallable(() -> genericService.$invoke(metaData.getMethodName(), pair.getLeft(), pair.getRight()))
+                    .subscribeOn(BLOCKING_SCHEDULER)
+                    .doOnSubscribe(subscription -> reportPendingBlockingCalls(pendingBlockingCalls.incrementAndGet()))
+                    .doFinally(signalType -> reportPendingBlockingCalls(pendingBlockingCalls.decrementAndGet()));
+        }
+        return result.defaultIfEmpty(Constants.DUBBO_RPC_RESULT_EMPTY).doOnNext(ret -> {
+            exchange.getAttributes().put(Constants.RPC_RESULT, ret);
+            exchange.getAttributes().put(Constants.CLIENT_RESPONSE_RESULT_TYPE, ResultEnum.SUCCESS.getName());
+        }).onErrorMap(exception -> {
+            if (exception instanceof GenericException) {
+                log.error("dubbo invoker have exception", exception);
+                return new ShenyuException(((GenericException) exception).getExceptionMessage());
             }
-            return genericService.$invoke(metaData.getMethodName(), pair.getLeft(), pair.getRight());
-        } catch (GenericException e) {
-            log.error("dubbo invoker have exception", e);
-            throw new ShenyuException(e.getExceptionMessage());
+            return exception instanceof ShenyuException ? exception : new ShenyuException(exception);
+        });
+    }
+
+    /**
+     * Get the number of the calls queued or running on the blocking scheduler.
+     *
+     * @return the pending blocking calls
+     */
+    public int getPendingBlockingCalls() {
+        return pendingBlockingCalls.get();
+    }
+
+    /**
+     * Register the metrics of the blocking calls, once when the plugin is initialized, the calls only update them.
+     */
+    public static void registerMetrics() {
+        MetricsReporter.registerGauge(LabelNames.ALIBABA_DUBBO_BLOCKING_PENDING, "the shenyu alibaba dubbo blocking calls queued or running");
+    }
+
+    private static void reportPendingBlockingCalls(final int pending) {
+        MetricsReporter.gaugeSet(LabelNames.ALIBABA_DUBBO_BLOCKING_PENDING, pending);
+    }
+
+    private Mono<Object> invokeAsync(final GenericService genericService, final String method, final String[] parameterTypes, final Object[] args) {
+        // drop the future a previous call left on this thread
+        RpcContext.getContext().setFuture(null);
+        Object syncResult = genericService.$invoke(method, parameterTypes, args);
+        Future<Object> future = RpcContext.getContext().getFuture();
+        if (!(future instanceof FutureAdapter)) {
+            // the protocol has completed the call synchronously
+            return Mono.justOrEmpty(syncResult);
         }
+        ResponseFuture responseFuture = ((FutureAdapter<Object>) future).getFuture();
+        return Mono.create(sink -> responseFuture.setCallback(new ResponseCallback() {
+            @Override
+            public void done(final Object response) {
+                Result result = (Result) response;
+                if (result.hasException()) {
+                    sink.error(result.getException());
+                } else {
+                    sink.success(result.getValue());
+                }
+            }
+
+            @Override
+            public void caught(final Throwable exception) {
+                sink.error(exception);
+            }
+        }));
     }
 }
@@ -22,9 +22,12 @@ import com.google.common.collect.Maps;
 import java.util.Objects;
 import java.util.concurrent.ConcurrentMap;
 
+import org.apache.commons.lang3.StringUtils;
 import org.apache.shenyu.common.dto.MetaData;
 import org.apache.shenyu.common.enums.RpcTypeEnum;
 import org.apache.shenyu.plugin.alibaba.dubbo.cache.ApplicationConfigCache;
+import org.apache.shenyu.plugin.api.utils.BodyParamPlan;
+import org.apache.shenyu.plugin.base.warmup.ReferenceWarmup;
 import org.apache.shenyu.sync.data.api.MetaDataSubscriber;
 
 /**
@@ -34,13 +37,19 @@ public class AlibabaDubboMetaDataSubscriber implements MetaDataSubscriber {
 
     private static final ConcurrentMap<String, MetaData> META_DATA = Maps.newConcurrentMap();
 
+    static {
+        ReferenceWarmup.getInstance().register(AlibabaDubboMetaDataSubscriber.class.getName(), warmup -> warmup.warmUp(META_DATA.values(),
+            metaData -> StringUtils.isEmpty(ApplicationConfigCache.getInstance().get(metaData.getPath()).getInterface()),
+            metaData -> ApplicationConfigCache.getInstance().initRef(metaData)));
+    }
+
     @Override
     public void onSubscribe(final MetaData metaData) {
         if (RpcTypeEnum.DUBBO.getName().equals(metaData.getRpcType())) {
             MetaData exist = META_DATA.get(metaData.getPath());
             if (Objects.isNull(exist) || Objects.isNull(ApplicationConfigCache.getInstance().get(metaData.getPath()))) {
-                // The first initialization
-                ApplicationConfigCache.getInstance().initRef(metaData);
+                // The first initialization, on the warm-up pool when it is enabled
+                ReferenceWarmup.getInstance().execute(metaData.getPath(), () -> ApplicationConfigCache.getInstance().initRef(metaData));
             } else {
                 // There are updates, which only support the update of four properties of serviceName rpcExt parameterTypes methodName,
                 // because these four properties will affect the call of Dubbo;
@@ -51,6 +60,7 @@ public class AlibabaDubboMetaDataSubscriber implements MetaDataSubscriber {
                     ApplicationConfigCache.getInstance().build(metaData);
                 }
             }
+            BodyParamPlan.replace(metaData.getPath(), Objects.isNull(exist) ? null : exist.getParameterTypes(), metaData.getParameterTypes());
             META_DATA.put(metaData.getPath(), metaData);
         }
     }
@@ -59,7 +69,10 @@ public class AlibabaDubboMetaDataSubscriber implements MetaDataSubscriber {
     public void unSubscribe(final MetaData metaData) {
         if (RpcTypeEnum.DUBBO.getName().equals(metaData.getRpcType())) {
             ApplicationConfigCache.getInstance().invalidate(metaData.getPath());
-            META_DATA.remove(metaData.getPath());
+            MetaData exist = META_DATA.remove(metaData.getPath());
+            if (Objects.nonNull(exist)) {
+                BodyParamPlan.replace(metaData.getPath(), exist.getParameterTypes(), null);
+            }
         }
     }
 }
@@ -21,22 +21,46 @@ import com.alibaba.dubbo.config.ReferenceConfig;
 import com.alibaba.dubbo.rpc.service.GenericService;
 import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.apache.commons.lang3.tuple.Pair;
+import com.alibaba.dubbo.remoting.exchange.ResponseCallback;
+import com.alibaba.dubbo.remoting.exchange.ResponseFuture;
+import com.alibaba.dubbo.rpc.RpcContext;
+import com.alibaba.dubbo.rpc.RpcResult;
+import com.alibaba.dubbo.rpc.protocol.dubbo.FutureAdapter;
+import org.apache.shenyu.common.constant.Constants;
 import org.apache.shenyu.common.dto.MetaData;
 import org.apache.shenyu.common.enums.RpcTypeEnum;
+import org.apache.shenyu.metrics.constant.LabelNames;
+import org.apache.shenyu.metrics.reporter.MetricsReporter;
+import org.apache.shenyu.metrics.spi.MetricsRegister;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import org.apache.shenyu.plugin.alibaba.dubbo.cache.ApplicationConfigCache;
 import org.apache.shenyu.plugin.api.param.BodyParamResolveService;
+import org.apache.shenyu.plugin.api.param.CachedRequestBody;
 import org.junit.After;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.MockedStatic;
 import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.Disposable;
+import reactor.test.StepVerifier;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 /**
  * AlibabaDubboProxyServiceTest.
@@ -81,7 +105,69 @@ public final class AlibabaDubboProxyServiceTest {
             when(applicationConfigCache.initRef(metaData)).thenReturn(referenceConfig);
 
             AlibabaDubboProxyService alibabaDubboProxyService = new AlibabaDubboProxyService(new BodyParamResolveServiceImpl());
-            Assert.assertNull(alibabaDubboProxyService.genericInvoker("", metaData));
+            ServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("localhost").build());
+            StepVerifier.create(alibabaDubboProxyService.genericInvoker(CachedRequestBody.of(""), metaData, exchange))
+                    .expectNext(Constants.DUBBO_RPC_RESULT_EMPTY).verifyComplete();
+            Assert.assertEquals(Constants.DUBBO_RPC_RESULT_EMPTY, exchange.getAttribute(Constants.RPC_RESULT));
+            Assert.assertEquals(0, alibabaDubboProxyService.getPendingBlockingCalls());
+        }
+    }
+
+    @Test
+    public void testGenericInvokerAsync() {
+        ReferenceConfig referenceConfig = mock(ReferenceConfig.class);
+        GenericService genericService = mock(GenericService.class);
+        ResponseFuture responseFuture = mock(ResponseFuture.class);
+        when(referenceConfig.get()).thenReturn(genericService);
+        when(referenceConfig.isAsync()).thenReturn(true);
+        when(genericService.$invoke(METHOD_NAME, LEFT, RIGHT)).thenAnswer(invocation -> {
+            RpcContext.getContext().setFuture(new FutureAdapter<>(responseFuture));
+            return null;
+        });
+        ArgumentCaptor<ResponseCallback> callback = ArgumentCaptor.forClass(ResponseCallback.class);
+        try (MockedStatic<ApplicationConfigCache> applicationConfigCacheMockedStatic = mockStatic(ApplicationConfigCache.class)) {
+            ApplicationConfigCache applicationConfigCache = mock(ApplicationConfigCache.class);
+            applicationConfigCacheMockedStatic.when(() -> ApplicationConfigCache.getInstance()).thenReturn(applicationConfigCache);
+            when(applicationConfigCache.initRef(metaData)).thenReturn(referenceConfig);
+
+            AlibabaDubboProxyService alibabaDubboProxyService = new AlibabaDubboProxyService(new BodyParamResolveServiceImpl());
+            ServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("localhost").build());
+            StepVerifier.create(alibabaDubboProxyService.genericInvoker(CachedRequestBody.of(""), metaData, exchange))
+                    .then(() -> {
+                        verify(responseFuture).setCallback(callback.capture());
+                        callback.getValue().done(new RpcResult("success"));
+                    })
+                    .expectNext("success").verifyComplete();
+            Assert.assertEquals("success", exchange.getAttribute(Constants.RPC_RESULT));
+        }
+    }
+
+    @Test
+    public void testPendingBlockingCalls() throws InterruptedException {
+        MetricsRegister metricsRegister = mock(MetricsRegister.class);
+        MetricsReporter.register(metricsRegister);
+        ReferenceConfig referenceConfig = mock(ReferenceConfig.class);
+        GenericService genericService = mock(GenericService.class);
+        CountDownLatch latch = new CountDownLatch(1);
+        when(referenceConfig.get()).thenReturn(genericService);
+        // the call may be cancelled while it is still queued on the scheduler
+        lenient().when(genericService.$invoke(METHOD_NAME, LEFT, RIGHT)).thenAnswer(invocation -> latch.await(5, TimeUnit.SECONDS));
+        try (MockedStatic<ApplicationConfigCache> applicationConfigCacheMockedStatic = mockStatic(ApplicationConfigCache.class)) {
+            ApplicationConfigCache applicationConfigCache = mock(ApplicationConfigCache.class);
+            applicationConfigCacheMockedStatic.when(() -> ApplicationConfigCache.getInstance()).thenReturn(applicationConfigCache);
+            when(applicationConfigCache.initRef(metaData)).thenReturn(referenceConfig);
+
+            AlibabaDubboProxyService alibabaDubboProxyService = new AlibabaDubboProxyService(new BodyParamResolveServiceImpl());
+            ServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("localhost").build());
+            final Disposable disposable = alibabaDubboProxyService.genericInvoker(CachedRequestBody.of(""), metaData, exchange).subscribe();
+            Assert.assertEquals(1, alibabaDubboProxyService.getPendingBlockingCalls());
+            verify(metricsRegister).gaugeSet(LabelNames.ALIBABA_DUBBO_BLOCKING_PENDING, null, 1);
+            disposable.dispose();
+            latch.countDown();
+            Assert.assertEquals(0, alibabaDubboProxyService.getPendingBlockingCalls());
+            verify(metricsRegister, never()).registerGauge(anyString(), any(), anyString());
+        } finally {
+            MetricsReporter.register(null);
         }
     }
 
@@ -26,6 +26,7 @@ import org.apache.shenyu.common.enums.RpcTypeEnum;
 import org.apache.shenyu.plugin.apache.dubbo.proxy.ApacheDubboProxyService;
 import org.apache.shenyu.plugin.api.ShenyuPluginChain;
 import org.apache.shenyu.plugin.api.context.ShenyuContext;
+import org.apache.shenyu.plugin.api.param.CachedRequestBody;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -75,7 +76,7 @@ public final class ApacheDubboPluginTest {
     public void doExecute() {
         ShenyuContext context = mock(ShenyuContext.class);
         exchange.getAttributes().put(Constants.CONTEXT, context);
-        exchange.getAttributes().put(Constants.PARAM_TRANSFORM, "{key:value}");
+        exchange.getAttributes().put(Constants.PARAM_TRANSFORM, CachedRequestBody.of("{key:value}"));
         exchange.getAttributes().put(Constants.META_DATA, metaData);
         when(chain.execute(exchange)).thenReturn(Mono.empty());
         SelectorData selectorData = mock(SelectorData.class);
@@ -98,7 +99,7 @@ public final class ApacheDubboPluginTest {
     public void testMethodIsNullExecute() {
         ShenyuContext context = mock(ShenyuContext.class);
         exchange.getAttributes().put(Constants.CONTEXT, context);
-        exchange.getAttributes().put(Constants.PARAM_TRANSFORM, "{key:value}");
+        exchange.getAttributes().put(Constants.PARAM_TRANSFORM, CachedRequestBody.of("{key:value}"));
         MetaData metaData = MetaData.builder()
                 .id("1332017966661636096")
                 .appName("dubbo")
@@ -34,4 +34,16 @@ public interface BodyParamResolveService {
      * @return the pair
      */
     Pair<String[], Object[]> buildParameter(String body, String parameterTypes);
+
+    /**
+     * Build parameter pair from the cached request body.
+     * Implementations should use the parsed maps of the body, so it is parsed only once per request.
+     *
+     * @param body           the body
+     * @param parameterTypes the parameter types
+     * @return the pair
+     */
+    default Pair<String[], Object[]> buildParameter(CachedRequestBody body, String parameterTypes) {
+        return buildParameter(body.asString(), parameterTypes);
+    }
 }
@@ -0,0 +1,175 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.api.param;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.shenyu.common.utils.GsonUtils;
+import org.apache.shenyu.common.utils.ParamCheckUtils;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * The request body handed from the param transform plugin to the rpc plugins.
+ *
+ * <p>A json body keeps the aggregated request bytes and parses them at most once, the string and
+ * the parsed maps are cached on first access. {@link #release()} must be called once the exchange completes.
+ */
+public final class CachedRequestBody {
+
+    private static final int EMPTY_BODY_MAX_LENGTH = 4;
+
+    private final Charset charset;
+
+    private DataBuffer buffer;
+
+    private String text;
+
+    private Map<String, Object> objectMap;
+
+    private Map<String, Object> convertedMap;
+
+    private CachedRequestBody(final DataBuffer buffer, final String text, final Charset charset) {
+        this.buffer = buffer;
+        this.text = text;
+        this.charset = charset;
+    }
+
+    /**
+     * Create the body from the aggregated request buffer, the buffer is owned by the body.
+     *
+     * @param buffer  the buffer
+     * @param charset the charset
+     * @return the body
+     */
+    public static CachedRequestBody of(final DataBuffer buffer, final Charset charset) {
+        return new CachedRequestBody(buffer, null, Objects.isNull(charset) ? StandardCharsets.UTF_8 : charset);
+    }
+
+    /**
+     * Create the body from a json string.
+     *
+     * @param text the json string
+     * @return the body
+     */
+    public static CachedRequestBody of(final String text) {
+        return new CachedRequestBody(null, text, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Get the body as string.
+     *
+     * @return the string
+     */
+    public String asString() {
+        if (Objects.isNull(text)) {
+            text = Objects.isNull(buffer) ? "" : buffer.toString(buffer.readPosition(), buffer.readableByteCount(), charset);
+        }
+        return text;
+    }
+
+    /**
+     * Get the body as the map of {@link GsonUtils#toObjectMap(String)}, nested objects are kept as json elements.
+     * The returned map is shared, callers must not modify it.
+     *
+     * @return the map
+     */
+    public Map<String, Object> asObjectMap() {
+        if (Objects.isNull(objectMap)) {
+            Map<String, Object> map;
+            if (Objects.isNull(text) && Objects.nonNull(buffer)) {
+                Reader reader = new InputStreamReader(buffer.slice(buffer.readPosition(), buffer.readableByteCount()).asInputStream(), charset);
+                map = GsonUtils.getInstance().toObjectMapFromReader(reader);
+            } else {
+                map = GsonUtils.getInstance().toObjectMap(asString());
+            }
+            objectMap = Objects.isNull(map) ? Collections.emptyMap() : Collections.unmodifiableMap(map);
+        }
+        return objectMap;
+    }
+
+    /**
+     * Get the body as the map of {@link GsonUtils#convertToMap(String)}, nested objects are converted to maps and lists.
+     * The returned map is shared, callers must not modify it.
+     *
+     * @return the map
+     */
+    public Map<String, Object> asMap() {
+        if (Objects.isNull(convertedMap)) {
+            convertedMap = Collections.unmodifiableMap(GsonUtils.getInstance().copyToObjectMap(asObjectMap()));
+        }
+        return convertedMap;
+    }
+
+    /**
+     * Whether the body is blank.
+     *
+     * @return true if blank
+     */
+    public boolean isBlank() {
+        if (Objects.isNull(text) && Objects.nonNull(buffer)) {
+            for (int i = buffer.readPosition(); i < buffer.writePosition(); i++) {
+                if (!Character.isWhitespace(buffer.getByte(i))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return StringUtils.isBlank(text);
+    }
+
+    /**
+     * Whether the body is blank.
+     *
+     * @param body the body
+     * @return true if null or blank
+     */
+    public static boolean isBlank(final CachedRequestBody body) {
+        return Objects.isNull(body) || body.isBlank();
+    }
+
+    /**
+     * Whether the body carries no rpc parameter, see {@link ParamCheckUtils#dubboBodyIsEmpty(String)}.
+     *
+     * @return true if empty
+     */
+    public boolean isEmpty() {
+        if (Objects.isNull(text) && Objects.nonNull(buffer) && buffer.readableByteCount() > EMPTY_BODY_MAX_LENGTH) {
+            return false;
+        }
+        return ParamCheckUtils.dubboBodyIsEmpty(asString());
+    }
+
+    /**
+     * Release the aggregated request buffer.
+     */
+    public void release() {
+        DataBuffer dataBuffer = buffer;
+        if (Objects.nonNull(dataBuffer)) {
+            buffer = null;
+            DataBufferUtils.release(dataBuffer);
+        }
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.api.result;
+
+import org.apache.shenyu.common.utils.JsonUtils;
+import org.apache.shenyu.plugin.api.utils.SpringBeanUtils;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The registry of the utf-8 encoded error bodies of the {@link ShenyuResult} bean.
+ *
+ * <p>The bean is looked up once per application context. The bodies are encoded once per bean and handed out
+ * as read-only views of a shared buffer, so a custom {@link ShenyuResult} must return the same result for the same code and message.
+ */
+public final class ShenyuErrorBodyRegistry {
+
+    private static final int MAX_MESSAGE_BODIES = 256;
+
+    private static volatile Bodies bodies;
+
+    private ShenyuErrorBodyRegistry() {
+    }
+
+    /**
+     * Get the error body of the result enum.
+     *
+     * @param resultEnum the result enum
+     * @return the read-only body
+     */
+    public static ByteBuffer error(final ShenyuResultEnum resultEnum) {
+        Bodies current = current();
+        ByteBuffer body = current.enumBodies.get(resultEnum);
+        if (Objects.isNull(body)) {
+            body = current.enumBodies.computeIfAbsent(resultEnum, e -> encode(current.result, e.getCode(), e.getMsg()));
+        }
+        return body.duplicate();
+    }
+
+    /**
+     * Get the error body of the code and message, the number of cached messages is bounded.
+     *
+     * @param code    the code
+     * @param message the message
+     * @return the read-only body
+     */
+    public static ByteBuffer error(final int code, final String message) {
+        Bodies current = current();
+        String key = code + ":" + message;
+        ByteBuffer body = current.messageBodies.get(key);
+        if (Objects.isNull(body)) {
+            body = encode(current.result, code, message);
+            if (current.messageBodies.size() < MAX_MESSAGE_BODIES) {
+                current.messageBodies.putIfAbsent(key, body);
+            }
+        }
+        return body.duplicate();
+    }
+
+    private static Bodies current() {
+        ConfigurableApplicationContext context = SpringBeanUtils.getInstance().getCfgContext();
+        Bodies current = bodies;
+        if (Objects.isNull(current) || current.context != context) {
+            current = new Bodies(context, context.getBean(ShenyuResult.class));
+            bodies = current;
+        }
+        return current;
+    }
+
+    private static ByteBuffer encode(final ShenyuResult<?> result, final int code, final String message) {
+        String json = Objects.requireNonNull(JsonUtils.toJson(result.error(code, message, null)));
+        return ByteBuffer.wrap(json.getBytes(StandardCharsets.UTF_8)).asReadOnlyBuffer();
+    }
+
+    private static final class Bodies {
+
+        private final ConfigurableApplicationContext context;
+
+        private final ShenyuResult<?> result;
+
+        private final Map<ShenyuResultEnum, ByteBuffer> enumBodies = new ConcurrentHashMap<>();
+
+        private final Map<String, ByteBuffer> messageBodies = new ConcurrentHashMap<>();
+
+        Bodies(final ConfigurableApplicationContext context, final ShenyuResult<?> result) {
+            this.context = context;
+            this.result = result;
+        }
+    }
+}
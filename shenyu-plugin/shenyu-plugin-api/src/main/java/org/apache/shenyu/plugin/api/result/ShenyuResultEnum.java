@@ -67,6 +67,16 @@ public enum ShenyuResultEnum {
      */
     RESILIENCE4J_PLUGIN_FALLBACK(429, "Resilience4JPlugin fallback success, please check your service status!"),
 
+    /**
+     * Concurrency limit exceeded shenyu result enum.
+     */
+    CONCURRENCY_LIMIT_EXCEEDED(503, "Too many concurrent requests, please try again later!"),
+
+    /**
+     * Gateway overloaded shenyu result enum.
+     */
+    GATEWAY_OVERLOADED(503, "The gateway is overloaded, please try again later!"),
+
     /**
      * Meta data error shenyu result enum.
      */
@@ -0,0 +1,248 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.api.utils;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.apache.commons.lang3.tuple.Pair;
+import org.apache.shenyu.common.utils.GsonUtils;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * The compiled binding of the parameter types of a generic rpc call, see {@link BodyParamUtils#buildParameters(Map, String)}.
+ *
+ * <p>The parameter types are split, the name mapping is parsed and the converter of every parameter is picked once, a call only
+ * converts the body values into the argument array. Plans are cached by the parameter types, the rpc metadata subscribers
+ * acquire them when the metadata is synced and release them when it is removed, a plan is dropped once no metadata uses it.
+ */
+@Slf4j
+public final class BodyParamPlan {
+
+    private static final int MAX_PLANS = 4096;
+
+    private static final ConcurrentMap<String, BodyParamPlan> PLANS = new ConcurrentHashMap<>();
+
+    private final String[] paramTypes;
+
+    /**
+     * the parameter names of a name mapping, the values of the body are bound in order when it is null.
+     */
+    private final String[] paramNames;
+
+    private final ValueConverter[] converters;
+
+    private final boolean single;
+
+    /**
+     * the number of the metadata using the plan, guarded by the lock of its entry in {@link #PLANS}.
+     */
+    private int references;
+
+    private BodyParamPlan(final String[] paramTypes, final String[] paramNames, final boolean single) {
+        this.paramTypes = paramTypes.clone();
+        this.paramNames = Objects.isNull(paramNames) ? null : paramNames.clone();
+        this.single = single;
+        this.converters = new ValueConverter[paramTypes.length];
+        for (int i = 0; i < paramTypes.length; i++) {
+            converters[i] = single ? ValueConverter.OBJECT : ValueConverter.of(paramTypes[i]);
+        }
+    }
+
+    /**
+     * Get the plan of the parameter types, it is compiled and cached on first use.
+     *
+     * @param parameterTypes the parameter types
+     * @return the plan
+     */
+    public static BodyParamPlan of(final String parameterTypes) {
+        BodyParamPlan plan = PLANS.get(parameterTypes);
+        if (Objects.nonNull(plan)) {
+            return plan;
+        }
+        plan = compile(parameterTypes);
+        if (PLANS.size() < MAX_PLANS) {
+            PLANS.putIfAbsent(parameterTypes, plan);
+        }
+        return plan;
+    }
+
+    /**
+     * Compile and cache the plan of the parameter types for a metadata using it, the plan is kept until every metadata
+     * which acquired it released it.
+     *
+     * @param parameterTypes the parameter types
+     * @return the plan
+     */
+    public static BodyParamPlan acquire(final String parameterTypes) {
+        return PLANS.compute(parameterTypes, (types, plan) -> {
+            BodyParamPlan acquired = Objects.isNull(plan) ? compile(types) : plan;
+            acquired.references++;
+            return acquired;
+        });
+    }
+
+    /**
+     * Release the plan of the parameter types a metadata acquired, the plan is removed once no metadata uses it.
+     *
+     * @param parameterTypes the parameter types
+     */
+    public static void release(final String parameterTypes) {
+        if (Objects.nonNull(parameterTypes)) {
+            PLANS.computeIfPresent(parameterTypes, (types, plan) -> --plan.references > 0 ? plan : null);
+        }
+    }
+
+    /**
+     * Move the plan a metadata holds from its previous parameter types to its current ones, nothing changes when they are equal.
+     * The current parameter types are compiled on the call instead when they are invalid.
+     *
+     * @param path     the path of the metadata
+     * @param previous the previous parameter types, null for a metadata which is synced the first time
+     * @param current  the current parameter types, null for a metadata which is removed
+     */
+    public static void replace(final String path, final String previous, final String current) {
+        if (Objects.equals(previous, current)) {
+            return;
+        }
+        if (StringUtils.isNotBlank(previous)) {
+            release(previous);
+        }
+        if (StringUtils.isBlank(current)) {
+            return;
+        }
+        try {
+            acquire(current);
+        } catch (Exception e) {
+            log.error("compile the parameter types of {} error", path, e);
+        }
+    }
+
+    /**
+     * Gets the parameter types.
+     *
+     * @return a copy of the parameter types
+     */
+    public String[] getParamTypes() {
+        return paramTypes.clone();
+    }
+
+    /**
+     * Bind the body to the parameters.
+     *
+     * @param bodyMap the parameter body parsed by {@link GsonUtils#toObjectMap(String)}, it is not modified.
+     * @return the parameter types and values
+     */
+    public Pair<String[], Object[]> bind(final Map<String, Object> bodyMap) {
+        if (single) {
+            final Map<String, Object> paramMap = new LinkedHashMap<>(bodyMap.size());
+            for (Map.Entry<String, Object> entry : bodyMap.entrySet()) {
+                paramMap.put(entry.getKey(), BodyParamUtils.convert(entry.getValue()));
+            }
+            return new ImmutablePair<>(paramTypes.clone(), new Object[]{paramMap});
+        }
+        Object[] args;
+        if (Objects.nonNull(paramNames)) {
+            args = new Object[paramNames.length];
+            for (int i = 0; i < paramNames.length; i++) {
+                args[i] = converters[i].convert(bodyMap.get(paramNames[i]));
+            }
+        } else {
+            args = new Object[bodyMap.size()];
+            int i = 0;
+            for (Object value : bodyMap.values()) {
+                args[i] = i < converters.length ? converters[i].convert(value) : BodyParamUtils.convert(value);
+                i++;
+            }
+        }
+        return new ImmutablePair<>(paramTypes.clone(), args);
+    }
+
+    private static BodyParamPlan compile(final String parameterTypes) {
+        String[] types;
+        String[] names = null;
+        if (BodyParamUtils.isNameMapping(parameterTypes)) {
+            Map<String, String> paramNameMap = GsonUtils.getInstance().toObjectMap(parameterTypes, String.class);
+            names = paramNameMap.keySet().toArray(new String[0]);
+            types = paramNameMap.values().toArray(new String[0]);
+        } else {
+            types = StringUtils.split(parameterTypes, ",");
+        }
+        if (types.length == 1 && !BodyParamUtils.isBaseType(types[0])) {
+            return new BodyParamPlan(new String[]{parameterTypes}, null, true);
+        }
+        return new BodyParamPlan(types, names, false);
+    }
+
+    /**
+     * The converter of a body value, picked by the declared type of the parameter. A value of another shape than the
+     * type expects falls back to {@link BodyParamUtils#convert(Object)}.
+     */
+    private enum ValueConverter {
+
+        /**
+         * java.lang types, the body holds them as parsed numbers, strings and booleans.
+         */
+        SCALAR {
+            @Override
+            Object convert(final Object value) {
+                return value instanceof JsonObject || value instanceof JsonArray ? BodyParamUtils.convert(value) : value;
+            }
+        },
+
+        /**
+         * collections and arrays.
+         */
+        ARRAY {
+            @Override
+            Object convert(final Object value) {
+                return value instanceof JsonArray ? GsonUtils.getInstance().fromJsonArray((JsonArray) value, Object.class) : BodyParamUtils.convert(value);
+            }
+        },
+
+        /**
+         * maps and the other types, which are bound as maps.
+         */
+        OBJECT {
+            @Override
+            Object convert(final Object value) {
+                return value instanceof JsonObject ? GsonUtils.getInstance().convertJsonObjectToMap((JsonObject) value) : BodyParamUtils.convert(value);
+            }
+        };
+
+        abstract Object convert(Object value);
+
+        static ValueConverter of(final String paramType) {
+            if (paramType.startsWith("[") || paramType.endsWith("[]") || paramType.endsWith("List")
+                    || paramType.endsWith("Set") || paramType.endsWith("Collection")) {
+                return ARRAY;
+            }
+            if (paramType.startsWith("java.lang.") || !paramType.contains(".")) {
+                return SCALAR;
+            }
+            return OBJECT;
+        }
+    }
+}
@@ -19,13 +19,10 @@ package org.apache.shenyu.plugin.api.utils;
 
 import com.google.gson.JsonArray;
 import com.google.gson.JsonObject;
-import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.shenyu.common.utils.GsonUtils;
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.List;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 /**
@@ -41,16 +38,20 @@ public class BodyParamUtils {
      * @return the parameters.
      */
     public static Pair<String[], Object[]> buildSingleParameter(final String body, final String parameterTypes) {
-        final Map<String, Object> paramMap = GsonUtils.getInstance().toObjectMap(body);
-        for (String key : paramMap.keySet()) {
-            Object obj = paramMap.get(key);
-            if (obj instanceof JsonObject) {
-                paramMap.put(key, GsonUtils.getInstance().convertToMap(obj.toString()));
-            } else if (obj instanceof JsonArray) {
-                paramMap.put(key, GsonUtils.getInstance().fromList(obj.toString(), Object.class));
-            } else {
-                paramMap.put(key, obj);
-            }
+        return buildSingleParameter(GsonUtils.getInstance().toObjectMap(body), parameterTypes);
+    }
+
+    /**
+     * build single parameter.
+     *
+     * @param bodyMap the parameter body parsed by {@link GsonUtils#toObjectMap(String)}, it is not modified.
+     * @param parameterTypes the parameter types.
+     * @return the parameters.
+     */
+    public static Pair<String[], Object[]> buildSingleParameter(final Map<String, Object> bodyMap, final String parameterTypes) {
+        final Map<String, Object> paramMap = new LinkedHashMap<>(bodyMap.size());
+        for (Map.Entry<String, Object> entry : bodyMap.entrySet()) {
+            paramMap.put(entry.getKey(), convert(entry.getValue()));
         }
         return new ImmutablePair<>(new String[]{parameterTypes}, new Object[]{paramMap});
     }
@@ -63,38 +64,30 @@ public class BodyParamUtils {
      * @return the parameters.
      */
     public static Pair<String[], Object[]> buildParameters(final String body, final String parameterTypes) {
-        List<String> paramNameList = new ArrayList<>();
-        List<String> paramTypeList = new ArrayList<>();
+        return buildParameters(GsonUtils.getInstance().toObjectMap(body), parameterTypes);
+    }
 
-        if (isNameMapping(parameterTypes)) {
-            Map<String, String> paramNameMap = GsonUtils.getInstance().toObjectMap(parameterTypes, String.class);
-            paramNameList.addAll(paramNameMap.keySet());
-            paramTypeList.addAll(paramNameMap.values());
-        } else {
-            Map<String, Object> paramMap = GsonUtils.getInstance().toObjectMap(body);
-            paramNameList.addAll(paramMap.keySet());
-            paramTypeList.addAll(Arrays.asList(StringUtils.split(parameterTypes, ",")));
-        }
+    /**
+     * build multi parameters.
+     *
+     * @param bodyMap the parameter body parsed by {@link GsonUtils#toObjectMap(String)}, it is not modified.
+     * @param parameterTypes the parameter types.
+     * @return the parameters.
+     */
+    public static Pair<String[], Object[]> buildParameters(final Map<String, Object> bodyMap, final String parameterTypes) {
+        return BodyParamPlan.of(parameterTypes).bind(bodyMap);
+    }
 
-        if (paramTypeList.size() == 1 && !isBaseType(paramTypeList.get(0))) {
-            return buildSingleParameter(body, parameterTypes);
+    static Object convert(final Object obj) {
+        if (obj instanceof JsonObject) {
+            return GsonUtils.getInstance().convertJsonObjectToMap((JsonObject) obj);
+        } else if (obj instanceof JsonArray) {
+            return GsonUtils.getInstance().fromJsonArray((JsonArray) obj, Object.class);
         }
-        Map<String, Object> paramMap = GsonUtils.getInstance().toObjectMap(body);
-        Object[] objects = paramNameList.stream().map(key -> {
-            Object obj = paramMap.get(key);
-            if (obj instanceof JsonObject) {
-                return GsonUtils.getInstance().convertToMap(obj.toString());
-            } else if (obj instanceof JsonArray) {
-                return GsonUtils.getInstance().fromList(obj.toString(), Object.class);
-            } else {
-                return obj;
-            }
-        }).toArray();
-        String[] paramTypes = paramTypeList.toArray(new String[0]);
-        return new ImmutablePair<>(paramTypes, objects);
+        return obj;
     }
 
-    private static boolean isNameMapping(final String parameterTypes) {
+    static boolean isNameMapping(final String parameterTypes) {
         return parameterTypes.startsWith("{") && parameterTypes.endsWith("}");
     }
 
@@ -104,7 +97,7 @@ public class BodyParamUtils {
      * @param paramType the parameter type.
      * @return whether the base type is.
      */
-    private static boolean isBaseType(final String paramType) {
+    static boolean isBaseType(final String paramType) {
         return paramType.startsWith("java") || paramType.startsWith("[Ljava");
     }
 }
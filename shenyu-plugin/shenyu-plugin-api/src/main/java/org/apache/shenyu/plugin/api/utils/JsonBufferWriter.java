@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.api.utils;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shenyu.common.utils.JsonUtils;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DataBufferUtils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Serializes a result with the jackson generator of {@link JsonUtils} straight into buffers of the response
+ * buffer factory, so a large result is neither materialized as a string nor copied into one byte array.
+ * The output is split into buffers of at most {@link #CHUNK_SIZE} bytes. The whole result is serialized
+ * before the buffers are returned, so the response is not streamed while serializing.
+ */
+@Slf4j
+public final class JsonBufferWriter {
+
+    /**
+     * The max size of one buffer.
+     */
+    public static final int CHUNK_SIZE = 8192;
+
+    private static final byte[] EMPTY_OBJECT = "{}".getBytes(StandardCharsets.UTF_8);
+
+    private JsonBufferWriter() {
+    }
+
+    /**
+     * Write the object as json.
+     *
+     * @param bufferFactory the buffer factory
+     * @param object        the object
+     * @return the buffers, owned by the caller
+     */
+    public static List<DataBuffer> write(final DataBufferFactory bufferFactory, final Object object) {
+        ChunkedOutputStream outputStream = new ChunkedOutputStream(bufferFactory);
+        try {
+            JsonUtils.writeJson(outputStream, object);
+            return outputStream.buffers;
+        } catch (IOException e) {
+            log.warn("write to json buffer error: " + object, e);
+            outputStream.buffers.forEach(DataBufferUtils::release);
+            return Collections.singletonList(bufferFactory.wrap(EMPTY_OBJECT));
+        }
+    }
+
+    private static final class ChunkedOutputStream extends OutputStream {
+
+        private final DataBufferFactory bufferFactory;
+
+        private final List<DataBuffer> buffers = new ArrayList<>(1);
+
+        private DataBuffer current;
+
+        ChunkedOutputStream(final DataBufferFactory bufferFactory) {
+            this.bufferFactory = bufferFactory;
+        }
+
+        @Override
+        public void write(final int b) {
+            next().write((byte) b);
+        }
+
+        @Override
+        public void write(final byte[] b, final int off, final int len) {
+            int offset = off;
+            int remaining = len;
+            while (remaining > 0) {
+                DataBuffer buffer = next();
+                int length = Math.min(remaining, buffer.writableByteCount());
+                buffer.write(b, offset, length);
+                offset += length;
+                remaining -= length;
+            }
+        }
+
+        private DataBuffer next() {
+            if (Objects.isNull(current) || current.writableByteCount() == 0) {
+                current = bufferFactory.allocateBuffer(CHUNK_SIZE);
+                buffers.add(current);
+            }
+            return current;
+        }
+    }
+}
@@ -51,6 +51,15 @@ public final class SpringBeanUtils {
         return cfgContext.getBean(type);
     }
 
+    /**
+     * get application context.
+     *
+     * @return application context
+     */
+    public ConfigurableApplicationContext getCfgContext() {
+        return cfgContext;
+    }
+
     /**
      * set application context.
      *
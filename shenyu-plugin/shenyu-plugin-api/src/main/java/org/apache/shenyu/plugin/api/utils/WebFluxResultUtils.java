@@ -18,14 +18,17 @@
 package org.apache.shenyu.plugin.api.utils;
 
 import lombok.extern.slf4j.Slf4j;
-import org.apache.shenyu.common.utils.JsonUtils;
+import org.apache.shenyu.plugin.api.result.ShenyuErrorBodyRegistry;
 import org.apache.shenyu.plugin.api.result.ShenyuResultEnum;
-import org.apache.shenyu.plugin.api.result.ShenyuResultWrap;
+import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
 import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
-import java.util.Objects;
+import java.nio.ByteBuffer;
+import java.util.List;
 
 /**
  * The type Shenyu result utils.
@@ -41,10 +44,37 @@ public final class WebFluxResultUtils {
      * @return the mono
      */
     public static Mono<Void> result(final ServerWebExchange exchange, final Object result) {
-        exchange.getResponse().getHeaders().setContentType(MediaType.APPLICATION_JSON);
-        return exchange.getResponse().writeWith(Mono.just(exchange.getResponse()
-                // TODO this is a risk for error charset coding with getBytes
-                .bufferFactory().wrap(Objects.requireNonNull(JsonUtils.toJson(result)).getBytes())));
+        ServerHttpResponse response = exchange.getResponse();
+        List<DataBuffer> body = JsonBufferWriter.write(response.bufferFactory(), result);
+        response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        if (body.size() == 1) {
+            return response.writeWith(Mono.just(body.get(0)));
+        }
+        response.getHeaders().setContentLength(body.stream().mapToLong(DataBuffer::readableByteCount).sum());
+        return response.writeWith(Flux.fromIterable(body));
+    }
+
+    /**
+     * Write the pre-encoded error body of the result enum.
+     *
+     * @param exchange   the exchange
+     * @param resultEnum the result enum
+     * @return the mono
+     */
+    public static Mono<Void> error(final ServerWebExchange exchange, final ShenyuResultEnum resultEnum) {
+        return write(exchange, ShenyuErrorBodyRegistry.error(resultEnum));
+    }
+
+    /**
+     * Write the pre-encoded error body of the code and message.
+     *
+     * @param exchange the exchange
+     * @param code     the code
+     * @param message  the message
+     * @return the mono
+     */
+    public static Mono<Void> error(final ServerWebExchange exchange, final int code, final String message) {
+        return write(exchange, ShenyuErrorBodyRegistry.error(code, message));
     }
 
     /**
@@ -56,8 +86,7 @@ public final class WebFluxResultUtils {
      */
     public static Mono<Void> noSelectorResult(final String pluginName, final ServerWebExchange exchange) {
         log.error("can not match selector data: {}", pluginName);
-        Object error = ShenyuResultWrap.error(ShenyuResultEnum.SELECTOR_NOT_FOUND.getCode(), ShenyuResultEnum.SELECTOR_NOT_FOUND.getMsg(), null);
-        return WebFluxResultUtils.result(exchange, error);
+        return WebFluxResultUtils.error(exchange, ShenyuResultEnum.SELECTOR_NOT_FOUND);
     }
 
     /**
@@ -69,7 +98,11 @@ public final class WebFluxResultUtils {
      */
     public static Mono<Void> noRuleResult(final String pluginName, final ServerWebExchange exchange) {
         log.error("can not match rule data: {}", pluginName);
-        Object error = ShenyuResultWrap.error(ShenyuResultEnum.RULE_NOT_FOUND.getCode(), ShenyuResultEnum.RULE_NOT_FOUND.getMsg(), null);
-        return WebFluxResultUtils.result(exchange, error);
+        return WebFluxResultUtils.error(exchange, ShenyuResultEnum.RULE_NOT_FOUND);
+    }
+
+    private static Mono<Void> write(final ServerWebExchange exchange, final ByteBuffer body) {
+        exchange.getResponse().getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        return exchange.getResponse().writeWith(Mono.just(exchange.getResponse().bufferFactory().wrap(body)));
     }
 }
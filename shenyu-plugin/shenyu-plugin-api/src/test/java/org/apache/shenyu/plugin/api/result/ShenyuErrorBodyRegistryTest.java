@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.api.result;
+
+import org.apache.shenyu.common.utils.JsonUtils;
+import org.apache.shenyu.plugin.api.utils.SpringBeanUtils;
+import org.apache.shenyu.plugin.api.utils.WebFluxResultUtils;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.test.StepVerifier;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * The Shenyu error body registry test.
+ */
+public final class ShenyuErrorBodyRegistryTest {
+
+    private ConfigurableApplicationContext context;
+
+    @Before
+    public void setUp() {
+        context = mock(ConfigurableApplicationContext.class);
+        SpringBeanUtils.getInstance().setCfgContext(context);
+        when(context.getBean(ShenyuResult.class)).thenReturn(new DefaultShenyuResult());
+    }
+
+    @Test
+    public void testEnumBody() {
+        ByteBuffer body = ShenyuErrorBodyRegistry.error(ShenyuResultEnum.TOO_MANY_REQUESTS);
+        assertTrue(body.isReadOnly());
+        String expected = JsonUtils.toJson(new DefaultShenyuResult().error(ShenyuResultEnum.TOO_MANY_REQUESTS.getCode(),
+                ShenyuResultEnum.TOO_MANY_REQUESTS.getMsg(), null));
+        assertEquals(expected, StandardCharsets.UTF_8.decode(body).toString());
+        assertEquals(expected, StandardCharsets.UTF_8.decode(ShenyuErrorBodyRegistry.error(ShenyuResultEnum.TOO_MANY_REQUESTS)).toString());
+    }
+
+    @Test
+    public void testBeanLookedUpOncePerContext() {
+        ShenyuErrorBodyRegistry.error(ShenyuResultEnum.TOO_MANY_REQUESTS);
+        ShenyuErrorBodyRegistry.error(ShenyuResultEnum.RULE_NOT_FOUND);
+        ShenyuErrorBodyRegistry.error(403, "forbidden");
+        verify(context, times(1)).getBean(ShenyuResult.class);
+    }
+
+    @Test
+    public void testMessageBodyUtf8() {
+        String body = StandardCharsets.UTF_8.decode(ShenyuErrorBodyRegistry.error(403, "拒绝访问")).toString();
+        assertTrue(body.contains("拒绝访问"));
+    }
+
+    @Test
+    public void testResultChanged() {
+        final String body = StandardCharsets.UTF_8.decode(ShenyuErrorBodyRegistry.error(ShenyuResultEnum.RULE_NOT_FOUND)).toString();
+        ShenyuResult<?> custom = mock(ShenyuResult.class);
+        when(custom.error(ShenyuResultEnum.RULE_NOT_FOUND.getCode(), ShenyuResultEnum.RULE_NOT_FOUND.getMsg(), null))
+                .thenReturn(Collections.singletonMap("status", "rule"));
+        ConfigurableApplicationContext customContext = mock(ConfigurableApplicationContext.class);
+        when(customContext.getBean(ShenyuResult.class)).thenReturn(custom);
+        SpringBeanUtils.getInstance().setCfgContext(customContext);
+        String customBody = StandardCharsets.UTF_8.decode(ShenyuErrorBodyRegistry.error(ShenyuResultEnum.RULE_NOT_FOUND)).toString();
+        assertNotEquals(body, customBody);
+        assertEquals("{\"status\":\"rule\"}", customBody);
+    }
+
+    @Test
+    public void testWriteError() {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("localhost").build());
+        StepVerifier.create(WebFluxResultUtils.error(exchange, ShenyuResultEnum.SELECTOR_NOT_FOUND)).expectSubscription().verifyComplete();
+        assertEquals(MediaType.APPLICATION_JSON, exchange.getResponse().getHeaders().getContentType());
+        StepVerifier.create(exchange.getResponse().getBodyAsString())
+                .expectNext(StandardCharsets.UTF_8.decode(ShenyuErrorBodyRegistry.error(ShenyuResultEnum.SELECTOR_NOT_FOUND)).toString())
+                .verifyComplete();
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.api.utils;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.shenyu.common.utils.JsonUtils;
+import org.junit.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test case for {@link JsonBufferWriter}.
+ */
+public final class JsonBufferWriterTest {
+
+    private final DefaultDataBufferFactory bufferFactory = new DefaultDataBufferFactory();
+
+    @Test
+    public void testWrite() {
+        assertWrite(1024);
+        assertWrite(100 * 1024);
+        assertWrite(5 * 1024 * 1024);
+    }
+
+    @Test
+    public void testWriteSkipsClass() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("class", "org.apache.shenyu.User");
+        result.put("id", 1);
+        assertEquals("{\"id\":1}", join(JsonBufferWriter.write(bufferFactory, result)));
+    }
+
+    private void assertWrite(final int size) {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("class", "org.apache.shenyu.User");
+        result.put("name", StringUtils.repeat('a', size));
+        List<DataBuffer> buffers = JsonBufferWriter.write(bufferFactory, result);
+        String expected = JsonUtils.toJson(result);
+        int length = expected.getBytes(StandardCharsets.UTF_8).length;
+        assertEquals((length + JsonBufferWriter.CHUNK_SIZE - 1) / JsonBufferWriter.CHUNK_SIZE, buffers.size());
+        assertTrue(buffers.stream().allMatch(buffer -> buffer.readableByteCount() <= JsonBufferWriter.CHUNK_SIZE));
+        assertEquals(expected, join(buffers));
+    }
+
+    private String join(final List<DataBuffer> buffers) {
+        StringBuilder builder = new StringBuilder();
+        for (DataBuffer buffer : buffers) {
+            builder.append(buffer.toString(StandardCharsets.UTF_8));
+            DataBufferUtils.release(buffer);
+        }
+        return builder.toString();
+    }
+}
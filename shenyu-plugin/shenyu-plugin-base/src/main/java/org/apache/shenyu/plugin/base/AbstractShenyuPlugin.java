@@ -20,20 +20,25 @@ package org.apache.shenyu.plugin.base;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.collections4.CollectionUtils;
+import org.apache.shenyu.common.constant.Constants;
 import org.apache.shenyu.common.dto.PluginData;
 import org.apache.shenyu.common.dto.RuleData;
 import org.apache.shenyu.common.dto.SelectorData;
 import org.apache.shenyu.common.enums.SelectorTypeEnum;
 import org.apache.shenyu.plugin.api.ShenyuPlugin;
 import org.apache.shenyu.plugin.api.ShenyuPluginChain;
+import org.apache.shenyu.plugin.api.result.ShenyuResultEnum;
+import org.apache.shenyu.plugin.api.utils.WebFluxResultUtils;
 import org.apache.shenyu.plugin.base.cache.BaseDataCache;
 import org.apache.shenyu.plugin.base.condition.strategy.MatchStrategyFactory;
+import org.springframework.http.HttpStatus;
 import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Mono;
 
 import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
+import java.util.function.Predicate;
 
 /**
  * abstract shenyu plugin please extends.
@@ -90,6 +95,10 @@ public abstract class AbstractShenyuPlugin implements ShenyuPlugin {
                 return handleRuleIfNull(pluginName, exchange, chain);
             }
             ruleLog(rule, pluginName);
+            if (!admit(exchange, rule)) {
+                exchange.getResponse().setStatusCode(HttpStatus.SERVICE_UNAVAILABLE);
+                return WebFluxResultUtils.error(exchange, ShenyuResultEnum.GATEWAY_OVERLOADED);
+            }
             return doExecute(exchange, chain, selectorData, rule);
         }
         return chain.execute(exchange);
@@ -103,6 +112,16 @@ public abstract class AbstractShenyuPlugin implements ShenyuPlugin {
         return chain.execute(exchange);
     }
 
+    private boolean admit(final ServerWebExchange exchange, final RuleData rule) {
+        // the pending admission of a shedding gateway is decided once, by the first matched rule
+        Predicate<RuleData> admission = exchange.getAttribute(Constants.ADMISSION_CHECK);
+        if (Objects.isNull(admission)) {
+            return true;
+        }
+        exchange.getAttributes().remove(Constants.ADMISSION_CHECK);
+        return admission.test(rule);
+    }
+
     private SelectorData matchSelector(final ServerWebExchange exchange, final Collection<SelectorData> selectors) {
         return selectors.stream()
                 .filter(selector -> selector.getEnabled() && filterSelector(selector, exchange))
@@ -24,6 +24,8 @@ import org.apache.shenyu.common.utils.HttpParamConverter;
 import org.apache.shenyu.plugin.api.ShenyuPlugin;
 import org.apache.shenyu.plugin.api.ShenyuPluginChain;
 import org.apache.shenyu.plugin.api.context.ShenyuContext;
+import org.apache.shenyu.plugin.api.param.CachedRequestBody;
+import org.springframework.core.io.buffer.DataBufferUtils;
 import org.springframework.http.MediaType;
 import org.springframework.http.codec.HttpMessageReader;
 import org.springframework.http.server.reactive.ServerHttpRequest;
@@ -33,6 +35,7 @@ import org.springframework.web.reactive.function.server.ServerRequest;
 import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Mono;
 
+import java.nio.charset.Charset;
 import java.util.List;
 import java.util.Objects;
 
@@ -41,13 +44,30 @@ import java.util.Objects;
  */
 public class ParamTransformPlugin implements ShenyuPlugin {
 
+    /**
+     * The default max bytes of a json body kept in memory.
+     */
+    public static final int DEFAULT_MAX_IN_MEMORY_SIZE = 256 * 1024;
+
     private final List<HttpMessageReader<?>> messageReaders;
 
+    private final int maxInMemorySize;
+
     /**
      * Instantiates a new param transform plugin.
      */
     public ParamTransformPlugin() {
+        this(DEFAULT_MAX_IN_MEMORY_SIZE);
+    }
+
+    /**
+     * Instantiates a new param transform plugin.
+     *
+     * @param maxInMemorySize the max bytes of a json body kept in memory, -1 for no limit
+     */
+    public ParamTransformPlugin(final int maxInMemorySize) {
         this.messageReaders = HandlerStrategies.withDefaults().messageReaders();
+        this.maxInMemorySize = maxInMemorySize;
     }
 
     @Override
@@ -58,7 +78,7 @@ public class ParamTransformPlugin implements ShenyuPlugin {
             MediaType mediaType = request.getHeaders().getContentType();
             ServerRequest serverRequest = ServerRequest.create(exchange, messageReaders);
             if (MediaType.APPLICATION_JSON.isCompatibleWith(mediaType)) {
-                return body(exchange, serverRequest, chain);
+                return body(exchange, mediaType, chain);
             }
             if (MediaType.APPLICATION_FORM_URLENCODED.isCompatibleWith(mediaType)) {
                 return formData(exchange, serverRequest, chain);
@@ -78,12 +98,14 @@ public class ParamTransformPlugin implements ShenyuPlugin {
         return PluginEnum.PARAM_TRANSFORM.getName();
     }
 
-    private Mono<Void> body(final ServerWebExchange exchange, final ServerRequest serverRequest, final ShenyuPluginChain chain) {
-        return serverRequest.bodyToMono(String.class)
-                .switchIfEmpty(Mono.defer(() -> Mono.just("")))
+    private Mono<Void> body(final ServerWebExchange exchange, final MediaType mediaType, final ShenyuPluginChain chain) {
+        Charset charset = Objects.isNull(mediaType) ? null : mediaType.getCharset();
+        return DataBufferUtils.join(exchange.getRequest().getBody(), maxInMemorySize)
+                .map(buffer -> CachedRequestBody.of(buffer, charset))
+                .switchIfEmpty(Mono.defer(() -> Mono.just(CachedRequestBody.of(""))))
                 .flatMap(body -> {
                     exchange.getAttributes().put(Constants.PARAM_TRANSFORM, body);
-                    return chain.execute(exchange);
+                    return chain.execute(exchange).doFinally(signal -> body.release());
                 });
     }
     
@@ -91,13 +113,13 @@ public class ParamTransformPlugin implements ShenyuPlugin {
         return serverRequest.formData()
                 .switchIfEmpty(Mono.defer(() -> Mono.just(new LinkedMultiValueMap<>())))
                 .flatMap(map -> {
-                    exchange.getAttributes().put(Constants.PARAM_TRANSFORM, HttpParamConverter.toMap(() -> map));
+                    exchange.getAttributes().put(Constants.PARAM_TRANSFORM, CachedRequestBody.of(HttpParamConverter.toMap(() -> map)));
                     return chain.execute(exchange);
                 });
     }
     
     private Mono<Void> query(final ServerWebExchange exchange, final ServerRequest serverRequest, final ShenyuPluginChain chain) {
-        exchange.getAttributes().put(Constants.PARAM_TRANSFORM, HttpParamConverter.ofString(() -> serverRequest.uri().getQuery()));
+        exchange.getAttributes().put(Constants.PARAM_TRANSFORM, CachedRequestBody.of(HttpParamConverter.ofString(() -> serverRequest.uri().getQuery())));
         return chain.execute(exchange);
     }
     
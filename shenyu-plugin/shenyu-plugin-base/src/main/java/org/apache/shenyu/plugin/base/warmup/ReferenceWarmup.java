@@ -0,0 +1,273 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.base.warmup;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shenyu.common.concurrent.ShenyuThreadFactory;
+import org.apache.shenyu.common.dto.MetaData;
+import org.apache.shenyu.metrics.constant.LabelNames;
+import org.apache.shenyu.metrics.reporter.MetricsReporter;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * The warm-up of the rpc references, which initializes the references of the synced metadata on a bounded pool
+ * instead of one by one on the sync thread or on the first request.
+ *
+ * <p>The metadata subscribers register how to replay their cached metadata, so the metadata synced before the warm-up
+ * is enabled is warmed up too. The gateway is ready once the full metadata is synced and every submitted initialization
+ * is finished, or once the timeout has passed since the warm-up was enabled.
+ * When the warm-up is disabled the references are initialized on the caller thread and the gateway is always ready.
+ */
+@Slf4j
+public final class ReferenceWarmup {
+
+    private static final ReferenceWarmup INSTANCE = new ReferenceWarmup();
+
+    private static final String[] LABEL_NAMES = {"state"};
+
+    private static final String[] SUBMITTED = {"submitted"};
+
+    private static final String[] COMPLETED = {"completed"};
+
+    private static final String[] FAILED = {"failed"};
+
+    private final Map<String, Consumer<ReferenceWarmup>> replays = new ConcurrentHashMap<>();
+
+    private final ConcurrentMap<String, CompletableFuture<Void>> pending = new ConcurrentHashMap<>();
+
+    private final AtomicLong submitted = new AtomicLong();
+
+    private final AtomicLong completed = new AtomicLong();
+
+    private final AtomicLong failed = new AtomicLong();
+
+    private final AtomicBoolean timeoutLogged = new AtomicBoolean();
+
+    private volatile ExecutorService executor;
+
+    private volatile boolean synced;
+
+    private volatile long startTime;
+
+    private volatile long timeoutMillis;
+
+    private ReferenceWarmup() {
+    }
+
+    /**
+     * Gets instance.
+     *
+     * @return the instance
+     */
+    public static ReferenceWarmup getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Register how a subscriber replays its cached metadata, it is run when the warm-up is enabled.
+     *
+     * @param name   the name of the subscriber
+     * @param replay the replay, which executes the initializations of the references not initialized yet
+     */
+    public synchronized void register(final String name, final Consumer<ReferenceWarmup> replay) {
+        replays.put(name, replay);
+        if (Objects.nonNull(executor)) {
+            replay.accept(this);
+        }
+    }
+
+    /**
+     * Enable the warm-up and replay the metadata synced before.
+     *
+     * @param parallelism   the max references initialized at the same time
+     * @param timeoutMillis the max time the readiness waits for the warm-up
+     */
+    public synchronized void enable(final int parallelism, final long timeoutMillis) {
+        if (Objects.nonNull(executor)) {
+            return;
+        }
+        this.timeoutMillis = timeoutMillis;
+        this.startTime = System.currentTimeMillis();
+        timeoutLogged.set(false);
+        int threads = Math.max(1, parallelism);
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(threads, threads, 60L, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+                ShenyuThreadFactory.create("shenyu-reference-warmup", true));
+        pool.allowCoreThreadTimeOut(true);
+        MetricsReporter.registerCounter(LabelNames.REFERENCE_WARMUP_TOTAL, LABEL_NAMES, "the shenyu reference warm-up total count");
+        MetricsReporter.registerGauge(LabelNames.REFERENCE_WARMUP_PENDING, "the shenyu reference warm-up pending count");
+        this.executor = pool;
+        replays.values().forEach(replay -> replay.accept(this));
+    }
+
+    /**
+     * Initialize a reference, on the warm-up pool when it is enabled.
+     * The initialization is skipped when the one of the same name is still pending.
+     *
+     * @param name the name of the reference
+     * @param init the initialization
+     */
+    public void execute(final String name, final Runnable init) {
+        ExecutorService pool = executor;
+        if (Objects.isNull(pool)) {
+            init.run();
+            return;
+        }
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        if (Objects.nonNull(pending.putIfAbsent(name, future))) {
+            return;
+        }
+        submitted.incrementAndGet();
+        MetricsReporter.counterIncrement(LabelNames.REFERENCE_WARMUP_TOTAL, SUBMITTED);
+        MetricsReporter.gaugeSet(LabelNames.REFERENCE_WARMUP_PENDING, pending.size());
+        future.whenComplete((result, error) -> {
+            pending.remove(name, future);
+            MetricsReporter.gaugeSet(LabelNames.REFERENCE_WARMUP_PENDING, pending.size());
+        });
+        try {
+            pool.execute(() -> run(name, init, future));
+        } catch (RejectedExecutionException e) {
+            // the pool is closed, the reference is initialized on the first request
+            future.completeExceptionally(e);
+        }
+    }
+
+    /**
+     * Initialize the references of the cached metadata of a subscriber which are not initialized yet, used by its replay.
+     *
+     * @param metaDataList  the cached metadata of the subscriber
+     * @param uninitialized whether the reference of the metadata is not initialized yet
+     * @param init          the initialization of the reference of the metadata
+     */
+    public void warmUp(final Collection<MetaData> metaDataList, final Predicate<MetaData> uninitialized, final Consumer<MetaData> init) {
+        metaDataList.stream()
+                .filter(uninitialized)
+                .forEach(metaData -> execute(metaData.getPath(), () -> init.accept(metaData)));
+    }
+
+    private void run(final String name, final Runnable init, final CompletableFuture<Void> future) {
+        try {
+            init.run();
+            completed.incrementAndGet();
+            MetricsReporter.counterIncrement(LabelNames.REFERENCE_WARMUP_TOTAL, COMPLETED);
+            future.complete(null);
+        } catch (Exception e) {
+            failed.incrementAndGet();
+            MetricsReporter.counterIncrement(LabelNames.REFERENCE_WARMUP_TOTAL, FAILED);
+            log.error("warm up the reference of {} error", name, e);
+            future.completeExceptionally(e);
+        }
+    }
+
+    /**
+     * Mark the full metadata is synced, so the initializations of its references are all submitted.
+     */
+    public void onMetaDataSynced() {
+        synced = true;
+    }
+
+    /**
+     * Whether the warm-up is finished.
+     *
+     * @return true if ready
+     */
+    public boolean isReady() {
+        if (Objects.isNull(executor) || synced && pending.isEmpty()) {
+            return true;
+        }
+        if (System.currentTimeMillis() - startTime >= timeoutMillis) {
+            if (timeoutLogged.compareAndSet(false, true)) {
+                log.warn("the reference warm-up timed out with {} of {} references pending, the metadata synced: {}", getPending(), submitted.get(), synced);
+            }
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Whether the full metadata is synced.
+     *
+     * @return true if synced
+     */
+    public boolean isSynced() {
+        return synced;
+    }
+
+    /**
+     * Get the submitted references.
+     *
+     * @return the submitted count
+     */
+    public long getSubmitted() {
+        return submitted.get();
+    }
+
+    /**
+     * Get the initialized references.
+     *
+     * @return the completed count
+     */
+    public long getCompleted() {
+        return completed.get();
+    }
+
+    /**
+     * Get the references failed to initialize.
+     *
+     * @return the failed count
+     */
+    public long getFailed() {
+        return failed.get();
+    }
+
+    /**
+     * Get the references waiting or being initialized.
+     *
+     * @return the pending count
+     */
+    public long getPending() {
+        return pending.size();
+    }
+
+    /**
+     * Disable the warm-up and stop the pool, the references being initialized are not interrupted.
+     */
+    public synchronized void close() {
+        ExecutorService pool = executor;
+        executor = null;
+        if (Objects.nonNull(pool)) {
+            pool.shutdown();
+        }
+        pending.clear();
+        synced = false;
+    }
+}
@@ -22,11 +22,13 @@ import org.apache.shenyu.common.enums.PluginEnum;
 import org.apache.shenyu.common.enums.RpcTypeEnum;
 import org.apache.shenyu.plugin.api.ShenyuPluginChain;
 import org.apache.shenyu.plugin.api.context.ShenyuContext;
+import org.apache.shenyu.plugin.api.param.CachedRequestBody;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mockito;
 import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.core.io.buffer.DataBufferLimitException;
 import org.springframework.http.MediaType;
 import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
 import org.springframework.mock.web.server.MockServerWebExchange;
@@ -34,7 +36,12 @@ import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
+import java.util.Map;
+
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
 import static org.mockito.Mockito.mock;
 
 /**
@@ -89,6 +96,45 @@ public final class ParamTransformPluginTest {
         StepVerifier.create(result).expectSubscription().verifyComplete();
     }
     
+    /**
+     * Test json body is parsed once.
+     */
+    @Test
+    public void testJsonBodyCached() {
+        ServerWebExchange exchange = MockServerWebExchange.from(
+                MockServerHttpRequest.post("localhost").contentType(MediaType.APPLICATION_JSON).body("{\"id\":1,\"user\":{\"name\":\"shenyu\"}}"));
+        Mockito.when(chain.execute(exchange)).thenAnswer(invocation -> {
+            CachedRequestBody body = exchange.getAttribute(Constants.PARAM_TRANSFORM);
+            assertNotNull(body);
+            assertFalse(body.isBlank());
+            assertFalse(body.isEmpty());
+            assertSame(body.asObjectMap(), body.asObjectMap());
+            assertEquals(1L, body.asMap().get("id"));
+            assertEquals("shenyu", ((Map<?, ?>) body.asMap().get("user")).get("name"));
+            assertEquals("{\"id\":1,\"user\":{\"name\":\"shenyu\"}}", body.asString());
+            return Mono.empty();
+        });
+        ShenyuContext context = new ShenyuContext();
+        context.setRpcType(RpcTypeEnum.DUBBO.getName());
+        exchange.getAttributes().put(Constants.CONTEXT, context);
+        Mono<Void> result = paramTransformPlugin.execute(exchange, chain);
+        StepVerifier.create(result).expectSubscription().verifyComplete();
+    }
+
+    /**
+     * Test json body over the configured max in memory size.
+     */
+    @Test
+    public void testJsonBodyOverMaxInMemorySize() {
+        ServerWebExchange exchange = MockServerWebExchange.from(
+                MockServerHttpRequest.post("localhost").contentType(MediaType.APPLICATION_JSON).body("{\"id\":1,\"name\":\"shenyu\"}"));
+        ShenyuContext context = new ShenyuContext();
+        context.setRpcType(RpcTypeEnum.DUBBO.getName());
+        exchange.getAttributes().put(Constants.CONTEXT, context);
+        Mono<Void> result = new ParamTransformPlugin(16).execute(exchange, chain);
+        StepVerifier.create(result).expectError(DataBufferLimitException.class).verify();
+    }
+
     /**
      * Test format body.
      */
@@ -0,0 +1,162 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.base.warmup;
+
+import org.apache.shenyu.common.dto.MetaData;
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test case for {@link ReferenceWarmup}.
+ */
+public final class ReferenceWarmupTest {
+
+    private final ReferenceWarmup warmup = ReferenceWarmup.getInstance();
+
+    @After
+    public void tearDown() {
+        warmup.close();
+    }
+
+    @Test
+    public void testDisabled() {
+        Thread[] thread = new Thread[1];
+        warmup.execute("/dubbo/findAll", () -> thread[0] = Thread.currentThread());
+        assertEquals(Thread.currentThread(), thread[0]);
+        assertTrue(warmup.isReady());
+    }
+
+    @Test
+    public void testReadyAfterWarmup() throws InterruptedException {
+        warmup.enable(2, 60000);
+        warmup.onMetaDataSynced();
+        final long submitted = warmup.getSubmitted();
+        final long completed = warmup.getCompleted();
+        final long failed = warmup.getFailed();
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        Thread[] thread = new Thread[1];
+        warmup.execute("/dubbo/findAll", () -> {
+            thread[0] = Thread.currentThread();
+            started.countDown();
+            await(release);
+        });
+        warmup.execute("/dubbo/findById", () -> {
+            throw new IllegalStateException("no provider");
+        });
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        assertNotEquals(Thread.currentThread(), thread[0]);
+        assertEquals(submitted + 2, warmup.getSubmitted());
+        assertFalse(warmup.isReady());
+
+        release.countDown();
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!warmup.isReady() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertTrue(warmup.isReady());
+        assertEquals(completed + 1, warmup.getCompleted());
+        assertEquals(failed + 1, warmup.getFailed());
+        assertEquals(0, warmup.getPending());
+    }
+
+    @Test
+    public void testReadyAfterTimeout() throws InterruptedException {
+        warmup.enable(1, 100);
+        CountDownLatch release = new CountDownLatch(1);
+        warmup.execute("/dubbo/findAll", () -> await(release));
+        assertFalse(warmup.isReady());
+        Thread.sleep(150);
+        assertTrue(warmup.isReady());
+        release.countDown();
+    }
+
+    @Test
+    public void testReadyAfterSynced() throws InterruptedException {
+        warmup.enable(1, 60000);
+        assertFalse(warmup.isReady());
+        CountDownLatch release = new CountDownLatch(1);
+        warmup.execute("/sofa/findAll", () -> await(release));
+        assertFalse(warmup.isReady());
+        new ReferenceWarmupMetaDataSubscriber().onSynced();
+        assertTrue(warmup.isSynced());
+        assertFalse(warmup.isReady());
+        release.countDown();
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!warmup.isReady() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertTrue(warmup.isReady());
+        assertEquals(0, warmup.getPending());
+    }
+
+    @Test
+    public void testReplayOnEnable() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger initialized = new AtomicInteger();
+        warmup.register("replay", referenceWarmup -> {
+            referenceWarmup.execute("/sofa/findAll", () -> {
+                initialized.incrementAndGet();
+                await(release);
+            });
+            referenceWarmup.execute("/sofa/findAll", initialized::incrementAndGet);
+        });
+        assertEquals(0, initialized.get());
+        warmup.onMetaDataSynced();
+        warmup.enable(1, 60000);
+        assertEquals(1, warmup.getPending());
+        assertFalse(warmup.isReady());
+        release.countDown();
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!warmup.isReady() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertTrue(warmup.isReady());
+        assertEquals(1, initialized.get());
+        warmup.register("replay", referenceWarmup -> { });
+    }
+
+    @Test
+    public void testWarmUp() {
+        MetaData initialized = MetaData.builder().path("/motan/findAll").build();
+        MetaData uninitialized = MetaData.builder().path("/motan/findById").build();
+        List<String> paths = new CopyOnWriteArrayList<>();
+        warmup.warmUp(Arrays.asList(initialized, uninitialized), metaData -> metaData != initialized, metaData -> paths.add(metaData.getPath()));
+        assertEquals(Arrays.asList("/motan/findById"), paths);
+    }
+
+    private void await(final CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
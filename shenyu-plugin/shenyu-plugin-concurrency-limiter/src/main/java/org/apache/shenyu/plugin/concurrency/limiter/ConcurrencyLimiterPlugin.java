@@ -0,0 +1,85 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.concurrency.limiter;
+
+import org.apache.shenyu.common.dto.RuleData;
+import org.apache.shenyu.common.dto.SelectorData;
+import org.apache.shenyu.common.dto.convert.ConcurrencyLimiterHandle;
+import org.apache.shenyu.common.enums.PluginEnum;
+import org.apache.shenyu.plugin.api.ShenyuPluginChain;
+import org.apache.shenyu.plugin.api.result.ShenyuResultEnum;
+import org.apache.shenyu.plugin.api.utils.WebFluxResultUtils;
+import org.apache.shenyu.plugin.base.AbstractShenyuPlugin;
+import org.apache.shenyu.plugin.base.utils.CacheKeyUtils;
+import org.apache.shenyu.plugin.concurrency.limiter.handler.ConcurrencyLimiterPluginDataHandler;
+import org.apache.shenyu.plugin.concurrency.limiter.limiter.AdaptiveConcurrencyLimiter;
+import org.apache.shenyu.plugin.concurrency.limiter.limiter.ConcurrencyLimiterRegistry;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+import java.util.Objects;
+
+/**
+ * Concurrency limiter plugin, which rejects the requests over an in-flight limit adjusted from the measured rtt.
+ */
+public class ConcurrencyLimiterPlugin extends AbstractShenyuPlugin {
+
+    private static final String SELECTOR_SCOPE = "selector";
+
+    static {
+        AdaptiveConcurrencyLimiter.registerMetrics();
+    }
+
+    @Override
+    public String named() {
+        return PluginEnum.CONCURRENCY_LIMITER.getName();
+    }
+
+    @Override
+    public int getOrder() {
+        return PluginEnum.CONCURRENCY_LIMITER.getCode();
+    }
+
+    @Override
+    protected Mono<Void> doExecute(final ServerWebExchange exchange, final ShenyuPluginChain chain, final SelectorData selector, final RuleData rule) {
+        ConcurrencyLimiterHandle handle = ConcurrencyLimiterPluginDataHandler.CACHED_HANDLE.get().obtainHandle(CacheKeyUtils.INST.getKey(rule));
+        if (Objects.isNull(handle)) {
+            return chain.execute(exchange);
+        }
+        String key = SELECTOR_SCOPE.equals(handle.getLimitScope()) ? rule.getSelectorId() : rule.getId();
+        AdaptiveConcurrencyLimiter limiter = ConcurrencyLimiterRegistry.limiter(key, handle);
+        if (!limiter.tryAcquire()) {
+            exchange.getResponse().setStatusCode(HttpStatus.SERVICE_UNAVAILABLE);
+            return WebFluxResultUtils.error(exchange, ShenyuResultEnum.CONCURRENCY_LIMIT_EXCEEDED);
+        }
+        long start = System.nanoTime();
+        return chain.execute(exchange).doFinally(signalType -> {
+            if (signalType == SignalType.CANCEL) {
+                limiter.release();
+            } else {
+                limiter.release(start, signalType == SignalType.ON_ERROR || isOverloaded(exchange.getResponse().getStatusCode()));
+            }
+        });
+    }
+
+    private static boolean isOverloaded(final HttpStatus status) {
+        return status == HttpStatus.SERVICE_UNAVAILABLE || status == HttpStatus.GATEWAY_TIMEOUT;
+    }
+}
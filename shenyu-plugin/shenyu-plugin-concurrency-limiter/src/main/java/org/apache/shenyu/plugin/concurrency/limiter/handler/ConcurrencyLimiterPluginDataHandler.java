@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.concurrency.limiter.handler;
+
+import org.apache.shenyu.common.dto.PluginData;
+import org.apache.shenyu.common.dto.RuleData;
+import org.apache.shenyu.common.dto.SelectorData;
+import org.apache.shenyu.common.dto.convert.ConcurrencyLimiterHandle;
+import org.apache.shenyu.common.enums.PluginEnum;
+import org.apache.shenyu.common.utils.GsonUtils;
+import org.apache.shenyu.plugin.base.cache.RuleHandleCache;
+import org.apache.shenyu.plugin.base.handler.PluginDataHandler;
+import org.apache.shenyu.plugin.base.utils.BeanHolder;
+import org.apache.shenyu.plugin.base.utils.CacheKeyUtils;
+import org.apache.shenyu.plugin.concurrency.limiter.limiter.AdaptiveConcurrencyLimiter;
+import org.apache.shenyu.plugin.concurrency.limiter.limiter.ConcurrencyLimiterRegistry;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Concurrency limiter plugin data handler.
+ */
+public class ConcurrencyLimiterPluginDataHandler implements PluginDataHandler {
+
+    public static final Supplier<RuleHandleCache<String, ConcurrencyLimiterHandle>> CACHED_HANDLE = new BeanHolder(RuleHandleCache::new);
+
+    @Override
+    public void handlerPlugin(final PluginData pluginData) {
+        if (Objects.nonNull(pluginData) && Boolean.TRUE.equals(pluginData.getEnabled())) {
+            // the metrics may have been started after the plugin was loaded
+            AdaptiveConcurrencyLimiter.registerMetrics();
+        }
+    }
+
+    @Override
+    public void handlerRule(final RuleData ruleData) {
+        ConcurrencyLimiterRegistry.remove(ruleData.getId());
+        ConcurrencyLimiterRegistry.remove(ruleData.getSelectorId());
+        Optional.ofNullable(ruleData.getHandle()).ifPresent(s -> {
+            ConcurrencyLimiterHandle handle = GsonUtils.getInstance().fromJson(s, ConcurrencyLimiterHandle.class);
+            CACHED_HANDLE.get().cachedHandle(CacheKeyUtils.INST.getKey(ruleData), handle);
+        });
+    }
+
+    @Override
+    public void removeRule(final RuleData ruleData) {
+        ConcurrencyLimiterRegistry.remove(ruleData.getId());
+        ConcurrencyLimiterRegistry.remove(ruleData.getSelectorId());
+        CACHED_HANDLE.get().removeHandle(CacheKeyUtils.INST.getKey(ruleData));
+    }
+
+    @Override
+    public void removeSelector(final SelectorData selectorData) {
+        ConcurrencyLimiterRegistry.remove(selectorData.getId());
+    }
+
+    @Override
+    public String pluginNamed() {
+        return PluginEnum.CONCURRENCY_LIMITER.getName();
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.concurrency.limiter.limit;
+
+import org.apache.shenyu.common.dto.convert.ConcurrencyLimiterHandle;
+
+/**
+ * The base of the limits measured against a min rtt baseline.
+ *
+ * <p>The baseline is reset to the current rtt every {@link #PROBE_WINDOWS} windows,
+ * so it follows the backend when its latency moves up for good, after a deploy or a scale in for example.
+ */
+public abstract class AbstractConcurrencyLimit implements ConcurrencyLimit {
+
+    private static final int PROBE_WINDOWS = 600;
+
+    private final int minLimit;
+
+    private final int maxLimit;
+
+    private volatile double limit;
+
+    private volatile long minRtt;
+
+    private int windows;
+
+    protected AbstractConcurrencyLimit(final ConcurrencyLimiterHandle handle) {
+        this.minLimit = Math.max(1, handle.getMinLimit());
+        this.maxLimit = Math.max(minLimit, handle.getMaxLimit());
+        this.limit = Math.min(maxLimit, Math.max(minLimit, handle.getInitialLimit()));
+    }
+
+    @Override
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    @Override
+    public long getMinRtt() {
+        return minRtt;
+    }
+
+    @Override
+    public int update(final long rtt, final int maxInFlight, final boolean dropped) {
+        if (rtt <= 0) {
+            return getLimit();
+        }
+        if (++windows >= PROBE_WINDOWS || minRtt == 0 || rtt < minRtt) {
+            windows = 0;
+            minRtt = rtt;
+        }
+        limit = Math.min(maxLimit, Math.max(minLimit, nextLimit(limit, rtt, minRtt, maxInFlight, dropped)));
+        return getLimit();
+    }
+
+    /**
+     * Compute the next limit.
+     *
+     * @param current the current limit
+     * @param rtt the average rtt of the window
+     * @param baseline the min rtt
+     * @param maxInFlight the max number of in-flight requests seen in the window
+     * @param dropped whether any request of the window failed or timed out
+     * @return the next limit, clamped to the min and max limit by the caller
+     */
+    protected abstract double nextLimit(double current, long rtt, long baseline, int maxInFlight, boolean dropped);
+}
@@ -0,0 +1,51 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.concurrency.limiter.limit;
+
+/**
+ * The algorithm which adjusts the concurrency limit from the rtt measured in every sample window.
+ *
+ * <p>{@link #update(long, int, boolean)} is only called by the thread which closed the window,
+ * so implementations keep single writer state.
+ */
+public interface ConcurrencyLimit {
+
+    /**
+     * Gets the current limit.
+     *
+     * @return the limit
+     */
+    int getLimit();
+
+    /**
+     * Gets the min rtt the limit is measured against.
+     *
+     * @return the min rtt in nanos, 0 before the first sample
+     */
+    long getMinRtt();
+
+    /**
+     * Update the limit with the rtt of a sample window.
+     *
+     * @param rtt the average rtt of the window in nanos
+     * @param maxInFlight the max number of in-flight requests seen in the window
+     * @param dropped whether any request of the window failed or timed out
+     * @return the new limit
+     */
+    int update(long rtt, int maxInFlight, boolean dropped);
+}
@@ -0,0 +1,55 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.concurrency.limiter.limit;
+
+import org.apache.shenyu.common.dto.convert.ConcurrencyLimiterHandle;
+
+/**
+ * Gradient limit, which scales the limit by {@code tolerance * minRtt / rtt} and adds a queue of
+ * {@code sqrt(limit)} on top, so the limit grows while the rtt stays within the tolerance and shrinks,
+ * by half at most per window, once requests start to queue up in the backend.
+ */
+public class GradientLimit extends AbstractConcurrencyLimit {
+
+    private static final double SMOOTHING = 0.2;
+
+    private static final double BACKOFF_RATIO = 0.9;
+
+    private static final double MIN_GRADIENT = 0.5;
+
+    private final double rttTolerance;
+
+    public GradientLimit(final ConcurrencyLimiterHandle handle) {
+        super(handle);
+        this.rttTolerance = Math.max(1.0, handle.getRttTolerance());
+    }
+
+    @Override
+    protected double nextLimit(final double current, final long rtt, final long baseline, final int maxInFlight, final boolean dropped) {
+        if (dropped) {
+            return current * BACKOFF_RATIO;
+        }
+        // the backend was not pushed to the limit, its rtt says nothing about a larger one
+        if (maxInFlight < current / 2) {
+            return current;
+        }
+        double gradient = Math.max(MIN_GRADIENT, Math.min(1.0, rttTolerance * baseline / rtt));
+        double next = current * gradient + Math.sqrt(current);
+        return current * (1 - SMOOTHING) + next * SMOOTHING;
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.concurrency.limiter.limit;
+
+import org.apache.shenyu.common.dto.convert.ConcurrencyLimiterHandle;
+
+/**
+ * Vegas limit, which estimates the requests queued in the backend as {@code limit * (1 - minRtt / rtt)},
+ * grows the limit while the queue stays below {@code 3 * log10(limit)} and shrinks it once the queue exceeds
+ * {@code 6 * log10(limit)}.
+ */
+public class VegasLimit extends AbstractConcurrencyLimit {
+
+    private static final int ALPHA = 3;
+
+    private static final int BETA = 6;
+
+    public VegasLimit(final ConcurrencyLimiterHandle handle) {
+        super(handle);
+    }
+
+    @Override
+    protected double nextLimit(final double current, final long rtt, final long baseline, final int maxInFlight, final boolean dropped) {
+        double step = Math.max(1.0, Math.log10(current));
+        if (dropped) {
+            return current - step;
+        }
+        if (maxInFlight * 2 < current) {
+            return current;
+        }
+        double queue = Math.ceil(current * (1 - (double) baseline / rtt));
+        if (queue <= step) {
+            return current + BETA * step;
+        }
+        if (queue < ALPHA * step) {
+            return current + step;
+        }
+        if (queue > BETA * step) {
+            return current - step;
+        }
+        return current;
+    }
+}
@@ -0,0 +1,191 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.concurrency.limiter.limiter;
+
+import org.apache.shenyu.common.dto.convert.ConcurrencyLimiterHandle;
+import org.apache.shenyu.metrics.constant.LabelNames;
+import org.apache.shenyu.metrics.reporter.MetricsReporter;
+import org.apache.shenyu.plugin.concurrency.limiter.limit.ConcurrencyLimit;
+import org.apache.shenyu.plugin.concurrency.limiter.limit.GradientLimit;
+import org.apache.shenyu.plugin.concurrency.limiter.limit.VegasLimit;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Concurrency limiter which bounds the in-flight requests of a rule or selector by a limit
+ * adjusted from the rtt measured in every sample window.
+ *
+ * <p>The rtt samples are summed in striped adders, so completing requests on different cores do not contend.
+ * A window closes after {@link #MIN_WINDOW_NANOS} once it holds {@link #MIN_WINDOW_SAMPLES} samples,
+ * or after {@link #MAX_WINDOW_NANOS} whatever it holds, and the thread which wins the close updates the limit.
+ */
+public final class AdaptiveConcurrencyLimiter {
+
+    private static final String VEGAS = "vegas";
+
+    private static final long MIN_WINDOW_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+    private static final long MAX_WINDOW_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private static final int MIN_WINDOW_SAMPLES = 10;
+
+    private static final double NANOS_PER_MILLI = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private static final String[] LABEL_NAMES = {"key"};
+
+    private final String[] labelValues;
+
+    private final ConcurrencyLimit concurrencyLimit;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+
+    private final LongAdder rttSum = new LongAdder();
+
+    private final LongAdder samples = new LongAdder();
+
+    private final LongAdder rejected = new LongAdder();
+
+    private final AtomicLong windowStart;
+
+    private volatile int limit;
+
+    private volatile long rtt;
+
+    private volatile boolean dropped;
+
+    public AdaptiveConcurrencyLimiter(final String key, final ConcurrencyLimiterHandle handle) {
+        this(key, VEGAS.equals(handle.getLimitAlgorithm()) ? new VegasLimit(handle) : new GradientLimit(handle));
+    }
+
+    public AdaptiveConcurrencyLimiter(final String key, final ConcurrencyLimit concurrencyLimit) {
+        this.labelValues = new String[]{key};
+        this.concurrencyLimit = concurrencyLimit;
+        this.limit = concurrencyLimit.getLimit();
+        this.windowStart = new AtomicLong(System.nanoTime());
+    }
+
+    /**
+     * Register the metrics of the limiters, once when the plugin is initialized, the windows only update them.
+     */
+    public static void registerMetrics() {
+        MetricsReporter.registerGauge(LabelNames.CONCURRENCY_LIMIT, LABEL_NAMES, "the shenyu adaptive concurrency limit");
+        MetricsReporter.registerGauge(LabelNames.CONCURRENCY_LIMIT_RTT, LABEL_NAMES, "the shenyu adaptive concurrency limit rtt millis");
+        MetricsReporter.registerGauge(LabelNames.CONCURRENCY_LIMIT_MIN_RTT, LABEL_NAMES, "the shenyu adaptive concurrency limit min rtt millis");
+        MetricsReporter.registerCounter(LabelNames.CONCURRENCY_LIMIT_REJECTED_TOTAL, LABEL_NAMES, "the shenyu adaptive concurrency limit rejected total count");
+    }
+
+    /**
+     * Take an in-flight slot.
+     *
+     * @return true if the request may go on, false if the limit is reached
+     */
+    public boolean tryAcquire() {
+        int current = inFlight.incrementAndGet();
+        if (current > limit) {
+            inFlight.decrementAndGet();
+            rejected.increment();
+            return false;
+        }
+        if (current > maxInFlight.get()) {
+            maxInFlight.accumulateAndGet(current, Math::max);
+        }
+        return true;
+    }
+
+    /**
+     * Give back the slot of a request which was cancelled, without sampling its rtt.
+     */
+    public void release() {
+        inFlight.decrementAndGet();
+    }
+
+    /**
+     * Give back the slot of a completed request and sample its rtt.
+     *
+     * @param startNanos the {@link System#nanoTime()} the request started at
+     * @param failed whether the request failed or timed out
+     */
+    public void release(final long startNanos, final boolean failed) {
+        inFlight.decrementAndGet();
+        long now = System.nanoTime();
+        rttSum.add(now - startNanos);
+        samples.increment();
+        if (failed && !dropped) {
+            dropped = true;
+        }
+        long start = windowStart.get();
+        long elapsed = now - start;
+        if (elapsed >= MIN_WINDOW_NANOS && (elapsed >= MAX_WINDOW_NANOS || samples.sum() >= MIN_WINDOW_SAMPLES)
+                && windowStart.compareAndSet(start, now)) {
+            closeWindow();
+        }
+    }
+
+    /**
+     * Gets the current limit.
+     *
+     * @return the limit
+     */
+    public int getLimit() {
+        return limit;
+    }
+
+    /**
+     * Gets the average rtt of the last closed window.
+     *
+     * @return the rtt in nanos
+     */
+    public long getRtt() {
+        return rtt;
+    }
+
+    /**
+     * Gets the number of in-flight requests.
+     *
+     * @return the in-flight requests
+     */
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    private void closeWindow() {
+        long count = samples.sumThenReset();
+        long sum = rttSum.sumThenReset();
+        final int peak = maxInFlight.getAndSet(inFlight.get());
+        final boolean failed = dropped;
+        dropped = false;
+        if (count == 0) {
+            return;
+        }
+        rtt = sum / count;
+        limit = concurrencyLimit.update(rtt, peak, failed);
+        report();
+    }
+
+    private void report() {
+        MetricsReporter.gaugeSet(LabelNames.CONCURRENCY_LIMIT, labelValues, limit);
+        MetricsReporter.gaugeSet(LabelNames.CONCURRENCY_LIMIT_RTT, labelValues, rtt / NANOS_PER_MILLI);
+        MetricsReporter.gaugeSet(LabelNames.CONCURRENCY_LIMIT_MIN_RTT, labelValues, concurrencyLimit.getMinRtt() / NANOS_PER_MILLI);
+        MetricsReporter.counterIncrement(LabelNames.CONCURRENCY_LIMIT_REJECTED_TOTAL, labelValues, rejected.sumThenReset());
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.concurrency.limiter.limiter;
+
+import org.apache.shenyu.common.dto.convert.ConcurrencyLimiterHandle;
+
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * The registry of the concurrency limiters, keyed by rule or selector.
+ */
+public final class ConcurrencyLimiterRegistry {
+
+    private static final ConcurrentMap<String, AdaptiveConcurrencyLimiter> LIMITERS = new ConcurrentHashMap<>();
+
+    private ConcurrencyLimiterRegistry() {
+    }
+
+    /**
+     * Get the limiter of the key, created from the handle on first use.
+     *
+     * @param key the rule or selector key
+     * @param handle the handle
+     * @return the limiter
+     */
+    public static AdaptiveConcurrencyLimiter limiter(final String key, final ConcurrencyLimiterHandle handle) {
+        AdaptiveConcurrencyLimiter limiter = LIMITERS.get(key);
+        if (Objects.isNull(limiter)) {
+            limiter = LIMITERS.computeIfAbsent(key, k -> new AdaptiveConcurrencyLimiter(k, handle));
+        }
+        return limiter;
+    }
+
+    /**
+     * Remove the limiter of the key, the next request starts over from the initial limit.
+     *
+     * @param key the rule or selector key
+     */
+    public static void remove(final String key) {
+        LIMITERS.remove(key);
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.concurrency.limiter;
+
+import org.apache.shenyu.common.dto.RuleData;
+import org.apache.shenyu.common.dto.SelectorData;
+import org.apache.shenyu.common.enums.PluginEnum;
+import org.apache.shenyu.plugin.api.ShenyuPluginChain;
+import org.apache.shenyu.plugin.api.result.DefaultShenyuResult;
+import org.apache.shenyu.plugin.api.result.ShenyuResult;
+import org.apache.shenyu.plugin.api.utils.SpringBeanUtils;
+import org.apache.shenyu.plugin.concurrency.limiter.handler.ConcurrencyLimiterPluginDataHandler;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test case for {@link ConcurrencyLimiterPlugin}.
+ */
+public final class ConcurrencyLimiterPluginTest {
+
+    private final ConcurrencyLimiterPlugin concurrencyLimiterPlugin = new ConcurrencyLimiterPlugin();
+
+    private final ConcurrencyLimiterPluginDataHandler handler = new ConcurrencyLimiterPluginDataHandler();
+
+    private ShenyuPluginChain chain;
+
+    private SelectorData selectorData;
+
+    private RuleData ruleData;
+
+    @Before
+    public void setUp() {
+        ConfigurableApplicationContext context = mock(ConfigurableApplicationContext.class);
+        when(context.getBean(ShenyuResult.class)).thenReturn(new DefaultShenyuResult());
+        SpringBeanUtils.getInstance().setCfgContext(context);
+        chain = mock(ShenyuPluginChain.class);
+        selectorData = SelectorData.builder().id("selector").build();
+        ruleData = RuleData.builder().id("rule").selectorId("selector").name("rule")
+                .handle("{\"limitAlgorithm\":\"vegas\",\"initialLimit\":1,\"limitScope\":\"rule\"}").build();
+        handler.handlerRule(ruleData);
+    }
+
+    @Test
+    public void namedTest() {
+        assertEquals(PluginEnum.CONCURRENCY_LIMITER.getName(), concurrencyLimiterPlugin.named());
+        assertEquals(PluginEnum.CONCURRENCY_LIMITER.getCode(), concurrencyLimiterPlugin.getOrder());
+    }
+
+    @Test
+    public void doExecuteTest() {
+        ServerWebExchange pending = exchange();
+        when(chain.execute(pending)).thenReturn(Mono.never());
+        Disposable inFlight = concurrencyLimiterPlugin.doExecute(pending, chain, selectorData, ruleData).subscribe();
+        ServerWebExchange rejected = exchange();
+        StepVerifier.create(concurrencyLimiterPlugin.doExecute(rejected, chain, selectorData, ruleData)).expectSubscription().verifyComplete();
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, rejected.getResponse().getStatusCode());
+        inFlight.dispose();
+        ServerWebExchange allowed = exchange();
+        when(chain.execute(allowed)).thenReturn(Mono.empty());
+        StepVerifier.create(concurrencyLimiterPlugin.doExecute(allowed, chain, selectorData, ruleData)).expectSubscription().verifyComplete();
+        assertNull(allowed.getResponse().getStatusCode());
+    }
+
+    @Test
+    public void doExecuteWithoutHandleTest() {
+        handler.removeRule(ruleData);
+        when(chain.execute(any())).thenReturn(Mono.never());
+        concurrencyLimiterPlugin.doExecute(exchange(), chain, selectorData, ruleData).subscribe();
+        ServerWebExchange exchange = exchange();
+        when(chain.execute(exchange)).thenReturn(Mono.empty());
+        StepVerifier.create(concurrencyLimiterPlugin.doExecute(exchange, chain, selectorData, ruleData)).expectSubscription().verifyComplete();
+        assertNull(exchange.getResponse().getStatusCode());
+    }
+
+    private ServerWebExchange exchange() {
+        return MockServerWebExchange.from(MockServerHttpRequest.get("localhost").build());
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.concurrency.limiter.limit;
+
+import org.apache.shenyu.common.dto.convert.ConcurrencyLimiterHandle;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Test case for {@link GradientLimit}.
+ */
+public final class GradientLimitTest {
+
+    private static final long BASELINE = TimeUnit.MILLISECONDS.toNanos(10);
+
+    private ConcurrencyLimiterHandle handle;
+
+    @Before
+    public void setUp() {
+        handle = new ConcurrencyLimiterHandle();
+        handle.setInitialLimit(20);
+        handle.setMaxLimit(100);
+    }
+
+    @Test
+    public void growWithinToleranceTest() {
+        GradientLimit limit = new GradientLimit(handle);
+        for (int i = 0; i < 100; i++) {
+            limit.update(BASELINE, limit.getLimit(), false);
+        }
+        assertEquals(100, limit.getLimit());
+        assertEquals(BASELINE, limit.getMinRtt());
+    }
+
+    @Test
+    public void shrinkWhenQueuedTest() {
+        GradientLimit limit = new GradientLimit(handle);
+        limit.update(BASELINE, 20, false);
+        int grown = limit.getLimit();
+        for (int i = 0; i < 20; i++) {
+            limit.update(BASELINE * 4, limit.getLimit(), false);
+        }
+        assertThat(limit.getLimit(), lessThan(grown));
+        assertThat(limit.getLimit(), greaterThan(1));
+        assertEquals(BASELINE, limit.getMinRtt());
+    }
+
+    @Test
+    public void appLimitedTest() {
+        GradientLimit limit = new GradientLimit(handle);
+        limit.update(BASELINE, 2, false);
+        limit.update(BASELINE * 4, 2, false);
+        assertEquals(20, limit.getLimit());
+    }
+
+    @Test
+    public void droppedTest() {
+        GradientLimit limit = new GradientLimit(handle);
+        assertEquals(18, limit.update(BASELINE, 20, true));
+        handle.setMinLimit(19);
+        assertEquals(19, new GradientLimit(handle).update(BASELINE, 20, true));
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.concurrency.limiter.limit;
+
+import org.apache.shenyu.common.dto.convert.ConcurrencyLimiterHandle;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Test case for {@link VegasLimit}.
+ */
+public final class VegasLimitTest {
+
+    private static final long BASELINE = TimeUnit.MILLISECONDS.toNanos(10);
+
+    private ConcurrencyLimiterHandle handle;
+
+    @Before
+    public void setUp() {
+        handle = new ConcurrencyLimiterHandle();
+        handle.setLimitAlgorithm("vegas");
+        handle.setInitialLimit(10);
+        handle.setMaxLimit(50);
+    }
+
+    @Test
+    public void growWithoutQueueTest() {
+        VegasLimit limit = new VegasLimit(handle);
+        assertEquals(16, limit.update(BASELINE, 10, false));
+        for (int i = 0; i < 20; i++) {
+            limit.update(BASELINE, limit.getLimit(), false);
+        }
+        assertEquals(50, limit.getLimit());
+    }
+
+    @Test
+    public void queueTest() {
+        VegasLimit limit = new VegasLimit(handle);
+        limit.update(BASELINE, 10, false);
+        // a queue of 16 * (1 - 10 / 14) = 5 is between alpha and beta, the limit stays
+        assertEquals(16, limit.update(TimeUnit.MILLISECONDS.toNanos(14), 16, false));
+        // a queue of 16 * (1 - 10 / 20) = 8 is over beta
+        assertEquals(14, limit.update(TimeUnit.MILLISECONDS.toNanos(20), 16, false));
+    }
+
+    @Test
+    public void droppedAndAppLimitedTest() {
+        VegasLimit limit = new VegasLimit(handle);
+        assertEquals(9, limit.update(BASELINE, 10, true));
+        assertEquals(9, limit.update(BASELINE, 2, false));
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.concurrency.limiter.limiter;
+
+import org.apache.shenyu.common.dto.convert.ConcurrencyLimiterHandle;
+import org.apache.shenyu.metrics.spi.MetricsRegister;
+import org.apache.shenyu.metrics.constant.LabelNames;
+import org.apache.shenyu.metrics.reporter.MetricsReporter;
+import org.apache.shenyu.plugin.concurrency.limiter.limit.ConcurrencyLimit;
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test case for {@link AdaptiveConcurrencyLimiter}.
+ */
+public final class AdaptiveConcurrencyLimiterTest {
+
+    @Test
+    public void tryAcquireTest() {
+        ConcurrencyLimiterHandle handle = new ConcurrencyLimiterHandle();
+        handle.setInitialLimit(2);
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("tryAcquire", handle);
+        assertTrue(limiter.tryAcquire());
+        assertTrue(limiter.tryAcquire());
+        assertFalse(limiter.tryAcquire());
+        assertEquals(2, limiter.getInFlight());
+        limiter.release();
+        assertTrue(limiter.tryAcquire());
+        limiter.release(System.nanoTime(), false);
+        assertEquals(1, limiter.getInFlight());
+    }
+
+    @Test
+    public void closeWindowTest() throws InterruptedException {
+        ConcurrencyLimit concurrencyLimit = mock(ConcurrencyLimit.class);
+        when(concurrencyLimit.getLimit()).thenReturn(20);
+        when(concurrencyLimit.update(anyLong(), anyInt(), anyBoolean())).thenReturn(5);
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("closeWindow", concurrencyLimit);
+        TimeUnit.MILLISECONDS.sleep(110);
+        long start = System.nanoTime() - TimeUnit.MILLISECONDS.toNanos(10);
+        for (int i = 0; i < 10; i++) {
+            assertTrue(limiter.tryAcquire());
+        }
+        for (int i = 0; i < 9; i++) {
+            limiter.release(start, false);
+        }
+        assertEquals(20, limiter.getLimit());
+        limiter.release(start, true);
+        verify(concurrencyLimit, times(1)).update(anyLong(), anyInt(), anyBoolean());
+        verify(concurrencyLimit).update(limiter.getRtt(), 10, true);
+        assertThat(limiter.getRtt(), greaterThan(TimeUnit.MILLISECONDS.toNanos(10) - 1));
+        assertEquals(5, limiter.getLimit());
+    }
+
+    @Test
+    public void reportTest() throws InterruptedException {
+        MetricsRegister metricsRegister = mock(MetricsRegister.class);
+        MetricsReporter.register(metricsRegister);
+        try {
+            ConcurrencyLimit concurrencyLimit = mock(ConcurrencyLimit.class);
+            when(concurrencyLimit.getLimit()).thenReturn(20);
+            when(concurrencyLimit.update(anyLong(), anyInt(), anyBoolean())).thenReturn(5);
+            AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("report", concurrencyLimit);
+            TimeUnit.MILLISECONDS.sleep(110);
+            for (int i = 0; i < 10; i++) {
+                assertTrue(limiter.tryAcquire());
+                limiter.release(System.nanoTime(), false);
+            }
+            verify(metricsRegister).gaugeSet(LabelNames.CONCURRENCY_LIMIT, new String[]{"report"}, 5);
+            verify(metricsRegister, never()).registerGauge(anyString(), any(), anyString());
+            verify(metricsRegister, never()).registerCounter(anyString(), any(), anyString());
+        } finally {
+            MetricsReporter.register(null);
+        }
+    }
+
+    @Test
+    public void concurrentTest() throws InterruptedException {
+        ConcurrencyLimiterHandle handle = new ConcurrencyLimiterHandle();
+        handle.setInitialLimit(8);
+        handle.setMaxLimit(8);
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("concurrent", handle);
+        AtomicInteger peak = new AtomicInteger();
+        int threads = 16;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch latch = new CountDownLatch(threads);
+        for (int t = 0; t < threads; t++) {
+            executor.execute(() -> {
+                for (int i = 0; i < 10000; i++) {
+                    if (limiter.tryAcquire()) {
+                        peak.accumulateAndGet(limiter.getInFlight(), Math::max);
+                        limiter.release(System.nanoTime(), false);
+                    }
+                }
+                latch.countDown();
+            });
+        }
+        latch.await();
+        executor.shutdown();
+        assertEquals(0, limiter.getInFlight());
+        assertThat(peak.get(), lessThanOrEqualTo(8));
+    }
+}
@@ -18,16 +18,22 @@
 package org.apache.shenyu.plugin.dubbo.common.param;
 
 import org.apache.commons.lang3.tuple.Pair;
+import org.apache.shenyu.plugin.api.param.CachedRequestBody;
+import org.apache.shenyu.plugin.api.utils.BodyParamPlan;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.InjectMocks;
 import org.mockito.junit.MockitoJUnitRunner;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertThat;
 
 /**
@@ -76,5 +82,69 @@ public class DubboBodyParamResolveServiceTest {
         assertNull(idList1.get(0));
         assertNull(idList1.get(1));
     }
-}
 
+    @Test
+    public void testBuildParameterWithPlan() {
+        String parameterTypes = "{\"user\":\"java.util.Map\"}";
+        Pair<String[], Object[]> pair = impl.buildParameter(CachedRequestBody.of("{\"user\":{\"name\":\"a\",\"tags\":[\"x\"],\"address\":{\"city\":\"b\"}}}"), parameterTypes);
+        assertArrayEquals(new String[]{"java.util.Map"}, pair.getLeft());
+        Map user = (Map) pair.getRight()[0];
+        assertThat(user.get("name"), is("a"));
+        assertThat(user.get("tags"), is(Arrays.asList("x")));
+        assertThat(((Map) user.get("address")).get("city"), is("b"));
+        assertSame(BodyParamPlan.of(parameterTypes), BodyParamPlan.of(parameterTypes));
+
+        parameterTypes = "{\"id\":\"java.lang.Integer\",\"names\":\"java.util.List\",\"user\":\"java.util.Map\",\"name\":\"java.lang.String\",\"ids\":\"[Ljava.lang.Long;\"}";
+        pair = impl.buildParameter(CachedRequestBody.of("{\"user\":{\"name\":\"a\"},\"names\":[\"a\",\"b\"],\"id\":1,\"ids\":[1,2],\"name\":\"c\"}"), parameterTypes);
+        assertArrayEquals(new String[]{"java.lang.Integer", "java.util.List", "java.util.Map", "java.lang.String", "[Ljava.lang.Long;"}, pair.getLeft());
+        assertThat(pair.getRight()[0], is(1L));
+        assertThat(pair.getRight()[1], is(Arrays.asList("a", "b")));
+        assertThat(((Map) pair.getRight()[2]).get("name"), is("a"));
+        assertThat(pair.getRight()[3], is("c"));
+        assertThat(pair.getRight()[4], is(Arrays.asList(1.0, 2.0)));
+
+        StringBuilder types = new StringBuilder();
+        StringBuilder body = new StringBuilder("{");
+        for (int i = 0; i < 20; i++) {
+            types.append(i == 0 ? "" : ",").append("java.lang.String");
+            body.append(i == 0 ? "" : ",").append("\"p").append(i).append("\":\"v").append(i).append("\"");
+        }
+        pair = impl.buildParameter(CachedRequestBody.of(body.append("}").toString()), types.toString());
+        assertThat(pair.getLeft().length, is(20));
+        assertThat(pair.getRight()[19], is("v19"));
+        // the types handed out are copies of the plan's
+        pair.getLeft()[19] = "java.lang.Long";
+        assertThat(BodyParamPlan.of(types.toString()).getParamTypes()[19], is("java.lang.String"));
+    }
+
+    @Test
+    public void testPlanKeptWhileAcquired() {
+        String parameterTypes = "java.lang.String,java.lang.Long";
+        BodyParamPlan plan = BodyParamPlan.acquire(parameterTypes);
+        assertSame(plan, BodyParamPlan.acquire(parameterTypes));
+        // one of the two metadata with the signature is removed, the other one still uses the plan
+        BodyParamPlan.release(parameterTypes);
+        assertSame(plan, BodyParamPlan.of(parameterTypes));
+        BodyParamPlan.release(parameterTypes);
+        assertNotSame(plan, BodyParamPlan.acquire(parameterTypes));
+        BodyParamPlan.release(parameterTypes);
+    }
+
+    @Test
+    public void testReplacePlan() {
+        String previous = "java.lang.String,java.lang.Integer";
+        final String current = "java.lang.String,java.lang.Integer,java.lang.Long";
+        BodyParamPlan.replace("/dubbo/findById", null, previous);
+        BodyParamPlan plan = BodyParamPlan.of(previous);
+        // a resync without a change keeps the plan
+        BodyParamPlan.replace("/dubbo/findById", previous, previous);
+        assertSame(plan, BodyParamPlan.of(previous));
+        BodyParamPlan.replace("/dubbo/findById", previous, current);
+        assertNotSame(plan, BodyParamPlan.of(previous));
+        BodyParamPlan.release(previous);
+        plan = BodyParamPlan.of(current);
+        BodyParamPlan.replace("/dubbo/findById", current, null);
+        assertNotSame(plan, BodyParamPlan.of(current));
+        BodyParamPlan.release(current);
+    }
+}
@@ -19,7 +19,6 @@ package org.apache.shenyu.plugin.grpc;
 
 import io.grpc.CallOptions;
 import io.grpc.MethodDescriptor;
-import lombok.Data;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.shenyu.common.constant.Constants;
@@ -30,22 +29,28 @@ import org.apache.shenyu.common.enums.PluginEnum;
 import org.apache.shenyu.common.enums.ResultEnum;
 import org.apache.shenyu.common.enums.RpcTypeEnum;
 import org.apache.shenyu.common.exception.ShenyuException;
-import org.apache.shenyu.common.utils.GsonUtils;
 import org.apache.shenyu.plugin.api.ShenyuPluginChain;
 import org.apache.shenyu.plugin.api.context.ShenyuContext;
+import org.apache.shenyu.plugin.api.param.CachedRequestBody;
 import org.apache.shenyu.plugin.api.result.ShenyuResultEnum;
 import org.apache.shenyu.plugin.api.result.ShenyuResultWrap;
 import org.apache.shenyu.plugin.api.utils.WebFluxResultUtils;
 import org.apache.shenyu.plugin.base.AbstractShenyuPlugin;
 import org.apache.shenyu.plugin.grpc.cache.GrpcClientCache;
+import org.apache.shenyu.plugin.grpc.cache.GrpcMetaDataCache;
 import org.apache.shenyu.plugin.grpc.client.ShenyuGrpcClient;
-import org.apache.shenyu.plugin.grpc.proto.ShenyuGrpcResponse;
+import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
 import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
 import java.util.Objects;
-import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -54,9 +59,11 @@ import java.util.concurrent.TimeUnit;
 @Slf4j
 public class GrpcPlugin extends AbstractShenyuPlugin {
 
+    private static final MediaType APPLICATION_NDJSON = MediaType.valueOf("application/x-ndjson");
+
     @Override
     protected Mono<Void> doExecute(final ServerWebExchange exchange, final ShenyuPluginChain chain, final SelectorData selector, final RuleData rule) {
-        String param = exchange.getAttribute(Constants.PARAM_TRANSFORM);
+        CachedRequestBody param = exchange.getAttribute(Constants.PARAM_TRANSFORM);
         ShenyuContext shenyuContext = exchange.getAttribute(Constants.CONTEXT);
         assert shenyuContext != null;
         MetaData metaData = exchange.getAttribute(Constants.META_DATA);
@@ -67,7 +74,7 @@ public class GrpcPlugin extends AbstractShenyuPlugin {
             Object error = ShenyuResultWrap.error(ShenyuResultEnum.META_DATA_ERROR.getCode(), ShenyuResultEnum.META_DATA_ERROR.getMsg(), null);
             return WebFluxResultUtils.result(exchange, error);
         }
-        if (StringUtils.isNoneBlank(metaData.getParameterTypes()) && StringUtils.isBlank(param)) {
+        if (StringUtils.isNoneBlank(metaData.getParameterTypes()) && CachedRequestBody.isBlank(param)) {
             exchange.getResponse().setStatusCode(HttpStatus.INTERNAL_SERVER_ERROR);
             Object error = ShenyuResultWrap.error(ShenyuResultEnum.GRPC_HAVE_BODY_PARAM.getCode(), ShenyuResultEnum.GRPC_HAVE_BODY_PARAM.getMsg(), null);
             return WebFluxResultUtils.result(exchange, error);
@@ -78,14 +85,17 @@ public class GrpcPlugin extends AbstractShenyuPlugin {
             Object error = ShenyuResultWrap.error(ShenyuResultEnum.GRPC_CLIENT_NULL.getCode(), ShenyuResultEnum.GRPC_CLIENT_NULL.getMsg(), null);
             return WebFluxResultUtils.result(exchange, error);
         }
-        GrpcExtInfo extInfo = GsonUtils.getGson().fromJson(metaData.getRpcExt(), GrpcExtInfo.class);
-        CallOptions callOptions = CallOptions.DEFAULT.withDeadlineAfter(extInfo.timeout, TimeUnit.MILLISECONDS);
-        CompletableFuture<ShenyuGrpcResponse> result = client.call(metaData, callOptions, param, extInfo.methodType);
-        return Mono.fromFuture(result.thenApply(ret -> {
+        GrpcMetaDataCache.GrpcMethodMetaData methodMetaData = GrpcMetaDataCache.getInstance().get(metaData);
+        CallOptions callOptions = CallOptions.DEFAULT.withDeadlineAfter(methodMetaData.getExtInfo().getTimeout(), TimeUnit.MILLISECONDS);
+        MediaType streamType = streamMediaType(exchange);
+        if (methodMetaData.getMethodDescriptor().getType() == MethodDescriptor.MethodType.SERVER_STREAMING && Objects.nonNull(streamType)) {
+            return writeStream(exchange, streamType, client.stream(methodMetaData.getMethodDescriptor(), callOptions, param.asString()))
+                    .onErrorMap(ShenyuException::new).then(chain.execute(exchange));
+        }
+        return client.call(methodMetaData.getMethodDescriptor(), callOptions, param.asString()).doOnNext(ret -> {
             exchange.getAttributes().put(Constants.RPC_RESULT, ret.getResults());
             exchange.getAttributes().put(Constants.CLIENT_RESPONSE_RESULT_TYPE, ResultEnum.SUCCESS.getName());
-            return ret;
-        })).onErrorMap(ShenyuException::new).then(chain.execute(exchange));
+        }).onErrorMap(ShenyuException::new).then(chain.execute(exchange));
     }
 
     /**
@@ -116,19 +126,40 @@ public class GrpcPlugin extends AbstractShenyuPlugin {
         return PluginEnum.GRPC.getCode();
     }
 
-    private boolean checkMetaData(final MetaData metaData) {
-        return null != metaData && !StringUtils.isBlank(metaData.getMethodName()) && !StringUtils.isBlank(metaData.getServiceName());
+    /**
+     * The streaming response type accepted by the client, server streaming calls are aggregated into one result when it is null.
+     */
+    private MediaType streamMediaType(final ServerWebExchange exchange) {
+        List<MediaType> accept = exchange.getRequest().getHeaders().getAccept();
+        for (MediaType mediaType : accept) {
+            if (MediaType.TEXT_EVENT_STREAM.equalsTypeAndSubtype(mediaType)) {
+                return MediaType.TEXT_EVENT_STREAM;
+            }
+            if (APPLICATION_NDJSON.equalsTypeAndSubtype(mediaType) || MediaType.APPLICATION_STREAM_JSON.equalsTypeAndSubtype(mediaType)) {
+                return APPLICATION_NDJSON;
+            }
+        }
+        return null;
     }
 
     /**
-     * The GrpcExt.
+     * Write each message as a sse event or a json line, every message is flushed so the client receives it as it arrives.
      */
-    @Data
-    static class GrpcExtInfo {
-
-        private Integer timeout = 5000;
-
-        private MethodDescriptor.MethodType methodType;
+    private Mono<Void> writeStream(final ServerWebExchange exchange, final MediaType streamType, final Flux<String> messages) {
+        ServerHttpResponse response = exchange.getResponse();
+        response.getHeaders().setContentType(streamType);
+        boolean sse = MediaType.TEXT_EVENT_STREAM.equals(streamType);
+        Flux<Flux<DataBuffer>> body = messages.map(message -> {
+            // a json message only has line breaks as whitespace, they are dropped to keep one message per line
+            String line = message.replace("\r", "").replace("\n", "");
+            String chunk = sse ? "data:" + line + "\n\n" : line + "\n";
+            return Flux.just(response.bufferFactory().wrap(chunk.getBytes(StandardCharsets.UTF_8)));
+        });
+        return response.writeAndFlushWith(body);
+    }
 
+    private boolean checkMetaData(final MetaData metaData) {
+        return null != metaData && !StringUtils.isBlank(metaData.getMethodName()) && !StringUtils.isBlank(metaData.getServiceName());
     }
+
 }
@@ -0,0 +1,156 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.grpc.cache;
+
+import com.google.common.collect.Maps;
+import com.google.protobuf.DynamicMessage;
+import io.grpc.MethodDescriptor;
+import lombok.Data;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.shenyu.common.dto.MetaData;
+import org.apache.shenyu.common.utils.GsonUtils;
+import org.apache.shenyu.protocol.grpc.message.JsonMessage;
+
+import java.util.Objects;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * The grpc metadata cache, which keeps the method descriptor and the parsed ext info of each metadata path.
+ */
+public final class GrpcMetaDataCache {
+
+    private static final GrpcMetaDataCache INSTANCE = new GrpcMetaDataCache();
+
+    private final ConcurrentMap<String, GrpcMethodMetaData> cache = Maps.newConcurrentMap();
+
+    private GrpcMetaDataCache() {
+    }
+
+    /**
+     * Gets instance.
+     *
+     * @return the instance
+     */
+    public static GrpcMetaDataCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Get the cached method metadata, it is rebuilt when the metadata has changed since it was cached.
+     *
+     * @param metaData metaData
+     * @return the method metadata
+     */
+    public GrpcMethodMetaData get(final MetaData metaData) {
+        GrpcMethodMetaData methodMetaData = cache.get(metaData.getPath());
+        if (Objects.nonNull(methodMetaData) && methodMetaData.matches(metaData)) {
+            return methodMetaData;
+        }
+        return build(metaData);
+    }
+
+    /**
+     * Build and cache the method metadata.
+     *
+     * @param metaData metaData
+     * @return the method metadata
+     */
+    public GrpcMethodMetaData build(final MetaData metaData) {
+        GrpcMethodMetaData methodMetaData = new GrpcMethodMetaData(metaData);
+        cache.put(metaData.getPath(), methodMetaData);
+        return methodMetaData;
+    }
+
+    /**
+     * Invalidate the method metadata of the path.
+     *
+     * @param path path
+     */
+    public void invalidate(final String path) {
+        cache.remove(path);
+    }
+
+    /**
+     * The precomputed call metadata of a grpc method.
+     */
+    public static final class GrpcMethodMetaData {
+
+        private final String serviceName;
+
+        private final String methodName;
+
+        private final String rpcExt;
+
+        private final GrpcExtInfo extInfo;
+
+        private final MethodDescriptor<DynamicMessage, DynamicMessage> methodDescriptor;
+
+        private GrpcMethodMetaData(final MetaData metaData) {
+            this.serviceName = metaData.getServiceName();
+            this.methodName = metaData.getMethodName();
+            this.rpcExt = metaData.getRpcExt();
+            GrpcExtInfo ext = StringUtils.isBlank(rpcExt) ? null : GsonUtils.getGson().fromJson(rpcExt, GrpcExtInfo.class);
+            this.extInfo = Objects.isNull(ext) ? new GrpcExtInfo() : ext;
+            if (Objects.isNull(extInfo.getTimeout())) {
+                extInfo.setTimeout(GrpcExtInfo.DEFAULT_TIMEOUT);
+            }
+            if (Objects.isNull(extInfo.getMethodType())) {
+                extInfo.setMethodType(MethodDescriptor.MethodType.UNARY);
+            }
+            this.methodDescriptor = JsonMessage.buildJsonMarshallerMethodDescriptor(serviceName, methodName, extInfo.getMethodType());
+        }
+
+        /**
+         * Get the parsed ext info.
+         *
+         * @return the ext info
+         */
+        public GrpcExtInfo getExtInfo() {
+            return extInfo;
+        }
+
+        /**
+         * Get the json method descriptor.
+         *
+         * @return the method descriptor
+         */
+        public MethodDescriptor<DynamicMessage, DynamicMessage> getMethodDescriptor() {
+            return methodDescriptor;
+        }
+
+        private boolean matches(final MetaData metaData) {
+            return Objects.equals(serviceName, metaData.getServiceName())
+                    && Objects.equals(methodName, metaData.getMethodName())
+                    && Objects.equals(rpcExt, metaData.getRpcExt());
+        }
+    }
+
+    /**
+     * The GrpcExt.
+     */
+    @Data
+    public static class GrpcExtInfo {
+
+        private static final int DEFAULT_TIMEOUT = 5000;
+
+        private Integer timeout = DEFAULT_TIMEOUT;
+
+        private MethodDescriptor.MethodType methodType;
+
+    }
+}
@@ -17,27 +17,33 @@
 
 package org.apache.shenyu.plugin.grpc.client;
 
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
 import com.google.protobuf.DynamicMessage;
 import io.grpc.CallOptions;
 import io.grpc.ClientCall;
+import io.grpc.Context;
 import io.grpc.ManagedChannel;
 import io.grpc.MethodDescriptor;
 import io.grpc.stub.StreamObserver;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.shenyu.common.dto.MetaData;
+import org.apache.shenyu.common.exception.ShenyuException;
 import org.apache.shenyu.common.utils.GsonUtils;
 import org.apache.shenyu.plugin.grpc.proto.CompleteObserver;
 import org.apache.shenyu.plugin.grpc.proto.MessageWriter;
 import org.apache.shenyu.plugin.grpc.proto.ShenyuGrpcCallRequest;
 import org.apache.shenyu.plugin.grpc.proto.ShenyuGrpcResponse;
+import org.apache.shenyu.plugin.grpc.proto.StreamingMessageObserver;
 import org.apache.shenyu.plugin.grpc.proto.CompositeStreamObserver;
 import org.apache.shenyu.protocol.grpc.message.JsonMessage;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 import java.io.Closeable;
 import java.util.List;
-import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutionException;
+import java.util.Objects;
 
 import static io.grpc.stub.ClientCalls.asyncServerStreamingCall;
 import static io.grpc.stub.ClientCalls.asyncUnaryCall;
@@ -57,43 +63,78 @@ public class ShenyuGrpcClient implements Closeable {
     }
 
     /**
-     * Grpc call.
+     * Grpc call, the rpc is started on subscription and cancelled when the subscriber cancels.
+     * The deadline of the call options is sent to the server, and a deadline of the current grpc context is kept if it is earlier.
      *
-     * @param metaData     metadata
-     * @param callOptions  callOptions
-     * @param requestJsons requestJsons
-     * @param methodType methodType
-     * @return CompletableFuture future
+     * @param methodDescriptor the json method descriptor of the metadata
+     * @param callOptions      callOptions
+     * @param requestJsons     requestJsons
+     * @return the response mono
      */
-    public CompletableFuture<ShenyuGrpcResponse> call(final MetaData metaData,
-                                                      final CallOptions callOptions,
-                                                      final String requestJsons,
-                                                      final MethodDescriptor.MethodType methodType) {
-        List<DynamicMessage> jsonRequestList = JsonMessage.buildJsonMessageList(GsonUtils.getInstance().toObjectMap(requestJsons));
-        DynamicMessage jsonResponse = JsonMessage.buildJsonMessage();
-
-        MethodDescriptor<DynamicMessage, DynamicMessage> jsonMarshallerMethodDescriptor = JsonMessage.createJsonMarshallerMethodDescriptor(metaData.getServiceName(),
-                metaData.getMethodName(),
-                methodType,
-                jsonRequestList.get(0),
-                jsonResponse);
-
-        ShenyuGrpcResponse shenyuGrpcResponse = new ShenyuGrpcResponse();
-        StreamObserver<DynamicMessage> streamObserver = MessageWriter.newInstance(shenyuGrpcResponse);
-
-        ShenyuGrpcCallRequest callParams = ShenyuGrpcCallRequest.builder()
-                .methodDescriptor(jsonMarshallerMethodDescriptor)
-                .channel(channel)
-                .callOptions(callOptions)
-                .requests(jsonRequestList)
-                .responseObserver(streamObserver)
-                .build();
-        try {
-            this.invoke(callParams).get();
-        } catch (InterruptedException | ExecutionException e) {
-            throw new RuntimeException("Caught exception while waiting for rpc :{ " + e.getMessage() + "}");
-        }
-        return CompletableFuture.completedFuture(shenyuGrpcResponse);
+    public Mono<ShenyuGrpcResponse> call(final MethodDescriptor<DynamicMessage, DynamicMessage> methodDescriptor,
+                                         final CallOptions callOptions,
+                                         final String requestJsons) {
+        return Mono.create(sink -> {
+            List<DynamicMessage> jsonRequestList = JsonMessage.buildJsonMessageList(GsonUtils.getInstance().toObjectMap(requestJsons));
+            ShenyuGrpcResponse shenyuGrpcResponse = new ShenyuGrpcResponse();
+            StreamObserver<DynamicMessage> streamObserver = MessageWriter.newInstance(shenyuGrpcResponse);
+
+            ShenyuGrpcCallRequest callParams = ShenyuGrpcCallRequest.builder()
+                    .methodDescriptor(methodDescriptor)
+                    .channel(channel)
+                    .callOptions(callOptions)
+                    .requests(jsonRequestList)
+                    .responseObserver(streamObserver)
+                    .build();
+            // the call is bound to a cancellable context, so cancelling the subscription cancels the rpc
+            Context.CancellableContext context = Context.current().withCancellation();
+            sink.onCancel(() -> context.cancel(null));
+            Context previous = context.attach();
+            ListenableFuture<Void> future;
+            try {
+                future = this.invoke(callParams);
+            } finally {
+                context.detach(previous);
+            }
+            if (Objects.isNull(future)) {
+                context.cancel(null);
+                sink.error(new ShenyuException("Unknown methodType: " + methodDescriptor.getType()));
+                return;
+            }
+            Futures.addCallback(future, new FutureCallback<Void>() {
+                @Override
+                public void onSuccess(final Void result) {
+                    context.cancel(null);
+                    sink.success(shenyuGrpcResponse);
+                }
+
+                @Override
+                public void onFailure(final Throwable t) {
+                    context.cancel(null);
+                    sink.error(t);
+                }
+            }, MoreExecutors.directExecutor());
+        });
+    }
+
+    /**
+     * Server streaming grpc call, each response message is emitted as it arrives.
+     * The messages are requested from the server as the returned flux is requested, and the rpc is cancelled when the subscriber cancels.
+     *
+     * @param methodDescriptor the json method descriptor of the metadata, which must be server streaming
+     * @param callOptions      callOptions
+     * @param requestJsons     requestJsons
+     * @return the response messages
+     */
+    public Flux<String> stream(final MethodDescriptor<DynamicMessage, DynamicMessage> methodDescriptor,
+                               final CallOptions callOptions,
+                               final String requestJsons) {
+        return Flux.create(sink -> {
+            List<DynamicMessage> jsonRequestList = JsonMessage.buildJsonMessageList(GsonUtils.getInstance().toObjectMap(requestJsons));
+            StreamingMessageObserver observer = new StreamingMessageObserver(sink);
+            asyncServerStreamingCall(channel.newCall(methodDescriptor, callOptions), jsonRequestList.get(0), observer);
+            observer.bind();
+        });
     }
 
     /**
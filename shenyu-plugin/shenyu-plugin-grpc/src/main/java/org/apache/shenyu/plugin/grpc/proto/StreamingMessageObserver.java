@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.grpc.proto;
+
+import com.google.protobuf.DynamicMessage;
+import io.grpc.stub.ClientCallStreamObserver;
+import io.grpc.stub.ClientResponseObserver;
+import org.apache.shenyu.protocol.grpc.message.JsonMessage;
+import reactor.core.publisher.FluxSink;
+
+/**
+ * Emits each response message of a streaming call to a {@link FluxSink}.
+ *
+ * <p>Automatic inbound flow control is disabled, the messages are requested from the server as the sink is requested,
+ * so a slow client slows the server down instead of having the messages buffered in the gateway.
+ */
+public final class StreamingMessageObserver implements ClientResponseObserver<DynamicMessage, DynamicMessage> {
+
+    private final FluxSink<String> sink;
+
+    private ClientCallStreamObserver<DynamicMessage> requestStream;
+
+    public StreamingMessageObserver(final FluxSink<String> sink) {
+        this.sink = sink;
+    }
+
+    @Override
+    public void beforeStart(final ClientCallStreamObserver<DynamicMessage> requestStream) {
+        this.requestStream = requestStream;
+        requestStream.disableAutoRequestWithInitial(0);
+    }
+
+    /**
+     * Bind the demand and the cancellation of the sink to the call, must be called once the call is started.
+     */
+    public void bind() {
+        sink.onRequest(n -> requestStream.request((int) Math.min(n, Integer.MAX_VALUE)));
+        sink.onCancel(() -> requestStream.cancel("Cancelled by the client", null));
+    }
+
+    @Override
+    public void onNext(final DynamicMessage value) {
+        sink.next(JsonMessage.getDataFromDynamicMessage(value));
+    }
+
+    @Override
+    public void onError(final Throwable t) {
+        sink.error(t);
+    }
+
+    @Override
+    public void onCompleted() {
+        sink.complete();
+    }
+}
@@ -26,6 +26,7 @@ import org.apache.shenyu.common.enums.PluginEnum;
 import org.apache.shenyu.common.enums.RpcTypeEnum;
 import org.apache.shenyu.plugin.api.ShenyuPluginChain;
 import org.apache.shenyu.plugin.api.context.ShenyuContext;
+import org.apache.shenyu.plugin.api.param.CachedRequestBody;
 import org.apache.shenyu.plugin.api.result.DefaultShenyuResult;
 import org.apache.shenyu.plugin.api.result.ShenyuResult;
 import org.apache.shenyu.plugin.api.utils.SpringBeanUtils;
@@ -39,14 +40,16 @@ import org.mockito.Mockito;
 import org.mockito.Spy;
 import org.mockito.junit.MockitoJUnitRunner;
 import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.MediaType;
 import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.http.server.reactive.MockServerHttpResponse;
 import org.springframework.mock.web.server.MockServerWebExchange;
 import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 import java.lang.reflect.Field;
 import java.util.Map;
-import java.util.concurrent.CompletableFuture;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.mockito.Mockito.mock;
@@ -80,18 +83,15 @@ public class GrpcPluginTest {
     @SneakyThrows
     public void testDoExecute() {
         ServerWebExchange exchange = getServerWebExchange();
-        exchange.getAttributes().put(Constants.PARAM_TRANSFORM, "{message:1}");
+        exchange.getAttributes().put(Constants.PARAM_TRANSFORM, CachedRequestBody.of("{message:1}"));
         exchange.getAttributes().put(Constants.META_DATA, getMetaData());
 
-        Class grpcClientCacheClass = Class.forName("org.apache.shenyu.plugin.grpc.cache.GrpcClientCache");
-        Field clientCacheField = grpcClientCacheClass.getDeclaredField("CLIENT_CACHE");
-        clientCacheField.setAccessible(true);
-        Map<String, ShenyuGrpcClient> clientCacheMap = (Map<String, ShenyuGrpcClient>) clientCacheField.get(grpcClientCacheClass);
+        Map<String, ShenyuGrpcClient> clientCacheMap = getClientCache();
         ShenyuGrpcClient mockClient = mock(ShenyuGrpcClient.class);
         ShenyuGrpcResponse response = new ShenyuGrpcResponse();
         response.getResults().add("success");
-        when(mockClient.call(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any()))
-                .thenReturn(CompletableFuture.completedFuture(response));
+        when(mockClient.call(Mockito.any(), Mockito.any(), Mockito.any()))
+                .thenReturn(Mono.just(response));
         clientCacheMap.put("/grpc", mockClient);
 
         when(chain.execute(Mockito.any())).thenReturn(Mono.empty());
@@ -99,6 +99,31 @@ public class GrpcPluginTest {
         StepVerifier.create(grpcPlugin.doExecute(exchange, chain, selector, data)).expectSubscription().verifyComplete();
     }
 
+    @Test
+    @SneakyThrows
+    public void testDoExecuteServerStreaming() {
+        ServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("http://localhost/grpc/echo")
+                .accept(MediaType.TEXT_EVENT_STREAM).build());
+        ShenyuContext shenyuContext = mock(ShenyuContext.class);
+        exchange.getAttributes().put(Constants.CONTEXT, shenyuContext);
+        exchange.getAttributes().put(Constants.PARAM_TRANSFORM, CachedRequestBody.of("{message:1}"));
+        MetaData metaData = getMetaData();
+        metaData.setPath("/grpc/stream");
+        metaData.setRpcExt("{timeout:5000,methodType:SERVER_STREAMING}");
+        exchange.getAttributes().put(Constants.META_DATA, metaData);
+
+        ShenyuGrpcClient mockClient = mock(ShenyuGrpcClient.class);
+        when(mockClient.stream(Mockito.any(), Mockito.any(), Mockito.any())).thenReturn(Flux.just("{\"a\":1}", "{\n\"b\":2\n}"));
+        getClientCache().put("/grpc", mockClient);
+
+        when(chain.execute(Mockito.any())).thenReturn(Mono.empty());
+        RuleData data = mock(RuleData.class);
+        StepVerifier.create(grpcPlugin.doExecute(exchange, chain, selector, data)).expectSubscription().verifyComplete();
+        MockServerHttpResponse response = (MockServerHttpResponse) exchange.getResponse();
+        assertEquals(MediaType.TEXT_EVENT_STREAM, response.getHeaders().getContentType());
+        assertEquals("data:{\"a\":1}\n\ndata:{\"b\":2}\n\n", response.getBodyAsString().block());
+    }
+
     @Test
     @SneakyThrows
     public void testDoExecuteMetaDataError() {
@@ -135,6 +160,15 @@ public class GrpcPluginTest {
         assertFalse(result);
     }
 
+    @SneakyThrows
+    @SuppressWarnings("unchecked")
+    private Map<String, ShenyuGrpcClient> getClientCache() {
+        Class grpcClientCacheClass = Class.forName("org.apache.shenyu.plugin.grpc.cache.GrpcClientCache");
+        Field clientCacheField = grpcClientCacheClass.getDeclaredField("CLIENT_CACHE");
+        clientCacheField.setAccessible(true);
+        return (Map<String, ShenyuGrpcClient>) clientCacheField.get(grpcClientCacheClass);
+    }
+
     private MetaData getMetaData() {
         return MetaData.builder()
                 .id("1332017977771636096")
@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.grpc.cache;
+
+import io.grpc.MethodDescriptor;
+import org.apache.shenyu.common.dto.MetaData;
+import org.apache.shenyu.common.enums.RpcTypeEnum;
+import org.apache.shenyu.plugin.grpc.subscriber.GrpcMetaDataSubscriber;
+import org.apache.shenyu.protocol.grpc.constant.GrpcConstants;
+import org.junit.After;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+/**
+ * The Test Case For {@link GrpcMetaDataCache}.
+ */
+public class GrpcMetaDataCacheTest {
+
+    private static final String PATH = "/grpc/echo";
+
+    private final GrpcMetaDataCache cache = GrpcMetaDataCache.getInstance();
+
+    @After
+    public void tearDown() {
+        cache.invalidate(PATH);
+    }
+
+    @Test
+    public void testGet() {
+        MetaData metaData = buildMetaData("{timeout:3000,methodType:SERVER_STREAMING}");
+        GrpcMetaDataCache.GrpcMethodMetaData methodMetaData = cache.get(metaData);
+        assertEquals(3000, methodMetaData.getExtInfo().getTimeout().intValue());
+        assertEquals(MethodDescriptor.MethodType.SERVER_STREAMING, methodMetaData.getMethodDescriptor().getType());
+        assertEquals("echo.EchoService" + GrpcConstants.GRPC_JSON_SERVICE + "/echo", methodMetaData.getMethodDescriptor().getFullMethodName());
+        assertSame(methodMetaData, cache.get(buildMetaData("{timeout:3000,methodType:SERVER_STREAMING}")));
+    }
+
+    @Test
+    public void testGetDefaultExtInfo() {
+        GrpcMetaDataCache.GrpcMethodMetaData methodMetaData = cache.get(buildMetaData(null));
+        assertEquals(5000, methodMetaData.getExtInfo().getTimeout().intValue());
+        assertEquals(MethodDescriptor.MethodType.UNARY, methodMetaData.getExtInfo().getMethodType());
+    }
+
+    @Test
+    public void testSubscriber() {
+        GrpcMetaDataSubscriber subscriber = new GrpcMetaDataSubscriber();
+        MetaData metaData = buildMetaData("{timeout:3000}");
+        subscriber.onSubscribe(metaData);
+        GrpcMetaDataCache.GrpcMethodMetaData methodMetaData = cache.get(metaData);
+        assertSame(methodMetaData, cache.get(metaData));
+
+        MetaData updated = buildMetaData("{timeout:1000}");
+        subscriber.onSubscribe(updated);
+        GrpcMetaDataCache.GrpcMethodMetaData updatedMetaData = cache.get(updated);
+        assertNotSame(methodMetaData, updatedMetaData);
+        assertEquals(1000, updatedMetaData.getExtInfo().getTimeout().intValue());
+
+        subscriber.unSubscribe(updated);
+        assertNotSame(updatedMetaData, cache.get(updated));
+    }
+
+    private MetaData buildMetaData(final String rpcExt) {
+        return MetaData.builder()
+                .path(PATH)
+                .serviceName("echo.EchoService")
+                .methodName("echo")
+                .rpcType(RpcTypeEnum.GRPC.getName())
+                .rpcExt(rpcExt)
+                .build();
+    }
+}
@@ -0,0 +1,171 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.grpc.client;
+
+import com.google.protobuf.DynamicMessage;
+import io.grpc.CallOptions;
+import io.grpc.ManagedChannel;
+import io.grpc.MethodDescriptor;
+import io.grpc.Server;
+import io.grpc.ServerServiceDefinition;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.ServerCalls;
+import io.grpc.stub.StreamObserver;
+import org.apache.shenyu.plugin.grpc.proto.ShenyuGrpcResponse;
+import org.apache.shenyu.protocol.grpc.constant.GrpcConstants;
+import org.apache.shenyu.protocol.grpc.message.JsonMessage;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import reactor.core.Disposable;
+import reactor.test.StepVerifier;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * The Test Case For {@link ShenyuGrpcClient}.
+ */
+public final class ShenyuGrpcClientTest {
+
+    private static final String SERVICE_NAME = "echo.EchoService";
+
+    private static final String METHOD_NAME = "echo";
+
+    private static final String STREAM_METHOD_NAME = "stream";
+
+    private static final String REQUEST = "{\"data\":[{\"message\":\"hello\"}]}";
+
+    private static final String HOLD_REQUEST = "{\"data\":[{\"message\":\"hold\"}]}";
+
+    private static final int STREAM_SIZE = 5;
+
+    private final BlockingQueue<StreamObserver<DynamicMessage>> pendingCalls = new ArrayBlockingQueue<>(4);
+
+    private final CountDownLatch cancelled = new CountDownLatch(1);
+
+    private Server server;
+
+    private ShenyuGrpcClient client;
+
+    private MethodDescriptor<DynamicMessage, DynamicMessage> methodDescriptor;
+
+    private MethodDescriptor<DynamicMessage, DynamicMessage> streamMethodDescriptor;
+
+    @Before
+    public void setUp() throws IOException {
+        methodDescriptor = JsonMessage.buildJsonMarshallerMethodDescriptor(SERVICE_NAME, METHOD_NAME, MethodDescriptor.MethodType.UNARY);
+        streamMethodDescriptor = JsonMessage.buildJsonMarshallerMethodDescriptor(SERVICE_NAME, STREAM_METHOD_NAME, MethodDescriptor.MethodType.SERVER_STREAMING);
+        ServerServiceDefinition service = ServerServiceDefinition.builder(SERVICE_NAME + GrpcConstants.GRPC_JSON_SERVICE)
+                .addMethod(methodDescriptor, ServerCalls.asyncUnaryCall((request, responseObserver) -> {
+                    ((ServerCallStreamObserver<DynamicMessage>) responseObserver).setOnCancelHandler(cancelled::countDown);
+                    pendingCalls.add(responseObserver);
+                }))
+                .addMethod(streamMethodDescriptor, ServerCalls.asyncServerStreamingCall((request, responseObserver) -> {
+                    if (JsonMessage.getDataFromDynamicMessage(request).contains("hold")) {
+                        ((ServerCallStreamObserver<DynamicMessage>) responseObserver).setOnCancelHandler(cancelled::countDown);
+                        pendingCalls.add(responseObserver);
+                        return;
+                    }
+                    for (int i = 0; i < STREAM_SIZE; i++) {
+                        responseObserver.onNext(JsonMessage.buildJsonMessage("{\"index\":" + i + "}"));
+                    }
+                    responseObserver.onCompleted();
+                }))
+                .build();
+        String serverName = InProcessServerBuilder.generateName();
+        server = InProcessServerBuilder.forName(serverName).addService(service).build().start();
+        ManagedChannel channel = InProcessChannelBuilder.forName(serverName).build();
+        client = new ShenyuGrpcClient(channel);
+    }
+
+    @After
+    public void tearDown() {
+        client.close();
+        server.shutdownNow();
+    }
+
+    @Test
+    public void testCallDoesNotBlockSubscriber() throws InterruptedException {
+        AtomicReference<ShenyuGrpcResponse> result = new AtomicReference<>();
+        CountDownLatch done = new CountDownLatch(1);
+        client.call(methodDescriptor, CallOptions.DEFAULT, REQUEST).subscribe(response -> {
+            result.set(response);
+            done.countDown();
+        });
+        // the subscribing thread returns while the server still holds the call
+        StreamObserver<DynamicMessage> responseObserver = pendingCalls.poll(5, TimeUnit.SECONDS);
+        assertNotNull(responseObserver);
+        assertNull(result.get());
+        responseObserver.onNext(JsonMessage.buildJsonMessage("{\"message\":\"hello\"}"));
+        responseObserver.onCompleted();
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertEquals(Collections.singletonList("{\"message\":\"hello\"}"), result.get().getResults());
+    }
+
+    @Test
+    public void testCancelWhenSubscriberCancels() throws InterruptedException {
+        Disposable disposable = client.call(methodDescriptor, CallOptions.DEFAULT, REQUEST).subscribe();
+        assertNotNull(pendingCalls.poll(5, TimeUnit.SECONDS));
+        disposable.dispose();
+        assertTrue(cancelled.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testDeadline() {
+        CallOptions callOptions = CallOptions.DEFAULT.withDeadlineAfter(100, TimeUnit.MILLISECONDS);
+        StepVerifier.create(client.call(methodDescriptor, callOptions, REQUEST))
+                .expectErrorMatches(e -> e instanceof StatusRuntimeException
+                        && ((StatusRuntimeException) e).getStatus().getCode() == Status.Code.DEADLINE_EXCEEDED)
+                .verify(Duration.ofSeconds(5));
+    }
+
+    @Test
+    public void testStreamFollowsDemand() {
+        StepVerifier.create(client.stream(streamMethodDescriptor, CallOptions.DEFAULT, REQUEST), 1)
+                .expectNext("{\"index\":0}")
+                .expectNoEvent(Duration.ofMillis(100))
+                .thenRequest(STREAM_SIZE - 1)
+                .expectNext("{\"index\":1}", "{\"index\":2}", "{\"index\":3}", "{\"index\":4}")
+                .expectComplete()
+                .verify(Duration.ofSeconds(5));
+    }
+
+    @Test
+    public void testStreamCancelWhenSubscriberCancels() throws InterruptedException {
+        Disposable disposable = client.stream(streamMethodDescriptor, CallOptions.DEFAULT, HOLD_REQUEST).subscribe();
+        assertNotNull(pendingCalls.poll(5, TimeUnit.SECONDS));
+        disposable.dispose();
+        assertTrue(cancelled.await(5, TimeUnit.SECONDS));
+    }
+}
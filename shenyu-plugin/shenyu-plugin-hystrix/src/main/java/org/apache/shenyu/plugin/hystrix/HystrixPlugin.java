@@ -18,29 +18,24 @@
 package org.apache.shenyu.plugin.hystrix;
 
 import lombok.extern.slf4j.Slf4j;
-import org.apache.commons.lang3.StringUtils;
 import org.apache.shenyu.common.constant.Constants;
 import org.apache.shenyu.common.dto.RuleData;
 import org.apache.shenyu.common.dto.SelectorData;
-import org.apache.shenyu.common.dto.convert.HystrixHandle;
-import org.apache.shenyu.common.enums.HystrixIsolationModeEnum;
 import org.apache.shenyu.common.enums.PluginEnum;
 import org.apache.shenyu.common.enums.ResultEnum;
 import org.apache.shenyu.plugin.api.ShenyuPluginChain;
 import org.apache.shenyu.plugin.api.context.ShenyuContext;
 import org.apache.shenyu.plugin.base.AbstractShenyuPlugin;
 import org.apache.shenyu.plugin.base.utils.CacheKeyUtils;
-import org.apache.shenyu.plugin.hystrix.builder.HystrixBuilder;
 import org.apache.shenyu.plugin.hystrix.command.Command;
 import org.apache.shenyu.plugin.hystrix.command.HystrixCommand;
 import org.apache.shenyu.plugin.hystrix.command.HystrixCommandOnThread;
 import org.apache.shenyu.plugin.hystrix.handler.HystrixPluginDataHandler;
+import org.apache.shenyu.plugin.hystrix.handler.HystrixRuleHolder;
 import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Mono;
 import rx.Subscription;
 
-import java.util.Objects;
-
 /**
  * Hystrix Plugin.
  */
@@ -51,20 +46,15 @@ public class HystrixPlugin extends AbstractShenyuPlugin {
     protected Mono<Void> doExecute(final ServerWebExchange exchange, final ShenyuPluginChain chain, final SelectorData selector, final RuleData rule) {
         final ShenyuContext shenyuContext = exchange.getAttribute(Constants.CONTEXT);
         assert shenyuContext != null;
-        final HystrixHandle hystrixHandle = HystrixPluginDataHandler.CACHED_HANDLE.get().obtainHandle(CacheKeyUtils.INST.getKey(rule));
-        if (StringUtils.isBlank(hystrixHandle.getGroupKey())) {
-            hystrixHandle.setGroupKey(Objects.requireNonNull(shenyuContext).getModule());
-        }
-        if (StringUtils.isBlank(hystrixHandle.getCommandKey())) {
-            hystrixHandle.setCommandKey(Objects.requireNonNull(shenyuContext).getMethod());
-        }
-        Command command = fetchCommand(hystrixHandle, exchange, chain);
+        final HystrixRuleHolder holder = HystrixPluginDataHandler.CACHED_HANDLE.get().obtainHandle(CacheKeyUtils.INST.getKey(rule));
+        final HystrixRuleHolder.Setters setters = holder.obtainSetters(shenyuContext.getModule(), shenyuContext.getMethod());
+        Command command = fetchCommand(holder, setters, exchange, chain);
         return Mono.create(s -> {
             Subscription sub = command.fetchObservable().subscribe(s::success,
                     s::error, s::success);
             s.onCancel(sub::unsubscribe);
             if (command.isCircuitBreakerOpen()) {
-                log.error("hystrix execute have circuitBreaker is Open! groupKey:{},commandKey:{}", hystrixHandle.getGroupKey(), hystrixHandle.getCommandKey());
+                log.error("hystrix execute have circuitBreaker is Open! groupKey:{},commandKey:{}", setters.getGroupKey(), setters.getCommandKey());
             }
         }).doOnError(throwable -> {
             log.error("hystrix execute exception:", throwable);
@@ -73,13 +63,11 @@ public class HystrixPlugin extends AbstractShenyuPlugin {
         }).then();
     }
 
-    private Command fetchCommand(final HystrixHandle hystrixHandle, final ServerWebExchange exchange, final ShenyuPluginChain chain) {
-        if (hystrixHandle.getExecutionIsolationStrategy() == HystrixIsolationModeEnum.SEMAPHORE.getCode()) {
-            return new HystrixCommand(HystrixBuilder.build(hystrixHandle),
-                    exchange, chain, hystrixHandle.getCallBackUri());
+    private Command fetchCommand(final HystrixRuleHolder holder, final HystrixRuleHolder.Setters setters, final ServerWebExchange exchange, final ShenyuPluginChain chain) {
+        if (holder.isSemaphore()) {
+            return new HystrixCommand(setters.getObservableSetter(), exchange, chain, holder.getHystrixHandle().getCallBackUri());
         }
-        return new HystrixCommandOnThread(HystrixBuilder.buildForHystrixCommand(hystrixHandle),
-                exchange, chain, hystrixHandle.getCallBackUri());
+        return new HystrixCommandOnThread(setters.getCommandSetter(), exchange, chain, holder.getHystrixHandle().getCallBackUri());
     }
 
     @Override
@@ -22,8 +22,10 @@ import com.netflix.hystrix.HystrixCommandGroupKey;
 import com.netflix.hystrix.HystrixCommandKey;
 import com.netflix.hystrix.HystrixCommandProperties;
 import com.netflix.hystrix.HystrixObservableCommand;
+import com.netflix.hystrix.HystrixThreadPoolKey;
 import com.netflix.hystrix.HystrixThreadPoolProperties;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
 import org.apache.shenyu.common.constant.Constants;
 import org.apache.shenyu.common.dto.convert.HystrixHandle;
 import org.apache.shenyu.common.dto.convert.HystrixThreadPoolConfig;
@@ -43,9 +45,21 @@ public class HystrixBuilder {
      * @return {@linkplain HystrixObservableCommand.Setter}
      */
     public static HystrixObservableCommand.Setter build(final HystrixHandle hystrixHandle) {
+        return build(hystrixHandle, hystrixHandle.getGroupKey(), hystrixHandle.getCommandKey());
+    }
+
+    /**
+     * this is build HystrixObservableCommand.Setter with the given keys, the keys of the handle are ignored.
+     *
+     * @param hystrixHandle {@linkplain HystrixHandle}
+     * @param groupKeyName the group key
+     * @param commandKeyName the command key
+     * @return {@linkplain HystrixObservableCommand.Setter}
+     */
+    public static HystrixObservableCommand.Setter build(final HystrixHandle hystrixHandle, final String groupKeyName, final String commandKeyName) {
         initHystrixHandleOnRequire(hystrixHandle);
-        HystrixCommandGroupKey groupKey = HystrixCommandGroupKey.Factory.asKey(hystrixHandle.getGroupKey());
-        HystrixCommandKey commandKey = HystrixCommandKey.Factory.asKey(hystrixHandle.getCommandKey());
+        HystrixCommandGroupKey groupKey = HystrixCommandGroupKey.Factory.asKey(groupKeyName);
+        HystrixCommandKey commandKey = HystrixCommandKey.Factory.asKey(commandKeyName);
         HystrixCommandProperties.Setter propertiesSetter =
                 HystrixCommandProperties.Setter()
                         .withExecutionTimeoutInMilliseconds((int) hystrixHandle.getTimeout())
@@ -68,9 +82,21 @@ public class HystrixBuilder {
      * @return {@linkplain HystrixCommand.Setter}
      */
     public static HystrixCommand.Setter buildForHystrixCommand(final HystrixHandle hystrixHandle) {
+        return buildForHystrixCommand(hystrixHandle, hystrixHandle.getGroupKey(), hystrixHandle.getCommandKey());
+    }
+
+    /**
+     * this is build HystrixCommand.Setter with the given keys, the keys of the handle are ignored.
+     *
+     * @param hystrixHandle {@linkplain HystrixHandle}
+     * @param groupKeyName the group key
+     * @param commandKeyName the command key
+     * @return {@linkplain HystrixCommand.Setter}
+     */
+    public static HystrixCommand.Setter buildForHystrixCommand(final HystrixHandle hystrixHandle, final String groupKeyName, final String commandKeyName) {
         initHystrixHandleOnRequire(hystrixHandle);
-        HystrixCommandGroupKey groupKey = HystrixCommandGroupKey.Factory.asKey(hystrixHandle.getGroupKey());
-        HystrixCommandKey commandKey = HystrixCommandKey.Factory.asKey(hystrixHandle.getCommandKey());
+        HystrixCommandGroupKey groupKey = HystrixCommandGroupKey.Factory.asKey(groupKeyName);
+        HystrixCommandKey commandKey = HystrixCommandKey.Factory.asKey(commandKeyName);
         HystrixCommandProperties.Setter propertiesSetter =
                 HystrixCommandProperties.Setter()
                         .withExecutionTimeoutInMilliseconds((int) hystrixHandle.getTimeout())
@@ -86,14 +112,23 @@ public class HystrixBuilder {
                         .withMaxQueueSize(hystrixThreadPoolConfig.getMaxQueueSize())
                         .withKeepAliveTimeMinutes(hystrixThreadPoolConfig.getKeepAliveTimeMinutes())
                         .withAllowMaximumSizeToDivergeFromCoreSize(true);
-        return HystrixCommand.Setter
+        HystrixCommand.Setter setter = HystrixCommand.Setter
                 .withGroupKey(groupKey)
                 .andCommandKey(commandKey)
                 .andCommandPropertiesDefaults(propertiesSetter)
                 .andThreadPoolPropertiesDefaults(threadPoolPropertiesSetter);
+        if (StringUtils.isNotBlank(hystrixThreadPoolConfig.getThreadPoolKey())) {
+            setter.andThreadPoolKey(HystrixThreadPoolKey.Factory.asKey(hystrixThreadPoolConfig.getThreadPoolKey()));
+        }
+        return setter;
     }
 
-    private static void initHystrixHandleOnRequire(final HystrixHandle hystrixHandle) {
+    /**
+     * fill the defaults into the blank fields of the handle.
+     *
+     * @param hystrixHandle {@linkplain HystrixHandle}
+     */
+    public static void initHystrixHandleOnRequire(final HystrixHandle hystrixHandle) {
         if (hystrixHandle.getMaxConcurrentRequests() == 0) {
             hystrixHandle.setMaxConcurrentRequests(Constants.MAX_CONCURRENT_REQUESTS);
         }
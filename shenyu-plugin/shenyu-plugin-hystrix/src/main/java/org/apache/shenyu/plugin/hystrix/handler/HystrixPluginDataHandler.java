@@ -35,14 +35,14 @@ import java.util.function.Supplier;
  */
 public class HystrixPluginDataHandler implements PluginDataHandler {
 
-    public static final Supplier<RuleHandleCache<String, HystrixHandle>> CACHED_HANDLE = new BeanHolder(RuleHandleCache::new);
+    public static final Supplier<RuleHandleCache<String, HystrixRuleHolder>> CACHED_HANDLE = new BeanHolder(RuleHandleCache::new);
 
     @Override
     public void handlerRule(final RuleData ruleData) {
         HystrixPropertiesFactory.reset();
         Optional.ofNullable(ruleData.getHandle()).ifPresent(s -> {
             final HystrixHandle hystrixHandle = GsonUtils.getInstance().fromJson(s, HystrixHandle.class);
-            CACHED_HANDLE.get().cachedHandle(CacheKeyUtils.INST.getKey(ruleData), hystrixHandle);
+            CACHED_HANDLE.get().cachedHandle(CacheKeyUtils.INST.getKey(ruleData), HystrixRuleHolder.of(hystrixHandle));
         });
     }
 
@@ -0,0 +1,168 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.hystrix.handler;
+
+import com.netflix.hystrix.HystrixCommand;
+import com.netflix.hystrix.HystrixObservableCommand;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.shenyu.common.dto.convert.HystrixHandle;
+import org.apache.shenyu.common.enums.HystrixIsolationModeEnum;
+import org.apache.shenyu.plugin.hystrix.builder.HystrixBuilder;
+
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * The command setters of a hystrix rule, built when the rule is synced and never modified by the requests.
+ *
+ * <p>A blank group or command key falls back to the module or method of the request, those setters are
+ * built on the first request of every module and method and reused afterwards.
+ */
+public final class HystrixRuleHolder {
+
+    private final HystrixHandle hystrixHandle;
+
+    private final boolean semaphore;
+
+    private final Setters setters;
+
+    private final ConcurrentMap<String, ConcurrentMap<String, Setters>> contextSetters = new ConcurrentHashMap<>();
+
+    private HystrixRuleHolder(final HystrixHandle hystrixHandle) {
+        this.hystrixHandle = hystrixHandle;
+        this.semaphore = hystrixHandle.getExecutionIsolationStrategy() == HystrixIsolationModeEnum.SEMAPHORE.getCode();
+        boolean fixedKeys = StringUtils.isNoneBlank(hystrixHandle.getGroupKey(), hystrixHandle.getCommandKey());
+        this.setters = fixedKeys ? createSetters(hystrixHandle.getGroupKey(), hystrixHandle.getCommandKey()) : null;
+    }
+
+    /**
+     * Create the holder, the defaults are filled into the handle before it is shared.
+     *
+     * @param hystrixHandle the hystrix handle
+     * @return the holder
+     */
+    public static HystrixRuleHolder of(final HystrixHandle hystrixHandle) {
+        HystrixBuilder.initHystrixHandleOnRequire(hystrixHandle);
+        return new HystrixRuleHolder(hystrixHandle);
+    }
+
+    /**
+     * Get the setters of the request.
+     *
+     * @param module the module of the request
+     * @param method the method of the request
+     * @return the setters
+     */
+    public Setters obtainSetters(final String module, final String method) {
+        if (Objects.nonNull(setters)) {
+            return setters;
+        }
+        String groupKey = StringUtils.isBlank(hystrixHandle.getGroupKey()) ? module : hystrixHandle.getGroupKey();
+        String commandKey = StringUtils.isBlank(hystrixHandle.getCommandKey()) ? method : hystrixHandle.getCommandKey();
+        ConcurrentMap<String, Setters> commands = contextSetters.get(groupKey);
+        if (Objects.isNull(commands)) {
+            commands = contextSetters.computeIfAbsent(groupKey, key -> new ConcurrentHashMap<>());
+        }
+        Setters cached = commands.get(commandKey);
+        return Objects.isNull(cached) ? commands.computeIfAbsent(commandKey, key -> createSetters(groupKey, key)) : cached;
+    }
+
+    /**
+     * Get the hystrix handle.
+     *
+     * @return the hystrix handle
+     */
+    public HystrixHandle getHystrixHandle() {
+        return hystrixHandle;
+    }
+
+    /**
+     * Whether the commands are isolated by semaphore.
+     *
+     * @return true if semaphore
+     */
+    public boolean isSemaphore() {
+        return semaphore;
+    }
+
+    private Setters createSetters(final String groupKey, final String commandKey) {
+        if (semaphore) {
+            return new Setters(groupKey, commandKey, HystrixBuilder.build(hystrixHandle, groupKey, commandKey), null);
+        }
+        return new Setters(groupKey, commandKey, null, HystrixBuilder.buildForHystrixCommand(hystrixHandle, groupKey, commandKey));
+    }
+
+    /**
+     * The setters of one group key and command key, only the one of the isolation strategy is built.
+     */
+    public static final class Setters {
+
+        private final String groupKey;
+
+        private final String commandKey;
+
+        private final HystrixObservableCommand.Setter observableSetter;
+
+        private final HystrixCommand.Setter commandSetter;
+
+        private Setters(final String groupKey, final String commandKey,
+                        final HystrixObservableCommand.Setter observableSetter, final HystrixCommand.Setter commandSetter) {
+            this.groupKey = groupKey;
+            this.commandKey = commandKey;
+            this.observableSetter = observableSetter;
+            this.commandSetter = commandSetter;
+        }
+
+        /**
+         * Get the group key.
+         *
+         * @return the group key
+         */
+        public String getGroupKey() {
+            return groupKey;
+        }
+
+        /**
+         * Get the command key.
+         *
+         * @return the command key
+         */
+        public String getCommandKey() {
+            return commandKey;
+        }
+
+        /**
+         * Get the setter of the semaphore isolated command.
+         *
+         * @return the setter
+         */
+        public HystrixObservableCommand.Setter getObservableSetter() {
+            return observableSetter;
+        }
+
+        /**
+         * Get the setter of the thread isolated command.
+         *
+         * @return the setter
+         */
+        public HystrixCommand.Setter getCommandSetter() {
+            return commandSetter;
+        }
+    }
+}
@@ -28,6 +28,7 @@ import org.apache.shenyu.plugin.api.ShenyuPluginChain;
 import org.apache.shenyu.plugin.api.context.ShenyuContext;
 import org.apache.shenyu.plugin.base.utils.CacheKeyUtils;
 import org.apache.shenyu.plugin.hystrix.handler.HystrixPluginDataHandler;
+import org.apache.shenyu.plugin.hystrix.handler.HystrixRuleHolder;
 import org.junit.Before;
 import org.junit.Test;
 import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
@@ -66,7 +67,7 @@ public final class HystrixPluginTest {
         hystrixHandle.setRequestVolumeThreshold(0);
         hystrixHandle.setSleepWindowInMilliseconds(0);
         RuleData rule = new RuleData();
-        HystrixPluginDataHandler.CACHED_HANDLE.get().cachedHandle(CacheKeyUtils.INST.getKey(rule), hystrixHandle);
+        HystrixPluginDataHandler.CACHED_HANDLE.get().cachedHandle(CacheKeyUtils.INST.getKey(rule), HystrixRuleHolder.of(hystrixHandle));
         rule.setHandle(GsonUtils.getInstance().toJson(hystrixHandle));
         SelectorData selectorData = mock(SelectorData.class);
         Mono<Void> mono = hystrixPlugin.doExecute(exchange, chain, selectorData, rule);
@@ -88,13 +89,14 @@ public final class HystrixPluginTest {
         hystrixHandle.setRequestVolumeThreshold(0);
         hystrixHandle.setSleepWindowInMilliseconds(0);
         RuleData rule = new RuleData();
-        HystrixPluginDataHandler.CACHED_HANDLE.get().cachedHandle(CacheKeyUtils.INST.getKey(rule), hystrixHandle);
+        HystrixPluginDataHandler.CACHED_HANDLE.get().cachedHandle(CacheKeyUtils.INST.getKey(rule), HystrixRuleHolder.of(hystrixHandle));
         rule.setHandle(GsonUtils.getInstance().toJson(hystrixHandle));
         SelectorData selectorData = mock(SelectorData.class);
         Mono<Void> mono = hystrixPlugin.doExecute(exchange, chain, selectorData, rule);
         StepVerifier.create(mono).expectSubscription().verifyComplete();
         hystrixHandle.setExecutionIsolationStrategy(HystrixIsolationModeEnum.THREAD_POOL.getCode());
         rule.setHandle(GsonUtils.getInstance().toJson(hystrixHandle));
+        HystrixPluginDataHandler.CACHED_HANDLE.get().cachedHandle(CacheKeyUtils.INST.getKey(rule), HystrixRuleHolder.of(hystrixHandle));
         Mono<Void> threadMono = hystrixPlugin.doExecute(exchange, chain, selectorData, rule);
         StepVerifier.create(threadMono).expectSubscription().verifyComplete();
     }
@@ -19,9 +19,14 @@ package org.apache.shenyu.plugin.hystrix.builder;
 
 import org.apache.shenyu.common.dto.convert.HystrixHandle;
 import org.apache.shenyu.common.dto.convert.HystrixThreadPoolConfig;
+import org.apache.shenyu.plugin.api.ShenyuPluginChain;
+import org.apache.shenyu.plugin.hystrix.command.HystrixCommandOnThread;
 import org.junit.Test;
+import org.springframework.web.server.ServerWebExchange;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.mockito.Mockito.mock;
 
 /**
  * The Test Case For HystrixBuilder.
@@ -47,4 +52,19 @@ public final class HystrixBuilderTest {
         assertNotNull(HystrixBuilder.build(hystrixHandle));
         assertNotNull(HystrixBuilder.buildForHystrixCommand(hystrixHandle));
     }
+
+    @Test
+    public void testBuildWithSharedThreadPool() {
+        HystrixHandle hystrixHandle = new HystrixHandle();
+        HystrixThreadPoolConfig hystrixThreadPoolConfig = new HystrixThreadPoolConfig();
+        hystrixHandle.setHystrixThreadPoolConfig(hystrixThreadPoolConfig);
+        HystrixCommandOnThread command = new HystrixCommandOnThread(HystrixBuilder.buildForHystrixCommand(hystrixHandle, "group", "command"),
+                mock(ServerWebExchange.class), mock(ShenyuPluginChain.class), null);
+        assertEquals("group", command.getThreadPoolKey().name());
+        hystrixThreadPoolConfig.setThreadPoolKey("shared");
+        command = new HystrixCommandOnThread(HystrixBuilder.buildForHystrixCommand(hystrixHandle, "group", "command"),
+                mock(ServerWebExchange.class), mock(ShenyuPluginChain.class), null);
+        assertEquals("shared", command.getThreadPoolKey().name());
+        assertEquals("command", command.getCommandKey().name());
+    }
 }
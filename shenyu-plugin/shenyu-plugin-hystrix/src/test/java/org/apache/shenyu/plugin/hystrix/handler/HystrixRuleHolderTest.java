@@ -0,0 +1,71 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.hystrix.handler;
+
+import org.apache.shenyu.common.constant.Constants;
+import org.apache.shenyu.common.dto.convert.HystrixHandle;
+import org.apache.shenyu.common.enums.HystrixIsolationModeEnum;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test case for {@link HystrixRuleHolder}.
+ */
+public final class HystrixRuleHolderTest {
+
+    @Test
+    public void testFixedKeys() {
+        HystrixHandle hystrixHandle = new HystrixHandle();
+        hystrixHandle.setGroupKey("group");
+        hystrixHandle.setCommandKey("command");
+        hystrixHandle.setMaxConcurrentRequests(0);
+        HystrixRuleHolder holder = HystrixRuleHolder.of(hystrixHandle);
+        assertTrue(holder.isSemaphore());
+        assertEquals(Constants.MAX_CONCURRENT_REQUESTS, holder.getHystrixHandle().getMaxConcurrentRequests());
+        HystrixRuleHolder.Setters setters = holder.obtainSetters("module", "method");
+        assertSame(setters, holder.obtainSetters("other", "other"));
+        assertEquals("group", setters.getGroupKey());
+        assertEquals("command", setters.getCommandKey());
+        assertNotNull(setters.getObservableSetter());
+        assertNull(setters.getCommandSetter());
+    }
+
+    @Test
+    public void testContextKeys() {
+        HystrixHandle hystrixHandle = new HystrixHandle();
+        hystrixHandle.setCommandKey("command");
+        hystrixHandle.setExecutionIsolationStrategy(HystrixIsolationModeEnum.THREAD_POOL.getCode());
+        HystrixRuleHolder holder = HystrixRuleHolder.of(hystrixHandle);
+        assertFalse(holder.isSemaphore());
+        HystrixRuleHolder.Setters setters = holder.obtainSetters("module", "method");
+        assertEquals("module", setters.getGroupKey());
+        assertEquals("command", setters.getCommandKey());
+        assertNotNull(setters.getCommandSetter());
+        assertNull(setters.getObservableSetter());
+        assertSame(setters, holder.obtainSetters("module", "other"));
+        assertNotSame(setters, holder.obtainSetters("other", "method"));
+        assertNull(hystrixHandle.getGroupKey());
+    }
+}
@@ -17,53 +17,89 @@
 
 package org.apache.shenyu.plugin.logging;
 
-import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.shenyu.common.dto.RuleData;
 import org.apache.shenyu.common.dto.SelectorData;
+import org.apache.shenyu.common.dto.convert.LoggingHandle;
 import org.apache.shenyu.common.enums.PluginEnum;
 import org.apache.shenyu.plugin.api.ShenyuPluginChain;
 import org.apache.shenyu.plugin.base.AbstractShenyuPlugin;
+import org.apache.shenyu.plugin.base.utils.CacheKeyUtils;
+import org.apache.shenyu.plugin.logging.accesslog.AccessLog;
+import org.apache.shenyu.plugin.logging.accesslog.AccessLogCollector;
+import org.apache.shenyu.plugin.logging.handler.LoggingPluginDataHandler;
 import org.reactivestreams.Publisher;
 import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.server.reactive.ServerHttpRequest;
 import org.springframework.http.server.reactive.ServerHttpRequestDecorator;
 import org.springframework.http.server.reactive.ServerHttpResponse;
 import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
-import org.springframework.util.MultiValueMap;
 import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.util.annotation.NonNull;
 
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
-import java.nio.ByteBuffer;
-import java.nio.channels.Channels;
-import java.nio.channels.WritableByteChannel;
+import java.net.InetSocketAddress;
 import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
-import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
- * Shenyu logging plugin. it can print request info(include request headers, request params, request body ...etc) and
- * response info(include response headers and response body).
+ * Shenyu logging plugin. it records the access log(include request headers, request body, response status,
+ * response headers and response body) of the sampled requests, and hands it to the {@link AccessLogCollector}.
  */
-@Slf4j
 public class LoggingPlugin extends AbstractShenyuPlugin {
-    
+
+    private static final LoggingHandle DEFAULT_HANDLE = new LoggingHandle();
+
+    private final AccessLogCollector collector;
+
+    /**
+     * Instantiates a new Logging plugin.
+     *
+     * @param collector the access log collector
+     */
+    public LoggingPlugin(final AccessLogCollector collector) {
+        this.collector = collector;
+    }
+
     @Override
     protected Mono<Void> doExecute(final ServerWebExchange exchange, final ShenyuPluginChain chain, final SelectorData selector, final RuleData rule) {
+        LoggingHandle handle = Objects.isNull(rule) ? null : LoggingPluginDataHandler.CACHED_HANDLE.get().obtainHandle(CacheKeyUtils.INST.getKey(rule));
+        if (Objects.isNull(handle)) {
+            handle = DEFAULT_HANDLE;
+        }
+        if (handle.getSampleRate() < 1D && ThreadLocalRandom.current().nextDouble() >= handle.getSampleRate()) {
+            return chain.execute(exchange);
+        }
+        long start = System.currentTimeMillis();
         ServerHttpRequest request = exchange.getRequest();
-        StringBuilder requestInfo = new StringBuilder("Print Request Info: ").append(System.lineSeparator());
-        requestInfo.append(getRequestUri(request)).append(getRequestMethod(request)).append(System.lineSeparator())
-                .append(getRequestHeaders(request)).append(System.lineSeparator())
-                .append(getQueryParams(request)).append(System.lineSeparator());
-        return chain.execute(exchange.mutate().request(new LoggingServerHttpRequest(request, requestInfo))
-                .response(new LoggingServerHttpResponse(exchange.getResponse(), requestInfo)).build());
+        AccessLog accessLog = new AccessLog();
+        accessLog.setTimestamp(start);
+        accessLog.setMethod(request.getMethodValue());
+        accessLog.setUri(request.getURI().toString());
+        InetSocketAddress remoteAddress = request.getRemoteAddress();
+        accessLog.setRemoteAddress(Objects.isNull(remoteAddress) ? null : remoteAddress.getHostString());
+        accessLog.setRequestHeaders(getHeaders(request.getHeaders()));
+        LoggingServerHttpRequest loggingRequest = new LoggingServerHttpRequest(request, new BodyWriter(handle.getMaxBodySize()));
+        LoggingServerHttpResponse loggingResponse = new LoggingServerHttpResponse(exchange.getResponse(), new BodyWriter(handle.getMaxBodySize()));
+        return chain.execute(exchange.mutate().request(loggingRequest).response(loggingResponse).build())
+                .doFinally(signal -> {
+                    ServerHttpResponse response = exchange.getResponse();
+                    HttpStatus status = response.getStatusCode();
+                    accessLog.setStatus(Objects.isNull(status) ? null : status.value());
+                    accessLog.setResponseHeaders(getHeaders(response.getHeaders()));
+                    accessLog.setRequestBody(loggingRequest.writer.output());
+                    accessLog.setResponseBody(loggingResponse.writer.output());
+                    accessLog.setCostMillis(System.currentTimeMillis() - start);
+                    collector.collect(accessLog);
+                });
     }
     
     @Override
@@ -81,160 +117,79 @@ public class LoggingPlugin extends AbstractShenyuPlugin {
         return false;
     }
     
-    private String getRequestMethod(final ServerHttpRequest request) {
-        return "Request Method: " + request.getMethod() + System.lineSeparator();
-    }
-    
-    private String getRequestUri(final ServerHttpRequest request) {
-        return "Request Uri: " + request.getURI() + System.lineSeparator();
-    }
-    
-    private String getQueryParams(final ServerHttpRequest request) {
-        MultiValueMap<String, String> params = request.getQueryParams();
-        StringBuilder logInfo = new StringBuilder();
-        if (!params.isEmpty()) {
-            logInfo.append("[Query Params Start]").append(System.lineSeparator());
-            params.forEach((key, value) -> logInfo.append(key).append(":").append(StringUtils.join(value, ",")).append(System.lineSeparator()));
-            logInfo.append("[Query Params End]").append(System.lineSeparator());
+    private Map<String, String> getHeaders(final HttpHeaders headers) {
+        Map<String, String> result = new LinkedHashMap<>(headers.size());
+        for (Map.Entry<String, List<String>> entry : headers.entrySet()) {
+            result.put(entry.getKey(), StringUtils.join(entry.getValue(), ","));
         }
-        return logInfo.toString();
-    }
-    
-    private String getRequestHeaders(final ServerHttpRequest request) {
-        HttpHeaders headers = request.getHeaders();
-        final StringBuilder logInfo = new StringBuilder();
-        if (!headers.isEmpty()) {
-            logInfo.append("[Request Headers Start]").append(System.lineSeparator());
-            logInfo.append(getHeaders(headers));
-            logInfo.append("[Request Headers End]").append(System.lineSeparator());
-        }
-        return logInfo.toString();
-    }
-    
-    private void print(final String info) {
-        log.info(info);
-    }
-    
-    private String getHeaders(final HttpHeaders headers) {
-        StringBuilder sb = new StringBuilder();
-        Set<Map.Entry<String, List<String>>> entrySet = headers.entrySet();
-        for (Map.Entry<String, List<String>> entry : entrySet) {
-            String key = entry.getKey();
-            List<String> value = entry.getValue();
-            sb.append(key).append(": ").append(StringUtils.join(value, ",")).append(System.lineSeparator());
-        }
-        return sb.toString();
+        return result;
     }
     
     static class LoggingServerHttpRequest extends ServerHttpRequestDecorator {
 
-        private final StringBuilder logInfo;
+        private final BodyWriter writer;
 
-        LoggingServerHttpRequest(final ServerHttpRequest delegate, final StringBuilder logInfo) {
+        LoggingServerHttpRequest(final ServerHttpRequest delegate, final BodyWriter writer) {
             super(delegate);
-            this.logInfo = logInfo;
+            this.writer = writer;
         }
 
         @Override
         @NonNull
         public Flux<DataBuffer> getBody() {
-            BodyWriter writer = new BodyWriter();
-            return super.getBody().doOnNext(dataBuffer -> writer.write(dataBuffer.asByteBuffer().asReadOnlyBuffer())).doFinally(signal -> {
-                if (!writer.isEmpty()) {
-                    logInfo.append("[Request Body Start]").append(System.lineSeparator());
-                    logInfo.append(writer.output()).append(System.lineSeparator());
-                    logInfo.append("[Request Body End]").append(System.lineSeparator());
-                } else {
-                    // close writer when output.
-                    writer.output();
-                }
-            });
+            return super.getBody().doOnNext(writer::write);
         }
     }
 
-    class LoggingServerHttpResponse extends ServerHttpResponseDecorator {
+    static class LoggingServerHttpResponse extends ServerHttpResponseDecorator {
 
-        private final StringBuilder logInfo;
+        private final BodyWriter writer;
 
-        private final ServerHttpResponse serverHttpResponse;
-
-        LoggingServerHttpResponse(final ServerHttpResponse delegate, final StringBuilder logInfo) {
+        LoggingServerHttpResponse(final ServerHttpResponse delegate, final BodyWriter writer) {
             super(delegate);
-            this.logInfo = logInfo;
-            this.serverHttpResponse = delegate;
-            this.logInfo.append(System.lineSeparator());
+            this.writer = writer;
         }
 
         @Override
         @NonNull
         public Mono<Void> writeWith(@NonNull final Publisher<? extends DataBuffer> body) {
-            return super.writeWith(appendResponse(body));
-        }
-
-        @NonNull
-        private Flux<? extends DataBuffer> appendResponse(final Publisher<? extends DataBuffer> body) {
-            logInfo.append(System.lineSeparator());
-            logInfo.append("Response Code: ").append(this.serverHttpResponse.getStatusCode()).append(System.lineSeparator());
-            logInfo.append(getResponseHeaders()).append(System.lineSeparator());
-            BodyWriter writer = new BodyWriter();
-            return Flux.from(body).doOnNext(buffer -> writer.write(buffer.asByteBuffer().asReadOnlyBuffer())).doFinally(signal -> {
-                logInfo.append("[Response Body Start]").append(System.lineSeparator());
-                logInfo.append(writer.output()).append(System.lineSeparator());
-                logInfo.append("[Response Body End]").append(System.lineSeparator());
-                // when response, print all request info.
-                print(logInfo.toString());
-            });
-        }
-
-        private String getResponseHeaders() {
-            return System.lineSeparator() + "[Response Headers Start]" + System.lineSeparator()
-                + LoggingPlugin.this.getHeaders(serverHttpResponse.getHeaders())
-                + "[Response Headers End]" + System.lineSeparator();
+            return super.writeWith(Flux.from(body).doOnNext(writer::write));
         }
     }
 
+    /**
+     * Capture the first bytes of a body, the rest of the body is not copied.
+     */
     static class BodyWriter {
 
-        private final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        private static final int INITIAL_SIZE = 256;
 
-        private final WritableByteChannel channel = Channels.newChannel(stream);
+        private final int maxSize;
 
-        private final AtomicBoolean isClosed = new AtomicBoolean(false);
+        private byte[] bytes;
 
-        void write(final ByteBuffer buffer) {
-            if (!isClosed.get()) {
-                try {
-                    channel.write(buffer);
-                } catch (IOException e) {
-                    isClosed.compareAndSet(false, true);
-                    log.error("Parse Failed.", e);
-                }
-            }
+        private int length;
+
+        BodyWriter(final int maxSize) {
+            this.maxSize = Math.max(maxSize, 0);
         }
 
-        boolean isEmpty() {
-            return stream.size() == 0;
+        void write(final DataBuffer buffer) {
+            int size = Math.min(maxSize - length, buffer.readableByteCount());
+            if (size <= 0) {
+                return;
+            }
+            if (Objects.isNull(bytes)) {
+                bytes = new byte[Math.min(maxSize, Math.max(INITIAL_SIZE, size))];
+            } else if (bytes.length < length + size) {
+                bytes = Arrays.copyOf(bytes, Math.min(maxSize, Math.max(bytes.length << 1, length + size)));
+            }
+            buffer.asByteBuffer(buffer.readPosition(), size).get(bytes, length, size);
+            length += size;
         }
 
         String output() {
-            try {
-                isClosed.compareAndSet(false, true);
-                return new String(stream.toByteArray(), StandardCharsets.UTF_8);
-            } catch (Exception e) {
-                log.error("Write failed: ", e);
-                return "Write failed: " + e.getMessage();
-            } finally {
-                try {
-                    stream.close();
-                } catch (IOException e) {
-                    log.error("Close stream error: ", e);
-                }
-                try {
-                    channel.close();
-                } catch (IOException e) {
-                    log.error("Close channel error: ", e);
-                }
-            }
+            return length == 0 ? null : new String(bytes, 0, length, StandardCharsets.UTF_8);
         }
     }
 }
@@ -0,0 +1,49 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.logging.accesslog;
+
+import lombok.Data;
+
+import java.util.Map;
+
+/**
+ * The access log record of one request.
+ */
+@Data
+public class AccessLog {
+
+    private long timestamp;
+
+    private String method;
+
+    private String uri;
+
+    private String remoteAddress;
+
+    private Map<String, String> requestHeaders;
+
+    private String requestBody;
+
+    private Integer status;
+
+    private Map<String, String> responseHeaders;
+
+    private String responseBody;
+
+    private long costMillis;
+}
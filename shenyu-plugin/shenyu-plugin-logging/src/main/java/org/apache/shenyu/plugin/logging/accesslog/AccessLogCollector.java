@@ -0,0 +1,146 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.logging.accesslog;
+
+import com.lmax.disruptor.EventHandler;
+import com.lmax.disruptor.EventTranslatorOneArg;
+import com.lmax.disruptor.RingBuffer;
+import com.lmax.disruptor.SleepingWaitStrategy;
+import com.lmax.disruptor.TimeoutException;
+import com.lmax.disruptor.dsl.Disruptor;
+import com.lmax.disruptor.dsl.ProducerType;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shenyu.disruptor.event.DataEvent;
+import org.apache.shenyu.disruptor.event.DisruptorEventFactory;
+import org.apache.shenyu.disruptor.thread.DisruptorThreadFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Collect the access logs into a ring buffer, which is drained in batches by a single background writer.
+ *
+ * <p>Publishing never blocks the caller, the record is dropped when the ring buffer is full.
+ */
+@Slf4j
+public class AccessLogCollector implements AutoCloseable {
+
+    public static final int DEFAULT_BUFFER_SIZE = 4096;
+
+    public static final int DEFAULT_BATCH_SIZE = 128;
+
+    private static final EventTranslatorOneArg<DataEvent<AccessLog>, AccessLog> TRANSLATOR = (event, sequence, accessLog) -> event.setData(accessLog);
+
+    private final Disruptor<DataEvent<AccessLog>> disruptor;
+
+    private final RingBuffer<DataEvent<AccessLog>> ringBuffer;
+
+    private final AtomicLong dropped = new AtomicLong();
+
+    /**
+     * Instantiates a new Access log collector.
+     *
+     * @param sink the sink
+     */
+    public AccessLogCollector(final AccessLogSink sink) {
+        this(sink, DEFAULT_BUFFER_SIZE, DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * Instantiates a new Access log collector.
+     *
+     * @param sink       the sink
+     * @param bufferSize the ring buffer size, must be a power of 2
+     * @param batchSize  the max logs of one write
+     */
+    public AccessLogCollector(final AccessLogSink sink, final int bufferSize, final int batchSize) {
+        // the sleeping wait strategy keeps the publishing event loop free of locks
+        this.disruptor = new Disruptor<>(new DisruptorEventFactory<>(), bufferSize,
+                DisruptorThreadFactory.create("shenyu_access_log", true), ProducerType.MULTI, new SleepingWaitStrategy());
+        this.disruptor.handleEventsWith(new BatchEventHandler(sink, batchSize));
+        this.ringBuffer = disruptor.start();
+    }
+
+    /**
+     * Collect the access log.
+     *
+     * @param accessLog the access log
+     * @return false if the log is dropped
+     */
+    public boolean collect(final AccessLog accessLog) {
+        if (ringBuffer.tryPublishEvent(TRANSLATOR, accessLog)) {
+            return true;
+        }
+        dropped.incrementAndGet();
+        return false;
+    }
+
+    /**
+     * Gets the count of the dropped logs.
+     *
+     * @return the count
+     */
+    public long getDropped() {
+        return dropped.get();
+    }
+
+    /**
+     * Write the pending logs and stop the writer.
+     */
+    @Override
+    public void close() {
+        try {
+            disruptor.shutdown(5, TimeUnit.SECONDS);
+        } catch (TimeoutException e) {
+            log.warn("access log writer is not drained in time, {} logs are discarded", ringBuffer.getBufferSize() - ringBuffer.remainingCapacity());
+            disruptor.halt();
+        }
+    }
+
+    private static final class BatchEventHandler implements EventHandler<DataEvent<AccessLog>> {
+
+        private final AccessLogSink sink;
+
+        private final int batchSize;
+
+        private final List<AccessLog> batch;
+
+        BatchEventHandler(final AccessLogSink sink, final int batchSize) {
+            this.sink = sink;
+            this.batchSize = batchSize;
+            this.batch = new ArrayList<>(batchSize);
+        }
+
+        @Override
+        public void onEvent(final DataEvent<AccessLog> event, final long sequence, final boolean endOfBatch) {
+            batch.add(event.getData());
+            event.setData(null);
+            if (endOfBatch || batch.size() >= batchSize) {
+                try {
+                    sink.write(batch);
+                } catch (Exception e) {
+                    log.error("write access log error", e);
+                } finally {
+                    batch.clear();
+                }
+            }
+        }
+    }
+}
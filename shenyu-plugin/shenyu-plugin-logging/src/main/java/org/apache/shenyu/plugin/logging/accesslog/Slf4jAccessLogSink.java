@@ -0,0 +1,45 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.logging.accesslog;
+
+import org.apache.shenyu.common.utils.JsonUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+
+/**
+ * Write the access logs as json lines to the {@value #LOGGER_NAME} logger,
+ * which is usually bound to a rolling file appender.
+ */
+public class Slf4jAccessLogSink implements AccessLogSink {
+
+    public static final String LOGGER_NAME = "shenyu.access";
+
+    private static final Logger ACCESS_LOG = LoggerFactory.getLogger(LOGGER_NAME);
+
+    @Override
+    public void write(final List<AccessLog> logs) {
+        if (!ACCESS_LOG.isInfoEnabled()) {
+            return;
+        }
+        for (AccessLog log : logs) {
+            ACCESS_LOG.info(JsonUtils.toJson(log));
+        }
+    }
+}
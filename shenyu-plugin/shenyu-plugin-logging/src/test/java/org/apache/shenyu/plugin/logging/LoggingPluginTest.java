@@ -18,15 +18,23 @@
 package org.apache.shenyu.plugin.logging;
 
 import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
 import org.apache.shenyu.common.dto.RuleData;
 import org.apache.shenyu.common.dto.SelectorData;
+import org.apache.shenyu.common.dto.convert.LoggingHandle;
 import org.apache.shenyu.common.enums.PluginEnum;
 import org.apache.shenyu.plugin.api.ShenyuPluginChain;
+import org.apache.shenyu.plugin.base.utils.CacheKeyUtils;
+import org.apache.shenyu.plugin.logging.accesslog.AccessLog;
+import org.apache.shenyu.plugin.logging.accesslog.AccessLogCollector;
+import org.apache.shenyu.plugin.logging.handler.LoggingPluginDataHandler;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
 import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
 import org.springframework.mock.web.server.MockServerWebExchange;
 import org.springframework.web.server.ServerWebExchange;
@@ -35,7 +43,9 @@ import reactor.test.StepVerifier;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 /**
@@ -54,9 +64,12 @@ public final class LoggingPluginTest {
 
     private SelectorData selectorData;
 
+    private AccessLogCollector collector;
+
     @Before
     public void setUp() {
-        this.loggingPlugin = new LoggingPlugin();
+        this.collector = mock(AccessLogCollector.class);
+        this.loggingPlugin = new LoggingPlugin(collector);
         this.ruleData = mock(RuleData.class);
         this.chain = mock(ShenyuPluginChain.class);
         this.selectorData = mock(SelectorData.class);
@@ -81,6 +94,45 @@ public final class LoggingPluginTest {
         // Sorry, I do not how to mock this case by an simply way, so I give up.
 
         StepVerifier.create(result).expectSubscription().verifyComplete();
+        verify(collector).collect(any(AccessLog.class));
+    }
+
+    @Test
+    public void testDoExecuteCapBody() {
+        RuleData rule = new RuleData();
+        rule.setSelectorId("selector");
+        rule.setName("cap");
+        LoggingHandle handle = new LoggingHandle();
+        handle.setMaxBodySize(4);
+        LoggingPluginDataHandler.CACHED_HANDLE.get().cachedHandle(CacheKeyUtils.INST.getKey(rule), handle);
+        MockServerWebExchange postExchange = MockServerWebExchange.from(MockServerHttpRequest.post("localhost").body("request body"));
+        when(chain.execute(any())).thenAnswer(invocation -> {
+            ServerWebExchange mutated = invocation.getArgument(0);
+            DefaultDataBufferFactory factory = new DefaultDataBufferFactory();
+            return mutated.getRequest().getBody().then(mutated.getResponse()
+                    .writeWith(Mono.just(factory.wrap("response body".getBytes(StandardCharsets.UTF_8)))));
+        });
+        StepVerifier.create(loggingPlugin.doExecute(postExchange, chain, selectorData, rule)).expectSubscription().verifyComplete();
+        ArgumentCaptor<AccessLog> captor = ArgumentCaptor.forClass(AccessLog.class);
+        verify(collector).collect(captor.capture());
+        Assert.assertEquals("requ", captor.getValue().getRequestBody());
+        Assert.assertEquals("resp", captor.getValue().getResponseBody());
+        Assert.assertEquals("POST", captor.getValue().getMethod());
+        LoggingPluginDataHandler.CACHED_HANDLE.get().removeHandle(CacheKeyUtils.INST.getKey(rule));
+    }
+
+    @Test
+    public void testDoExecuteNotSampled() {
+        RuleData rule = new RuleData();
+        rule.setSelectorId("selector");
+        rule.setName("sample");
+        LoggingHandle handle = new LoggingHandle();
+        handle.setSampleRate(0D);
+        LoggingPluginDataHandler.CACHED_HANDLE.get().cachedHandle(CacheKeyUtils.INST.getKey(rule), handle);
+        when(chain.execute(exchange)).thenReturn(Mono.empty());
+        StepVerifier.create(loggingPlugin.doExecute(exchange, chain, selectorData, rule)).expectSubscription().verifyComplete();
+        verify(collector, never()).collect(any());
+        LoggingPluginDataHandler.CACHED_HANDLE.get().removeHandle(CacheKeyUtils.INST.getKey(rule));
     }
 
     @Test
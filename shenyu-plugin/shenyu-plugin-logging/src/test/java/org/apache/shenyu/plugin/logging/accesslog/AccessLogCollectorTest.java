@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.logging.accesslog;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test case for {@link AccessLogCollector}.
+ */
+public final class AccessLogCollectorTest {
+
+    @Test
+    public void testCollect() throws InterruptedException {
+        List<String> uris = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch latch = new CountDownLatch(10);
+        AccessLogCollector collector = new AccessLogCollector(logs -> logs.forEach(log -> {
+            uris.add(log.getUri());
+            latch.countDown();
+        }), 16, 4);
+        for (int i = 0; i < 10; i++) {
+            AccessLog log = new AccessLog();
+            log.setUri("/" + i);
+            assertTrue(collector.collect(log));
+        }
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        collector.close();
+        assertEquals(10, uris.size());
+        assertEquals("/0", uris.get(0));
+        assertEquals("/9", uris.get(9));
+    }
+
+    @Test
+    public void testDropWhenFull() throws InterruptedException {
+        CountDownLatch blocked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AccessLogCollector collector = new AccessLogCollector(logs -> {
+            blocked.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }, 2, 1);
+        assertTrue(collector.collect(new AccessLog()));
+        assertTrue(blocked.await(5, TimeUnit.SECONDS));
+        assertTrue(collector.collect(new AccessLog()));
+        assertFalse(collector.collect(new AccessLog()));
+        assertEquals(1, collector.getDropped());
+        release.countDown();
+        collector.close();
+    }
+}
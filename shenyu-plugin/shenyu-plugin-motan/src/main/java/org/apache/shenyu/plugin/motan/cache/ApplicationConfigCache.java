@@ -38,6 +38,8 @@ import org.apache.shenyu.plugin.motan.util.PrxInfoUtil;
 
 import java.lang.reflect.Field;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 
@@ -167,8 +169,8 @@ public final class ApplicationConfigCache {
                         Pair<String, String> pair = methodInfo.getParams().get(i);
                         paramTypes[i] = PrxInfoUtil.getParamClass(pair.getKey());
                         paramNames[i] = pair.getValue();
-                        PARAM_MAP.put(methodInfo.getMethodName(), new MotanParamInfo(paramTypes, paramNames));
                     }
+                    PARAM_MAP.put(methodInfo.getMethodName(), new MotanParamInfo(paramTypes, paramNames));
                 } catch (Exception e) {
                     log.error("failed to init motan, {}", e.getMessage());
                 }
@@ -245,5 +247,20 @@ public final class ApplicationConfigCache {
         private Class<?>[] paramTypes;
 
         private String[] paramNames;
+
+        /**
+         * Resolve the call arguments from the parsed body, a missing parameter is passed as null.
+         *
+         * @param bodyMap the body map
+         * @return the arguments
+         */
+        public Object[] resolveArgs(final Map<String, Object> bodyMap) {
+            Object[] args = new Object[paramNames.length];
+            for (int i = 0; i < paramNames.length; i++) {
+                Object value = bodyMap.get(paramNames[i]);
+                args[i] = Objects.isNull(value) ? null : value.toString();
+            }
+            return args;
+        }
     }
 }
@@ -26,14 +26,12 @@ import org.apache.shenyu.common.constant.Constants;
 import org.apache.shenyu.common.dto.MetaData;
 import org.apache.shenyu.common.enums.ResultEnum;
 import org.apache.shenyu.common.exception.ShenyuException;
-import org.apache.shenyu.common.utils.GsonUtils;
+import org.apache.shenyu.plugin.api.param.CachedRequestBody;
 import org.apache.shenyu.plugin.motan.cache.ApplicationConfigCache;
 import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Mono;
 
-import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.CompletableFuture;
 
 /**
  * Motan proxy service.
@@ -50,7 +48,7 @@ public class MotanProxyService {
      * @throws ShenyuException the shenyu exception
      */
     @SneakyThrows
-    public Mono<Object> genericInvoker(final String body, final MetaData metaData, final ServerWebExchange exchange) throws ShenyuException {
+    public Mono<Object> genericInvoker(final CachedRequestBody body, final MetaData metaData, final ServerWebExchange exchange) throws ShenyuException {
         RefererConfig<CommonHandler> reference = ApplicationConfigCache.getInstance().get(metaData.getPath());
         if (Objects.isNull(reference) || StringUtils.isEmpty(reference.getServiceInterface())) {
             ApplicationConfigCache.getInstance().invalidate(metaData.getPath());
@@ -58,28 +56,24 @@ public class MotanProxyService {
         }
         CommonHandler commonHandler = reference.getRef();
         ApplicationConfigCache.MotanParamInfo motanParamInfo = ApplicationConfigCache.PARAM_MAP.get(metaData.getMethodName());
-        Object[] params;
-        if (motanParamInfo == null) {
-            params = new Object[0];
-        } else {
-            int num = motanParamInfo.getParamTypes().length;
-            params = new Object[num];
-            for (int i = 0; i < num; i++) {
-                Map<String, Object> bodyMap = GsonUtils.getInstance().convertToMap(body);
-                params[i] = bodyMap.get(motanParamInfo.getParamNames()[i]).toString();
-            }
-        }
+        Object[] params = Objects.isNull(motanParamInfo) ? new Object[0] : motanParamInfo.resolveArgs(body.asMap());
         ResponseFuture responseFuture = (ResponseFuture) commonHandler.asyncCall(metaData.getMethodName(),
                 params, Object.class);
-        CompletableFuture<Object> future = CompletableFuture.supplyAsync(() -> responseFuture.getValue());
-        return Mono.fromFuture(future.thenApply(ret -> {
-            if (Objects.isNull(ret)) {
-                ret = Constants.MOTAN_RPC_RESULT_EMPTY;
-            }
+        // the mono is completed by the motan callback, no thread waits on the response
+        return Mono.create(sink -> {
+            sink.onCancel(responseFuture::cancel);
+            responseFuture.addListener(future -> {
+                if (future.isSuccess()) {
+                    Object ret = future.getValue();
+                    sink.success(Objects.isNull(ret) ? Constants.MOTAN_RPC_RESULT_EMPTY : ret);
+                } else {
+                    sink.error(future.getException());
+                }
+            });
+        }).doOnNext(ret -> {
             exchange.getAttributes().put(Constants.MOTAN_RPC_RESULT, ret);
             exchange.getAttributes().put(Constants.CLIENT_RESPONSE_RESULT_TYPE, ResultEnum.SUCCESS.getName());
-            return ret;
-        })).onErrorMap(ShenyuException::new);
+        }).onErrorMap(ShenyuException::new);
     }
 
 //    private GenericMessage buildGenericMessage(String name, Map<String, Object> map) {
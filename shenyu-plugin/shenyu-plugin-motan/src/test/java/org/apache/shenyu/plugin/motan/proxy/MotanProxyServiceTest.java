@@ -0,0 +1,151 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.motan.proxy;
+
+import com.google.common.cache.LoadingCache;
+import com.weibo.api.motan.config.RefererConfig;
+import com.weibo.api.motan.proxy.CommonHandler;
+import com.weibo.api.motan.rpc.FutureListener;
+import com.weibo.api.motan.rpc.ResponseFuture;
+import lombok.SneakyThrows;
+import org.apache.shenyu.common.constant.Constants;
+import org.apache.shenyu.common.dto.MetaData;
+import org.apache.shenyu.common.enums.RpcTypeEnum;
+import org.apache.shenyu.common.exception.ShenyuException;
+import org.apache.shenyu.plugin.api.param.CachedRequestBody;
+import org.apache.shenyu.plugin.motan.cache.ApplicationConfigCache;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.lang.reflect.Field;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test case for {@link MotanProxyService}.
+ */
+@RunWith(MockitoJUnitRunner.class)
+public final class MotanProxyServiceTest {
+
+    private static final String PATH = "/motan/findAll";
+
+    private static final String METHOD_NAME = "findAll";
+
+    private MetaData metaData;
+
+    private ServerWebExchange exchange;
+
+    private ResponseFuture responseFuture;
+
+    @Before
+    public void setUp() throws NoSuchFieldException, IllegalAccessException {
+        exchange = MockServerWebExchange.from(MockServerHttpRequest.get("localhost").build());
+        metaData = new MetaData();
+        metaData.setId("1332017966661636096");
+        metaData.setAppName("motan");
+        metaData.setPath(PATH);
+        metaData.setServiceName("org.apache.shenyu.test.motan.api.service.MotanTestService");
+        metaData.setMethodName(METHOD_NAME);
+        metaData.setRpcType(RpcTypeEnum.MOTAN.getName());
+        responseFuture = mock(ResponseFuture.class);
+        CommonHandler commonHandler = mockCommonHandler();
+        RefererConfig<CommonHandler> refererConfig = mock(RefererConfig.class);
+        when(refererConfig.getServiceInterface()).thenReturn(metaData.getServiceName());
+        when(refererConfig.getRef()).thenReturn(commonHandler);
+        Field field = ApplicationConfigCache.class.getDeclaredField("cache");
+        field.setAccessible(true);
+        ((LoadingCache) field.get(ApplicationConfigCache.getInstance())).put(PATH, refererConfig);
+    }
+
+    @After
+    public void tearDown() {
+        ApplicationConfigCache.getInstance().invalidateAll();
+    }
+
+    @Test
+    public void testSuccess() {
+        Mono<Object> result = new MotanProxyService().genericInvoker(CachedRequestBody.of(""), metaData, exchange);
+        StepVerifier.create(result)
+                .then(() -> complete(true, "success", null))
+                .expectNext("success")
+                .verifyComplete();
+        assertEquals("success", exchange.getAttributes().get(Constants.MOTAN_RPC_RESULT));
+    }
+
+    @Test
+    public void testEmptyResult() {
+        Mono<Object> result = new MotanProxyService().genericInvoker(CachedRequestBody.of(""), metaData, exchange);
+        StepVerifier.create(result)
+                .then(() -> complete(true, null, null))
+                .expectNext(Constants.MOTAN_RPC_RESULT_EMPTY)
+                .verifyComplete();
+    }
+
+    @Test
+    public void testException() {
+        Mono<Object> result = new MotanProxyService().genericInvoker(CachedRequestBody.of(""), metaData, exchange);
+        StepVerifier.create(result)
+                .then(() -> complete(false, null, new IllegalStateException("motan error")))
+                .expectErrorMatches(e -> e instanceof ShenyuException && e.getCause() instanceof IllegalStateException)
+                .verify();
+        assertFalse(exchange.getAttributes().containsKey(Constants.MOTAN_RPC_RESULT));
+    }
+
+    @Test
+    public void testCancel() {
+        Mono<Object> result = new MotanProxyService().genericInvoker(CachedRequestBody.of(""), metaData, exchange);
+        Disposable disposable = result.subscribe();
+        disposable.dispose();
+        verify(responseFuture).cancel();
+        complete(true, "late", null);
+        assertFalse(exchange.getAttributes().containsKey(Constants.MOTAN_RPC_RESULT));
+    }
+
+    @SneakyThrows
+    private CommonHandler mockCommonHandler() {
+        CommonHandler commonHandler = mock(CommonHandler.class);
+        when(commonHandler.asyncCall(eq(METHOD_NAME), any(Object[].class), eq(Object.class))).thenReturn(responseFuture);
+        return commonHandler;
+    }
+
+    @SneakyThrows
+    private void complete(final boolean success, final Object value, final Exception exception) {
+        ArgumentCaptor<FutureListener> listener = ArgumentCaptor.forClass(FutureListener.class);
+        verify(responseFuture).addListener(listener.capture());
+        when(responseFuture.isSuccess()).thenReturn(success);
+        when(responseFuture.getValue()).thenReturn(value);
+        when(responseFuture.getException()).thenReturn(exception);
+        listener.getValue().operationComplete(responseFuture);
+    }
+}
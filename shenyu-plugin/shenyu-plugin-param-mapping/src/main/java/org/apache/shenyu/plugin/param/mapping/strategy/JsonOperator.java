@@ -17,9 +17,15 @@
 
 package org.apache.shenyu.plugin.param.mapping.strategy;
 
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.shenyu.common.dto.convert.rule.impl.ParamMappingHandle;
 import org.apache.shenyu.plugin.api.ShenyuPluginChain;
+import org.apache.shenyu.plugin.api.result.ShenyuResultEnum;
+import org.apache.shenyu.plugin.api.result.ShenyuResultWrap;
+import org.apache.shenyu.plugin.api.utils.WebFluxResultUtils;
 import org.apache.shenyu.plugin.base.support.BodyInserterContext;
 import org.apache.shenyu.plugin.base.support.CachedBodyOutputMessage;
 import org.springframework.core.io.buffer.DataBuffer;
@@ -36,6 +42,8 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.function.Function;
 
 /**
@@ -44,13 +52,53 @@ import java.util.function.Function;
 @Slf4j
 public class JsonOperator implements Operator {
 
+    /**
+     * The default max bytes of a json request body.
+     */
+    public static final long DEFAULT_MAX_BODY_SIZE = 10 * 1024 * 1024;
+
     private static final List<HttpMessageReader<?>> MESSAGE_READERS = HandlerStrategies.builder().build().messageReaders();
 
+    private final long maxBodySize;
+
+    /**
+     * the mappers compiled per rule handle, keyed by the instance the rule handle cache holds so an updated rule compiles again.
+     */
+    private final LoadingCache<ParamMappingHandle, Optional<JsonStreamMapper>> mappers = CacheBuilder.newBuilder().weakKeys()
+            .build(CacheLoader.from(handle -> Optional.ofNullable(JsonStreamMapper.compile(handle))));
+
+    public JsonOperator() {
+        this(DEFAULT_MAX_BODY_SIZE);
+    }
+
+    public JsonOperator(final long maxBodySize) {
+        this.maxBodySize = maxBodySize;
+    }
+
     @Override
     public Mono<Void> apply(final ServerWebExchange exchange, final ShenyuPluginChain shenyuPluginChain, final ParamMappingHandle paramMappingHandle) {
+        if (exchange.getRequest().getHeaders().getContentLength() > maxBodySize) {
+            log.error("param mapping request entity is too large");
+            Object error = ShenyuResultWrap.error(ShenyuResultEnum.REQUEST_ENTITY_TOO_LARGE.getCode(), ShenyuResultEnum.REQUEST_ENTITY_TOO_LARGE.getMsg(), null);
+            return WebFluxResultUtils.result(exchange, error);
+        }
+        JsonStreamMapper mapper = mappers.getUnchecked(paramMappingHandle).orElse(null);
+        if (Objects.isNull(mapper)) {
+            return applyJsonPath(exchange, shenyuPluginChain, paramMappingHandle);
+        }
+        HttpHeaders headers = new HttpHeaders();
+        headers.putAll(exchange.getRequest().getHeaders());
+        headers.remove(HttpHeaders.CONTENT_LENGTH);
+        ServerHttpRequest request = exchange.getRequest();
+        Flux<DataBuffer> body = mapper.map(request.getBody(), exchange.getResponse().bufferFactory(), maxBodySize);
+        ServerHttpRequestDecorator decorator = new StreamingServerHttpRequestDecorator(headers, request, body);
+        return shenyuPluginChain.execute(exchange.mutate().request(decorator).build());
+    }
+
+    private Mono<Void> applyJsonPath(final ServerWebExchange exchange, final ShenyuPluginChain shenyuPluginChain, final ParamMappingHandle paramMappingHandle) {
         ServerRequest serverRequest = ServerRequest.create(exchange, MESSAGE_READERS);
         Mono<String> mono = serverRequest.bodyToMono(String.class).switchIfEmpty(Mono.defer(() -> Mono.just(""))).flatMap(originalBody -> {
-            log.info("get body data success data:{}", originalBody);
+            log.debug("get body data success data:{}", originalBody);
             //process entity
             String modify = operation(originalBody, paramMappingHandle);
             return Mono.just(modify);
@@ -67,6 +115,34 @@ public class JsonOperator implements Operator {
                 })).onErrorResume((Function<Throwable, Mono<Void>>) throwable -> release(outputMessage, throwable));
     }
 
+    static class StreamingServerHttpRequestDecorator extends ServerHttpRequestDecorator {
+
+        private final HttpHeaders headers;
+
+        private final Flux<DataBuffer> body;
+
+        StreamingServerHttpRequestDecorator(final HttpHeaders headers,
+                                            final ServerHttpRequest delegate,
+                                            final Flux<DataBuffer> body) {
+            super(delegate);
+            this.headers = headers;
+            this.body = body;
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            HttpHeaders httpHeaders = new HttpHeaders();
+            httpHeaders.putAll(headers);
+            httpHeaders.set(HttpHeaders.TRANSFER_ENCODING, "chunked");
+            return httpHeaders;
+        }
+
+        @Override
+        public Flux<DataBuffer> getBody() {
+            return body;
+        }
+    }
+
     static class ModifyServerHttpRequestDecorator extends ServerHttpRequestDecorator {
 
         private final HttpHeaders headers;
@@ -0,0 +1,583 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.param.mapping.strategy;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import org.apache.shenyu.common.dto.convert.rule.impl.ParamMappingHandle;
+import org.apache.shenyu.common.exception.ShenyuException;
+import org.apache.shenyu.common.utils.CollectionUtils;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DataBufferLimitException;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Token level json mapper, which applies the add / replace / remove operations of a
+ * {@link ParamMappingHandle} while copying the body from the input buffers to the output buffers.
+ *
+ * <p>Only plain dot paths such as {@code $} or {@code $.user.address} are supported,
+ * {@link #compile(ParamMappingHandle)} returns null for anything else so the caller can fall back to json path.
+ *
+ * <p>The result is the one of {@link Operator#operation(String, ParamMappingHandle)}, which adds, then renames, then
+ * removes: an added key overwrites the key of the body, a key renamed onto an existing key overwrites it, an add or a
+ * rename under a missing or null object is skipped. The bodies json path rejects are rejected as well, such as a rename
+ * of a missing key or a remove under a missing object. Only the order of the keys may differ, the added keys are
+ * written last. A handle whose operations depend on each other, like an add under a renamed key, is not compiled.
+ */
+public final class JsonStreamMapper {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private static final String ROOT = "$";
+
+    private static final String SEPARATOR = ".";
+
+    /**
+     * the objects on the way to the operations, keyed by path.
+     */
+    private final Map<String, PathNode> nodes;
+
+    private final Set<String> requiredPaths;
+
+    private JsonStreamMapper(final Map<String, PathNode> nodes) {
+        this.nodes = nodes;
+        this.requiredPaths = new HashSet<>();
+        nodes.forEach((path, node) -> {
+            if (node.required) {
+                requiredPaths.add(path);
+            }
+        });
+    }
+
+    /**
+     * Compile the handle into a streaming mapper.
+     *
+     * @param paramMappingHandle handle
+     * @return the mapper, or null when the handle uses json path features that can not be streamed
+     */
+    public static JsonStreamMapper compile(final ParamMappingHandle paramMappingHandle) {
+        Map<String, ObjectOperation.Builder> builders = new LinkedHashMap<>();
+        if (!CollectionUtils.isEmpty(paramMappingHandle.getAddParameterKeys())) {
+            for (ParamMappingHandle.ParamMapInfo info : paramMappingHandle.getAddParameterKeys()) {
+                if (!isSimplePath(info.getPath()) || Objects.isNull(info.getKey())) {
+                    return null;
+                }
+                builders.computeIfAbsent(info.getPath(), k -> new ObjectOperation.Builder()).add(info.getKey(), info.getValue());
+            }
+        }
+        if (!CollectionUtils.isEmpty(paramMappingHandle.getReplaceParameterKeys())) {
+            for (ParamMappingHandle.ParamMapInfo info : paramMappingHandle.getReplaceParameterKeys()) {
+                if (!isSimplePath(info.getPath()) || Objects.isNull(info.getKey()) || Objects.isNull(info.getValue())) {
+                    return null;
+                }
+                if (!builders.computeIfAbsent(info.getPath(), k -> new ObjectOperation.Builder()).rename(info.getKey(), info.getValue())) {
+                    // the key is always gone by then, json path fails
+                    return null;
+                }
+            }
+        }
+        if (!CollectionUtils.isEmpty(paramMappingHandle.getRemoveParameterKeys())) {
+            for (String path : paramMappingHandle.getRemoveParameterKeys()) {
+                int index = Objects.isNull(path) ? -1 : path.lastIndexOf(SEPARATOR);
+                if (index < 0 || !isSimplePath(path)) {
+                    return null;
+                }
+                builders.computeIfAbsent(path.substring(0, index), k -> new ObjectOperation.Builder()).remove(path.substring(index + 1));
+            }
+        }
+        if (dependsOnTouchedKey(builders)) {
+            return null;
+        }
+        Map<String, PathNode> nodes = new HashMap<>();
+        nodes.put(ROOT, new PathNode(ROOT));
+        nodes.get(ROOT).required = true;
+        builders.forEach((path, builder) -> {
+            PathNode node = node(nodes, path);
+            node.operation = builder.build();
+            // json path walks the whole way to the object, and needs the object itself to remove from it
+            node.required |= builder.hasRemoves();
+            for (String parent = parent(path); Objects.nonNull(parent); parent = parent(parent)) {
+                node(nodes, parent).required = true;
+            }
+        });
+        return new JsonStreamMapper(nodes);
+    }
+
+    /**
+     * Map the body.
+     *
+     * @param body          the original body
+     * @param bufferFactory the factory of the output buffers
+     * @param maxBodySize   the max bytes of the original body
+     * @return the mapped body
+     */
+    public Flux<DataBuffer> map(final Flux<DataBuffer> body, final DataBufferFactory bufferFactory, final long maxBodySize) {
+        return Flux.using(() -> new MappingState(bufferFactory, maxBodySize),
+            state -> body.map(state::feed).concatWith(Mono.fromCallable(state::finish)),
+            MappingState::close)
+                .doOnDiscard(DataBuffer.class, DataBufferUtils::release)
+                .filter(buffer -> {
+                    if (buffer.readableByteCount() > 0) {
+                        return true;
+                    }
+                    DataBufferUtils.release(buffer);
+                    return false;
+                });
+    }
+
+    private static boolean isSimplePath(final String path) {
+        if (Objects.isNull(path) || !path.startsWith(ROOT)) {
+            return false;
+        }
+        if (ROOT.equals(path)) {
+            return true;
+        }
+        if (!path.startsWith(ROOT + SEPARATOR) || path.endsWith(SEPARATOR)) {
+            return false;
+        }
+        for (int i = 2; i < path.length(); i++) {
+            char c = path.charAt(i);
+            if (c == '[' || c == ']' || c == '*' || c == '?' || c == '@' || c == '(' || c == '\'' || c == ' ') {
+                return false;
+            }
+            if (c == '.' && path.charAt(i - 1) == '.') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Whether an operation works on a key another operation adds, renames or removes, its result then depends on
+     * the order json path applies them in.
+     */
+    private static boolean dependsOnTouchedKey(final Map<String, ObjectOperation.Builder> builders) {
+        for (Map.Entry<String, ObjectOperation.Builder> entry : builders.entrySet()) {
+            for (String key : entry.getValue().touched.keySet()) {
+                String touchedPath = entry.getKey() + SEPARATOR + key;
+                for (String path : builders.keySet()) {
+                    if (path.equals(touchedPath) || path.startsWith(touchedPath + SEPARATOR)) {
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    private static PathNode node(final Map<String, PathNode> nodes, final String path) {
+        PathNode node = nodes.get(path);
+        if (Objects.nonNull(node)) {
+            return node;
+        }
+        node = new PathNode(path);
+        nodes.put(path, node);
+        String parent = parent(path);
+        node(nodes, parent).children.add(path.substring(parent.length() + 1));
+        return node;
+    }
+
+    private static String parent(final String path) {
+        int index = path.lastIndexOf(SEPARATOR);
+        return index < 0 ? null : path.substring(0, index);
+    }
+
+    private static final class PathNode {
+
+        private final String path;
+
+        /**
+         * the names of the fields of the object which lead to an operation.
+         */
+        private final Set<String> children = new HashSet<>();
+
+        private ObjectOperation operation;
+
+        /**
+         * whether json path fails unless the body has an object at the path.
+         */
+        private boolean required;
+
+        PathNode(final String path) {
+            this.path = path;
+        }
+    }
+
+    /**
+     * The operations on one object, resolved at compile time into what becomes of every key of the body.
+     */
+    private static final class ObjectOperation {
+
+        /**
+         * the keys of the body which are written under another name.
+         */
+        private final Map<String, String> renames;
+
+        /**
+         * the keys of the body whose value is dropped.
+         */
+        private final Set<String> skips;
+
+        private final Map<String, String> adds;
+
+        /**
+         * the keys of the body json path renames, it fails when one is missing.
+         */
+        private final Set<String> requiredKeys;
+
+        ObjectOperation(final Map<String, String> renames, final Set<String> skips, final Map<String, String> adds, final Set<String> requiredKeys) {
+            this.renames = renames;
+            this.skips = skips;
+            this.adds = adds;
+            this.requiredKeys = requiredKeys;
+        }
+
+        /**
+         * Replays the operations in the order of json path on the keys, tracking where the value of every key comes
+         * from: a key of the body, an added value, or nothing once it was renamed away or removed.
+         */
+        private static final class Builder {
+
+            private final Map<String, Source> touched = new LinkedHashMap<>();
+
+            private final Set<String> requiredKeys = new HashSet<>();
+
+            private boolean removes;
+
+            void add(final String key, final String value) {
+                touched.put(key, Source.added(value));
+            }
+
+            boolean rename(final String key, final String newKey) {
+                Source source = touched.containsKey(key) ? touched.get(key) : Source.body(key);
+                if (Objects.isNull(source)) {
+                    return false;
+                }
+                if (Objects.nonNull(source.bodyKey)) {
+                    requiredKeys.add(source.bodyKey);
+                }
+                touched.put(newKey, source);
+                touched.put(key, null);
+                return true;
+            }
+
+            void remove(final String key) {
+                touched.put(key, null);
+                removes = true;
+            }
+
+            boolean hasRemoves() {
+                return removes;
+            }
+
+            ObjectOperation build() {
+                Map<String, String> renames = new HashMap<>();
+                Map<String, String> adds = new LinkedHashMap<>();
+                touched.forEach((key, source) -> {
+                    if (Objects.isNull(source)) {
+                        return;
+                    }
+                    if (Objects.nonNull(source.bodyKey)) {
+                        renames.put(source.bodyKey, key);
+                    } else {
+                        adds.put(key, source.value);
+                    }
+                });
+                Set<String> skips = new HashSet<>(touched.keySet());
+                skips.removeAll(renames.keySet());
+                return new ObjectOperation(renames, skips, adds, new HashSet<>(requiredKeys));
+            }
+        }
+
+        private static final class Source {
+
+            private final String bodyKey;
+
+            private final String value;
+
+            private Source(final String bodyKey, final String value) {
+                this.bodyKey = bodyKey;
+                this.value = value;
+            }
+
+            static Source body(final String key) {
+                return new Source(key, null);
+            }
+
+            static Source added(final String value) {
+                return new Source(null, value);
+            }
+        }
+    }
+
+    private static final class Frame {
+
+        private final PathNode node;
+
+        private String fieldName;
+
+        private List<String> seenRequiredKeys;
+
+        Frame(final PathNode node) {
+            this.node = node;
+        }
+    }
+
+    private final class MappingState {
+
+        private final DataBufferFactory bufferFactory;
+
+        private final long maxBodySize;
+
+        private final JsonParser parser;
+
+        private final ByteArrayFeeder feeder;
+
+        private final BufferOutputStream output = new BufferOutputStream();
+
+        private final JsonGenerator generator;
+
+        private final Deque<Frame> frames = new ArrayDeque<>();
+
+        private final Set<String> missingPaths = new HashSet<>(requiredPaths);
+
+        private byte[] scratch = new byte[0];
+
+        private long total;
+
+        private boolean skipValue;
+
+        private int skipDepth;
+
+        MappingState(final DataBufferFactory bufferFactory, final long maxBodySize) throws IOException {
+            this.bufferFactory = bufferFactory;
+            this.maxBodySize = maxBodySize;
+            this.parser = JSON_FACTORY.createNonBlockingByteArrayParser();
+            this.feeder = (ByteArrayFeeder) parser.getNonBlockingInputFeeder();
+            this.generator = JSON_FACTORY.createGenerator(output).disable(JsonGenerator.Feature.AUTO_CLOSE_JSON_CONTENT);
+        }
+
+        DataBuffer feed(final DataBuffer buffer) {
+            int length = buffer.readableByteCount();
+            total += length;
+            try {
+                if (total > maxBodySize) {
+                    throw new DataBufferLimitException("Exceeded limit on max bytes to buffer : " + maxBodySize);
+                }
+                if (scratch.length < length) {
+                    scratch = new byte[length];
+                }
+                buffer.read(scratch, 0, length);
+            } finally {
+                DataBufferUtils.release(buffer);
+            }
+            output.target = bufferFactory.allocateBuffer(length);
+            try {
+                feeder.feedInput(scratch, 0, length);
+                drain();
+                return output.detach();
+            } catch (IOException e) {
+                throw new ShenyuException(e);
+            }
+        }
+
+        DataBuffer finish() {
+            output.target = bufferFactory.allocateBuffer(256);
+            try {
+                feeder.endOfInput();
+                drain();
+                if (!missingPaths.isEmpty()) {
+                    throw new ShenyuException("Missing property in path " + missingPaths.iterator().next());
+                }
+                return output.detach();
+            } catch (IOException e) {
+                throw new ShenyuException(e);
+            }
+        }
+
+        void close() {
+            DataBuffer target = output.target;
+            output.target = null;
+            if (Objects.nonNull(target)) {
+                DataBufferUtils.release(target);
+            }
+            try {
+                generator.close();
+                parser.close();
+            } catch (IOException ignored) {
+                // nothing to release
+            }
+        }
+
+        private void drain() throws IOException {
+            JsonToken token = parser.nextToken();
+            while (Objects.nonNull(token) && token != JsonToken.NOT_AVAILABLE) {
+                process(token);
+                token = parser.nextToken();
+            }
+            generator.flush();
+        }
+
+        private void process(final JsonToken token) throws IOException {
+            if (skipDepth > 0) {
+                if (token.isStructStart()) {
+                    skipDepth++;
+                } else if (token.isStructEnd()) {
+                    skipDepth--;
+                }
+                return;
+            }
+            if (skipValue) {
+                skipValue = false;
+                if (token.isStructStart()) {
+                    skipDepth = 1;
+                }
+                return;
+            }
+            switch (token) {
+                case FIELD_NAME:
+                    writeFieldName(parser.getCurrentName());
+                    return;
+                case END_OBJECT:
+                    endObject(frames.pop());
+                    return;
+                case END_ARRAY:
+                    frames.pop();
+                    generator.writeEndArray();
+                    return;
+                default:
+                    writeValue(token);
+            }
+        }
+
+        private void writeValue(final JsonToken token) throws IOException {
+            PathNode node = childNode();
+            if (Objects.nonNull(node)) {
+                if (token == JsonToken.START_OBJECT) {
+                    missingPaths.remove(node.path);
+                } else if (token != JsonToken.VALUE_NULL || node.required) {
+                    throw new ShenyuException("Expected to find an object in path " + node.path + " but found " + token);
+                }
+            }
+            if (token == JsonToken.START_OBJECT) {
+                frames.push(new Frame(node));
+                generator.writeStartObject();
+            } else if (token == JsonToken.START_ARRAY) {
+                frames.push(new Frame(null));
+                generator.writeStartArray();
+            } else {
+                generator.copyCurrentEvent(parser);
+            }
+        }
+
+        private void writeFieldName(final String name) throws IOException {
+            Frame frame = frames.peek();
+            frame.fieldName = name;
+            ObjectOperation operation = Objects.isNull(frame.node) ? null : frame.node.operation;
+            if (Objects.isNull(operation)) {
+                generator.writeFieldName(name);
+                return;
+            }
+            if (operation.requiredKeys.contains(name)) {
+                if (Objects.isNull(frame.seenRequiredKeys)) {
+                    frame.seenRequiredKeys = new ArrayList<>(operation.requiredKeys.size());
+                }
+                frame.seenRequiredKeys.add(name);
+            }
+            String rename = operation.renames.get(name);
+            if (Objects.nonNull(rename)) {
+                generator.writeFieldName(rename);
+            } else if (operation.skips.contains(name)) {
+                skipValue = true;
+            } else {
+                generator.writeFieldName(name);
+            }
+        }
+
+        private void endObject(final Frame frame) throws IOException {
+            ObjectOperation operation = Objects.isNull(frame.node) ? null : frame.node.operation;
+            if (Objects.nonNull(operation)) {
+                for (String key : operation.requiredKeys) {
+                    if (Objects.isNull(frame.seenRequiredKeys) || !frame.seenRequiredKeys.contains(key)) {
+                        throw new ShenyuException("No results for key " + key + " found in path " + frame.node.path);
+                    }
+                }
+                for (Map.Entry<String, String> entry : operation.adds.entrySet()) {
+                    generator.writeStringField(entry.getKey(), entry.getValue());
+                }
+            }
+            generator.writeEndObject();
+        }
+
+        private PathNode childNode() {
+            Frame parent = frames.peek();
+            if (Objects.isNull(parent)) {
+                return nodes.get(ROOT);
+            }
+            if (Objects.isNull(parent.node) || Objects.isNull(parent.fieldName) || !parent.node.children.contains(parent.fieldName)) {
+                return null;
+            }
+            return nodes.get(parent.node.path + SEPARATOR + parent.fieldName);
+        }
+    }
+
+    private static final class BufferOutputStream extends OutputStream {
+
+        private DataBuffer target;
+
+        @Override
+        public void write(final int b) {
+            // the pending output of an aborted body is dropped on close
+            if (Objects.nonNull(target)) {
+                target.write((byte) b);
+            }
+        }
+
+        @Override
+        public void write(final byte[] b, final int off, final int len) {
+            if (Objects.nonNull(target)) {
+                target.write(b, off, len);
+            }
+        }
+
+        DataBuffer detach() {
+            DataBuffer buffer = target;
+            target = null;
+            return buffer;
+        }
+    }
+}
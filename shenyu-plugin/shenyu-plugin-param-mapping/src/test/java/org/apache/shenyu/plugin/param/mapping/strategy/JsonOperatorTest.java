@@ -17,18 +17,24 @@
 
 package org.apache.shenyu.plugin.param.mapping.strategy;
 
+import com.google.common.cache.LoadingCache;
 import org.apache.shenyu.common.dto.convert.rule.impl.ParamMappingHandle;
 import org.apache.shenyu.plugin.api.ShenyuPluginChain;
+import org.apache.shenyu.plugin.api.result.DefaultShenyuResult;
+import org.apache.shenyu.plugin.api.result.ShenyuResult;
+import org.apache.shenyu.plugin.api.utils.SpringBeanUtils;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
 import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
 import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
@@ -37,7 +43,11 @@ import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Set;
 
+import static org.junit.Assert.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 /**
@@ -82,5 +92,25 @@ public class JsonOperatorTest {
         when(this.chain.execute(any())).thenReturn(Mono.empty());
         StepVerifier.create(jsonOperator.apply(this.exchange, this.chain, paramMappingHandle)).expectSubscription().verifyComplete();
     }
-}
 
+    @Test
+    public void testApplyCompilesOncePerHandle() {
+        when(this.chain.execute(any())).thenReturn(Mono.empty());
+        StepVerifier.create(jsonOperator.apply(this.exchange, this.chain, paramMappingHandle)).expectSubscription().verifyComplete();
+        StepVerifier.create(jsonOperator.apply(this.exchange, this.chain, paramMappingHandle)).expectSubscription().verifyComplete();
+        LoadingCache<?, ?> mappers = (LoadingCache<?, ?>) ReflectionTestUtils.getField(jsonOperator, "mappers");
+        assertEquals(1, mappers.size());
+    }
+
+    @Test
+    public void testApplyTooLarge() {
+        ConfigurableApplicationContext context = mock(ConfigurableApplicationContext.class);
+        when(context.getBean(ShenyuResult.class)).thenReturn(new DefaultShenyuResult());
+        SpringBeanUtils.getInstance().setCfgContext(context);
+        final String body = "{\"name\":\"shenyu\",\"age\":\"18\"}";
+        ServerWebExchange largeExchange = MockServerWebExchange.from(MockServerHttpRequest.method(HttpMethod.POST, "localhost")
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE).contentLength(body.length()).body(body));
+        StepVerifier.create(new JsonOperator(8).apply(largeExchange, this.chain, paramMappingHandle)).expectSubscription().verifyComplete();
+        verify(this.chain, never()).execute(any());
+    }
+}
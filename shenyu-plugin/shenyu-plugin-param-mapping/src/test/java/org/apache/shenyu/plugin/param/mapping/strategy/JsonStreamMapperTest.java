@@ -0,0 +1,205 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.param.mapping.strategy;
+
+import com.google.gson.JsonElement;
+import org.apache.shenyu.common.dto.convert.rule.impl.ParamMappingHandle;
+import org.apache.shenyu.common.utils.GsonUtils;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferLimitException;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+/**
+ * Test case for {@link JsonStreamMapper}.
+ */
+public final class JsonStreamMapperTest {
+
+    private final DefaultDataBufferFactory bufferFactory = new DefaultDataBufferFactory();
+
+    private ParamMappingHandle paramMappingHandle;
+
+    @Before
+    public void setUp() {
+        Set<String> remove = new HashSet<>();
+        remove.add("$.age");
+        remove.add("$.user.password");
+        ParamMappingHandle.ParamMapInfo add = new ParamMappingHandle.ParamMapInfo();
+        add.setPath("$");
+        add.setKey("webName");
+        add.setValue("SHENYU");
+        ParamMappingHandle.ParamMapInfo replace = new ParamMappingHandle.ParamMapInfo();
+        replace.setPath("$.user");
+        replace.setKey("name");
+        replace.setValue("realName");
+        this.paramMappingHandle = new ParamMappingHandle();
+        this.paramMappingHandle.setRemoveParameterKeys(remove);
+        this.paramMappingHandle.setAddParameterKeys(Collections.singletonList(add));
+        this.paramMappingHandle.setReplaceParameterKeys(Collections.singletonList(replace));
+    }
+
+    @Test
+    public void testMap() {
+        String body = "{\"user\":{\"name\":\"shenyu\",\"password\":{\"hash\":\"x\"},\"tags\":[{\"name\":\"a\"}]},\"age\":[1,{\"a\":2}],\"name\":\"n\"}";
+        JsonStreamMapper mapper = JsonStreamMapper.compile(paramMappingHandle);
+        assertNotNull(mapper);
+        String result = map(mapper, body, 3, Long.MAX_VALUE);
+        assertEquals("{\"user\":{\"realName\":\"shenyu\",\"tags\":[{\"name\":\"a\"}]},\"name\":\"n\",\"webName\":\"SHENYU\"}", result);
+    }
+
+    @Test
+    public void testMapOverwriteAddedKey() {
+        JsonStreamMapper mapper = JsonStreamMapper.compile(paramMappingHandle);
+        assertNotNull(mapper);
+        assertEquals("{\"user\":{\"realName\":\"a\"},\"id\":1,\"webName\":\"SHENYU\"}",
+                map(mapper, "{\"webName\":\"old\",\"user\":{\"name\":\"a\"},\"id\":1}", 5, Long.MAX_VALUE));
+    }
+
+    @Test
+    public void testMapExceedLimit() {
+        JsonStreamMapper mapper = JsonStreamMapper.compile(paramMappingHandle);
+        assertNotNull(mapper);
+        Flux<DataBuffer> result = mapper.map(split("{\"name\":\"shenyu\",\"age\":\"18\"}", 4), bufferFactory, 10);
+        StepVerifier.create(result.doOnNext(DataBufferUtils::release)).thenConsumeWhile(buffer -> true).verifyError(DataBufferLimitException.class);
+    }
+
+    @Test
+    public void testCompileComplexPath() {
+        ParamMappingHandle handle = new ParamMappingHandle();
+        handle.setRemoveParameterKeys(Collections.singleton("$.users[0].name"));
+        assertNull(JsonStreamMapper.compile(handle));
+        handle.setRemoveParameterKeys(Collections.singleton("$..name"));
+        assertNull(JsonStreamMapper.compile(handle));
+    }
+
+    @Test
+    public void testCompileDependentOperations() {
+        ParamMappingHandle handle = handle(new String[][]{{"$", "user", "x"}, {"$.user", "k", "v"}}, null);
+        assertNull(JsonStreamMapper.compile(handle));
+        handle = handle(null, new String[][]{{"$", "user", "account"}, {"$.account", "name", "realName"}});
+        assertNull(JsonStreamMapper.compile(handle));
+        handle = handle(null, new String[][]{{"$", "a", "b"}, {"$", "a", "c"}});
+        assertNull(JsonStreamMapper.compile(handle));
+    }
+
+    /**
+     * The streamed result equals the one of json path, or both fail.
+     */
+    @Test
+    public void testSameAsJsonPath() {
+        List<ParamMappingHandle> handles = new ArrayList<>();
+        handles.add(paramMappingHandle);
+        handles.add(handle(null, new String[][]{{"$", "a", "b"}}));
+        handles.add(handle(new String[][]{{"$", "b", "x"}}, new String[][]{{"$", "a", "b"}}));
+        handles.add(handle(null, new String[][]{{"$", "a", "b"}, {"$", "b", "c"}}));
+        handles.add(handle(null, new String[][]{{"$", "a", "a"}}));
+        handles.add(handle(new String[][]{{"$", "a", "x"}, {"$", "n", null}, {"$", "a", "y"}}, null));
+        handles.add(handle(new String[][]{{"$.user", "k", "v"}}, null, "$.user.k"));
+        handles.add(handle(null, null, "$.a.b.z"));
+        handles.add(handle(new String[][]{{"$.a.b", "k", "v"}}, new String[][]{{"$.a.b", "z", "y"}}));
+        handles.add(handle(new String[][]{{"$.a", "k", "v"}}, null));
+        handles.add(handle(null, new String[][]{{"$.a", "b", "y"}}, "$.c"));
+        String[] bodies = {"{\"a\":1,\"b\":2,\"c\":3}", "{\"b\":2,\"a\":1}", "{\"a\":{\"b\":{\"z\":1}}}", "{\"a\":{\"b\":null}}",
+            "{\"a\":null}", "{\"a\":[1]}", "{\"a\":{}}", "{}", "{\"user\":{\"name\":\"n\",\"password\":\"p\",\"k\":1},\"age\":3}",
+            "{\"user\":null,\"age\":3}", "{\"user\":\"u\"}", "[{\"a\":1}]", "1", ""};
+        for (ParamMappingHandle handle : handles) {
+            JsonStreamMapper mapper = JsonStreamMapper.compile(handle);
+            assertNotNull(mapper);
+            for (String body : bodies) {
+                String expected;
+                try {
+                    expected = new JsonOperator().operation(body, handle);
+                } catch (RuntimeException e) {
+                    expected = null;
+                }
+                String actual;
+                try {
+                    actual = map(mapper, body, 3, Long.MAX_VALUE);
+                } catch (RuntimeException e) {
+                    actual = null;
+                }
+                String message = handle + " on " + body + ": " + expected + " but " + actual;
+                if (Objects.isNull(expected)) {
+                    assertNull(message, actual);
+                } else {
+                    assertNotNull(message, actual);
+                    assertEquals(message, GsonUtils.getGson().fromJson(expected, JsonElement.class), GsonUtils.getGson().fromJson(actual, JsonElement.class));
+                }
+            }
+        }
+    }
+
+    private static ParamMappingHandle handle(final String[][] adds, final String[][] replaces, final String... removes) {
+        ParamMappingHandle handle = new ParamMappingHandle();
+        handle.setAddParameterKeys(infos(adds));
+        handle.setReplaceParameterKeys(infos(replaces));
+        handle.setRemoveParameterKeys(new HashSet<>(Arrays.asList(removes)));
+        return handle;
+    }
+
+    private static List<ParamMappingHandle.ParamMapInfo> infos(final String[][] values) {
+        List<ParamMappingHandle.ParamMapInfo> infos = new ArrayList<>();
+        if (Objects.nonNull(values)) {
+            for (String[] value : values) {
+                ParamMappingHandle.ParamMapInfo info = new ParamMappingHandle.ParamMapInfo();
+                info.setPath(value[0]);
+                info.setKey(value[1]);
+                info.setValue(value[2]);
+                infos.add(info);
+            }
+        }
+        return infos;
+    }
+
+    private String map(final JsonStreamMapper mapper, final String body, final int chunkSize, final long maxBodySize) {
+        return DataBufferUtils.join(mapper.map(split(body, chunkSize), bufferFactory, maxBodySize))
+                .map(buffer -> {
+                    String result = buffer.toString(StandardCharsets.UTF_8);
+                    DataBufferUtils.release(buffer);
+                    return result;
+                }).block();
+    }
+
+    private Flux<DataBuffer> split(final String body, final int chunkSize) {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        List<DataBuffer> buffers = new ArrayList<>();
+        for (int i = 0; i < bytes.length; i += chunkSize) {
+            DataBuffer buffer = bufferFactory.allocateBuffer(chunkSize);
+            buffer.write(bytes, i, Math.min(chunkSize, bytes.length - i));
+            buffers.add(buffer);
+        }
+        return Flux.fromIterable(buffers);
+    }
+}
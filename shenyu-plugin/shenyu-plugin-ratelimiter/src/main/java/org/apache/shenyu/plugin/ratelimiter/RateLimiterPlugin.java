@@ -21,21 +21,25 @@ import org.apache.shenyu.common.dto.RuleData;
 import org.apache.shenyu.common.dto.SelectorData;
 import org.apache.shenyu.common.dto.convert.RateLimiterHandle;
 import org.apache.shenyu.common.enums.PluginEnum;
+import org.apache.shenyu.common.enums.RateLimiterModeEnum;
 import org.apache.shenyu.plugin.api.ShenyuPluginChain;
 import org.apache.shenyu.plugin.api.result.ShenyuResultEnum;
-import org.apache.shenyu.plugin.api.result.ShenyuResultWrap;
 import org.apache.shenyu.plugin.api.utils.WebFluxResultUtils;
 import org.apache.shenyu.plugin.base.AbstractShenyuPlugin;
 import org.apache.shenyu.plugin.base.utils.CacheKeyUtils;
+import org.apache.shenyu.plugin.ratelimiter.algorithm.ConcurrentRateLimiterAlgorithm;
+import org.apache.shenyu.plugin.ratelimiter.algorithm.RateLimiterAlgorithmFactory;
+import org.apache.shenyu.plugin.ratelimiter.executor.ClusterRateLimiter;
+import org.apache.shenyu.plugin.ratelimiter.executor.LeasedRateLimiter;
+import org.apache.shenyu.plugin.ratelimiter.executor.LocalRateLimiter;
 import org.apache.shenyu.plugin.ratelimiter.executor.RedisRateLimiter;
 import org.apache.shenyu.plugin.ratelimiter.handler.RateLimiterPluginDataHandler;
-import org.apache.shenyu.plugin.ratelimiter.resolver.RateLimiterKeyResolverFactory;
+import org.apache.shenyu.plugin.ratelimiter.handler.RateLimiterRuleHolder;
+import org.apache.shenyu.plugin.ratelimiter.response.RateLimiterResponse;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Mono;
 
-import java.util.Optional;
-
 /**
  * RateLimiter Plugin.
  */
@@ -43,13 +47,63 @@ public class RateLimiterPlugin extends AbstractShenyuPlugin {
 
     private final RedisRateLimiter redisRateLimiter;
 
+    private final LocalRateLimiter localRateLimiter;
+
+    private final LeasedRateLimiter leasedRateLimiter;
+
+    private final ClusterRateLimiter clusterRateLimiter;
+
     /**
      * Instantiates a new Rate limiter plugin.
      *
      * @param redisRateLimiter  the redis rate limiter
      */
     public RateLimiterPlugin(final RedisRateLimiter redisRateLimiter) {
+        this(redisRateLimiter, new ClusterRateLimiter());
+    }
+
+    /**
+     * Instantiates a new Rate limiter plugin.
+     *
+     * @param redisRateLimiter   the redis rate limiter
+     * @param clusterRateLimiter the cluster rate limiter
+     */
+    public RateLimiterPlugin(final RedisRateLimiter redisRateLimiter, final ClusterRateLimiter clusterRateLimiter) {
+        this(redisRateLimiter, new LocalRateLimiter(), new LeasedRateLimiter(), clusterRateLimiter);
+    }
+
+    /**
+     * Instantiates a new Rate limiter plugin.
+     *
+     * @param redisRateLimiter  the redis rate limiter
+     * @param localRateLimiter  the local rate limiter
+     * @param leasedRateLimiter the leased rate limiter
+     */
+    public RateLimiterPlugin(final RedisRateLimiter redisRateLimiter, final LocalRateLimiter localRateLimiter, final LeasedRateLimiter leasedRateLimiter) {
+        this(redisRateLimiter, localRateLimiter, leasedRateLimiter, new ClusterRateLimiter());
+    }
+
+    /**
+     * Instantiates a new Rate limiter plugin.
+     *
+     * @param redisRateLimiter   the redis rate limiter
+     * @param localRateLimiter   the local rate limiter
+     * @param leasedRateLimiter  the leased rate limiter
+     * @param clusterRateLimiter the cluster rate limiter
+     */
+    public RateLimiterPlugin(final RedisRateLimiter redisRateLimiter, final LocalRateLimiter localRateLimiter,
+                             final LeasedRateLimiter leasedRateLimiter, final ClusterRateLimiter clusterRateLimiter) {
         this.redisRateLimiter = redisRateLimiter;
+        this.localRateLimiter = localRateLimiter;
+        this.leasedRateLimiter = leasedRateLimiter;
+        this.clusterRateLimiter = clusterRateLimiter;
+    }
+
+    /**
+     * Stop the lease sweep and put back the leased tokens.
+     */
+    public void close() {
+        leasedRateLimiter.close();
     }
 
     @Override
@@ -64,19 +118,48 @@ public class RateLimiterPlugin extends AbstractShenyuPlugin {
 
     @Override
     protected Mono<Void> doExecute(final ServerWebExchange exchange, final ShenyuPluginChain chain, final SelectorData selector, final RuleData rule) {
-        RateLimiterHandle limiterHandle = RateLimiterPluginDataHandler.CACHED_HANDLE.get()
-                .obtainHandle(CacheKeyUtils.INST.getKey(rule));
-        String resolverKey = Optional.ofNullable(limiterHandle.getKeyResolverName())
-                .flatMap(name -> Optional.of("-" + RateLimiterKeyResolverFactory.newInstance(name).resolve(exchange)))
-                .orElse("");
-        return redisRateLimiter.isAllowed(rule.getId() + resolverKey, limiterHandle)
-                .flatMap(response -> {
-                    if (!response.isAllowed()) {
-                        exchange.getResponse().setStatusCode(HttpStatus.TOO_MANY_REQUESTS);
-                        Object error = ShenyuResultWrap.error(ShenyuResultEnum.TOO_MANY_REQUESTS.getCode(), ShenyuResultEnum.TOO_MANY_REQUESTS.getMsg(), null);
-                        return WebFluxResultUtils.result(exchange, error);
-                    }
-                    return chain.execute(exchange);
-                });
+        RateLimiterRuleHolder ruleHolder = RateLimiterPluginDataHandler.CACHED_HANDLE.get().obtainHandle(CacheKeyUtils.INST.getKey(rule));
+        RateLimiterHandle limiterHandle = ruleHolder.getLimiterHandle();
+        String key = ruleHolder.resolveKey(exchange);
+        switch (RateLimiterModeEnum.acquireByName(limiterHandle.getLimiterMode())) {
+            case LOCAL:
+                if (!localRateLimiter.isAllowed(key, limiterHandle).isAllowed()) {
+                    return tooManyRequests(exchange);
+                }
+                return chain.execute(exchange).doFinally(signalType -> localRateLimiter.release(key, limiterHandle));
+            case CLUSTER:
+                if (!clusterRateLimiter.isAllowed(key, limiterHandle).isAllowed()) {
+                    return tooManyRequests(exchange);
+                }
+                return chain.execute(exchange).doFinally(signalType -> clusterRateLimiter.release(key, limiterHandle));
+            case HYBRID:
+                return hybrid(key, limiterHandle)
+                        .flatMap(response -> response.isAllowed() ? chain.execute(exchange) : tooManyRequests(exchange));
+            default:
+                return redisRateLimiter.isAllowed(key, limiterHandle)
+                        .flatMap(response -> response.isAllowed() ? chain.execute(exchange) : tooManyRequests(exchange));
+        }
+    }
+
+    private Mono<RateLimiterResponse> hybrid(final String key, final RateLimiterHandle limiterHandle) {
+        // requests in flight can not be leased ahead, the concurrent algorithm keeps asking redis every time
+        if (RateLimiterAlgorithmFactory.newInstance(limiterHandle.getAlgorithmName()) instanceof ConcurrentRateLimiterAlgorithm) {
+            return redisRateLimiter.isAllowed(key, limiterHandle, () -> fallback(key, limiterHandle));
+        }
+        return leasedRateLimiter.isAllowed(key, limiterHandle, () -> fallback(key, limiterHandle));
+    }
+
+    private RateLimiterResponse fallback(final String key, final RateLimiterHandle limiterHandle) {
+        RateLimiterResponse response = localRateLimiter.isAllowed(key, limiterHandle);
+        // the concurrent script gives its slot back once decided, so does the fallback
+        if (response.isAllowed()) {
+            localRateLimiter.release(key, limiterHandle);
+        }
+        return response;
+    }
+
+    private Mono<Void> tooManyRequests(final ServerWebExchange exchange) {
+        exchange.getResponse().setStatusCode(HttpStatus.TOO_MANY_REQUESTS);
+        return WebFluxResultUtils.error(exchange, ShenyuResultEnum.TOO_MANY_REQUESTS);
     }
 }
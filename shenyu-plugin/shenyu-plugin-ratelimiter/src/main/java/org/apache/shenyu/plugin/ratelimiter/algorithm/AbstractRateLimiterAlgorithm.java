@@ -17,22 +17,30 @@
 
 package org.apache.shenyu.plugin.ratelimiter.algorithm;
 
+import org.apache.shenyu.plugin.ratelimiter.handler.ScriptKeys;
+import org.apache.shenyu.plugin.ratelimiter.resolver.HotKeyCache;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.data.redis.core.script.DefaultRedisScript;
 import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.scripting.support.ResourceScriptSource;
 
-import java.util.Arrays;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * The type Abstract rate limiter algorithm.
+ *
+ * <p>The keys of the most frequent ids are kept in a {@link HotKeyCache} as {@link ScriptKeys}, so they are encoded once,
+ * algorithms with a unique key per request build their own.
  */
 public abstract class AbstractRateLimiterAlgorithm implements RateLimiterAlgorithm<List<Long>> {
     
+    private static final int KEY_CACHE_CAPACITY = 1024;
+    
     private final AtomicBoolean initialized = new AtomicBoolean(false);
     
+    private final HotKeyCache<List<String>> keys = new HotKeyCache<>(KEY_CACHE_CAPACITY, this::createKeys);
+    
     private RedisScript<List<Long>> script;
     
     /**
@@ -66,9 +74,23 @@ public abstract class AbstractRateLimiterAlgorithm implements RateLimiterAlgorit
     
     @Override
     public List<String> getKeys(final String id) {
-        String prefix = getKeyName() + ".{" + id;
-        String tokenKey = prefix + "}.tokens";
-        String timestampKey = prefix + "}.timestamp";
-        return Arrays.asList(tokenKey, timestampKey);
+        return keys.get(id);
+    }
+    
+    /**
+     * Build the key of the id, such as {@code prefix.{id}.suffix}.
+     *
+     * @param id the id
+     * @param suffix the suffix
+     * @return the key
+     */
+    protected String buildKey(final String id, final String suffix) {
+        String keyName = getKeyName();
+        return new StringBuilder(keyName.length() + id.length() + suffix.length() + 4)
+                .append(keyName).append(".{").append(id).append("}.").append(suffix).toString();
+    }
+    
+    private List<String> createKeys(final String id) {
+        return ScriptKeys.of(buildKey(id, "tokens"), buildKey(id, "timestamp"));
     }
 }
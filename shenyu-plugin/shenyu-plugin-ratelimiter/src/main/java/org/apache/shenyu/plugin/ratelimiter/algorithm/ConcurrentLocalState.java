@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.ratelimiter.algorithm;
+
+import org.apache.shenyu.plugin.ratelimiter.response.RateLimiterResponse;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Counts the requests in flight, a permit is held until {@link #release()} is called.
+ */
+final class ConcurrentLocalState implements LocalRateLimiterState {
+
+    private final AtomicInteger count = new AtomicInteger();
+
+    @Override
+    public RateLimiterResponse tryAcquire(final double replenishRate, final double burstCapacity, final double requestCount, final long now) {
+        while (true) {
+            int current = count.get();
+            if (current >= burstCapacity) {
+                return new RateLimiterResponse(false, current);
+            }
+            if (count.compareAndSet(current, current + 1)) {
+                return new RateLimiterResponse(true, current + 1);
+            }
+        }
+    }
+
+    @Override
+    public void release() {
+        while (true) {
+            int current = count.get();
+            if (current <= 0 || count.compareAndSet(current, current - 1)) {
+                return;
+            }
+        }
+    }
+
+    @Override
+    public boolean isIdle(final long now) {
+        return count.get() == 0;
+    }
+}
@@ -48,7 +48,7 @@ public class ConcurrentRateLimiterAlgorithm extends AbstractRateLimiterAlgorithm
 
     @Override
     public List<String> getKeys(final String id) {
-        String tokenKey = getKeyName() + ".{" + id + "}.tokens";
+        String tokenKey = buildKey(id, "tokens");
         String requestKey = UUIDUtils.getInstance().generateShortUuid();
         return Arrays.asList(tokenKey, requestKey);
     }
@@ -58,4 +58,9 @@ public class ConcurrentRateLimiterAlgorithm extends AbstractRateLimiterAlgorithm
     public void callback(final RedisScript<?> script, final List<String> keys, final List<String> scriptArgs) {
         Singleton.INST.get(ReactiveRedisTemplate.class).opsForZSet().remove(keys.get(0), keys.get(1)).subscribe();
     }
+
+    @Override
+    public LocalRateLimiterState newLocalState() {
+        return new ConcurrentLocalState();
+    }
 }
@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.ratelimiter.algorithm;
+
+import org.apache.shenyu.plugin.ratelimiter.response.RateLimiterResponse;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Generic cell rate algorithm, the token bucket and the leaky bucket (as a meter) share it.
+ *
+ * <p>Only the theoretical arrival time is kept: a request costs {@code requestCount / replenishRate} seconds,
+ * and is allowed as long as the arrival time does not run more than {@code burstCapacity / replenishRate}
+ * seconds ahead of now. The level of the bucket is {@code (tat - now) * replenishRate}.
+ */
+final class GcraLocalState implements LocalRateLimiterState {
+
+    private static final double NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final AtomicLong theoreticalArrivalTime = new AtomicLong(Long.MIN_VALUE);
+
+    private final boolean reportLevel;
+
+    /**
+     * Instantiates a new gcra local state.
+     *
+     * @param reportLevel report the level of the bucket like the leaky bucket script, otherwise the remaining tokens
+     */
+    GcraLocalState(final boolean reportLevel) {
+        this.reportLevel = reportLevel;
+    }
+
+    @Override
+    public RateLimiterResponse tryAcquire(final double replenishRate, final double burstCapacity, final double requestCount, final long now) {
+        if (replenishRate <= 0) {
+            return new RateLimiterResponse(false, 0);
+        }
+        double interval = NANOS_PER_SECOND / replenishRate;
+        long tolerance = (long) (burstCapacity * interval);
+        long cost = (long) (requestCount * interval);
+        while (true) {
+            long tat = theoreticalArrivalTime.get();
+            long start = tat == Long.MIN_VALUE || tat - now <= 0 ? now : tat;
+            long newTat = start + cost;
+            if (newTat - now > tolerance) {
+                return new RateLimiterResponse(false, tokens(start - now, interval, burstCapacity));
+            }
+            if (theoreticalArrivalTime.compareAndSet(tat, newTat)) {
+                return new RateLimiterResponse(true, tokens(newTat - now, interval, burstCapacity));
+            }
+        }
+    }
+
+    @Override
+    public boolean isIdle(final long now) {
+        long tat = theoreticalArrivalTime.get();
+        return tat == Long.MIN_VALUE || tat - now <= 0;
+    }
+
+    private long tokens(final long ahead, final double interval, final double burstCapacity) {
+        double level = ahead / interval;
+        return (long) (reportLevel ? level : burstCapacity - level);
+    }
+}
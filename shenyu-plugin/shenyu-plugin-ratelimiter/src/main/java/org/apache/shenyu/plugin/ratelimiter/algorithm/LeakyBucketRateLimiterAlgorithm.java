@@ -35,4 +35,9 @@ public class LeakyBucketRateLimiterAlgorithm extends AbstractRateLimiterAlgorith
     protected String getKeyName() {
         return RateLimitEnum.LEAKY_BUCKET.getKeyName();
     }
+
+    @Override
+    public LocalRateLimiterState newLocalState() {
+        return new GcraLocalState(true);
+    }
 }
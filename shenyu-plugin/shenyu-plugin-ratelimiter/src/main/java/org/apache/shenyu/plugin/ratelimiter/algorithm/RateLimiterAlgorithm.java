@@ -54,4 +54,14 @@ public interface RateLimiterAlgorithm<T> {
      */
     default void callback(final RedisScript<?> script, final List<String> keys, final List<String> scriptArgs) {
     }
+
+    /**
+     * Create the in-process state of one key, which is used instead of the script when the limiter decides locally.
+     * Algorithms without a local implementation are limited as a token bucket.
+     *
+     * @return the local state
+     */
+    default LocalRateLimiterState newLocalState() {
+        return new GcraLocalState(false);
+    }
 }
@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.ratelimiter.algorithm;
+
+import org.apache.shenyu.plugin.ratelimiter.response.RateLimiterResponse;
+
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Sliding window counter, the window is {@code burstCapacity / replenishRate} seconds like the sliding window script.
+ *
+ * <p>Instead of a sorted set of timestamps the window keeps the count of the current and the previous fixed window,
+ * the previous count is weighted by the part of it that still overlaps the sliding window.
+ *
+ * <p>The state is lock free: a request increments the count of the current window with a compare and set, and the
+ * window is swapped for the next one once per window size. The next window refers to the count of the one it
+ * replaces as its previous count, so an increment racing with the swap is still counted.
+ */
+final class SlidingWindowLocalState implements LocalRateLimiterState {
+
+    private static final double NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private static final AtomicLong NO_COUNT = new AtomicLong();
+
+    private final AtomicReference<Window> window = new AtomicReference<>();
+
+    @Override
+    public RateLimiterResponse tryAcquire(final double replenishRate, final double burstCapacity, final double requestCount, final long now) {
+        if (replenishRate <= 0) {
+            return new RateLimiterResponse(false, 0);
+        }
+        long size = Math.max(1L, (long) (burstCapacity / replenishRate * NANOS_PER_SECOND));
+        while (true) {
+            Window current = window.get();
+            Window slid = slide(current, now, size);
+            if (slid != current) {
+                window.compareAndSet(current, slid);
+                continue;
+            }
+            long count = current.count.get();
+            double weight = 1 - (double) Math.max(0L, now - current.start) / size;
+            long requested = (long) (current.previousCount.get() * weight + count);
+            if (requested >= burstCapacity) {
+                return new RateLimiterResponse(false, (long) burstCapacity - requested);
+            }
+            if (current.count.compareAndSet(count, count + 1)) {
+                return new RateLimiterResponse(true, (long) burstCapacity - requested);
+            }
+        }
+    }
+
+    @Override
+    public boolean isIdle(final long now) {
+        Window current = window.get();
+        return Objects.isNull(current) || now - current.start >= current.size << 1;
+    }
+
+    private static Window slide(final Window current, final long now, final long size) {
+        if (Objects.isNull(current) || current.size != size || now - current.start >= size << 1) {
+            return new Window(now, size, NO_COUNT);
+        }
+        if (now - current.start >= size) {
+            return new Window(current.start + size, size, current.count);
+        }
+        return current;
+    }
+
+    private static final class Window {
+
+        private final long start;
+
+        private final long size;
+
+        private final AtomicLong previousCount;
+
+        private final AtomicLong count = new AtomicLong();
+
+        Window(final long start, final long size, final AtomicLong previousCount) {
+            this.start = start;
+            this.size = size;
+            this.previousCount = previousCount;
+        }
+    }
+}
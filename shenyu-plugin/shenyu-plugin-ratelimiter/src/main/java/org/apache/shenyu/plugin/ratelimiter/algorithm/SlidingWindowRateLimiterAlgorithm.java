@@ -42,9 +42,13 @@ public class SlidingWindowRateLimiterAlgorithm extends AbstractRateLimiterAlgori
 
     @Override
     public List<String> getKeys(final String id) {
-        String prefix = getKeyName() + ".{" + id;
-        String tokenKey = prefix + "}.tokens";
+        String tokenKey = buildKey(id, "tokens");
         String timestampKey = UUIDUtils.getInstance().generateShortUuid();
         return Arrays.asList(tokenKey, timestampKey);
     }
+
+    @Override
+    public LocalRateLimiterState newLocalState() {
+        return new SlidingWindowLocalState();
+    }
 }
@@ -0,0 +1,203 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.ratelimiter.executor;
+
+import org.apache.shenyu.common.dto.QuotaData;
+import org.apache.shenyu.common.dto.convert.RateLimiterHandle;
+import org.apache.shenyu.plugin.ratelimiter.algorithm.LocalRateLimiterState;
+import org.apache.shenyu.plugin.ratelimiter.algorithm.RateLimiterAlgorithmFactory;
+import org.apache.shenyu.plugin.ratelimiter.response.RateLimiterResponse;
+import org.apache.shenyu.sync.data.api.QuotaDataSubscriber;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Rate limiter which decides in process within the share of the cluster wide limit admin assigns to this node,
+ * so enforcing the limit needs no call out of the node.
+ *
+ * <p>Every request of a key counts as demand, the rejected ones included, otherwise a node could never show it needs
+ * more than its share. The demand is reported to admin over the sync channel, smoothed over the reports, and the share
+ * admin answers with scales the replenish rate and the burst capacity of the local state. Until its first share arrives,
+ * a key is limited as a whole on the node, the same as the local mode.
+ */
+public class ClusterRateLimiter implements QuotaDataSubscriber {
+
+    private static final double NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private static final double DEMAND_WEIGHT = 0.5;
+
+    private static final int MAX_IDLE_REPORTS = 3;
+
+    private final ConcurrentMap<String, ClusterQuota> quotas = new ConcurrentHashMap<>();
+
+    private volatile long reportedAt = System.nanoTime();
+
+    /**
+     * Verify within the share of the node.
+     *
+     * @param id is rule id
+     * @param limiterHandle the limiter handle
+     * @return the response
+     */
+    public RateLimiterResponse isAllowed(final String id, final RateLimiterHandle limiterHandle) {
+        return isAllowed(id, limiterHandle, System.nanoTime());
+    }
+
+    /**
+     * Verify within the share of the node at the given time.
+     *
+     * @param id is rule id
+     * @param limiterHandle the limiter handle
+     * @param now the current time of {@link System#nanoTime()}
+     * @return the response
+     */
+    RateLimiterResponse isAllowed(final String id, final RateLimiterHandle limiterHandle, final long now) {
+        ClusterQuota quota = obtainQuota(id, limiterHandle);
+        if (quota.handle != limiterHandle) {
+            quota.handle = limiterHandle;
+        }
+        quota.requested.increment();
+        double ratio = quota.ratio(limiterHandle.getReplenishRate());
+        double burstCapacity = Math.max(limiterHandle.getBurstCapacity() * ratio, limiterHandle.getRequestCount());
+        return quota.state.tryAcquire(limiterHandle.getReplenishRate() * ratio, burstCapacity, limiterHandle.getRequestCount(), now);
+    }
+
+    /**
+     * Release the permit of an allowed request once it completes.
+     *
+     * @param id is rule id
+     * @param limiterHandle the limiter handle
+     */
+    public void release(final String id, final RateLimiterHandle limiterHandle) {
+        ClusterQuota quota = quotas.get(id);
+        if (Objects.nonNull(quota) && quota.algorithmName.equals(limiterHandle.getAlgorithmName())) {
+            quota.state.release();
+        }
+    }
+
+    @Override
+    public List<QuotaData> report() {
+        return report(System.nanoTime());
+    }
+
+    /**
+     * Report the demand observed since the last report, and forget the keys idle for a few reports.
+     *
+     * @param now the current time of {@link System#nanoTime()}
+     * @return the quota data with the limit and the demand of every key
+     */
+    List<QuotaData> report(final long now) {
+        double elapsed = Math.max(1L, now - reportedAt) / NANOS_PER_SECOND;
+        reportedAt = now;
+        List<QuotaData> quotaDataList = new ArrayList<>(quotas.size());
+        quotas.forEach((id, quota) -> {
+            long requested = quota.requested.sumThenReset();
+            quota.idleReports = requested == 0 ? quota.idleReports + 1 : 0;
+            if (quota.idleReports > MAX_IDLE_REPORTS && quota.state.isIdle(now)) {
+                // a last report without demand, otherwise admin holds the share of the node until the node expires
+                quotas.remove(id, quota);
+                quotaDataList.add(new QuotaData(id, quota.handle.getReplenishRate(), 0, quota.share));
+                return;
+            }
+            double observed = requested / elapsed;
+            quota.demand = quota.reported ? DEMAND_WEIGHT * observed + (1 - DEMAND_WEIGHT) * quota.demand : observed;
+            quota.reported = true;
+            quotaDataList.add(new QuotaData(id, quota.handle.getReplenishRate(), quota.demand, quota.share));
+        });
+        return quotaDataList;
+    }
+
+    @Override
+    public void onSubscribe(final List<QuotaData> quotaDataList) {
+        for (QuotaData quotaData : quotaDataList) {
+            ClusterQuota quota = quotas.get(quotaData.getKey());
+            if (Objects.nonNull(quota)) {
+                quota.share = quotaData.getShare();
+                quota.assigned = true;
+            }
+        }
+    }
+
+    /**
+     * Gets the number of the keys with a quota.
+     *
+     * @return the size
+     */
+    public int size() {
+        return quotas.size();
+    }
+
+    private ClusterQuota obtainQuota(final String id, final RateLimiterHandle limiterHandle) {
+        ClusterQuota quota = quotas.get(id);
+        if (Objects.nonNull(quota) && quota.algorithmName.equals(limiterHandle.getAlgorithmName())) {
+            return quota;
+        }
+        // the algorithm of the rule changed, start over with a state of the new one but keep the share
+        return quotas.compute(id, (key, current) -> {
+            if (Objects.nonNull(current) && current.algorithmName.equals(limiterHandle.getAlgorithmName())) {
+                return current;
+            }
+            ClusterQuota created = new ClusterQuota(limiterHandle);
+            if (Objects.nonNull(current)) {
+                created.share = current.share;
+                created.assigned = current.assigned;
+            }
+            return created;
+        });
+    }
+
+    private static final class ClusterQuota {
+
+        private final String algorithmName;
+
+        private final LocalRateLimiterState state;
+
+        private final LongAdder requested = new LongAdder();
+
+        private volatile RateLimiterHandle handle;
+
+        private volatile double share;
+
+        private volatile boolean assigned;
+
+        private double demand;
+
+        private boolean reported;
+
+        private int idleReports;
+
+        ClusterQuota(final RateLimiterHandle limiterHandle) {
+            this.algorithmName = limiterHandle.getAlgorithmName();
+            this.state = RateLimiterAlgorithmFactory.newInstance(algorithmName).newLocalState();
+            this.handle = limiterHandle;
+        }
+
+        double ratio(final double limit) {
+            if (!assigned || limit <= 0) {
+                return 1;
+            }
+            return Math.min(1, share / limit);
+        }
+    }
+}
@@ -0,0 +1,296 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.ratelimiter.executor;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shenyu.common.concurrent.ShenyuThreadFactory;
+import org.apache.shenyu.common.dto.convert.RateLimiterHandle;
+import org.apache.shenyu.common.enums.RateLimitEnum;
+import org.apache.shenyu.plugin.base.utils.Singleton;
+import org.apache.shenyu.plugin.ratelimiter.handler.ScriptArgs;
+import org.apache.shenyu.plugin.ratelimiter.handler.ScriptKeys;
+import org.apache.shenyu.plugin.ratelimiter.response.RateLimiterResponse;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scripting.support.ResourceScriptSource;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * Rate limiter which leases batches of tokens per key from a redis token bucket, and decides locally
+ * until the lease runs out or expires, so redis sees one call per lease instead of one per request.
+ *
+ * <p>The size of the next lease follows the rate observed on this node, capped to a tenth of the burst capacity,
+ * so the tokens parked on every node stay bounded. The tokens left when a lease expires are put back into the bucket
+ * by the next lease call, or by the periodic sweep when the key went idle, and the tokens of every lease by {@link #close()}.
+ */
+@Slf4j
+public class LeasedRateLimiter {
+
+    private static final long LEASE_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private static final double NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private static final double MAX_LEASE_RATIO = 0.1;
+
+    private static final double PREFETCH_RATIO = 0.2;
+
+    private static final double RATE_WEIGHT = 0.5;
+
+    private static final RedisScript<List<Long>> SCRIPT = createScript();
+
+    private final ConcurrentMap<String, TokenLease> leases = new ConcurrentHashMap<>();
+
+    private final AtomicLong leaseCalls = new AtomicLong();
+
+    private final Object sweeperLock = new Object();
+
+    private volatile ScheduledExecutorService sweeper;
+
+    private volatile boolean closed;
+
+    /**
+     * Verify using the tokens leased from redis.
+     *
+     * @param id is rule id
+     * @param limiterHandle the limiter handle
+     * @param fallback the response when redis is not configured or fails
+     * @return {@code Mono<RateLimiterResponse>} to indicate when request processing is complete
+     */
+    public Mono<RateLimiterResponse> isAllowed(final String id, final RateLimiterHandle limiterHandle, final Supplier<RateLimiterResponse> fallback) {
+        if (Objects.isNull(Singleton.INST.get(ReactiveRedisTemplate.class))) {
+            return Mono.fromSupplier(fallback);
+        }
+        startSweeper();
+        long permits = Math.max(1L, (long) Math.ceil(limiterHandle.getRequestCount()));
+        TokenLease lease = leases.get(id);
+        if (Objects.isNull(lease)) {
+            lease = leases.computeIfAbsent(id, TokenLease::new);
+        }
+        if (lease.handle != limiterHandle) {
+            lease.handle = limiterHandle;
+        }
+        long now = System.nanoTime();
+        long remaining = lease.tryTake(permits, now);
+        if (remaining >= 0) {
+            if (remaining < lease.size * PREFETCH_RATIO && !lease.isExhausted(now)) {
+                renew(lease, permits).subscribe(null, throwable -> log.warn("prefetch rate limiter lease of {} failed:{}", id, throwable.getMessage()));
+            }
+            return Mono.just(new RateLimiterResponse(true, remaining));
+        }
+        if (lease.isExhausted(now)) {
+            return Mono.just(new RateLimiterResponse(false, 0));
+        }
+        final TokenLease renewing = lease;
+        return renew(renewing, permits)
+                .then(Mono.fromSupplier(() -> {
+                    long left = renewing.tryTake(permits, System.nanoTime());
+                    return new RateLimiterResponse(left >= 0, Math.max(0L, left));
+                }))
+                .doOnError(throwable -> log.error("Error occurred while leasing tokens of {} from redis:{}", id, throwable.getMessage()))
+                .onErrorResume(throwable -> Mono.fromSupplier(fallback));
+    }
+
+    /**
+     * Put back the tokens of the expired leases, and forget the keys which stayed idle for a whole lease.
+     *
+     * @param now the current time of {@link System#nanoTime()}
+     */
+    public void sweep(final long now) {
+        leases.forEach((id, lease) -> {
+            if (Objects.nonNull(lease.renewal.get()) || !lease.isExpired(now)) {
+                return;
+            }
+            long returned = lease.tokens.getAndSet(0);
+            if (returned > 0) {
+                execute(lease, 0, returned).subscribe(null, throwable -> log.warn("return rate limiter lease of {} failed:{}", id, throwable.getMessage()));
+            } else if (!lease.leased || now - lease.expireAt > LEASE_NANOS) {
+                leases.remove(id, lease);
+            }
+        });
+    }
+
+    /**
+     * Stop the sweep and put back the tokens of every lease, the limiter keeps deciding afterwards but is no longer swept.
+     */
+    public void close() {
+        synchronized (sweeperLock) {
+            closed = true;
+            if (Objects.nonNull(sweeper)) {
+                sweeper.shutdownNow();
+                sweeper = null;
+            }
+        }
+        leases.forEach((id, lease) -> {
+            long returned = lease.tokens.getAndSet(0);
+            if (returned > 0 && Objects.nonNull(Singleton.INST.get(ReactiveRedisTemplate.class))) {
+                execute(lease, 0, returned).subscribe(null, throwable -> log.warn("return rate limiter lease of {} failed:{}", id, throwable.getMessage()));
+            }
+        });
+        leases.clear();
+    }
+
+    /**
+     * Gets the number of lease calls made to redis.
+     *
+     * @return the lease calls
+     */
+    public long getLeaseCalls() {
+        return leaseCalls.get();
+    }
+
+    private Mono<Void> renew(final TokenLease lease, final long permits) {
+        Mono<Void> pending = lease.renewal.get();
+        if (Objects.nonNull(pending)) {
+            return pending;
+        }
+        // cleared before the waiters resume, so none of them can pick up a renewal which already completed
+        Mono<Void> renewal = Mono.defer(() -> lease(lease, permits))
+                .doOnTerminate(() -> lease.renewal.set(null))
+                .cache();
+        if (lease.renewal.compareAndSet(null, renewal)) {
+            return renewal;
+        }
+        pending = lease.renewal.get();
+        return Objects.isNull(pending) ? Mono.empty() : pending;
+    }
+
+    private Mono<Void> lease(final TokenLease lease, final long permits) {
+        long now = System.nanoTime();
+        RateLimiterHandle limiterHandle = lease.handle;
+        long returned = lease.isExpired(now) ? lease.tokens.getAndSet(0) : 0;
+        long size = lease.nextSize(now, permits, limiterHandle.getBurstCapacity());
+        return execute(lease, size, returned)
+                .doOnNext(results -> lease.refill(results[0], size, now, permits, limiterHandle.getReplenishRate()))
+                .then();
+    }
+
+    private Mono<long[]> execute(final TokenLease lease, final long requested, final long returned) {
+        RateLimiterHandle limiterHandle = lease.handle;
+        ScriptArgs scriptArgs = ScriptArgs.of(limiterHandle.getReplenishRate(), limiterHandle.getBurstCapacity(), System.currentTimeMillis() / 1000.0, requested, returned);
+        leaseCalls.incrementAndGet();
+        return RedisRateLimiter.executeForLongs(Singleton.INST.get(ReactiveRedisTemplate.class), SCRIPT, lease.keys, scriptArgs);
+    }
+
+    private void startSweeper() {
+        if (Objects.nonNull(sweeper) || closed) {
+            return;
+        }
+        synchronized (sweeperLock) {
+            if (Objects.isNull(sweeper) && !closed) {
+                sweeper = new ScheduledThreadPoolExecutor(1, ShenyuThreadFactory.create("shenyu-rate-limiter-lease", true));
+                sweeper.scheduleWithFixedDelay(() -> sweep(System.nanoTime()), LEASE_NANOS, LEASE_NANOS, TimeUnit.NANOSECONDS);
+            }
+        }
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static RedisScript<List<Long>> createScript() {
+        DefaultRedisScript redisScript = new DefaultRedisScript<>();
+        redisScript.setScriptSource(new ResourceScriptSource(new ClassPathResource("/META-INF/scripts/" + RateLimitEnum.TOKEN_LEASE.getScriptName())));
+        redisScript.setResultType(List.class);
+        return redisScript;
+    }
+
+    private static final class TokenLease {
+
+        private final List<String> keys;
+
+        private final AtomicLong tokens = new AtomicLong();
+
+        private final AtomicLong taken = new AtomicLong();
+
+        private final AtomicReference<Mono<Void>> renewal = new AtomicReference<>();
+
+        private volatile RateLimiterHandle handle;
+
+        private volatile boolean leased;
+
+        private volatile long leasedAt;
+
+        private volatile long expireAt;
+
+        private volatile long exhaustedUntil;
+
+        private volatile long size;
+
+        private volatile double rate;
+
+        TokenLease(final String id) {
+            String prefix = RateLimitEnum.TOKEN_LEASE.getKeyName() + ".{" + id;
+            this.keys = ScriptKeys.of(prefix + "}.tokens", prefix + "}.timestamp");
+        }
+
+        long tryTake(final long permits, final long now) {
+            if (isExpired(now)) {
+                return -1;
+            }
+            while (true) {
+                long current = tokens.get();
+                if (current < permits) {
+                    return -1;
+                }
+                if (tokens.compareAndSet(current, current - permits)) {
+                    taken.addAndGet(permits);
+                    return current - permits;
+                }
+            }
+        }
+
+        boolean isExpired(final long now) {
+            return !leased || now - expireAt >= 0;
+        }
+
+        boolean isExhausted(final long now) {
+            return leased && exhaustedUntil - now > 0;
+        }
+
+        long nextSize(final long now, final long permits, final double burstCapacity) {
+            if (leased) {
+                double observed = taken.getAndSet(0) / (Math.max(1L, now - leasedAt) / NANOS_PER_SECOND);
+                rate = rate == 0 ? observed : RATE_WEIGHT * observed + (1 - RATE_WEIGHT) * rate;
+            }
+            long max = Math.max(permits, (long) (burstCapacity * MAX_LEASE_RATIO));
+            long wanted = (long) Math.ceil(rate * LEASE_NANOS / NANOS_PER_SECOND);
+            return Math.min(max, Math.max(permits, wanted));
+        }
+
+        void refill(final long granted, final long leaseSize, final long now, final long permits, final double replenishRate) {
+            size = leaseSize;
+            leasedAt = now;
+            expireAt = now + LEASE_NANOS;
+            long available = tokens.addAndGet(granted);
+            // nothing left in redis either, wait for the bucket to refill instead of asking on every request
+            long backoff = replenishRate <= 0 ? LEASE_NANOS : Math.min(LEASE_NANOS, Math.max(LEASE_NANOS / 10, (long) (permits / replenishRate * NANOS_PER_SECOND)));
+            exhaustedUntil = available < permits ? now + backoff : now;
+            leased = true;
+        }
+    }
+}
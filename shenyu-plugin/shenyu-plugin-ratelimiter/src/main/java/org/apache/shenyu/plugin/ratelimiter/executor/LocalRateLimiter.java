@@ -0,0 +1,126 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.ratelimiter.executor;
+
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import org.apache.shenyu.common.dto.convert.RateLimiterHandle;
+import org.apache.shenyu.plugin.ratelimiter.algorithm.LocalRateLimiterState;
+import org.apache.shenyu.plugin.ratelimiter.algorithm.RateLimiterAlgorithmFactory;
+import org.apache.shenyu.plugin.ratelimiter.response.RateLimiterResponse;
+
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rate limiter which decides in process with the local state of the algorithms, without a round trip to redis.
+ *
+ * <p>The states are kept per algorithm and key in a bounded cache: a state nobody asked for during
+ * {@link #EXPIRE_AFTER_ACCESS_MINUTES} minutes is dropped, and beyond {@link #MAX_KEYS} keys per algorithm the least
+ * recently used ones are. The cache evicts a few entries per access instead of scanning all the keys.
+ */
+public class LocalRateLimiter {
+
+    private static final long MAX_KEYS = 100_000;
+
+    private static final long EXPIRE_AFTER_ACCESS_MINUTES = 10;
+
+    private final ConcurrentMap<String, LoadingCache<String, LocalRateLimiterState>> states = new ConcurrentHashMap<>();
+
+    private final long maxKeys;
+
+    private final long expireAfterAccessNanos;
+
+    /**
+     * Instantiates a new Local rate limiter.
+     */
+    public LocalRateLimiter() {
+        this(MAX_KEYS, TimeUnit.MINUTES.toNanos(EXPIRE_AFTER_ACCESS_MINUTES));
+    }
+
+    /**
+     * Instantiates a new Local rate limiter.
+     *
+     * @param maxKeys the max number of keys per algorithm
+     * @param expireAfterAccessNanos the time after which a key nobody asked for is dropped
+     */
+    public LocalRateLimiter(final long maxKeys, final long expireAfterAccessNanos) {
+        this.maxKeys = maxKeys;
+        this.expireAfterAccessNanos = expireAfterAccessNanos;
+    }
+
+    /**
+     * Verify using the local state of the algorithm.
+     *
+     * @param id is rule id
+     * @param limiterHandle the limiter handle
+     * @return the response
+     */
+    public RateLimiterResponse isAllowed(final String id, final RateLimiterHandle limiterHandle) {
+        return algorithmStates(limiterHandle.getAlgorithmName()).getUnchecked(id)
+                .tryAcquire(limiterHandle.getReplenishRate(), limiterHandle.getBurstCapacity(), limiterHandle.getRequestCount(), System.nanoTime());
+    }
+
+    /**
+     * Release the permit of an allowed request once it completes.
+     *
+     * @param id is rule id
+     * @param limiterHandle the limiter handle
+     */
+    public void release(final String id, final RateLimiterHandle limiterHandle) {
+        LoadingCache<String, LocalRateLimiterState> algorithmStates = states.get(limiterHandle.getAlgorithmName());
+        if (Objects.isNull(algorithmStates)) {
+            return;
+        }
+        LocalRateLimiterState state = algorithmStates.getIfPresent(id);
+        if (Objects.nonNull(state)) {
+            state.release();
+        }
+    }
+
+    /**
+     * Gets the number of the keys with a local state.
+     *
+     * @return the size
+     */
+    public long size() {
+        return states.values().stream().mapToLong(algorithmStates -> {
+            algorithmStates.cleanUp();
+            return algorithmStates.size();
+        }).sum();
+    }
+
+    private LoadingCache<String, LocalRateLimiterState> algorithmStates(final String algorithmName) {
+        LoadingCache<String, LocalRateLimiterState> algorithmStates = states.get(algorithmName);
+        if (Objects.nonNull(algorithmStates)) {
+            return algorithmStates;
+        }
+        return states.computeIfAbsent(algorithmName, name -> CacheBuilder.newBuilder()
+                .maximumSize(maxKeys)
+                .expireAfterAccess(expireAfterAccessNanos, TimeUnit.NANOSECONDS)
+                .build(new CacheLoader<String, LocalRateLimiterState>() {
+                    @Override
+                    public LocalRateLimiterState load(final String key) {
+                        return RateLimiterAlgorithmFactory.newInstance(name).newLocalState();
+                    }
+                }));
+    }
+}
@@ -22,6 +22,8 @@ import org.apache.shenyu.common.dto.convert.RateLimiterHandle;
 import org.apache.shenyu.plugin.base.utils.Singleton;
 import org.apache.shenyu.plugin.ratelimiter.algorithm.RateLimiterAlgorithm;
 import org.apache.shenyu.plugin.ratelimiter.algorithm.RateLimiterAlgorithmFactory;
+import org.apache.shenyu.plugin.ratelimiter.handler.ScriptArgs;
+import org.apache.shenyu.plugin.ratelimiter.handler.ShenyuReactiveRedisTemplate;
 import org.apache.shenyu.plugin.ratelimiter.response.RateLimiterResponse;
 import org.springframework.data.redis.core.ReactiveRedisTemplate;
 import org.springframework.data.redis.core.script.RedisScript;
@@ -29,9 +31,9 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.time.Instant;
-import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
+import java.util.Objects;
+import java.util.function.Supplier;
 
 /**
  * RedisRateLimiter.
@@ -40,36 +42,58 @@ import java.util.List;
 public class RedisRateLimiter {
     
     /**
-     * Verify using different current limiting algorithm scripts. 
+     * Verify using different current limiting algorithm scripts, the request is allowed when redis fails.
      *
      * @param id is rule id
      * @param limiterHandle the limiter handle
      * @return {@code Mono<RateLimiterResponse>} to indicate when request processing is complete
      */
-    @SuppressWarnings("unchecked")
     public Mono<RateLimiterResponse> isAllowed(final String id, final RateLimiterHandle limiterHandle) {
-        double replenishRate = limiterHandle.getReplenishRate();
-        double burstCapacity = limiterHandle.getBurstCapacity();
-        double requestCount = limiterHandle.getRequestCount();
+        return isAllowed(id, limiterHandle, () -> new RateLimiterResponse(true, -1));
+    }
+
+    /**
+     * Verify using different current limiting algorithm scripts.
+     *
+     * @param id is rule id
+     * @param limiterHandle the limiter handle
+     * @param fallback the response when redis is not configured or fails
+     * @return {@code Mono<RateLimiterResponse>} to indicate when request processing is complete
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public Mono<RateLimiterResponse> isAllowed(final String id, final RateLimiterHandle limiterHandle, final Supplier<RateLimiterResponse> fallback) {
+        ReactiveRedisTemplate redisTemplate = Singleton.INST.get(ReactiveRedisTemplate.class);
+        if (Objects.isNull(redisTemplate)) {
+            return Mono.fromSupplier(fallback);
+        }
         RateLimiterAlgorithm<?> rateLimiterAlgorithm = RateLimiterAlgorithmFactory.newInstance(limiterHandle.getAlgorithmName());
         RedisScript<?> script = rateLimiterAlgorithm.getScript();
         List<String> keys = rateLimiterAlgorithm.getKeys(id);
-        List<String> scriptArgs = Arrays.asList(doubleToString(replenishRate), doubleToString(burstCapacity), doubleToString(Instant.now().getEpochSecond()), doubleToString(requestCount));
-        Flux<List<Long>> resultFlux = Singleton.INST.get(ReactiveRedisTemplate.class).execute(script, keys, scriptArgs);
-        return resultFlux.onErrorResume(throwable -> Flux.just(Arrays.asList(1L, -1L)))
-                .reduce(new ArrayList<Long>(), (longs, l) -> {
-                    longs.addAll(l);
-                    return longs;
-                }).map(results -> {
-                    boolean allowed = results.get(0) == 1L;
-                    Long tokensLeft = results.get(1);
-                    return new RateLimiterResponse(allowed, tokensLeft);
-                })
+        ScriptArgs scriptArgs = ScriptArgs.of(limiterHandle.getReplenishRate(), limiterHandle.getBurstCapacity(), Instant.now().getEpochSecond(), limiterHandle.getRequestCount());
+        return executeForLongs(redisTemplate, script, keys, scriptArgs)
+                .map(results -> new RateLimiterResponse(results[0] == 1L, results[1]))
+                .onErrorResume(throwable -> Mono.fromSupplier(fallback))
                 .doOnError(throwable -> log.error("Error occurred while judging if user is allowed by RedisRateLimiter:{}", throwable.getMessage()))
                 .doFinally(signalType -> rateLimiterAlgorithm.callback(script, keys, scriptArgs));
     }
-    
-    private String doubleToString(final double param) {
-        return String.valueOf(param);
+
+    /**
+     * Execute a rate limiter script returning integers, directly on the shenyu template.
+     *
+     * @param redisTemplate the redis template
+     * @param script the script
+     * @param keys the keys
+     * @param scriptArgs the script args
+     * @return the integers returned by the script
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    static Mono<long[]> executeForLongs(final ReactiveRedisTemplate redisTemplate, final RedisScript<?> script, final List<String> keys, final ScriptArgs scriptArgs) {
+        if (redisTemplate instanceof ShenyuReactiveRedisTemplate) {
+            return ((ShenyuReactiveRedisTemplate<?, ?>) redisTemplate).executeForLongs(script, keys, scriptArgs);
+        }
+        Flux<List<Long>> resultFlux = redisTemplate.execute(script, keys, scriptArgs);
+        return resultFlux.flatMapIterable(results -> results)
+                .collectList()
+                .map(results -> results.stream().mapToLong(Long::longValue).toArray());
     }
 }
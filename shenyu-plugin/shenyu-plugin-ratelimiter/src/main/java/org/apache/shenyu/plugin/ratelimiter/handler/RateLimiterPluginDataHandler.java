@@ -58,7 +58,7 @@ import java.util.function.Supplier;
  */
 public class RateLimiterPluginDataHandler implements PluginDataHandler {
 
-    public static final Supplier<RuleHandleCache<String, RateLimiterHandle>> CACHED_HANDLE = new BeanHolder(RuleHandleCache::new);
+    public static final Supplier<RuleHandleCache<String, RateLimiterRuleHolder>> CACHED_HANDLE = new BeanHolder(RuleHandleCache::new);
 
     @Override
     public void handlerPlugin(final PluginData pluginData) {
@@ -85,7 +85,7 @@ public class RateLimiterPluginDataHandler implements PluginDataHandler {
     public void handlerRule(final RuleData ruleData) {
         Optional.ofNullable(ruleData.getHandle()).ifPresent(s -> {
             final RateLimiterHandle rateLimiterHandle = GsonUtils.getInstance().fromJson(s, RateLimiterHandle.class);
-            CACHED_HANDLE.get().cachedHandle(CacheKeyUtils.INST.getKey(ruleData), rateLimiterHandle);
+            CACHED_HANDLE.get().cachedHandle(CacheKeyUtils.INST.getKey(ruleData), RateLimiterRuleHolder.of(ruleData.getId(), rateLimiterHandle));
         });
     }
 
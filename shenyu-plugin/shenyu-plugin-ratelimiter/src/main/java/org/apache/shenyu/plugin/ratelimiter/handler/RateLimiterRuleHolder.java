@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.ratelimiter.handler;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.shenyu.common.dto.convert.RateLimiterHandle;
+import org.apache.shenyu.plugin.ratelimiter.resolver.HotKeyCache;
+import org.apache.shenyu.plugin.ratelimiter.resolver.RateLimiterKeyResolver;
+import org.apache.shenyu.plugin.ratelimiter.resolver.RateLimiterKeyResolverFactory;
+import org.springframework.web.server.ServerWebExchange;
+
+import java.util.Objects;
+
+/**
+ * The key resolver of a rate limiter rule, created when the rule is synced instead of being looked up by every request.
+ *
+ * <p>The limiter keys of the most frequent identities are kept in a {@link HotKeyCache}.
+ */
+@Slf4j
+public final class RateLimiterRuleHolder {
+
+    private static final int KEY_CACHE_CAPACITY = 1024;
+
+    private final String ruleId;
+
+    private final RateLimiterHandle limiterHandle;
+
+    private final RateLimiterKeyResolver keyResolver;
+
+    private final HotKeyCache<String> keys;
+
+    private RateLimiterRuleHolder(final String ruleId, final RateLimiterHandle limiterHandle, final RateLimiterKeyResolver keyResolver) {
+        this.ruleId = String.valueOf(ruleId);
+        this.limiterHandle = limiterHandle;
+        this.keyResolver = keyResolver;
+        this.keys = Objects.isNull(keyResolver) ? null : new HotKeyCache<>(KEY_CACHE_CAPACITY, this::createKey);
+    }
+
+    /**
+     * Create the holder, a key resolver which can not be created limits the rule as a whole.
+     *
+     * @param ruleId        the rule id
+     * @param limiterHandle the limiter handle
+     * @return the holder
+     */
+    public static RateLimiterRuleHolder of(final String ruleId, final RateLimiterHandle limiterHandle) {
+        RateLimiterKeyResolver keyResolver = null;
+        if (StringUtils.isNotBlank(limiterHandle.getKeyResolverName())) {
+            try {
+                keyResolver = RateLimiterKeyResolverFactory.create(limiterHandle.getKeyResolverName());
+            } catch (IllegalArgumentException e) {
+                log.error("invalid rate limiter key resolver of rule {}:{}", ruleId, e.getMessage());
+            }
+        }
+        return new RateLimiterRuleHolder(ruleId, limiterHandle, keyResolver);
+    }
+
+    /**
+     * Resolve the limiter key of the request.
+     *
+     * @param exchange the exchange
+     * @return the key
+     */
+    public String resolveKey(final ServerWebExchange exchange) {
+        if (Objects.isNull(keyResolver)) {
+            return ruleId;
+        }
+        return keys.get(keyResolver.resolve(exchange));
+    }
+
+    /**
+     * Get the limiter handle.
+     *
+     * @return the limiter handle
+     */
+    public RateLimiterHandle getLimiterHandle() {
+        return limiterHandle;
+    }
+
+    /**
+     * Get the key resolver.
+     *
+     * @return the key resolver, null if the rule is limited as a whole
+     */
+    public RateLimiterKeyResolver getKeyResolver() {
+        return keyResolver;
+    }
+
+    private String createKey(final String identity) {
+        return new StringBuilder(ruleId.length() + 1 + identity.length()).append(ruleId).append('-').append(identity).toString();
+    }
+}
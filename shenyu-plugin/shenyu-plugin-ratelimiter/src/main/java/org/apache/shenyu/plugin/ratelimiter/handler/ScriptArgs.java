@@ -0,0 +1,85 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.ratelimiter.handler;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractList;
+import java.util.RandomAccess;
+
+/**
+ * The numeric arguments of a rate limiter script.
+ *
+ * <p>The list view formats the arguments only when an element is read, the script executor writes them straight
+ * into the command buffers with {@link #encode(int)}, integral values without going through a string.
+ */
+public final class ScriptArgs extends AbstractList<String> implements RandomAccess {
+
+    private static final int MAX_LONG_DIGITS = 20;
+
+    private final double[] values;
+
+    private ScriptArgs(final double[] values) {
+        this.values = values;
+    }
+
+    /**
+     * Create the script args.
+     *
+     * @param values the values
+     * @return the script args
+     */
+    public static ScriptArgs of(final double... values) {
+        return new ScriptArgs(values);
+    }
+
+    @Override
+    public String get(final int index) {
+        return String.valueOf(values[index]);
+    }
+
+    @Override
+    public int size() {
+        return values.length;
+    }
+
+    /**
+     * Encode the argument at the index as the ascii bytes of its number.
+     *
+     * @param index the index
+     * @return the buffer
+     */
+    public ByteBuffer encode(final int index) {
+        double value = values[index];
+        long integral = (long) value;
+        if (integral != value || integral == Long.MIN_VALUE || integral == Long.MAX_VALUE) {
+            return ByteBuffer.wrap(Double.toString(value).getBytes(StandardCharsets.US_ASCII));
+        }
+        byte[] digits = new byte[MAX_LONG_DIGITS];
+        int position = digits.length;
+        long remaining = Math.abs(integral);
+        do {
+            digits[--position] = (byte) ('0' + remaining % 10);
+            remaining /= 10;
+        } while (remaining > 0);
+        if (integral < 0) {
+            digits[--position] = '-';
+        }
+        return ByteBuffer.wrap(digits, position, digits.length - position).slice();
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.ratelimiter.handler;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractList;
+import java.util.RandomAccess;
+
+/**
+ * The redis keys of a rate limiter script, encoded once.
+ *
+ * <p>The keys of the frequent ids are kept in a hot key cache, so the script executor wraps the bytes encoded
+ * when the keys were built with {@link #encode(int)} instead of encoding the strings on every call.
+ */
+public final class ScriptKeys extends AbstractList<String> implements RandomAccess {
+
+    private final String[] keys;
+
+    private final byte[][] encoded;
+
+    private ScriptKeys(final String[] keys) {
+        this.keys = keys;
+        this.encoded = new byte[keys.length][];
+        for (int i = 0; i < keys.length; i++) {
+            encoded[i] = keys[i].getBytes(StandardCharsets.UTF_8);
+        }
+    }
+
+    /**
+     * Create the script keys.
+     *
+     * @param keys the keys
+     * @return the script keys
+     */
+    public static ScriptKeys of(final String... keys) {
+        return new ScriptKeys(keys.clone());
+    }
+
+    @Override
+    public String get(final int index) {
+        return keys[index];
+    }
+
+    @Override
+    public int size() {
+        return keys.length;
+    }
+
+    /**
+     * Wrap the utf-8 bytes of the key at the index.
+     *
+     * @param index the index
+     * @return the buffer
+     */
+    public ByteBuffer encode(final int index) {
+        return ByteBuffer.wrap(encoded[index]);
+    }
+}
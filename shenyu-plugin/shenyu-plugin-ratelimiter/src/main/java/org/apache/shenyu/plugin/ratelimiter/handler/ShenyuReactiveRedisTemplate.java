@@ -21,20 +21,20 @@ import java.util.List;
 
 import org.springframework.data.redis.connection.ReactiveRedisConnectionFactory;
 import org.springframework.data.redis.core.ReactiveRedisTemplate;
-import org.springframework.data.redis.core.script.ReactiveScriptExecutor;
 import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.data.redis.serializer.RedisElementReader;
 import org.springframework.data.redis.serializer.RedisElementWriter;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 /**
  * The type reactive redisTemplate.
  */
 public class ShenyuReactiveRedisTemplate<K, V> extends ReactiveRedisTemplate<K, V> {
 
-    private final ReactiveScriptExecutor<K> reactiveScriptExecutor;
+    private final ShenyuReactiveScriptExecutor<K> reactiveScriptExecutor;
 
     public ShenyuReactiveRedisTemplate(final ReactiveRedisConnectionFactory connectionFactory, final RedisSerializationContext<K, V> serializationContext) {
         super(connectionFactory, serializationContext);
@@ -51,4 +51,17 @@ public class ShenyuReactiveRedisTemplate<K, V> extends ReactiveRedisTemplate<K,
                                final RedisElementReader<T> resultReader) {
         return reactiveScriptExecutor.execute(script, keys, args, argsWriter, resultReader);
     }
+
+    /**
+     * Execute a script returning integers.
+     *
+     * @param script the script
+     * @param keys the keys
+     * @param args the args
+     * @return the integers returned by the script
+     * @see ShenyuReactiveScriptExecutor#executeForLongs(RedisScript, List, ScriptArgs)
+     */
+    public Mono<long[]> executeForLongs(final RedisScript<?> script, final List<String> keys, final ScriptArgs args) {
+        return reactiveScriptExecutor.executeForLongs(script, keys, args);
+    }
 }
@@ -18,7 +18,10 @@
 package org.apache.shenyu.plugin.ratelimiter.handler;
 
 import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Objects;
 
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.connection.ReactiveRedisConnection;
@@ -30,6 +33,7 @@ import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.data.redis.serializer.RedisElementReader;
 import org.springframework.data.redis.serializer.RedisElementWriter;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.util.Assert;
 
 import reactor.core.publisher.Flux;
@@ -37,10 +41,17 @@ import reactor.core.publisher.Mono;
 
 /**
  * The type reactive script executor.
+ *
+ * <p>All the scripts run on one reactive connection, opened on first use and shared afterwards. Lettuce multiplexes
+ * the shared native connection, so the commands of concurrent callers are pipelined on it instead of waiting for a connection.
  */
 @Slf4j
 public class ShenyuReactiveScriptExecutor<K> extends DefaultReactiveScriptExecutor<K> {
 
+    private static final RedisElementReader<String> RESULT_READER = RedisElementReader.from(RedisSerializer.string());
+
+    private volatile ReactiveRedisConnection connection;
+
     public ShenyuReactiveScriptExecutor(final ReactiveRedisConnectionFactory connectionFactory, final RedisSerializationContext<K, ?> serializationContext) {
         super(connectionFactory, serializationContext);
     }
@@ -63,8 +74,106 @@ public class ShenyuReactiveScriptExecutor<K> extends DefaultReactiveScriptExecut
 
     private <T> Flux<T> execute(final ReactiveRedisCallback<T> action) {
         Assert.notNull(action, "Callback object must not be null");
-        ReactiveRedisConnectionFactory factory = getConnectionFactory();
-        return Flux.usingWhen(Mono.fromSupplier(factory::getReactiveConnection), action::doInRedis, ReactiveRedisConnection::closeLater)
+        return Flux.defer(() -> action.doInRedis(connection()))
+                .doOnError(throwable -> log.error("Redis execute exception: {}", throwable.getMessage()));
+    }
+
+    /**
+     * Execute a script returning integers, keys are written as utf-8, once for {@link ScriptKeys}, and args are encoded without formatting strings.
+     * The script is sent with EVALSHA, and with EVAL when redis answers NOSCRIPT.
+     *
+     * @param script the script
+     * @param keys the keys
+     * @param args the args
+     * @return the integers returned by the script
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public Mono<long[]> executeForLongs(final RedisScript<?> script, final List<String> keys, final ScriptArgs args) {
+        Assert.notNull(script, "RedisScript must not be null!");
+        Assert.notNull(keys, "Keys must not be null!");
+        Assert.notNull(args, "Args must not be null!");
+        int keySize = keys.size();
+        ByteBuffer[] keysAndArgs = new ByteBuffer[keySize + args.size()];
+        if (keys instanceof ScriptKeys) {
+            for (int i = 0; i < keySize; i++) {
+                keysAndArgs[i] = ((ScriptKeys) keys).encode(i);
+            }
+        } else {
+            encodeKeys(keys, keysAndArgs);
+        }
+        for (int i = 0; i < args.size(); i++) {
+            keysAndArgs[keySize + i] = args.encode(i);
+        }
+        Flux<Object> results = Flux.defer(() -> super.eval(connection(), (RedisScript) script, ReturnType.MULTI, keySize, keysAndArgs, RESULT_READER));
+        return results.reduceWith(LongResults::new, LongResults::add)
+                .map(LongResults::toArray)
                 .doOnError(throwable -> log.error("Redis execute exception: {}", throwable.getMessage()));
     }
+
+    private static void encodeKeys(final List<String> keys, final ByteBuffer[] keysAndArgs) {
+        // the keys are slices of one array, a key which is not ascii is encoded as utf-8 on its own
+        int length = 0;
+        for (String key : keys) {
+            length += key.length();
+        }
+        byte[] bytes = new byte[length];
+        int offset = 0;
+        for (int i = 0; i < keys.size(); i++) {
+            String key = keys.get(i);
+            int start = offset;
+            boolean ascii = true;
+            for (int j = 0; j < key.length() && ascii; j++) {
+                char c = key.charAt(j);
+                ascii = c < 0x80;
+                if (ascii) {
+                    bytes[offset++] = (byte) c;
+                }
+            }
+            if (ascii) {
+                keysAndArgs[i] = ByteBuffer.wrap(bytes, start, key.length()).slice();
+            } else {
+                keysAndArgs[i] = ByteBuffer.wrap(key.getBytes(StandardCharsets.UTF_8));
+                offset = start;
+            }
+        }
+    }
+
+    private ReactiveRedisConnection connection() {
+        ReactiveRedisConnection current = connection;
+        if (Objects.isNull(current)) {
+            synchronized (this) {
+                current = connection;
+                if (Objects.isNull(current)) {
+                    current = getConnectionFactory().getReactiveConnection();
+                    connection = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    private static final class LongResults {
+
+        private long[] values = new long[2];
+
+        private int size;
+
+        LongResults add(final Object result) {
+            if (result instanceof List) {
+                for (Object element : (List<?>) result) {
+                    add(element);
+                }
+            } else if (result instanceof Number) {
+                if (size == values.length) {
+                    values = Arrays.copyOf(values, size << 1);
+                }
+                values[size++] = ((Number) result).longValue();
+            }
+            return this;
+        }
+
+        long[] toArray() {
+            return size == values.length ? values : Arrays.copyOf(values, size);
+        }
+    }
 }
@@ -0,0 +1,59 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.ratelimiter.resolver;
+
+import org.springframework.web.server.ServerWebExchange;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Resolve the key by joining the keys of several resolvers, such as a tenant header and a jwt claim.
+ */
+public final class CompositeKeyResolver implements RateLimiterKeyResolver {
+
+    private static final char SEPARATOR = '|';
+
+    private final List<RateLimiterKeyResolver> resolvers;
+
+    /**
+     * Instantiates a new composite key resolver.
+     *
+     * @param resolvers the resolvers
+     */
+    public CompositeKeyResolver(final List<RateLimiterKeyResolver> resolvers) {
+        this.resolvers = resolvers;
+    }
+
+    @Override
+    public String getKeyResolverName() {
+        return resolvers.stream().map(RateLimiterKeyResolver::getKeyResolverName).collect(Collectors.joining(","));
+    }
+
+    @Override
+    public String resolve(final ServerWebExchange exchange) {
+        StringBuilder key = new StringBuilder(64);
+        for (int i = 0; i < resolvers.size(); i++) {
+            if (i > 0) {
+                key.append(SEPARATOR);
+            }
+            key.append(resolvers.get(i).resolve(exchange));
+        }
+        return key.toString();
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.ratelimiter.resolver;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Function;
+
+/**
+ * Bounded cache of the values derived from the most frequent keys, such as the redis keys of the frequent identities.
+ *
+ * <p>The cache is a lock-free direct mapped table. Every hit raises the counter of the slot, and a miss on an occupied slot
+ * lowers it instead of replacing the entry, so a frequent key is only evicted by a colliding key seen more often.
+ * The counters are updated without synchronization, a lost update only delays a replacement.
+ *
+ * @param <V> the type of the values
+ */
+public final class HotKeyCache<V> {
+
+    private static final int MAX_HITS = 15;
+
+    private final AtomicReferenceArray<Entry<V>> slots;
+
+    private final int mask;
+
+    private final Function<String, V> loader;
+
+    /**
+     * Instantiates a new hot key cache.
+     *
+     * @param capacity the capacity, rounded up to a power of two
+     * @param loader   the loader of the values
+     */
+    public HotKeyCache(final int capacity, final Function<String, V> loader) {
+        int size = capacity <= 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+        this.slots = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+        this.loader = loader;
+    }
+
+    /**
+     * Get the value of the key, loaded on a miss.
+     *
+     * @param key the key
+     * @return the value
+     */
+    public V get(final String key) {
+        int hash = key.hashCode();
+        int index = (hash ^ (hash >>> 16)) & mask;
+        Entry<V> entry = slots.get(index);
+        if (Objects.nonNull(entry) && entry.key.equals(key)) {
+            if (entry.hits < MAX_HITS) {
+                entry.hits++;
+            }
+            return entry.value;
+        }
+        V value = loader.apply(key);
+        if (Objects.isNull(entry) || entry.hits == 0) {
+            slots.lazySet(index, new Entry<>(key, value));
+        } else {
+            entry.hits--;
+        }
+        return value;
+    }
+
+    private static final class Entry<V> {
+
+        private final String key;
+
+        private final V value;
+
+        private int hits;
+
+        Entry(final String key, final V value) {
+            this.key = key;
+            this.value = value;
+        }
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.ratelimiter.resolver;
+
+import org.springframework.web.server.ServerWebExchange;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.UnknownHostException;
+import java.util.Objects;
+
+/**
+ * Resolve the key from the network of the remote address, such as {@code 10.1.2.0/24} with a prefix of 24 bits.
+ * The prefix is capped to the length of the address, so one resolver can serve both ipv4 and ipv6 clients.
+ */
+public final class IpPrefixKeyResolver implements RateLimiterKeyResolver {
+
+    private final int prefixLength;
+
+    /**
+     * Instantiates a new ip prefix key resolver.
+     *
+     * @param prefixLength the prefix length in bits
+     */
+    public IpPrefixKeyResolver(final int prefixLength) {
+        this.prefixLength = Math.max(0, prefixLength);
+    }
+
+    @Override
+    public String getKeyResolverName() {
+        return RateLimiterKeyResolverFactory.IP_PREFIX + ":" + prefixLength;
+    }
+
+    @Override
+    public String resolve(final ServerWebExchange exchange) {
+        InetSocketAddress remoteAddress = exchange.getRequest().getRemoteAddress();
+        if (Objects.isNull(remoteAddress) || Objects.isNull(remoteAddress.getAddress())) {
+            return "";
+        }
+        byte[] address = remoteAddress.getAddress().getAddress();
+        int bits = Math.min(prefixLength, address.length * Byte.SIZE);
+        for (int i = 0; i < address.length; i++) {
+            int kept = bits - i * Byte.SIZE;
+            if (kept <= 0) {
+                address[i] = 0;
+            } else if (kept < Byte.SIZE) {
+                address[i] &= (byte) (0xFF << (Byte.SIZE - kept));
+            }
+        }
+        try {
+            return InetAddress.getByAddress(address).getHostAddress() + "/" + bits;
+        } catch (UnknownHostException e) {
+            return "";
+        }
+    }
+}
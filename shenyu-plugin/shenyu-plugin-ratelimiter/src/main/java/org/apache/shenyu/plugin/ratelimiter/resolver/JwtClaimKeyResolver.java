@@ -0,0 +1,98 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.ratelimiter.resolver;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.shenyu.common.utils.GsonUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.server.ServerWebExchange;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Objects;
+
+/**
+ * Resolve the key from a claim of the bearer token in the authorization header.
+ *
+ * <p>The token is only decoded, the signature is not verified here. A client can put any claim in an unverified token,
+ * so a rule using this resolver must only match requests the jwt plugin has verified before, the jwt plugin runs ahead of
+ * the rate limiter when it is enabled. The claims of the frequent tokens are kept in a {@link HotKeyCache},
+ * so a client sending the same token is decoded once.
+ */
+public final class JwtClaimKeyResolver implements RateLimiterKeyResolver {
+
+    private static final String BEARER = "Bearer ";
+
+    private static final int CACHE_CAPACITY = 1024;
+
+    private final String claim;
+
+    private final HotKeyCache<String> claims = new HotKeyCache<>(CACHE_CAPACITY, this::decode);
+
+    /**
+     * Instantiates a new jwt claim key resolver.
+     *
+     * @param claim the claim name
+     */
+    public JwtClaimKeyResolver(final String claim) {
+        this.claim = claim;
+    }
+
+    @Override
+    public String getKeyResolverName() {
+        return RateLimiterKeyResolverFactory.JWT_CLAIM + ":" + claim;
+    }
+
+    @Override
+    public String resolve(final ServerWebExchange exchange) {
+        String authorization = exchange.getRequest().getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+        if (StringUtils.isBlank(authorization)) {
+            return "";
+        }
+        String token = StringUtils.startsWithIgnoreCase(authorization, BEARER) ? authorization.substring(BEARER.length()).trim() : authorization.trim();
+        return claims.get(token);
+    }
+
+    /**
+     * Read the claim from the payload of the token, without verifying the signature.
+     * The jwt plugin has to verify the token first, otherwise the claim is whatever the client sent.
+     *
+     * @param token the token
+     * @return the claim, empty if it is missing
+     */
+    private String decode(final String token) {
+        int start = token.indexOf('.');
+        int end = token.indexOf('.', start + 1);
+        if (start < 0 || end < 0) {
+            return "";
+        }
+        try {
+            byte[] payload = Base64.getUrlDecoder().decode(token.substring(start + 1, end));
+            JsonObject payloadClaims = GsonUtils.getInstance().fromJson(new String(payload, StandardCharsets.UTF_8), JsonObject.class);
+            JsonElement value = Objects.isNull(payloadClaims) ? null : payloadClaims.get(claim);
+            if (Objects.isNull(value) || value.isJsonNull()) {
+                return "";
+            }
+            return value.isJsonPrimitive() ? value.getAsString() : value.toString();
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            return "";
+        }
+    }
+}
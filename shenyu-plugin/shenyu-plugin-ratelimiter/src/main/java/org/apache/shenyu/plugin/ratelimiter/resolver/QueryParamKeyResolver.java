@@ -0,0 +1,50 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.ratelimiter.resolver;
+
+import org.springframework.web.server.ServerWebExchange;
+
+import java.util.Objects;
+
+/**
+ * Resolve the key from a query parameter, a missing parameter resolves to an empty key.
+ */
+public final class QueryParamKeyResolver implements RateLimiterKeyResolver {
+
+    private final String paramName;
+
+    /**
+     * Instantiates a new query param key resolver.
+     *
+     * @param paramName the query parameter name
+     */
+    public QueryParamKeyResolver(final String paramName) {
+        this.paramName = paramName;
+    }
+
+    @Override
+    public String getKeyResolverName() {
+        return RateLimiterKeyResolverFactory.QUERY + ":" + paramName;
+    }
+
+    @Override
+    public String resolve(final ServerWebExchange exchange) {
+        String value = exchange.getRequest().getQueryParams().getFirst(paramName);
+        return Objects.isNull(value) ? "" : value;
+    }
+}
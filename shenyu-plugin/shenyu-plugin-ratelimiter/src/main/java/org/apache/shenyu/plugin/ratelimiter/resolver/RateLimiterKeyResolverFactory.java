@@ -17,13 +17,41 @@
 
 package org.apache.shenyu.plugin.ratelimiter.resolver;
 
+import org.apache.commons.lang3.StringUtils;
 import org.apache.shenyu.spi.ExtensionLoader;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * The type rate limiter key resolver factory.
  */
 public class RateLimiterKeyResolverFactory {
 
+    /**
+     * The header resolver, such as {@code header:X-User-Id}.
+     */
+    public static final String HEADER = "header";
+
+    /**
+     * The jwt claim resolver, such as {@code jwtClaim:sub}.
+     */
+    public static final String JWT_CLAIM = "jwtClaim";
+
+    /**
+     * The query parameter resolver, such as {@code query:appKey}.
+     */
+    public static final String QUERY = "query";
+
+    /**
+     * The ip prefix resolver, such as {@code ipPrefix:24}.
+     */
+    public static final String IP_PREFIX = "ipPrefix";
+
+    private static final String ELEMENT_SEPARATOR = ",";
+
+    private static final char ARGUMENT_SEPARATOR = ':';
+
     /**
      * New instance rate limiter key resolver.
      *
@@ -33,4 +61,50 @@ public class RateLimiterKeyResolverFactory {
     public static RateLimiterKeyResolver newInstance(final String name) {
         return ExtensionLoader.getExtensionLoader(RateLimiterKeyResolver.class).getJoin(name);
     }
+
+    /**
+     * Create the resolver of a key resolver expression, which is either the name of a resolver extension,
+     * a parameterized resolver such as {@code header:X-Tenant}, or a comma separated list of both,
+     * such as {@code header:X-Tenant,jwtClaim:sub}.
+     *
+     * @param expression the expression
+     * @return the rate limiter key resolver
+     */
+    public static RateLimiterKeyResolver create(final String expression) {
+        String[] elements = StringUtils.split(expression, ELEMENT_SEPARATOR);
+        List<RateLimiterKeyResolver> resolvers = new ArrayList<>(elements.length);
+        for (String element : elements) {
+            if (StringUtils.isNotBlank(element)) {
+                resolvers.add(createElement(element.trim()));
+            }
+        }
+        if (resolvers.isEmpty()) {
+            throw new IllegalArgumentException("empty rate limiter key resolver: " + expression);
+        }
+        return resolvers.size() == 1 ? resolvers.get(0) : new CompositeKeyResolver(resolvers);
+    }
+
+    private static RateLimiterKeyResolver createElement(final String element) {
+        int index = element.indexOf(ARGUMENT_SEPARATOR);
+        if (index < 0) {
+            return newInstance(element);
+        }
+        String type = element.substring(0, index).trim();
+        String argument = element.substring(index + 1).trim();
+        if (StringUtils.isEmpty(argument)) {
+            throw new IllegalArgumentException("missing argument of rate limiter key resolver: " + element);
+        }
+        switch (type) {
+            case HEADER:
+                return new HeaderKeyResolver(argument);
+            case JWT_CLAIM:
+                return new JwtClaimKeyResolver(argument);
+            case QUERY:
+                return new QueryParamKeyResolver(argument);
+            case IP_PREFIX:
+                return new IpPrefixKeyResolver(Integer.parseInt(argument));
+            default:
+                throw new IllegalArgumentException("unknown rate limiter key resolver: " + element);
+        }
+    }
 }
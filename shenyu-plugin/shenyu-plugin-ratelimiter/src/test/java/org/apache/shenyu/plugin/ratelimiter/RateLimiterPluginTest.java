@@ -21,13 +21,17 @@ import org.apache.shenyu.common.dto.RuleData;
 import org.apache.shenyu.common.dto.SelectorData;
 import org.apache.shenyu.common.dto.convert.RateLimiterHandle;
 import org.apache.shenyu.common.enums.PluginEnum;
+import org.apache.shenyu.common.enums.RateLimiterModeEnum;
 import org.apache.shenyu.plugin.api.ShenyuPluginChain;
 import org.apache.shenyu.plugin.api.result.DefaultShenyuResult;
 import org.apache.shenyu.plugin.api.result.ShenyuResult;
 import org.apache.shenyu.plugin.api.utils.SpringBeanUtils;
 import org.apache.shenyu.plugin.base.utils.CacheKeyUtils;
+import org.apache.shenyu.plugin.ratelimiter.executor.LeasedRateLimiter;
+import org.apache.shenyu.plugin.ratelimiter.executor.LocalRateLimiter;
 import org.apache.shenyu.plugin.ratelimiter.executor.RedisRateLimiter;
 import org.apache.shenyu.plugin.ratelimiter.handler.RateLimiterPluginDataHandler;
+import org.apache.shenyu.plugin.ratelimiter.handler.RateLimiterRuleHolder;
 import org.apache.shenyu.plugin.ratelimiter.response.RateLimiterResponse;
 import org.junit.Assert;
 import org.junit.Before;
@@ -42,9 +46,13 @@ import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
+import java.util.function.Supplier;
+
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 /**
@@ -57,6 +65,8 @@ public final class RateLimiterPluginTest {
 
     private RedisRateLimiter redisRateLimiter;
 
+    private LeasedRateLimiter leasedRateLimiter;
+
     private RuleData ruleData;
 
     private SelectorData selectorData;
@@ -68,11 +78,12 @@ public final class RateLimiterPluginTest {
     @Before
     public void setup() {
         this.redisRateLimiter = mock(RedisRateLimiter.class);
+        this.leasedRateLimiter = mock(LeasedRateLimiter.class);
         this.exchange = MockServerWebExchange.from(MockServerHttpRequest.get("localhost").build());
         this.chain = mock(ShenyuPluginChain.class);
         this.ruleData = mock(RuleData.class);
         this.selectorData = mock(SelectorData.class);
-        this.rateLimiterPlugin = new RateLimiterPlugin(redisRateLimiter);
+        this.rateLimiterPlugin = new RateLimiterPlugin(redisRateLimiter, new LocalRateLimiter(), leasedRateLimiter);
     }
 
     /**
@@ -103,6 +114,85 @@ public final class RateLimiterPluginTest {
         Assert.assertEquals(HttpStatus.TOO_MANY_REQUESTS, exchange.getResponse().getStatusCode());
     }
 
+    /**
+     * rateLimiterPlugin doExecute , local mode case.
+     */
+    @Test
+    public void doExecuteLocalModeTest() {
+        RateLimiterHandle rateLimiterHandle = doExecutePreInit();
+        rateLimiterHandle.setLimiterMode(RateLimiterModeEnum.LOCAL.getName());
+        rateLimiterHandle.setAlgorithmName("concurrent");
+        rateLimiterHandle.setBurstCapacity(1);
+        ConfigurableApplicationContext context = mock(ConfigurableApplicationContext.class);
+        when(context.getBean(ShenyuResult.class)).thenReturn(new DefaultShenyuResult());
+        SpringBeanUtils.getInstance().setCfgContext(context);
+        StepVerifier.create(rateLimiterPlugin.doExecute(exchange, chain, selectorData, ruleData)).expectSubscription().verifyComplete();
+        Assert.assertNull(exchange.getResponse().getStatusCode());
+        StepVerifier.create(rateLimiterPlugin.doExecute(exchange, chain, selectorData, ruleData)).expectSubscription().verifyComplete();
+        Assert.assertNull(exchange.getResponse().getStatusCode());
+        when(chain.execute(any())).thenReturn(Mono.never());
+        rateLimiterPlugin.doExecute(exchange, chain, selectorData, ruleData).subscribe();
+        StepVerifier.create(rateLimiterPlugin.doExecute(exchange, chain, selectorData, ruleData)).expectSubscription().verifyComplete();
+        Assert.assertEquals(HttpStatus.TOO_MANY_REQUESTS, exchange.getResponse().getStatusCode());
+        verify(redisRateLimiter, never()).isAllowed(anyString(), any(RateLimiterHandle.class));
+    }
+
+    /**
+     * rateLimiterPlugin doExecute , cluster mode limits within the share of the node.
+     */
+    @Test
+    public void doExecuteClusterModeTest() {
+        RateLimiterHandle rateLimiterHandle = doExecutePreInit();
+        rateLimiterHandle.setLimiterMode(RateLimiterModeEnum.CLUSTER.getName());
+        rateLimiterHandle.setAlgorithmName("tokenBucket");
+        rateLimiterHandle.setBurstCapacity(1);
+        ConfigurableApplicationContext context = mock(ConfigurableApplicationContext.class);
+        when(context.getBean(ShenyuResult.class)).thenReturn(new DefaultShenyuResult());
+        SpringBeanUtils.getInstance().setCfgContext(context);
+        StepVerifier.create(rateLimiterPlugin.doExecute(exchange, chain, selectorData, ruleData)).expectSubscription().verifyComplete();
+        Assert.assertNull(exchange.getResponse().getStatusCode());
+        StepVerifier.create(rateLimiterPlugin.doExecute(exchange, chain, selectorData, ruleData)).expectSubscription().verifyComplete();
+        Assert.assertEquals(HttpStatus.TOO_MANY_REQUESTS, exchange.getResponse().getStatusCode());
+        verify(redisRateLimiter, never()).isAllowed(anyString(), any(RateLimiterHandle.class));
+    }
+
+    /**
+     * rateLimiterPlugin doExecute , hybrid mode falls back to the local limiter.
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    public void doExecuteHybridModeTest() {
+        RateLimiterHandle rateLimiterHandle = doExecutePreInit();
+        rateLimiterHandle.setLimiterMode(RateLimiterModeEnum.HYBRID.getName());
+        rateLimiterHandle.setAlgorithmName("tokenBucket");
+        rateLimiterHandle.setBurstCapacity(1);
+        when(leasedRateLimiter.isAllowed(anyString(), any(RateLimiterHandle.class), any(Supplier.class)))
+                .thenAnswer(invocation -> Mono.fromSupplier(invocation.getArgument(2)));
+        ConfigurableApplicationContext context = mock(ConfigurableApplicationContext.class);
+        when(context.getBean(ShenyuResult.class)).thenReturn(new DefaultShenyuResult());
+        SpringBeanUtils.getInstance().setCfgContext(context);
+        StepVerifier.create(rateLimiterPlugin.doExecute(exchange, chain, selectorData, ruleData)).expectSubscription().verifyComplete();
+        Assert.assertNull(exchange.getResponse().getStatusCode());
+        StepVerifier.create(rateLimiterPlugin.doExecute(exchange, chain, selectorData, ruleData)).expectSubscription().verifyComplete();
+        Assert.assertEquals(HttpStatus.TOO_MANY_REQUESTS, exchange.getResponse().getStatusCode());
+        verify(redisRateLimiter, never()).isAllowed(anyString(), any(RateLimiterHandle.class), any(Supplier.class));
+    }
+
+    /**
+     * rateLimiterPlugin doExecute , hybrid mode asks redis for the concurrent algorithm.
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    public void doExecuteHybridModeConcurrentTest() {
+        RateLimiterHandle rateLimiterHandle = doExecutePreInit();
+        rateLimiterHandle.setLimiterMode(RateLimiterModeEnum.HYBRID.getName());
+        rateLimiterHandle.setAlgorithmName("concurrent");
+        when(redisRateLimiter.isAllowed(anyString(), any(RateLimiterHandle.class), any(Supplier.class)))
+                .thenReturn(Mono.just(new RateLimiterResponse(true, 1)));
+        StepVerifier.create(rateLimiterPlugin.doExecute(exchange, chain, selectorData, ruleData)).expectSubscription().verifyComplete();
+        verify(leasedRateLimiter, never()).isAllowed(anyString(), any(RateLimiterHandle.class), any(Supplier.class));
+    }
+
     /**
      * named default value test case.
      */
@@ -122,10 +212,11 @@ public final class RateLimiterPluginTest {
     /**
      * rateLimiterPlugin doExecute Test prev init.
      */
-    private void doExecutePreInit() {
+    private RateLimiterHandle doExecutePreInit() {
         RateLimiterHandle rateLimiterHandle = mockRateLimiterHandler();
         when(chain.execute(any())).thenReturn(Mono.empty());
-        RateLimiterPluginDataHandler.CACHED_HANDLE.get().cachedHandle(CacheKeyUtils.INST.getKey(ruleData), rateLimiterHandle);
+        RateLimiterPluginDataHandler.CACHED_HANDLE.get().cachedHandle(CacheKeyUtils.INST.getKey(ruleData), RateLimiterRuleHolder.of(ruleData.getId(), rateLimiterHandle));
+        return rateLimiterHandle;
     }
 
     /**
@@ -0,0 +1,122 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.ratelimiter.algorithm;
+
+import org.apache.shenyu.plugin.ratelimiter.response.RateLimiterResponse;
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test cases for the {@link LocalRateLimiterState} of the algorithms.
+ */
+public final class LocalRateLimiterStateTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private static final long NOW = 1000 * SECOND;
+
+    @Test
+    public void tokenBucketTest() {
+        LocalRateLimiterState state = new TokenBucketRateLimiterAlgorithm().newLocalState();
+        assertTrue(state.isIdle(NOW));
+        for (int i = 9; i >= 0; i--) {
+            RateLimiterResponse response = state.tryAcquire(5, 10, 1, NOW);
+            assertTrue(response.isAllowed());
+            assertEquals(i, response.getTokensRemaining());
+        }
+        assertFalse(state.tryAcquire(5, 10, 1, NOW).isAllowed());
+        assertFalse(state.isIdle(NOW));
+        RateLimiterResponse refilled = state.tryAcquire(5, 10, 1, NOW + SECOND);
+        assertTrue(refilled.isAllowed());
+        assertEquals(4, refilled.getTokensRemaining());
+        assertFalse(state.tryAcquire(5, 10, 5, NOW + SECOND).isAllowed());
+        assertTrue(state.tryAcquire(5, 10, 4, NOW + SECOND).isAllowed());
+        assertTrue(state.isIdle(NOW + 3 * SECOND));
+    }
+
+    @Test
+    public void leakyBucketTest() {
+        LocalRateLimiterState state = new LeakyBucketRateLimiterAlgorithm().newLocalState();
+        assertEquals(2, state.tryAcquire(1, 3, 2, NOW).getTokensRemaining());
+        RateLimiterResponse response = state.tryAcquire(1, 3, 1, NOW);
+        assertTrue(response.isAllowed());
+        assertEquals(3, response.getTokensRemaining());
+        assertFalse(state.tryAcquire(1, 3, 1, NOW).isAllowed());
+        assertTrue(state.tryAcquire(1, 3, 1, NOW + SECOND).isAllowed());
+        assertFalse(state.tryAcquire(0, 3, 1, NOW + SECOND).isAllowed());
+    }
+
+    @Test
+    public void slidingWindowTest() {
+        LocalRateLimiterState state = new SlidingWindowRateLimiterAlgorithm().newLocalState();
+        for (int i = 0; i < 10; i++) {
+            assertTrue(state.tryAcquire(10, 10, 1, NOW).isAllowed());
+        }
+        RateLimiterResponse response = state.tryAcquire(10, 10, 1, NOW);
+        assertFalse(response.isAllowed());
+        assertEquals(0, response.getTokensRemaining());
+        assertFalse(state.tryAcquire(10, 10, 1, NOW + SECOND / 2).isAllowed());
+        assertTrue(state.tryAcquire(10, 10, 1, NOW + SECOND + SECOND / 2).isAllowed());
+        assertFalse(state.isIdle(NOW + 2 * SECOND));
+        assertTrue(state.isIdle(NOW + 3 * SECOND));
+        assertTrue(state.tryAcquire(10, 10, 1, NOW + 3 * SECOND).isAllowed());
+    }
+
+    @Test
+    public void slidingWindowRaceTest() throws InterruptedException {
+        LocalRateLimiterState state = new SlidingWindowRateLimiterAlgorithm().newLocalState();
+        AtomicInteger allowed = new AtomicInteger();
+        Thread[] threads = new Thread[8];
+        for (int t = 0; t < threads.length; t++) {
+            threads[t] = new Thread(() -> {
+                for (int i = 0; i < 1000; i++) {
+                    if (state.tryAcquire(100, 500, 1, NOW).isAllowed()) {
+                        allowed.incrementAndGet();
+                    }
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(500, allowed.get());
+    }
+
+    @Test
+    public void concurrentTest() {
+        LocalRateLimiterState state = new ConcurrentRateLimiterAlgorithm().newLocalState();
+        assertTrue(state.tryAcquire(1, 2, 1, NOW).isAllowed());
+        assertTrue(state.tryAcquire(1, 2, 1, NOW).isAllowed());
+        assertFalse(state.tryAcquire(1, 2, 1, NOW).isAllowed());
+        assertFalse(state.isIdle(NOW));
+        state.release();
+        assertTrue(state.tryAcquire(1, 2, 1, NOW).isAllowed());
+        state.release();
+        state.release();
+        state.release();
+        assertTrue(state.isIdle(NOW));
+        assertEquals(1, state.tryAcquire(1, 2, 1, NOW).getTokensRemaining());
+    }
+}
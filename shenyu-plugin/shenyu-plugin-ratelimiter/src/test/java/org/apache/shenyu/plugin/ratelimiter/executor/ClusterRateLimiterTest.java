@@ -0,0 +1,233 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.ratelimiter.executor;
+
+import org.apache.shenyu.common.dto.QuotaData;
+import org.apache.shenyu.common.dto.convert.RateLimiterHandle;
+import org.apache.shenyu.common.utils.QuotaTable;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test case for {@link ClusterRateLimiter}.
+ */
+public final class ClusterRateLimiterTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private static final long TICK = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private static final double LIMIT = 100;
+
+    private static final long NODE_EXPIRE_MILLIS = TimeUnit.SECONDS.toMillis(10);
+
+    private ClusterRateLimiter clusterRateLimiter;
+
+    private RateLimiterHandle rateLimiterHandle;
+
+    @Before
+    public void setUp() {
+        clusterRateLimiter = new ClusterRateLimiter();
+        rateLimiterHandle = new RateLimiterHandle();
+        rateLimiterHandle.setAlgorithmName("tokenBucket");
+        rateLimiterHandle.setReplenishRate(LIMIT);
+        rateLimiterHandle.setBurstCapacity(10);
+    }
+
+    @Test
+    public void isAllowedWithinShareTest() {
+        long now = System.nanoTime();
+        assertEquals(10, admit("rule", 20, now));
+        clusterRateLimiter.report(now);
+        clusterRateLimiter.onSubscribe(Collections.singletonList(new QuotaData("rule", LIMIT, 20, 20)));
+        // a fifth of the limit, so a fifth of the burst once the bucket refilled
+        assertEquals(2, admit("rule", 20, now + SECOND));
+        clusterRateLimiter.onSubscribe(Collections.singletonList(new QuotaData("rule", LIMIT, 20, 0)));
+        assertEquals(0, admit("rule", 20, now + 2 * SECOND));
+    }
+
+    @Test
+    public void reportTest() {
+        long now = System.nanoTime();
+        clusterRateLimiter.report(now);
+        admit("rule", 30, now);
+        List<QuotaData> quotaDataList = clusterRateLimiter.report(now + SECOND);
+        assertEquals(1, quotaDataList.size());
+        assertEquals("rule", quotaDataList.get(0).getKey());
+        assertEquals(LIMIT, quotaDataList.get(0).getLimit(), 1e-9);
+        assertEquals(30, quotaDataList.get(0).getDemand(), 1e-9);
+        admit("rule", 10, now + SECOND);
+        assertEquals(20, clusterRateLimiter.report(now + 2 * SECOND).get(0).getDemand(), 1e-9);
+        for (int i = 3; i <= 5; i++) {
+            clusterRateLimiter.report(now + i * SECOND);
+        }
+        // the key is forgotten with a last report without demand
+        assertEquals(0, clusterRateLimiter.report(now + 6 * SECOND).get(0).getDemand(), 1e-9);
+        assertTrue(clusterRateLimiter.report(now + 7 * SECOND).isEmpty());
+        assertEquals(0, clusterRateLimiter.size());
+    }
+
+    @Test
+    public void onSubscribeUnknownKeyTest() {
+        clusterRateLimiter.onSubscribe(Collections.singletonList(new QuotaData("missing", LIMIT, 0, 0)));
+        assertEquals(0, clusterRateLimiter.size());
+    }
+
+    @Test
+    public void releaseTest() {
+        rateLimiterHandle.setAlgorithmName("concurrent");
+        rateLimiterHandle.setBurstCapacity(2);
+        assertTrue(clusterRateLimiter.isAllowed("rule", rateLimiterHandle).isAllowed());
+        assertTrue(clusterRateLimiter.isAllowed("rule", rateLimiterHandle).isAllowed());
+        assertFalse(clusterRateLimiter.isAllowed("rule", rateLimiterHandle).isAllowed());
+        clusterRateLimiter.release("rule", rateLimiterHandle);
+        assertTrue(clusterRateLimiter.isAllowed("rule", rateLimiterHandle).isAllowed());
+        clusterRateLimiter.release("missing", rateLimiterHandle);
+    }
+
+    @Test
+    public void algorithmChangedKeepsShareTest() {
+        long now = System.nanoTime();
+        admit("rule", 1, now);
+        clusterRateLimiter.onSubscribe(Collections.singletonList(new QuotaData("rule", LIMIT, 1, 50)));
+        rateLimiterHandle.setAlgorithmName("leakyBucket");
+        assertEquals(5, admit("rule", 20, now));
+        assertEquals(1, clusterRateLimiter.size());
+    }
+
+    /**
+     * Four nodes share a limit of 100 per second under skewed traffic, the hot node moves halfway.
+     */
+    @Test
+    public void simulateSkewedTrafficTest() {
+        double[][] phases = {{300, 60, 20, 0}, {0, 60, 20, 300}};
+        long[][] admitted = simulate(phases, 10, true);
+        // steady state of the first phase: the small node gets all it asks, the others split the rest
+        long[] steady = sum(admitted, 3, 10);
+        assertEquals(7 * 20, steady[2], 7 * 2);
+        assertEquals(steady[0], steady[1], 7 * 5);
+        assertWithinLimit(admitted, 3, 10);
+        // the share follows the hot node once it moved
+        long[] moved = sum(admitted, 16, 20);
+        assertTrue(moved[3] > 4 * 30);
+        assertEquals(moved[1], moved[3], 4 * 5);
+        assertEquals(4 * 20, moved[2], 4 * 2);
+        assertWithinLimit(admitted, 12, 20);
+        // the nodes limiting on their own admit whatever each one is offered up to the limit
+        long[][] uncoordinated = simulate(phases, 10, false);
+        assertTrue(IntStream.of(3, 4, 5).mapToLong(second -> total(uncoordinated[second])).min().getAsLong() > 1.5 * LIMIT);
+    }
+
+    /**
+     * Three nodes share the limit, the hot node goes down after a while and its share goes back to the others
+     * once admin forgot it.
+     */
+    @Test
+    public void simulateNodeLeavesTest() {
+        double[][] phases = {{300, 80, 80}, {-1, 80, 80}};
+        long[][] admitted = simulate(phases, 15, true);
+        assertWithinLimit(admitted, 3, 15);
+        // until the demand of the node which left expires, the others keep the shares they had
+        long[] stale = sum(admitted, 16, 25);
+        assertTrue(total(stale) < 0.8 * LIMIT * 9);
+        // then they split the whole limit
+        long[] recovered = sum(admitted, 27, 30);
+        assertEquals(0, recovered[0]);
+        assertEquals(3 * LIMIT / 2, recovered[1], 3 * 5);
+        assertEquals(3 * LIMIT / 2, recovered[2], 3 * 5);
+    }
+
+    private long admit(final String id, final int requests, final long now) {
+        return IntStream.range(0, requests).filter(i -> clusterRateLimiter.isAllowed(id, rateLimiterHandle, now).isAllowed()).count();
+    }
+
+    private long[][] simulate(final double[][] phases, final int phaseSeconds, final boolean coordinated) {
+        int nodes = phases[0].length;
+        List<ClusterRateLimiter> limiters = new ArrayList<>(nodes);
+        IntStream.range(0, nodes).forEach(i -> limiters.add(new ClusterRateLimiter()));
+        QuotaTable quotaTable = new QuotaTable(NODE_EXPIRE_MILLIS, 100, 100);
+        long start = System.nanoTime();
+        limiters.forEach(limiter -> limiter.report(start));
+        long ticks = SECOND / TICK;
+        long[][] admitted = new long[phases.length * phaseSeconds][nodes];
+        double[] offered = new double[nodes];
+        for (int second = 0; second < admitted.length; second++) {
+            double[] rates = phases[second / phaseSeconds];
+            for (long tick = 1; tick <= ticks; tick++) {
+                long now = start + second * SECOND + tick * TICK;
+                for (int node = 0; node < nodes; node++) {
+                    if (rates[node] < 0) {
+                        // the node is down, it neither serves nor reports
+                        continue;
+                    }
+                    offered[node] += rates[node] * TICK / SECOND;
+                    for (; offered[node] >= 1; offered[node]--) {
+                        if (limiters.get(node).isAllowed("rule", rateLimiterHandle, now).isAllowed()) {
+                            admitted[second][node]++;
+                        }
+                    }
+                    // the nodes report once a second each, at their own time within the second
+                    if (coordinated && tick == (node + 1) * ticks / (nodes + 1)) {
+                        coordinate(quotaTable, "node-" + node, limiters.get(node), now);
+                    }
+                }
+            }
+        }
+        return admitted;
+    }
+
+    private void coordinate(final QuotaTable quotaTable, final String nodeId, final ClusterRateLimiter limiter, final long now) {
+        List<QuotaData> shares = new ArrayList<>();
+        for (QuotaData quotaData : limiter.report(now)) {
+            double share = quotaTable.report(nodeId, quotaData.getKey(), quotaData.getLimit(), quotaData.getDemand(), TimeUnit.NANOSECONDS.toMillis(now));
+            shares.add(new QuotaData(quotaData.getKey(), quotaData.getLimit(), quotaData.getDemand(), share));
+        }
+        limiter.onSubscribe(shares);
+    }
+
+    private void assertWithinLimit(final long[][] admitted, final int from, final int to) {
+        long[] window = sum(admitted, from, to);
+        long total = total(window);
+        assertTrue("admitted " + total, total <= LIMIT * (to - from) + rateLimiterHandle.getBurstCapacity());
+        assertTrue("admitted " + total, total >= LIMIT * (to - from) * 0.9);
+    }
+
+    private static long[] sum(final long[][] admitted, final int from, final int to) {
+        long[] window = new long[admitted[0].length];
+        for (int second = from; second < to; second++) {
+            for (int node = 0; node < window.length; node++) {
+                window[node] += admitted[second][node];
+            }
+        }
+        return window;
+    }
+
+    private static long total(final long[] admitted) {
+        return IntStream.range(0, admitted.length).mapToLong(node -> admitted[node]).sum();
+    }
+}
@@ -0,0 +1,170 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.ratelimiter.executor;
+
+import org.apache.shenyu.common.dto.PluginData;
+import org.apache.shenyu.common.dto.convert.RateLimiterHandle;
+import org.apache.shenyu.common.utils.GsonUtils;
+import org.apache.shenyu.plugin.base.utils.Singleton;
+import org.apache.shenyu.plugin.ratelimiter.config.RateLimiterConfig;
+import org.apache.shenyu.plugin.ratelimiter.handler.RateLimiterPluginDataHandler;
+import org.apache.shenyu.plugin.ratelimiter.response.RateLimiterResponse;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import reactor.core.publisher.Flux;
+import redis.embedded.RedisServer;
+
+import java.lang.reflect.Field;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test case for {@link LeasedRateLimiter}.
+ */
+public final class LeasedRateLimiterTest {
+
+    private static RedisServer redisServer;
+
+    private RateLimiterHandle rateLimiterHandle;
+
+    @BeforeClass
+    public static void startup() {
+        redisServer = RedisServer.builder()
+                .port(63793)
+                .setting("maxmemory 64m")
+                .build();
+        redisServer.start();
+    }
+
+    @Before
+    public void setUp() {
+        RateLimiterConfig config = new RateLimiterConfig();
+        config.setUrl("127.0.0.1:63793");
+        new RateLimiterPluginDataHandler().handlerPlugin(PluginData.builder()
+                .enabled(true)
+                .config(GsonUtils.getInstance().toJson(config))
+                .build());
+        rateLimiterHandle = new RateLimiterHandle();
+        rateLimiterHandle.setAlgorithmName("tokenBucket");
+        rateLimiterHandle.setReplenishRate(100);
+        rateLimiterHandle.setBurstCapacity(1000);
+    }
+
+    @Test
+    public void isAllowedTest() {
+        LeasedRateLimiter[] nodes = {new LeasedRateLimiter(), new LeasedRateLimiter(), new LeasedRateLimiter(), new LeasedRateLimiter()};
+        int requests = 4000;
+        int allowed = 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < requests; i++) {
+            RateLimiterResponse response = nodes[i % nodes.length].isAllowed("isAllowed", rateLimiterHandle, () -> new RateLimiterResponse(true, -1)).block();
+            if (response.isAllowed()) {
+                allowed++;
+            }
+        }
+        double elapsed = (double) (System.nanoTime() - start) / TimeUnit.SECONDS.toNanos(1);
+        long leaseCalls = 0;
+        for (LeasedRateLimiter node : nodes) {
+            leaseCalls += node.getLeaseCalls();
+        }
+        // never more than the bucket hands out, and at most a lease per node parked when the loop ends
+        assertThat((double) allowed, lessThanOrEqualTo(1000 + 100 * Math.ceil(elapsed)));
+        assertThat(allowed, greaterThanOrEqualTo(1000 - nodes.length * 100));
+        assertThat(leaseCalls, lessThan((long) requests / 10));
+    }
+
+    @Test
+    public void sweepTest() throws InterruptedException {
+        LeasedRateLimiter leasedRateLimiter = new LeasedRateLimiter();
+        rateLimiterHandle.setReplenishRate(0.001);
+        for (int i = 0; i < 50; i++) {
+            assertTrue(leasedRateLimiter.isAllowed("sweep", rateLimiterHandle, () -> new RateLimiterResponse(false, 0)).block().isAllowed());
+        }
+        ReactiveRedisTemplate<String, String> redisTemplate = Singleton.INST.get(ReactiveRedisTemplate.class);
+        long inBucket = 0;
+        // a prefetched lease may still be on its way, sweep until every unused token went back
+        for (int i = 0; i < 100 && inBucket != 950; i++) {
+            leasedRateLimiter.sweep(System.nanoTime() + TimeUnit.SECONDS.toNanos(2));
+            TimeUnit.MILLISECONDS.sleep(10);
+            inBucket = (long) Double.parseDouble(redisTemplate.opsForValue().get("request_lease_rate_limiter.{sweep}.tokens").block());
+        }
+        assertEquals(950, inBucket);
+    }
+
+    @Test
+    public void closeTest() throws Exception {
+        LeasedRateLimiter leasedRateLimiter = new LeasedRateLimiter();
+        rateLimiterHandle.setReplenishRate(0.001);
+        assertTrue(leasedRateLimiter.isAllowed("close", rateLimiterHandle, () -> new RateLimiterResponse(false, 0)).block().isAllowed());
+        // let a prefetched lease land before closing
+        TimeUnit.MILLISECONDS.sleep(100);
+        Field field = LeasedRateLimiter.class.getDeclaredField("sweeper");
+        field.setAccessible(true);
+        ScheduledExecutorService sweeper = (ScheduledExecutorService) field.get(leasedRateLimiter);
+        assertFalse(sweeper.isShutdown());
+        leasedRateLimiter.close();
+        assertTrue(sweeper.isShutdown());
+        ReactiveRedisTemplate<String, String> redisTemplate = Singleton.INST.get(ReactiveRedisTemplate.class);
+        long inBucket = 0;
+        for (int i = 0; i < 100 && inBucket != 999; i++) {
+            TimeUnit.MILLISECONDS.sleep(10);
+            inBucket = (long) Double.parseDouble(redisTemplate.opsForValue().get("request_lease_rate_limiter.{close}.tokens").block());
+        }
+        assertEquals(999, inBucket);
+        assertTrue(leasedRateLimiter.isAllowed("close", rateLimiterHandle, () -> new RateLimiterResponse(false, 0)).block().isAllowed());
+        assertNull(field.get(leasedRateLimiter));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void fallbackTest() {
+        ReactiveRedisTemplate<String, String> redisTemplate = Singleton.INST.get(ReactiveRedisTemplate.class);
+        ReactiveRedisTemplate<String, String> failingTemplate = mock(ReactiveRedisTemplate.class);
+        when(failingTemplate.execute(any(RedisScript.class), anyList(), anyList())).thenReturn(Flux.error(new IllegalStateException()));
+        Singleton.INST.single(ReactiveRedisTemplate.class, failingTemplate);
+        try {
+            RateLimiterResponse response = new LeasedRateLimiter().isAllowed("fallback", rateLimiterHandle, () -> new RateLimiterResponse(false, 7)).block();
+            assertFalse(response.isAllowed());
+            assertEquals(7, response.getTokensRemaining());
+        } finally {
+            Singleton.INST.single(ReactiveRedisTemplate.class, redisTemplate);
+        }
+    }
+
+    @AfterClass
+    public static void end() {
+        redisServer.stop();
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.ratelimiter.executor;
+
+import org.apache.shenyu.common.dto.convert.RateLimiterHandle;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test case for {@link LocalRateLimiter}.
+ */
+public final class LocalRateLimiterTest {
+
+    private LocalRateLimiter localRateLimiter;
+
+    private RateLimiterHandle rateLimiterHandle;
+
+    @Before
+    public void setUp() {
+        localRateLimiter = new LocalRateLimiter();
+        rateLimiterHandle = new RateLimiterHandle();
+        rateLimiterHandle.setAlgorithmName("tokenBucket");
+        rateLimiterHandle.setReplenishRate(1);
+        rateLimiterHandle.setBurstCapacity(2);
+    }
+
+    @Test
+    public void isAllowedTest() {
+        assertTrue(localRateLimiter.isAllowed("rule", rateLimiterHandle).isAllowed());
+        assertTrue(localRateLimiter.isAllowed("rule", rateLimiterHandle).isAllowed());
+        assertFalse(localRateLimiter.isAllowed("rule", rateLimiterHandle).isAllowed());
+        assertTrue(localRateLimiter.isAllowed("other", rateLimiterHandle).isAllowed());
+        rateLimiterHandle.setAlgorithmName("concurrent");
+        assertTrue(localRateLimiter.isAllowed("rule", rateLimiterHandle).isAllowed());
+        assertEquals(3, localRateLimiter.size());
+    }
+
+    @Test
+    public void releaseTest() {
+        rateLimiterHandle.setAlgorithmName("concurrent");
+        assertTrue(localRateLimiter.isAllowed("rule", rateLimiterHandle).isAllowed());
+        assertTrue(localRateLimiter.isAllowed("rule", rateLimiterHandle).isAllowed());
+        assertFalse(localRateLimiter.isAllowed("rule", rateLimiterHandle).isAllowed());
+        localRateLimiter.release("rule", rateLimiterHandle);
+        assertTrue(localRateLimiter.isAllowed("rule", rateLimiterHandle).isAllowed());
+        localRateLimiter.release("missing", rateLimiterHandle);
+        rateLimiterHandle.setAlgorithmName("leakyBucket");
+        localRateLimiter.release("rule", rateLimiterHandle);
+    }
+
+    @Test
+    public void boundedTest() {
+        localRateLimiter = new LocalRateLimiter(100, TimeUnit.MINUTES.toNanos(10));
+        rateLimiterHandle.setReplenishRate(1000);
+        for (int i = 0; i < 3000; i++) {
+            assertTrue(localRateLimiter.isAllowed("key" + i, rateLimiterHandle).isAllowed());
+        }
+        assertTrue(localRateLimiter.size() <= 100);
+    }
+
+    @Test
+    public void expireTest() throws InterruptedException {
+        localRateLimiter = new LocalRateLimiter(100, TimeUnit.MILLISECONDS.toNanos(1));
+        for (int i = 0; i < 10; i++) {
+            assertTrue(localRateLimiter.isAllowed("key" + i, rateLimiterHandle).isAllowed());
+        }
+        TimeUnit.MILLISECONDS.sleep(20);
+        assertEquals(0, localRateLimiter.size());
+    }
+}
@@ -25,6 +25,8 @@ import org.apache.shenyu.plugin.ratelimiter.algorithm.RateLimiterAlgorithm;
 import org.apache.shenyu.plugin.ratelimiter.algorithm.RateLimiterAlgorithmFactory;
 import org.apache.shenyu.plugin.ratelimiter.config.RateLimiterConfig;
 import org.apache.shenyu.plugin.ratelimiter.handler.RateLimiterPluginDataHandler;
+import org.apache.shenyu.plugin.ratelimiter.handler.ScriptArgs;
+import org.apache.shenyu.plugin.ratelimiter.handler.ShenyuReactiveRedisTemplate;
 import org.junit.AfterClass;
 import org.junit.BeforeClass;
 import org.junit.Test;
@@ -42,6 +44,8 @@ import java.util.List;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import static org.junit.Assert.assertArrayEquals;
+
 /**
  * Test of rate limiter Lua scripts.
  */
@@ -133,6 +137,34 @@ public class RedisRateLimiterScriptsTest {
                 .verify();
     }
 
+    @Test
+    public void executeForLongsTest() {
+        RateLimiterAlgorithm<?> rateLimiterAlgorithm = RateLimiterAlgorithmFactory.newInstance("tokenBucket");
+        ShenyuReactiveRedisTemplate<?, ?> redisTemplate = (ShenyuReactiveRedisTemplate<?, ?>) Singleton.INST.get(ReactiveRedisTemplate.class);
+        List<String> keys = rateLimiterAlgorithm.getKeys("executeForLongs");
+        ScriptArgs scriptArgs = ScriptArgs.of(10, 100, Instant.now().getEpochSecond(), 1);
+        StepVerifier.create(redisTemplate.executeForLongs(rateLimiterAlgorithm.getScript(), keys, scriptArgs))
+                .assertNext(results -> assertArrayEquals(new long[]{1L, 99L}, results))
+                .verifyComplete();
+        StepVerifier.create(redisTemplate.executeForLongs(rateLimiterAlgorithm.getScript(), keys, ScriptArgs.of(10, 100, Instant.now().getEpochSecond(), 200)))
+                .assertNext(results -> assertArrayEquals(new long[]{0L, 99L}, results))
+                .verifyComplete();
+    }
+
+    @Test
+    public void executeForLongsNonAsciiKeyTest() {
+        RateLimiterAlgorithm<?> rateLimiterAlgorithm = RateLimiterAlgorithmFactory.newInstance("tokenBucket");
+        ShenyuReactiveRedisTemplate<?, ?> redisTemplate = (ShenyuReactiveRedisTemplate<?, ?>) Singleton.INST.get(ReactiveRedisTemplate.class);
+        List<String> keys = rateLimiterAlgorithm.getKeys("1-用户");
+        ScriptArgs scriptArgs = ScriptArgs.of(10, 100, Instant.now().getEpochSecond(), 1);
+        StepVerifier.create(redisTemplate.executeForLongs(rateLimiterAlgorithm.getScript(), keys, scriptArgs))
+                .assertNext(results -> assertArrayEquals(new long[]{1L, 99L}, results))
+                .verifyComplete();
+        StepVerifier.create(Singleton.INST.get(ReactiveRedisTemplate.class).hasKey(keys.get(0)))
+                .expectNext(true)
+                .verifyComplete();
+    }
+
     @AfterClass
     public static void end() {
         redisServer.stop();
@@ -165,6 +165,17 @@ public final class RedisRateLimiterTest {
         }).verifyComplete();
     }
 
+    /**
+     * redisRateLimiter.isAllowed exception case with fallback.
+     */
+    @Test
+    public void fallbackTest() {
+        isAllowedPreInit(0, 0, true);
+        rateLimiterHandle.setAlgorithmName("tokenBucket");
+        Mono<RateLimiterResponse> responseMono = redisRateLimiter.isAllowed(DEFAULT_TEST_ID, rateLimiterHandle, () -> new RateLimiterResponse(false, 0));
+        StepVerifier.create(responseMono).assertNext(r -> assertFalse(r.isAllowed())).verifyComplete();
+    }
+
     /**
      * redisRateLimiter.isAllowed test pre init.
      *
@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.ratelimiter.handler;
+
+import org.apache.shenyu.common.dto.convert.RateLimiterHandle;
+import org.apache.shenyu.plugin.ratelimiter.resolver.HeaderKeyResolver;
+import org.junit.Test;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.ServerWebExchange;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test case for {@link RateLimiterRuleHolder}.
+ */
+public final class RateLimiterRuleHolderTest {
+
+    @Test
+    public void resolveKeyTest() {
+        RateLimiterHandle limiterHandle = new RateLimiterHandle();
+        limiterHandle.setKeyResolverName("header:X-User");
+        RateLimiterRuleHolder holder = RateLimiterRuleHolder.of("1", limiterHandle);
+        assertTrue(holder.getKeyResolver() instanceof HeaderKeyResolver);
+        ServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("localhost").header("X-User", "shenyu").build());
+        String key = holder.resolveKey(exchange);
+        assertEquals("1-shenyu", key);
+        assertSame(key, holder.resolveKey(exchange));
+        assertSame(limiterHandle, holder.getLimiterHandle());
+    }
+
+    @Test
+    public void resolveWholeRuleTest() {
+        RateLimiterHandle limiterHandle = new RateLimiterHandle();
+        ServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("localhost").build());
+        assertEquals("1", RateLimiterRuleHolder.of("1", limiterHandle).resolveKey(exchange));
+        limiterHandle.setKeyResolverName("unknown:resolver");
+        RateLimiterRuleHolder holder = RateLimiterRuleHolder.of("1", limiterHandle);
+        assertNull(holder.getKeyResolver());
+        assertEquals("1", holder.resolveKey(exchange));
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.ratelimiter.handler;
+
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Test case for {@link ScriptArgs}.
+ */
+public final class ScriptArgsTest {
+
+    @Test
+    public void encodeTest() {
+        ScriptArgs scriptArgs = ScriptArgs.of(10, 0, -25, 1629000000, 0.5, 1e20, Double.NaN);
+        assertEquals("10", decode(scriptArgs.encode(0)));
+        assertEquals("0", decode(scriptArgs.encode(1)));
+        assertEquals("-25", decode(scriptArgs.encode(2)));
+        assertEquals("1629000000", decode(scriptArgs.encode(3)));
+        assertEquals("0.5", decode(scriptArgs.encode(4)));
+        assertEquals("1.0E20", decode(scriptArgs.encode(5)));
+        assertEquals("NaN", decode(scriptArgs.encode(6)));
+    }
+
+    @Test
+    public void listTest() {
+        ScriptArgs scriptArgs = ScriptArgs.of(10, 0.5);
+        assertEquals(2, scriptArgs.size());
+        assertEquals("10.0", scriptArgs.get(0));
+        assertEquals("0.5", scriptArgs.get(1));
+    }
+
+    private String decode(final ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.duplicate().get(bytes);
+        return new String(bytes, StandardCharsets.US_ASCII);
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.ratelimiter.handler;
+
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+
+/**
+ * Test case for {@link ScriptKeys}.
+ */
+public final class ScriptKeysTest {
+
+    @Test
+    public void encodeTest() {
+        ScriptKeys scriptKeys = ScriptKeys.of("request_rate_limiter.{id}.tokens", "request_rate_limiter.{名字}.timestamp");
+        assertEquals("request_rate_limiter.{id}.tokens", decode(scriptKeys.encode(0)));
+        assertEquals("request_rate_limiter.{名字}.timestamp", decode(scriptKeys.encode(1)));
+        ByteBuffer read = scriptKeys.encode(0);
+        read.get(new byte[read.remaining()]);
+        assertNotSame(read, scriptKeys.encode(0));
+        assertEquals("request_rate_limiter.{id}.tokens", decode(scriptKeys.encode(0)));
+    }
+
+    @Test
+    public void listTest() {
+        ScriptKeys scriptKeys = ScriptKeys.of("a", "b");
+        assertEquals(2, scriptKeys.size());
+        assertEquals("a", scriptKeys.get(0));
+        assertEquals("b", scriptKeys.get(1));
+    }
+
+    private String decode(final ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.duplicate().get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
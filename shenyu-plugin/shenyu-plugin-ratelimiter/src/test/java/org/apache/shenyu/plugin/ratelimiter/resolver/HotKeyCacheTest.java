@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.ratelimiter.resolver;
+
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+/**
+ * Test case for {@link HotKeyCache}.
+ */
+public final class HotKeyCacheTest {
+
+    @Test
+    public void testGet() {
+        AtomicInteger loads = new AtomicInteger();
+        HotKeyCache<String> cache = new HotKeyCache<>(16, key -> {
+            loads.incrementAndGet();
+            return "rule-" + key;
+        });
+        String value = cache.get("user1");
+        assertEquals("rule-user1", value);
+        assertSame(value, cache.get("user1"));
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    public void testFrequentKeyIsKept() {
+        AtomicInteger loads = new AtomicInteger();
+        // a single slot, every key collides
+        HotKeyCache<String> cache = new HotKeyCache<>(1, key -> {
+            loads.incrementAndGet();
+            return key;
+        });
+        for (int i = 0; i < 5; i++) {
+            cache.get("hot");
+        }
+        assertEquals(1, loads.get());
+        cache.get("cold1");
+        cache.get("cold2");
+        cache.get("hot");
+        assertEquals(3, loads.get());
+        for (int i = 0; i < 10; i++) {
+            cache.get("cold" + i);
+        }
+        cache.get("hot");
+        assertEquals(14, loads.get());
+        cache.get("cold");
+        assertEquals("cold", cache.get("cold"));
+        assertEquals(15, loads.get());
+    }
+}
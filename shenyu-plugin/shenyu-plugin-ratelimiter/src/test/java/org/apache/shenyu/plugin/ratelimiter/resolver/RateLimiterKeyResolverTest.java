@@ -24,6 +24,7 @@ import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.http.HttpHeaders;
 import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
 import org.springframework.mock.web.server.MockServerWebExchange;
 import org.springframework.web.server.ServerWebExchange;
@@ -31,9 +32,12 @@ import org.springframework.web.server.ServerWebExchange;
 import java.net.InetAddress;
 import java.net.InetSocketAddress;
 import java.net.UnknownHostException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
 import java.util.List;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 @RunWith(MockitoJUnitRunner.class)
 public class RateLimiterKeyResolverTest {
@@ -84,4 +88,64 @@ public class RateLimiterKeyResolverTest {
         String keyResolverName = new RemoteAddrKeyResolver().getKeyResolverName();
         assertEquals(keyResolverName, "REMOTE_ADDRESS_KEY_RESOLVER");
     }
+
+    @Test
+    public void headerResolveTest() {
+        RateLimiterKeyResolver keyResolver = RateLimiterKeyResolverFactory.create("header:X-Tenant");
+        ServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("localhost").header("X-Tenant", "shenyu").build());
+        assertEquals("shenyu", keyResolver.resolve(exchange));
+        assertEquals("", keyResolver.resolve(firstExchange));
+        assertEquals("header:X-Tenant", keyResolver.getKeyResolverName());
+    }
+
+    @Test
+    public void queryParamResolveTest() {
+        RateLimiterKeyResolver keyResolver = RateLimiterKeyResolverFactory.create("query:appKey");
+        ServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("localhost?appKey=app1").build());
+        assertEquals("app1", keyResolver.resolve(exchange));
+        assertEquals("", keyResolver.resolve(firstExchange));
+    }
+
+    @Test
+    public void ipPrefixResolveTest() throws UnknownHostException {
+        RateLimiterKeyResolver keyResolver = RateLimiterKeyResolverFactory.create("ipPrefix:24");
+        assertEquals("1.1.1.0/24", keyResolver.resolve(firstExchange));
+        assertEquals(keyResolver.resolve(firstExchange), keyResolver.resolve(secondExchange));
+        assertEquals("1.1.0.0/20", new IpPrefixKeyResolver(20).resolve(firstExchange));
+        ServerWebExchange ipv6Exchange = MockServerWebExchange.from(MockServerHttpRequest.get("localhost")
+                .remoteAddress(new InetSocketAddress(InetAddress.getByName("2001:db8:1:2::1"), 8080))
+                .build());
+        assertEquals("2001:db8:1:0:0:0:0:0/48", new IpPrefixKeyResolver(48).resolve(ipv6Exchange));
+    }
+
+    @Test
+    public void jwtClaimResolveTest() {
+        RateLimiterKeyResolver keyResolver = RateLimiterKeyResolverFactory.create("jwtClaim:sub");
+        String payload = Base64.getUrlEncoder().withoutPadding().encodeToString("{\"sub\":\"user1\",\"age\":18}".getBytes(StandardCharsets.UTF_8));
+        String token = "eyJhbGciOiJIUzI1NiJ9." + payload + ".signature";
+        ServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("localhost").header(HttpHeaders.AUTHORIZATION, "Bearer " + token).build());
+        assertEquals("user1", keyResolver.resolve(exchange));
+        assertEquals("user1", keyResolver.resolve(exchange));
+        assertEquals("18", new JwtClaimKeyResolver("age").resolve(exchange));
+        assertEquals("", new JwtClaimKeyResolver("name").resolve(exchange));
+        ServerWebExchange invalidExchange = MockServerWebExchange.from(MockServerHttpRequest.get("localhost").header(HttpHeaders.AUTHORIZATION, "Bearer invalid").build());
+        assertEquals("", keyResolver.resolve(invalidExchange));
+        assertEquals("", keyResolver.resolve(firstExchange));
+    }
+
+    @Test
+    public void compositeResolveTest() {
+        RateLimiterKeyResolver keyResolver = RateLimiterKeyResolverFactory.create("header:X-Tenant, REMOTE_ADDRESS_KEY_RESOLVER");
+        assertTrue(keyResolver instanceof CompositeKeyResolver);
+        ServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("localhost").header("X-Tenant", "shenyu")
+                .remoteAddress(new InetSocketAddress(8080)).build());
+        assertEquals("shenyu|" + new RemoteAddrKeyResolver().resolve(exchange), keyResolver.resolve(exchange));
+        assertEquals("header:X-Tenant,REMOTE_ADDRESS_KEY_RESOLVER", keyResolver.getKeyResolverName());
+        assertTrue(RateLimiterKeyResolverFactory.create("WHOLE_KEY_RESOLVER") instanceof WholeKeyResolver);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void unknownResolverTest() {
+        RateLimiterKeyResolverFactory.create("cookie:session");
+    }
 }
@@ -20,13 +20,11 @@ package org.apache.shenyu.plugin.resilience4j;
 import org.apache.shenyu.common.constant.Constants;
 import org.apache.shenyu.common.dto.RuleData;
 import org.apache.shenyu.common.dto.SelectorData;
-import org.apache.shenyu.common.dto.convert.Resilience4JHandle;
 import org.apache.shenyu.common.enums.PluginEnum;
 import org.apache.shenyu.plugin.api.ShenyuPluginChain;
 import org.apache.shenyu.plugin.api.context.ShenyuContext;
 import org.apache.shenyu.plugin.base.AbstractShenyuPlugin;
 import org.apache.shenyu.plugin.base.utils.CacheKeyUtils;
-import org.apache.shenyu.plugin.resilience4j.build.Resilience4JBuilder;
 import org.apache.shenyu.plugin.resilience4j.conf.Resilience4JConf;
 import org.apache.shenyu.plugin.resilience4j.executor.CombinedExecutor;
 import org.apache.shenyu.plugin.resilience4j.executor.Executor;
@@ -37,6 +35,7 @@ import org.springframework.web.client.HttpStatusCodeException;
 import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Mono;
 
+import java.util.Objects;
 import java.util.function.Function;
 
 /**
@@ -58,22 +57,20 @@ public class Resilience4JPlugin extends AbstractShenyuPlugin {
     protected Mono<Void> doExecute(final ServerWebExchange exchange, final ShenyuPluginChain chain, final SelectorData selector, final RuleData rule) {
         final ShenyuContext shenyuContext = exchange.getAttribute(Constants.CONTEXT);
         assert shenyuContext != null;
-        Resilience4JHandle resilience4JHandle = Resilience4JHandler.CACHED_HANDLE.get().obtainHandle(CacheKeyUtils.INST.getKey(rule));
-        resilience4JHandle.checkData(resilience4JHandle);
-        if (resilience4JHandle.getCircuitEnable() == 1) {
-            return combined(exchange, chain, rule);
+        Resilience4JConf conf = Resilience4JHandler.CACHED_HANDLE.get().obtainHandle(CacheKeyUtils.INST.getKey(rule));
+        if (Objects.nonNull(conf.getCircuitBreakerConfig())) {
+            return combined(exchange, chain, conf);
         }
-        return rateLimiter(exchange, chain, rule);
+        return rateLimiter(exchange, chain, conf);
     }
 
-    private Mono<Void> rateLimiter(final ServerWebExchange exchange, final ShenyuPluginChain chain, final RuleData rule) {
+    private Mono<Void> rateLimiter(final ServerWebExchange exchange, final ShenyuPluginChain chain, final Resilience4JConf conf) {
         return ratelimiterExecutor.run(
-                chain.execute(exchange), fallback(ratelimiterExecutor, exchange, null), Resilience4JBuilder.build(rule))
+                chain.execute(exchange), fallback(ratelimiterExecutor, exchange, null), conf)
                 .onErrorResume(throwable -> ratelimiterExecutor.withoutFallback(exchange, throwable));
     }
 
-    private Mono<Void> combined(final ServerWebExchange exchange, final ShenyuPluginChain chain, final RuleData rule) {
-        Resilience4JConf conf = Resilience4JBuilder.build(rule);
+    private Mono<Void> combined(final ServerWebExchange exchange, final ShenyuPluginChain chain, final Resilience4JConf conf) {
         return combinedExecutor.run(
                 chain.execute(exchange).doOnSuccess(v -> {
                     HttpStatus status = exchange.getResponse().getStatusCode();
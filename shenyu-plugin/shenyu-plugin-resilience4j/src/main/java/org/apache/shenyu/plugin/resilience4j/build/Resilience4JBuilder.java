@@ -17,6 +17,7 @@
 
 package org.apache.shenyu.plugin.resilience4j.build;
 
+import io.github.resilience4j.bulkhead.BulkheadConfig;
 import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
 import io.github.resilience4j.core.IntervalFunction;
 import io.github.resilience4j.ratelimiter.RateLimiterConfig;
@@ -26,8 +27,10 @@ import org.apache.shenyu.common.dto.convert.Resilience4JHandle;
 import org.apache.shenyu.common.utils.GsonUtils;
 import org.apache.shenyu.plugin.base.utils.CacheKeyUtils;
 import org.apache.shenyu.plugin.resilience4j.conf.Resilience4JConf;
+import org.apache.shenyu.plugin.resilience4j.factory.Resilience4JRegistryFactory;
 
 import java.time.Duration;
+import java.util.Objects;
 
 /**
  * Resilience4j builder.
@@ -43,6 +46,10 @@ public class Resilience4JBuilder {
     public static Resilience4JConf build(final RuleData ruleData) {
         Resilience4JHandle handle = GsonUtils.getGson().fromJson(ruleData.getHandle(), Resilience4JHandle.class);
         handle.checkData(handle);
+        return build(CacheKeyUtils.INST.getKey(ruleData), handle);
+    }
+
+    private static Resilience4JConf build(final String id, final Resilience4JHandle handle) {
         CircuitBreakerConfig circuitBreakerConfig = null;
         if (handle.getCircuitEnable() == 1) {
             circuitBreakerConfig = CircuitBreakerConfig.custom()
@@ -62,6 +69,31 @@ public class Resilience4JBuilder {
                 .limitForPeriod(handle.getLimitForPeriod())
                 .timeoutDuration(Duration.ofSeconds(handle.getTimeoutDurationRate() / 1000))
                 .limitRefreshPeriod(Duration.ofNanos(handle.getLimitRefreshPeriod() * 1000000)).build();
-        return new Resilience4JConf(CacheKeyUtils.INST.getKey(ruleData), handle.getFallbackUri(), rateLimiterConfig, timeLimiterConfig, circuitBreakerConfig);
+        return new Resilience4JConf(id, handle.getFallbackUri(), rateLimiterConfig, timeLimiterConfig, circuitBreakerConfig);
+    }
+
+    /**
+     * build the conf and bind the rate limiter, circuit breaker and bulkhead of the rule,
+     * so the requests use them directly instead of looking them up in the registries.
+     *
+     * @param ruleData the ruleData
+     * @return Resilience4JConf
+     */
+    public static Resilience4JConf buildWithExecutors(final RuleData ruleData) {
+        Resilience4JHandle handle = GsonUtils.getGson().fromJson(ruleData.getHandle(), Resilience4JHandle.class);
+        handle.checkData(handle);
+        Resilience4JConf conf = build(CacheKeyUtils.INST.getKey(ruleData), handle);
+        conf.setRateLimiter(Resilience4JRegistryFactory.rateLimiter(conf.getId(), conf.getRateLimiterConfig()));
+        if (Objects.nonNull(conf.getCircuitBreakerConfig())) {
+            conf.setCircuitBreaker(Resilience4JRegistryFactory.circuitBreaker(conf.getId(), conf.getCircuitBreakerConfig()));
+        }
+        if (handle.getBulkheadMaxConcurrentCalls() > 0) {
+            // a semaphore bulkhead, the reactive operator never waits for a permit
+            BulkheadConfig bulkheadConfig = BulkheadConfig.custom()
+                    .maxConcurrentCalls(handle.getBulkheadMaxConcurrentCalls())
+                    .maxWaitDuration(Duration.ZERO).build();
+            conf.setBulkhead(Resilience4JRegistryFactory.bulkhead(conf.getId(), bulkheadConfig));
+        }
+        return conf;
     }
 }
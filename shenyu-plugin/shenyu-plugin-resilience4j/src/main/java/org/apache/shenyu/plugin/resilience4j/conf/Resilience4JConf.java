@@ -17,7 +17,10 @@
 
 package org.apache.shenyu.plugin.resilience4j.conf;
 
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
 import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.ratelimiter.RateLimiter;
 import io.github.resilience4j.ratelimiter.RateLimiterConfig;
 import io.github.resilience4j.timelimiter.TimeLimiterConfig;
 import lombok.Data;
@@ -53,6 +56,21 @@ public class Resilience4JConf {
      */
     private RateLimiterConfig rateLimiterConfig;
 
+    /**
+     * rateLimiter, bound when the rule is synced.
+     */
+    private RateLimiter rateLimiter;
+
+    /**
+     * circuitBreaker, bound when the rule is synced and the circuit is enabled.
+     */
+    private CircuitBreaker circuitBreaker;
+
+    /**
+     * bulkhead, bound when the rule is synced and the bulkhead is enabled.
+     */
+    private Bulkhead bulkhead;
+
     public Resilience4JConf(final String id,
                             final String fallBackUri,
                             final RateLimiterConfig rateLimiterConfig,
@@ -18,10 +18,12 @@
 package org.apache.shenyu.plugin.resilience4j.executor;
 
 import io.github.resilience4j.ratelimiter.RateLimiter;
+import io.github.resilience4j.reactor.bulkhead.operator.BulkheadOperator;
 import io.github.resilience4j.reactor.ratelimiter.operator.RateLimiterOperator;
 import org.apache.shenyu.plugin.resilience4j.factory.Resilience4JRegistryFactory;
 import reactor.core.publisher.Mono;
 
+import java.util.Objects;
 import java.util.function.Function;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
@@ -37,10 +39,15 @@ public class CombinedExecutor implements Executor {
 
     @Override
     public <T> Mono<T> run(final Mono<T> run, final Function<Throwable, Mono<T>> fallback, final Resilience4JConf resilience4JConf) {
-        RateLimiter rateLimiter = Resilience4JRegistryFactory.rateLimiter(resilience4JConf.getId(), resilience4JConf.getRateLimiterConfig());
-        CircuitBreaker circuitBreaker = Resilience4JRegistryFactory.circuitBreaker(resilience4JConf.getId(), resilience4JConf.getCircuitBreakerConfig());
-        Mono<T> to = run.transformDeferred(CircuitBreakerOperator.of(circuitBreaker))
-                .transformDeferred(RateLimiterOperator.of(rateLimiter))
+        RateLimiter rateLimiter = Objects.nonNull(resilience4JConf.getRateLimiter()) ? resilience4JConf.getRateLimiter()
+                : Resilience4JRegistryFactory.rateLimiter(resilience4JConf.getId(), resilience4JConf.getRateLimiterConfig());
+        CircuitBreaker circuitBreaker = Objects.nonNull(resilience4JConf.getCircuitBreaker()) ? resilience4JConf.getCircuitBreaker()
+                : Resilience4JRegistryFactory.circuitBreaker(resilience4JConf.getId(), resilience4JConf.getCircuitBreakerConfig());
+        Mono<T> to = run.transformDeferred(CircuitBreakerOperator.of(circuitBreaker));
+        if (Objects.nonNull(resilience4JConf.getBulkhead())) {
+            to = to.transformDeferred(BulkheadOperator.of(resilience4JConf.getBulkhead()));
+        }
+        to = to.transformDeferred(RateLimiterOperator.of(rateLimiter))
                 .timeout(resilience4JConf.getTimeLimiterConfig().getTimeoutDuration())
                 .doOnError(TimeoutException.class, t -> circuitBreaker.onError(
                         resilience4JConf.getTimeLimiterConfig().getTimeoutDuration().toMillis(),
@@ -17,11 +17,13 @@
 
 package org.apache.shenyu.plugin.resilience4j.executor;
 
+import java.util.Objects;
 import java.util.function.Function;
 
 import org.apache.shenyu.plugin.resilience4j.factory.Resilience4JRegistryFactory;
 import reactor.core.publisher.Mono;
 import io.github.resilience4j.ratelimiter.RateLimiter;
+import io.github.resilience4j.reactor.bulkhead.operator.BulkheadOperator;
 import org.apache.shenyu.plugin.resilience4j.conf.Resilience4JConf;
 import io.github.resilience4j.reactor.ratelimiter.operator.RateLimiterOperator;
 
@@ -32,8 +34,13 @@ public class RateLimiterExecutor implements Executor {
 
     @Override
     public <T> Mono<T> run(final Mono<T> toRun, final Function<Throwable, Mono<T>> fallback, final Resilience4JConf conf) {
-        RateLimiter rateLimiter = Resilience4JRegistryFactory.rateLimiter(conf.getId(), conf.getRateLimiterConfig());
-        Mono<T> to = toRun.transformDeferred(RateLimiterOperator.of(rateLimiter));
+        RateLimiter rateLimiter = Objects.nonNull(conf.getRateLimiter()) ? conf.getRateLimiter()
+                : Resilience4JRegistryFactory.rateLimiter(conf.getId(), conf.getRateLimiterConfig());
+        Mono<T> to = toRun;
+        if (Objects.nonNull(conf.getBulkhead())) {
+            to = to.transformDeferred(BulkheadOperator.of(conf.getBulkhead()));
+        }
+        to = to.transformDeferred(RateLimiterOperator.of(rateLimiter));
         if (fallback != null) {
             return to.onErrorResume(fallback);
         }
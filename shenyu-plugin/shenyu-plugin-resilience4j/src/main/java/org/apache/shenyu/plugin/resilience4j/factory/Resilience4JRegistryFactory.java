@@ -17,6 +17,9 @@
 
 package org.apache.shenyu.plugin.resilience4j.factory;
 
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
 import io.github.resilience4j.circuitbreaker.CircuitBreaker;
 import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
 import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
@@ -39,6 +42,11 @@ public class Resilience4JRegistryFactory {
      */
     private static final CircuitBreakerRegistry CIRCUIT_BREAKER_REGISTRY = CircuitBreakerRegistry.ofDefaults();
 
+    /**
+     * Bulkhead registry.
+     */
+    private static final BulkheadRegistry BULKHEAD_REGISTRY = BulkheadRegistry.ofDefaults();
+
     /**
      * circuitBreaker.
      *
@@ -61,6 +69,17 @@ public class Resilience4JRegistryFactory {
         return RATE_LIMITER_REGISTRY.rateLimiter(id, rateLimiterConfig);
     }
 
+    /**
+     * bulkhead.
+     *
+     * @param id             the id
+     * @param bulkheadConfig the bulkhead config
+     * @return Bulkhead
+     */
+    public static Bulkhead bulkhead(final String id, final BulkheadConfig bulkheadConfig) {
+        return BULKHEAD_REGISTRY.bulkhead(id, bulkheadConfig);
+    }
+
     /**
      * remove.
      *
@@ -69,5 +88,6 @@ public class Resilience4JRegistryFactory {
     public static void remove(final String id) {
         CIRCUIT_BREAKER_REGISTRY.remove(id);
         RATE_LIMITER_REGISTRY.remove(id);
+        BULKHEAD_REGISTRY.remove(id);
     }
 }
@@ -18,13 +18,13 @@
 package org.apache.shenyu.plugin.resilience4j.handler;
 
 import org.apache.shenyu.common.dto.RuleData;
-import org.apache.shenyu.common.dto.convert.Resilience4JHandle;
 import org.apache.shenyu.common.enums.PluginEnum;
-import org.apache.shenyu.common.utils.GsonUtils;
 import org.apache.shenyu.plugin.base.cache.RuleHandleCache;
 import org.apache.shenyu.plugin.base.handler.PluginDataHandler;
 import org.apache.shenyu.plugin.base.utils.BeanHolder;
 import org.apache.shenyu.plugin.base.utils.CacheKeyUtils;
+import org.apache.shenyu.plugin.resilience4j.build.Resilience4JBuilder;
+import org.apache.shenyu.plugin.resilience4j.conf.Resilience4JConf;
 import org.apache.shenyu.plugin.resilience4j.factory.Resilience4JRegistryFactory;
 
 import java.util.Optional;
@@ -35,16 +35,13 @@ import java.util.function.Supplier;
  */
 public class Resilience4JHandler implements PluginDataHandler {
 
-    public static final Supplier<RuleHandleCache<String, Resilience4JHandle>> CACHED_HANDLE = new BeanHolder(RuleHandleCache::new);
+    public static final Supplier<RuleHandleCache<String, Resilience4JConf>> CACHED_HANDLE = new BeanHolder(RuleHandleCache::new);
 
     @Override
     public void handlerRule(final RuleData ruleData) {
         String key = CacheKeyUtils.INST.getKey(ruleData);
         Resilience4JRegistryFactory.remove(key);
-        Optional.ofNullable(ruleData.getHandle()).ifPresent(s -> {
-            final Resilience4JHandle resilience4JHandle = GsonUtils.getInstance().fromJson(s, Resilience4JHandle.class);
-            CACHED_HANDLE.get().cachedHandle(key, resilience4JHandle);
-        });
+        Optional.ofNullable(ruleData.getHandle()).ifPresent(s -> CACHED_HANDLE.get().cachedHandle(key, Resilience4JBuilder.buildWithExecutors(ruleData)));
     }
 
     @Override
@@ -17,15 +17,23 @@
 
 package org.apache.shenyu.plugin.resilience4j.executor;
 
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.ratelimiter.RateLimiter;
 import io.github.resilience4j.ratelimiter.RateLimiterConfig;
 import org.apache.shenyu.plugin.resilience4j.conf.Resilience4JConf;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.junit.MockitoJUnitRunner;
+import reactor.core.Disposable;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
+import java.time.Duration;
+
+import static org.junit.Assert.assertEquals;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -63,4 +71,22 @@ public final class RateLimiterExecutorTest {
                 .expectSubscription()
                 .expectError(RuntimeException.class);
     }
+
+    @Test
+    public void bulkheadTest() {
+        Bulkhead bulkhead = Bulkhead.of("SHENYU", BulkheadConfig.custom().maxConcurrentCalls(1).maxWaitDuration(Duration.ZERO).build());
+        Resilience4JConf conf = mock(Resilience4JConf.class);
+        when(conf.getRateLimiter()).thenReturn(RateLimiter.of("SHENYU", RateLimiterConfig.ofDefaults()));
+        when(conf.getBulkhead()).thenReturn(bulkhead);
+        Disposable pending = ratelimiterExecutor.run(Mono.never(), null, conf).subscribe();
+        assertEquals(0, bulkhead.getMetrics().getAvailableConcurrentCalls());
+        StepVerifier.create(ratelimiterExecutor.run(Mono.just("SHENYU"), null, conf))
+                .expectError(BulkheadFullException.class)
+                .verify();
+        pending.dispose();
+        assertEquals(1, bulkhead.getMetrics().getAvailableConcurrentCalls());
+        StepVerifier.create(ratelimiterExecutor.run(Mono.just("SHENYU"), null, conf))
+                .expectNext("SHENYU")
+                .verifyComplete();
+    }
 }
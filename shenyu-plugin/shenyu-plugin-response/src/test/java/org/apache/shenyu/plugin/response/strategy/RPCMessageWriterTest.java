@@ -19,6 +19,7 @@ package org.apache.shenyu.plugin.response.strategy;
 
 import org.apache.shenyu.common.constant.Constants;
 import org.apache.shenyu.plugin.api.ShenyuPluginChain;
+import org.apache.shenyu.plugin.api.result.DefaultShenyuResult;
 import org.apache.shenyu.plugin.api.result.ShenyuResult;
 import org.apache.shenyu.plugin.api.utils.SpringBeanUtils;
 import org.junit.Before;
@@ -29,11 +30,18 @@ import org.mockito.Mockito;
 import org.mockito.junit.MockitoJUnitRunner;
 import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.http.server.reactive.MockServerHttpResponse;
 import org.springframework.mock.web.server.MockServerWebExchange;
 import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -68,8 +76,31 @@ public class RPCMessageWriterTest {
         StepVerifier.create(rpcMessageWriter.writeWith(exchange, chain)).expectSubscription().verifyComplete();
     }
 
+    @Test
+    public void testExecuteWithGenericResult() {
+        ConfigurableApplicationContext applicationContext = mock(ConfigurableApplicationContext.class);
+        when(applicationContext.getBean(ShenyuResult.class)).thenReturn(new DefaultShenyuResult());
+        SpringBeanUtils.getInstance().setCfgContext(applicationContext);
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("class", "org.apache.shenyu.User");
+        result.put("name", "shenyu");
+        result.put("result", Collections.singletonMap("class", "org.apache.shenyu.Result"));
+        exchange.getAttributes().put(Constants.RPC_RESULT, result);
+        StepVerifier.create(rpcMessageWriter.writeWith(exchange, chain)).expectSubscription().verifyComplete();
+        assertEquals("{\"code\":200,\"message\":\"Access to success!\",\"data\":{\"name\":\"shenyu\",\"result\":{}}}",
+                ((MockServerHttpResponse) exchange.getResponse()).getBodyAsString().block());
+    }
+
     @Test
     public void testExecuteWithNoResult() {
         StepVerifier.create(rpcMessageWriter.writeWith(exchange, chain)).expectSubscription().verifyComplete();
     }
+
+    @Test
+    public void testExecuteWithCommittedResponse() {
+        MockServerHttpResponse response = (MockServerHttpResponse) exchange.getResponse();
+        Mockito.when(chain.execute(exchange)).thenReturn(response.writeWith(Mono.just(response.bufferFactory().wrap("streamed".getBytes(StandardCharsets.UTF_8)))));
+        StepVerifier.create(rpcMessageWriter.writeWith(exchange, chain)).expectSubscription().verifyComplete();
+        assertEquals("streamed", response.getBodyAsString().block());
+    }
 }
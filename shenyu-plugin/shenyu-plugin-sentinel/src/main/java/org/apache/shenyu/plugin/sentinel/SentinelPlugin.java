@@ -17,25 +17,24 @@
 
 package org.apache.shenyu.plugin.sentinel;
 
-import com.alibaba.csp.sentinel.adapter.reactor.SentinelReactorTransformer;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.shenyu.common.constant.Constants;
 import org.apache.shenyu.common.dto.RuleData;
 import org.apache.shenyu.common.dto.SelectorData;
-import org.apache.shenyu.common.dto.convert.SentinelHandle;
 import org.apache.shenyu.common.enums.PluginEnum;
-import org.apache.shenyu.common.utils.GsonUtils;
 import org.apache.shenyu.plugin.api.ShenyuPluginChain;
 import org.apache.shenyu.plugin.api.context.ShenyuContext;
 import org.apache.shenyu.plugin.base.AbstractShenyuPlugin;
 import org.apache.shenyu.plugin.base.fallback.FallbackHandler;
-import org.apache.shenyu.plugin.base.utils.CacheKeyUtils;
-import org.apache.shenyu.plugin.base.utils.UriUtils;
+import org.apache.shenyu.plugin.sentinel.handler.SentinelRuleHandle;
+import org.apache.shenyu.plugin.sentinel.handler.SentinelRuleHolder;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.client.HttpStatusCodeException;
 import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Mono;
 
+import java.util.Objects;
+
 /**
  * Sentinel Plugin.
  */
@@ -52,16 +51,15 @@ public class SentinelPlugin extends AbstractShenyuPlugin {
     protected Mono<Void> doExecute(final ServerWebExchange exchange, final ShenyuPluginChain chain, final SelectorData selector, final RuleData rule) {
         final ShenyuContext shenyuContext = exchange.getAttribute(Constants.CONTEXT);
         assert shenyuContext != null;
-        String resourceName = CacheKeyUtils.INST.getKey(rule);
-        SentinelHandle sentinelHandle = GsonUtils.getInstance().fromJson(rule.getHandle(), SentinelHandle.class);
-        sentinelHandle.checkData(sentinelHandle);
-        return chain.execute(exchange).transform(new SentinelReactorTransformer<>(resourceName)).doOnSuccess(v -> {
+        SentinelRuleHolder cached = Objects.isNull(rule.getId()) ? null : SentinelRuleHandle.CACHED_HANDLE.get().obtainHandle(rule.getId());
+        final SentinelRuleHolder holder = Objects.isNull(cached) ? SentinelRuleHolder.of(rule) : cached;
+        return chain.execute(exchange).transform(holder.getTransformer()).doOnSuccess(v -> {
             HttpStatus status = exchange.getResponse().getStatusCode();
             if (status == null || !status.is2xxSuccessful()) {
                 exchange.getResponse().setStatusCode(null);
                 throw new SentinelFallbackException(status == null ? HttpStatus.INTERNAL_SERVER_ERROR : status);
             }
-        }).onErrorResume(throwable -> fallbackHandler.fallback(exchange, UriUtils.createUri(sentinelHandle.getFallbackUri()), throwable));
+        }).onErrorResume(throwable -> fallbackHandler.fallback(exchange, holder.getFallbackUri(), throwable));
     }
 
     @Override
@@ -25,11 +25,14 @@ import org.apache.shenyu.common.constant.Constants;
 import org.apache.shenyu.common.dto.RuleData;
 import org.apache.shenyu.common.dto.convert.SentinelHandle;
 import org.apache.shenyu.common.enums.PluginEnum;
-import org.apache.shenyu.common.utils.GsonUtils;
+import org.apache.shenyu.plugin.base.cache.RuleHandleCache;
 import org.apache.shenyu.plugin.base.handler.PluginDataHandler;
+import org.apache.shenyu.plugin.base.utils.BeanHolder;
 import org.apache.shenyu.plugin.base.utils.CacheKeyUtils;
 
 import java.util.List;
+import java.util.Objects;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 /**
@@ -37,14 +40,22 @@ import java.util.stream.Collectors;
  */
 public class SentinelRuleHandle implements PluginDataHandler {
 
+    /**
+     * The parsed rules by rule id, replaced as a whole when the rule changes.
+     */
+    public static final Supplier<RuleHandleCache<String, SentinelRuleHolder>> CACHED_HANDLE = new BeanHolder(RuleHandleCache::new);
+
     @Override
     public void handlerRule(final RuleData ruleData) {
-        SentinelHandle sentinelHandle = GsonUtils.getInstance().fromJson(ruleData.getHandle(), SentinelHandle.class);
-        sentinelHandle.checkData(sentinelHandle);
-        String key = CacheKeyUtils.INST.getKey(ruleData);
+        SentinelRuleHolder holder = SentinelRuleHolder.of(ruleData);
+        SentinelHandle sentinelHandle = holder.getSentinelHandle();
+        String key = holder.getResourceName();
+        SentinelRuleHolder previous = Objects.isNull(ruleData.getId()) ? null : CACHED_HANDLE.get().obtainHandle(ruleData.getId());
+        // a renamed rule leaves the sentinel rules of its old resource behind
+        String previousKey = Objects.isNull(previous) ? key : previous.getResourceName();
         List<FlowRule> flowRules = FlowRuleManager.getRules()
                 .stream()
-                .filter(r -> !r.getResource().equals(key))
+                .filter(r -> !r.getResource().equals(key) && !r.getResource().equals(previousKey))
                 .collect(Collectors.toList());
         if (sentinelHandle.getFlowRuleEnable() == Constants.SENTINEL_ENABLE_FLOW_RULE) {
             FlowRule rule = new FlowRule(key);
@@ -57,7 +68,7 @@ public class SentinelRuleHandle implements PluginDataHandler {
 
         List<DegradeRule> degradeRules = DegradeRuleManager.getRules()
                 .stream()
-                .filter(r -> !r.getResource().equals(key))
+                .filter(r -> !r.getResource().equals(key) && !r.getResource().equals(previousKey))
                 .collect(Collectors.toList());
         if (sentinelHandle.getDegradeRuleEnable() == Constants.SENTINEL_ENABLE_DEGRADE_RULE) {
             DegradeRule rule = new DegradeRule(key);
@@ -70,6 +81,7 @@ public class SentinelRuleHandle implements PluginDataHandler {
             degradeRules.add(rule);
         }
         DegradeRuleManager.loadRules(degradeRules);
+        CACHED_HANDLE.get().cachedHandle(ruleData.getId(), holder);
     }
 
     @Override
@@ -83,6 +95,7 @@ public class SentinelRuleHandle implements PluginDataHandler {
                 .stream()
                 .filter(r -> !r.getResource().equals(key))
                 .collect(Collectors.toList()));
+        CACHED_HANDLE.get().removeHandle(ruleData.getId());
     }
 
     @Override
@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.sentinel.handler;
+
+import com.alibaba.csp.sentinel.adapter.reactor.SentinelReactorTransformer;
+import org.apache.shenyu.common.dto.RuleData;
+import org.apache.shenyu.common.dto.convert.SentinelHandle;
+import org.apache.shenyu.common.utils.GsonUtils;
+import org.apache.shenyu.plugin.base.utils.CacheKeyUtils;
+import org.apache.shenyu.plugin.base.utils.UriUtils;
+
+import java.net.URI;
+
+/**
+ * Everything the sentinel plugin needs of a rule, computed once when the rule is synced.
+ */
+public final class SentinelRuleHolder {
+
+    private final SentinelHandle sentinelHandle;
+
+    private final String resourceName;
+
+    private final URI fallbackUri;
+
+    private final SentinelReactorTransformer<Void> transformer;
+
+    private SentinelRuleHolder(final SentinelHandle sentinelHandle, final String resourceName) {
+        this.sentinelHandle = sentinelHandle;
+        this.resourceName = resourceName;
+        this.fallbackUri = UriUtils.createUri(sentinelHandle.getFallbackUri());
+        this.transformer = new SentinelReactorTransformer<>(resourceName);
+    }
+
+    /**
+     * Parse the handle of the rule.
+     *
+     * @param ruleData the rule
+     * @return the holder
+     */
+    public static SentinelRuleHolder of(final RuleData ruleData) {
+        SentinelHandle sentinelHandle = GsonUtils.getInstance().fromJson(ruleData.getHandle(), SentinelHandle.class);
+        sentinelHandle.checkData(sentinelHandle);
+        return new SentinelRuleHolder(sentinelHandle, CacheKeyUtils.INST.getKey(ruleData));
+    }
+
+    /**
+     * Get the sentinel handle.
+     *
+     * @return the sentinel handle
+     */
+    public SentinelHandle getSentinelHandle() {
+        return sentinelHandle;
+    }
+
+    /**
+     * Get the sentinel resource name.
+     *
+     * @return the resource name
+     */
+    public String getResourceName() {
+        return resourceName;
+    }
+
+    /**
+     * Get the fallback uri.
+     *
+     * @return the fallback uri, or null when not configured
+     */
+    public URI getFallbackUri() {
+        return fallbackUri;
+    }
+
+    /**
+     * Get the transformer guarding the resource, it keeps no per subscription state and is shared by all requests.
+     *
+     * @return the transformer
+     */
+    public SentinelReactorTransformer<Void> getTransformer() {
+        return transformer;
+    }
+}
@@ -94,6 +94,7 @@ public final class SentinelPluginTest {
     @Test
     public void testSentinelPluginFlowException() {
         RuleData data = new RuleData();
+        data.setId("testSentinelPluginFlowException");
         data.setSelectorId("sentinel");
         data.setName("testSentinelPluginFlowException");
         SentinelHandle sentinelHandle = new SentinelHandle();
@@ -32,6 +32,8 @@ import org.mockito.junit.MockitoJUnitRunner;
 
 import static org.hamcrest.Matchers.is;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 
@@ -77,4 +79,33 @@ public final class SentinelRuleHandleTest {
         assertTrue(FlowRuleManager.getRules().isEmpty());
         assertTrue(DegradeRuleManager.getRules().isEmpty());
     }
+
+    @Test
+    public void handlerRuleCachesHolder() {
+        RuleData data = new RuleData();
+        data.setId("holder");
+        data.setSelectorId("sentinel");
+        data.setName("before");
+        SentinelHandle sentinelHandle = new SentinelHandle();
+        sentinelHandle.setFlowRuleEnable(1);
+        sentinelHandle.setFlowRuleCount(10);
+        sentinelHandle.setDegradeRuleEnable(0);
+        sentinelHandle.setFallbackUri("/fallback");
+        data.setHandle(GsonUtils.getGson().toJson(sentinelHandle));
+        sentinelRuleHandle.handlerRule(data);
+        SentinelRuleHolder holder = SentinelRuleHandle.CACHED_HANDLE.get().obtainHandle("holder");
+        assertThat(holder.getResourceName(), is("sentinel_before"));
+        assertThat(holder.getFallbackUri().getPath(), is("/fallback"));
+        assertSame(holder.getTransformer(), SentinelRuleHandle.CACHED_HANDLE.get().obtainHandle("holder").getTransformer());
+
+        data.setName("after");
+        sentinelRuleHandle.handlerRule(data);
+        assertThat(SentinelRuleHandle.CACHED_HANDLE.get().obtainHandle("holder").getResourceName(), is("sentinel_after"));
+        assertThat(FlowRuleManager.getRules().size(), is(1));
+        assertThat(FlowRuleManager.getRules().get(0).getResource(), is("sentinel_after"));
+
+        sentinelRuleHandle.removeRule(data);
+        assertNull(SentinelRuleHandle.CACHED_HANDLE.get().obtainHandle("holder"));
+        assertTrue(FlowRuleManager.getRules().isEmpty());
+    }
 }
@@ -37,6 +37,8 @@ import org.apache.shenyu.common.utils.GsonUtils;
 import java.lang.reflect.Field;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ExecutionException;
 
 /**
@@ -51,6 +53,8 @@ public final class ApplicationConfigCache {
 
     private final int maxCount = 1000;
 
+    private final ConcurrentMap<String, SofaReference> references = new ConcurrentHashMap<>();
+
     private final LoadingCache<String, ConsumerConfig<GenericService>> cache = CacheBuilder.newBuilder()
             .maximumSize(maxCount)
             .removalListener(notification -> {
@@ -66,6 +70,7 @@ public final class ApplicationConfigCache {
                     } catch (NoSuchFieldException | IllegalAccessException e) {
                         log.error("modify ref have exception", e);
                     }
+                    references.computeIfPresent((String) notification.getKey(), (path, exist) -> exist.config == config ? null : exist);
                 }
             })
             .build(new CacheLoader<String, ConsumerConfig<GenericService>>() {
@@ -184,6 +189,21 @@ public final class ApplicationConfigCache {
         }
     }
 
+    /**
+     * Get the generic service of the reference config, {@link ConsumerConfig#refer()} is only called once per reference config.
+     *
+     * @param path   the path
+     * @param config the reference config
+     * @return the generic service
+     */
+    public GenericService refer(final String path, final ConsumerConfig<GenericService> config) {
+        SofaReference reference = references.get(path);
+        if (Objects.isNull(reference) || reference.config != config) {
+            reference = references.compute(path, (key, exist) -> Objects.nonNull(exist) && exist.config == config ? exist : new SofaReference(config, config.refer()));
+        }
+        return reference.genericService;
+    }
+
     /**
      * Invalidate.
      *
@@ -210,6 +230,18 @@ public final class ApplicationConfigCache {
         static final ApplicationConfigCache INSTANCE = new ApplicationConfigCache();
     }
 
+    private static final class SofaReference {
+
+        private final ConsumerConfig<GenericService> config;
+
+        private final GenericService genericService;
+
+        SofaReference(final ConsumerConfig<GenericService> config, final GenericService genericService) {
+            this.config = config;
+            this.genericService = genericService;
+        }
+    }
+
     /**
      * The type Sofa param ext info.
      */
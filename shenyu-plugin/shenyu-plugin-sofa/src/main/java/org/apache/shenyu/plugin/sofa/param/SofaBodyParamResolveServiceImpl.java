@@ -25,6 +25,7 @@ import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.shenyu.common.utils.GsonUtils;
 import org.apache.shenyu.plugin.api.param.BodyParamResolveService;
+import org.apache.shenyu.plugin.api.param.CachedRequestBody;
 import org.apache.shenyu.plugin.api.utils.BodyParamUtils;
 
 import java.util.Arrays;
@@ -40,16 +41,24 @@ public class SofaBodyParamResolveServiceImpl implements BodyParamResolveService
 
     @Override
     public Pair<String[], Object[]> buildParameter(final String body, final String parameterTypes) {
+        return buildParameter(GsonUtils.getInstance().toObjectMap(body), parameterTypes);
+    }
+
+    @Override
+    public Pair<String[], Object[]> buildParameter(final CachedRequestBody body, final String parameterTypes) {
+        return buildParameter(body.asObjectMap(), parameterTypes);
+    }
+
+    private Pair<String[], Object[]> buildParameter(final Map<String, Object> paramMap, final String parameterTypes) {
         String[] parameterTypesAndGeneric = StringUtils.split(parameterTypes, "#");
         String[] parameters = StringUtils.split(parameterTypesAndGeneric[0], ",");
         if (isSingleCustomizeType(parameters)) {
-            return BodyParamUtils.buildSingleParameter(body, parameterTypes);
+            return BodyParamUtils.buildSingleParameter(paramMap, parameterTypes);
         }
         LinkedList<String> genericTypes = new LinkedList<>();
         if (parameterTypesAndGeneric.length > 1) {
             genericTypes.addAll(Arrays.asList(StringUtils.split(parameterTypesAndGeneric[1], ",")));
         }
-        Map<String, Object> paramMap = GsonUtils.getInstance().toObjectMap(body);
         Object[] objects = paramMap.values().stream().map(each -> {
             if (each instanceof JsonObject) {
                 return GsonUtils.getInstance().convertToMap(each.toString());
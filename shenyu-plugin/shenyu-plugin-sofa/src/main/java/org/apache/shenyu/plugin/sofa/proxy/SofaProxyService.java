@@ -28,17 +28,26 @@ import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.apache.commons.lang3.tuple.Pair;
+import org.apache.shenyu.common.config.SofaRegisterConfig;
 import org.apache.shenyu.common.constant.Constants;
 import org.apache.shenyu.common.dto.MetaData;
 import org.apache.shenyu.common.enums.ResultEnum;
 import org.apache.shenyu.common.exception.ShenyuException;
 import org.apache.shenyu.plugin.api.param.BodyParamResolveService;
+import org.apache.shenyu.plugin.api.param.CachedRequestBody;
+import org.apache.shenyu.plugin.api.result.ShenyuResultEnum;
+import org.apache.shenyu.plugin.api.utils.WebFluxResultUtils;
+import org.apache.shenyu.plugin.base.utils.Singleton;
 import org.apache.shenyu.plugin.sofa.cache.ApplicationConfigCache;
+import org.springframework.http.HttpStatus;
 import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
 
 import java.util.Objects;
-import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * sofa proxy service is use GenericService.
@@ -47,6 +56,8 @@ import java.util.concurrent.CompletableFuture;
 public class SofaProxyService {
 
     private final BodyParamResolveService bodyParamResolveService;
+
+    private final ConcurrentMap<String, AtomicInteger> inFlights = new ConcurrentHashMap<>();
     
     /**
      * Instantiates a new Sofa proxy service.
@@ -66,46 +77,101 @@ public class SofaProxyService {
      * @return the object
      * @throws ShenyuException the shenyu exception
      */
-    public Mono<Object> genericInvoker(final String body, final MetaData metaData, final ServerWebExchange exchange) throws ShenyuException {
+    public Mono<Object> genericInvoker(final CachedRequestBody body, final MetaData metaData, final ServerWebExchange exchange) throws ShenyuException {
         ConsumerConfig<GenericService> reference = ApplicationConfigCache.getInstance().get(metaData.getPath());
         if (Objects.isNull(reference) || StringUtils.isEmpty(reference.getInterfaceId())) {
             ApplicationConfigCache.getInstance().invalidate(metaData.getPath());
             reference = ApplicationConfigCache.getInstance().initRef(metaData);
         }
-        GenericService genericService = reference.refer();
+        GenericService genericService = ApplicationConfigCache.getInstance().refer(metaData.getPath(), reference);
         Pair<String[], Object[]> pair;
-        if (StringUtils.isBlank(metaData.getParameterTypes()) || null == body || "".equals(body) || "{}".equals(body) || "null".equals(body)) {
+        if (StringUtils.isBlank(metaData.getParameterTypes()) || Objects.isNull(body) || body.isEmpty()) {
             pair = new ImmutablePair<>(new String[]{}, new Object[]{});
         } else {
             pair = bodyParamResolveService.buildParameter(body, metaData.getParameterTypes());
         }
-        CompletableFuture<Object> future = new CompletableFuture<>();
-        RpcInvokeContext.getContext().setResponseCallback(new SofaResponseCallback<Object>() {
-            @Override
-            public void onAppResponse(final Object o, final String s, final RequestBase requestBase) {
-                future.complete(o);
+        AtomicInteger inFlight = inFlights.computeIfAbsent(metaData.getServiceName(), key -> new AtomicInteger());
+        // the slot is taken on subscription, a call which is never subscribed never holds one
+        return Mono.defer(() -> {
+            if (!tryAcquire(inFlight)) {
+                // the rejection is written here, the response plugin skips a committed response
+                exchange.getResponse().setStatusCode(HttpStatus.TOO_MANY_REQUESTS);
+                return WebFluxResultUtils.error(exchange, ShenyuResultEnum.TOO_MANY_REQUESTS).then(Mono.empty());
             }
+            return invoke(genericService, metaData.getMethodName(), pair, exchange).doFinally(signalType -> inFlight.decrementAndGet());
+        });
+    }
 
-            @Override
-            public void onAppException(final Throwable throwable, final String s, final RequestBase requestBase) {
-                future.completeExceptionally(throwable);
+    /**
+     * Get the in-flight calls of the service.
+     *
+     * @param serviceName the service name
+     * @return the in-flight calls
+     */
+    public int getInFlight(final String serviceName) {
+        AtomicInteger inFlight = inFlights.get(serviceName);
+        return Objects.isNull(inFlight) ? 0 : inFlight.get();
+    }
+
+    private Mono<Object> invoke(final GenericService genericService, final String methodName, final Pair<String[], Object[]> pair, final ServerWebExchange exchange) {
+        return Mono.create(sink -> {
+            // sofa takes the callback of a call from the invoke context of the calling thread only,
+            // the context is dropped right after the call so that it never leaks into the next call on this thread
+            RpcInvokeContext.getContext().setResponseCallback(new MonoResponseCallback(sink));
+            try {
+                genericService.$genericInvoke(methodName, pair.getLeft(), pair.getRight());
+            } catch (SofaRpcException e) {
+                sink.error(e);
+            } finally {
+                RpcInvokeContext.removeContext();
             }
+        }).map(ret -> {
+            Object result = ret instanceof GenericObject ? ((GenericObject) ret).getFields() : ret;
+            exchange.getAttributes().put(Constants.RPC_RESULT, result);
+            exchange.getAttributes().put(Constants.CLIENT_RESPONSE_RESULT_TYPE, ResultEnum.SUCCESS.getName());
+            return ret;
+        }).onErrorMap(ShenyuException::new);
+    }
 
-            @Override
-            public void onSofaException(final SofaRpcException e, final String s, final RequestBase requestBase) {
-                future.completeExceptionally(e);
+    private boolean tryAcquire(final AtomicInteger inFlight) {
+        SofaRegisterConfig config = Singleton.INST.get(SofaRegisterConfig.class);
+        int limit = Objects.isNull(config) || Objects.isNull(config.getMaxInFlight()) ? 0 : config.getMaxInFlight();
+        if (limit <= 0) {
+            inFlight.incrementAndGet();
+            return true;
+        }
+        for (; ;) {
+            int current = inFlight.get();
+            if (current >= limit) {
+                return false;
             }
-        });
-        genericService.$genericInvoke(metaData.getMethodName(), pair.getLeft(), pair.getRight());
-        return Mono.fromFuture(future.thenApply(ret -> {
-            if (Objects.isNull(ret)) {
-                ret = Constants.SOFA_RPC_RESULT_EMPTY;
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
             }
+        }
+    }
 
-            GenericObject genericObject = (GenericObject) ret;
-            exchange.getAttributes().put(Constants.RPC_RESULT, genericObject.getFields());
-            exchange.getAttributes().put(Constants.CLIENT_RESPONSE_RESULT_TYPE, ResultEnum.SUCCESS.getName());
-            return ret;
-        })).onErrorMap(ShenyuException::new);
+    private static final class MonoResponseCallback implements SofaResponseCallback<Object> {
+
+        private final MonoSink<Object> sink;
+
+        MonoResponseCallback(final MonoSink<Object> sink) {
+            this.sink = sink;
+        }
+
+        @Override
+        public void onAppResponse(final Object o, final String s, final RequestBase requestBase) {
+            sink.success(Objects.isNull(o) ? Constants.SOFA_RPC_RESULT_EMPTY : o);
+        }
+
+        @Override
+        public void onAppException(final Throwable throwable, final String s, final RequestBase requestBase) {
+            sink.error(throwable);
+        }
+
+        @Override
+        public void onSofaException(final SofaRpcException e, final String s, final RequestBase requestBase) {
+            sink.error(e);
+        }
     }
 }
@@ -18,9 +18,11 @@
 package org.apache.shenyu.plugin.sofa.subscriber;
 
 import com.google.common.collect.Maps;
+import org.apache.commons.lang3.StringUtils;
 import org.apache.shenyu.common.dto.MetaData;
 import org.apache.shenyu.common.enums.RpcTypeEnum;
 import org.apache.shenyu.plugin.sofa.cache.ApplicationConfigCache;
+import org.apache.shenyu.plugin.base.warmup.ReferenceWarmup;
 import org.apache.shenyu.sync.data.api.MetaDataSubscriber;
 
 import java.util.Objects;
@@ -33,13 +35,19 @@ public class SofaMetaDataSubscriber implements MetaDataSubscriber {
 
     private static final ConcurrentMap<String, MetaData> META_DATA = Maps.newConcurrentMap();
 
+    static {
+        ReferenceWarmup.getInstance().register(SofaMetaDataSubscriber.class.getName(), warmup -> warmup.warmUp(META_DATA.values(),
+            metaData -> StringUtils.isEmpty(ApplicationConfigCache.getInstance().get(metaData.getPath()).getInterfaceId()),
+            metaData -> ApplicationConfigCache.getInstance().initRef(metaData)));
+    }
+
     @Override
     public void onSubscribe(final MetaData metaData) {
         if (RpcTypeEnum.SOFA.getName().equals(metaData.getRpcType())) {
             MetaData exist = META_DATA.get(metaData.getPath());
             if (Objects.isNull(exist) || Objects.isNull(ApplicationConfigCache.getInstance().get(exist.getPath()).refer())) {
-                // The first initialization
-                ApplicationConfigCache.getInstance().initRef(metaData);
+                // The first initialization, on the warm-up pool when it is enabled
+                ReferenceWarmup.getInstance().execute(metaData.getPath(), () -> ApplicationConfigCache.getInstance().initRef(metaData));
             } else {
                 if (!exist.getServiceName().equals(metaData.getServiceName()) || !exist.getRpcExt().equals(metaData.getRpcExt())) {
                     // update
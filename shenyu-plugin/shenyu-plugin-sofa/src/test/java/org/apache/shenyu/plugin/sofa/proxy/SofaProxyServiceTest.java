@@ -20,25 +20,44 @@ package org.apache.shenyu.plugin.sofa.proxy;
 import com.alipay.sofa.rpc.api.GenericService;
 import com.alipay.sofa.rpc.config.ConsumerConfig;
 import com.alipay.sofa.rpc.context.RpcInvokeContext;
+import com.alipay.sofa.rpc.core.invoke.SofaResponseCallback;
 import com.google.common.cache.LoadingCache;
 import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.apache.commons.lang3.tuple.Pair;
+import org.apache.shenyu.common.config.SofaRegisterConfig;
+import org.apache.shenyu.common.constant.Constants;
 import org.apache.shenyu.common.dto.MetaData;
 import org.apache.shenyu.common.enums.RpcTypeEnum;
 import org.apache.shenyu.plugin.api.param.BodyParamResolveService;
+import org.apache.shenyu.plugin.api.param.CachedRequestBody;
+import org.apache.shenyu.plugin.api.result.DefaultShenyuResult;
+import org.apache.shenyu.plugin.api.result.ShenyuResult;
+import org.apache.shenyu.plugin.api.utils.SpringBeanUtils;
+import org.apache.shenyu.plugin.base.utils.Singleton;
 import org.apache.shenyu.plugin.sofa.cache.ApplicationConfigCache;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.HttpStatus;
 import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
 import org.springframework.mock.web.server.MockServerWebExchange;
 import org.springframework.web.server.ServerWebExchange;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
 
 import java.lang.reflect.Field;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 /**
@@ -72,24 +91,88 @@ public final class SofaProxyServiceTest {
     }
 
     @After
-    public void after() {
+    public void after() throws NoSuchFieldException, IllegalAccessException {
         ApplicationConfigCache.getInstance().invalidateAll();
+        Field field = Singleton.class.getDeclaredField("SINGLES");
+        field.setAccessible(true);
+        ((Map) field.get(null)).remove(SofaRegisterConfig.class.getName());
     }
 
     @Test
     public void test() throws NoSuchFieldException, IllegalAccessException {
+        final ConsumerConfig consumerConfig = mockConsumerConfig();
+        SofaProxyService sofaProxyService = new SofaProxyService(new SofaParamResolveServiceImpl());
+        StepVerifier.create(sofaProxyService.genericInvoker(CachedRequestBody.of(""), metaData, exchange)).expectNext("success").verifyComplete();
+        assertEquals("success", exchange.getAttributes().get(Constants.RPC_RESULT));
+        assertNull(RpcInvokeContext.peekContext());
+        assertEquals(0, sofaProxyService.getInFlight(metaData.getServiceName()));
+        sofaProxyService.genericInvoker(CachedRequestBody.of(""), metaData, exchange).block();
+        verify(consumerConfig, times(1)).refer();
+    }
+
+    @Test
+    public void testReferAgainAfterInvalidate() throws NoSuchFieldException, IllegalAccessException {
+        final ConsumerConfig consumerConfig = mockConsumerConfig();
+        SofaProxyService sofaProxyService = new SofaProxyService(new SofaParamResolveServiceImpl());
+        sofaProxyService.genericInvoker(CachedRequestBody.of(""), metaData, exchange).block();
+        ApplicationConfigCache.getInstance().invalidate(PATH);
+        putConsumerConfig(consumerConfig);
+        sofaProxyService.genericInvoker(CachedRequestBody.of(""), metaData, exchange).block();
+        verify(consumerConfig, times(2)).refer();
+    }
+
+    @Test
+    public void testInFlightOnSubscribe() throws NoSuchFieldException, IllegalAccessException {
+        mockConsumerConfig();
+        SofaProxyService sofaProxyService = new SofaProxyService(new SofaParamResolveServiceImpl());
+        Mono<Object> result = sofaProxyService.genericInvoker(CachedRequestBody.of(""), metaData, exchange);
+        assertEquals(0, sofaProxyService.getInFlight(metaData.getServiceName()));
+        StepVerifier.create(result).expectNext("success").verifyComplete();
+        assertEquals(0, sofaProxyService.getInFlight(metaData.getServiceName()));
+    }
+
+    @Test
+    public void testInFlightLimit() throws NoSuchFieldException, IllegalAccessException {
+        ConfigurableApplicationContext context = mock(ConfigurableApplicationContext.class);
+        when(context.getBean(ShenyuResult.class)).thenReturn(new DefaultShenyuResult());
+        SpringBeanUtils.getInstance().setCfgContext(context);
+        SofaRegisterConfig sofaRegisterConfig = new SofaRegisterConfig();
+        sofaRegisterConfig.setMaxInFlight(1);
+        Singleton.INST.single(SofaRegisterConfig.class, sofaRegisterConfig);
         ConsumerConfig consumerConfig = mock(ConsumerConfig.class);
         GenericService genericService = mock(GenericService.class);
         when(consumerConfig.refer()).thenReturn(genericService);
         when(consumerConfig.getInterfaceId()).thenReturn(PATH);
-        when(genericService.$genericInvoke(METHOD_NAME, LEFT, RIGHT)).thenReturn(null);
-        ApplicationConfigCache applicationConfigCache = ApplicationConfigCache.getInstance();
+        putConsumerConfig(consumerConfig);
+        SofaProxyService sofaProxyService = new SofaProxyService(new SofaParamResolveServiceImpl());
+        Mono<Object> pending = sofaProxyService.genericInvoker(CachedRequestBody.of(""), metaData, exchange);
+        final Disposable disposable = pending.subscribe();
+        assertEquals(1, sofaProxyService.getInFlight(metaData.getServiceName()));
+        ServerWebExchange rejected = MockServerWebExchange.from(MockServerHttpRequest.get("localhost").build());
+        StepVerifier.create(sofaProxyService.genericInvoker(CachedRequestBody.of(""), metaData, rejected)).verifyComplete();
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, rejected.getResponse().getStatusCode());
+        disposable.dispose();
+        assertEquals(0, sofaProxyService.getInFlight(metaData.getServiceName()));
+    }
+
+    private ConsumerConfig mockConsumerConfig() throws NoSuchFieldException, IllegalAccessException {
+        ConsumerConfig consumerConfig = mock(ConsumerConfig.class);
+        GenericService genericService = mock(GenericService.class);
+        when(consumerConfig.refer()).thenReturn(genericService);
+        when(consumerConfig.getInterfaceId()).thenReturn(PATH);
+        when(genericService.$genericInvoke(METHOD_NAME, LEFT, RIGHT)).thenAnswer(invocation -> {
+            SofaResponseCallback callback = RpcInvokeContext.getContext().getResponseCallback();
+            CompletableFuture.runAsync(() -> callback.onAppResponse("success", METHOD_NAME, null));
+            return null;
+        });
+        putConsumerConfig(consumerConfig);
+        return consumerConfig;
+    }
+
+    private void putConsumerConfig(final ConsumerConfig consumerConfig) throws NoSuchFieldException, IllegalAccessException {
         Field field = ApplicationConfigCache.class.getDeclaredField("cache");
         field.setAccessible(true);
-        ((LoadingCache) field.get(applicationConfigCache)).put(PATH, consumerConfig);
-        SofaProxyService sofaProxyService = new SofaProxyService(new SofaParamResolveServiceImpl());
-        sofaProxyService.genericInvoker("", metaData, exchange);
-        RpcInvokeContext.getContext().getResponseCallback().onAppResponse("success", null, null);
+        ((LoadingCache) field.get(ApplicationConfigCache.getInstance())).put(PATH, consumerConfig);
     }
 
     static class SofaParamResolveServiceImpl implements BodyParamResolveService {
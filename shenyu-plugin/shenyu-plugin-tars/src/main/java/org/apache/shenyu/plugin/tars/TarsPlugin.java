@@ -29,20 +29,22 @@ import org.apache.shenyu.common.enums.RpcTypeEnum;
 import org.apache.shenyu.common.exception.ShenyuException;
 import org.apache.shenyu.plugin.api.ShenyuPluginChain;
 import org.apache.shenyu.plugin.api.context.ShenyuContext;
+import org.apache.shenyu.plugin.api.param.CachedRequestBody;
 import org.apache.shenyu.plugin.api.result.ShenyuResultEnum;
 import org.apache.shenyu.plugin.base.AbstractShenyuPlugin;
 import org.apache.shenyu.plugin.api.result.ShenyuResultWrap;
 import org.apache.shenyu.plugin.api.utils.WebFluxResultUtils;
 import org.apache.shenyu.plugin.tars.cache.ApplicationConfigCache;
+import org.apache.shenyu.plugin.tars.proxy.TarsInvokePrx;
 import org.apache.shenyu.plugin.tars.proxy.TarsInvokePrxList;
+import org.apache.shenyu.plugin.tars.proxy.TarsInvoker;
 import org.apache.shenyu.plugin.tars.util.PrxInfoUtil;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Mono;
 
-import java.lang.reflect.Method;
+import java.util.Collections;
 import java.util.Objects;
-import java.util.Random;
 import java.util.concurrent.CompletableFuture;
 
 /**
@@ -51,12 +53,10 @@ import java.util.concurrent.CompletableFuture;
 @Slf4j
 public class TarsPlugin extends AbstractShenyuPlugin {
 
-    private static final Random RANDOM = new Random();
-
     @Override
     @SuppressWarnings({"unchecked", "rawtypes"})
     protected Mono<Void> doExecute(final ServerWebExchange exchange, final ShenyuPluginChain chain, final SelectorData selector, final RuleData rule) {
-        String body = exchange.getAttribute(Constants.PARAM_TRANSFORM);
+        CachedRequestBody body = exchange.getAttribute(Constants.PARAM_TRANSFORM);
         ShenyuContext shenyuContext = exchange.getAttribute(Constants.CONTEXT);
         assert shenyuContext != null;
         MetaData metaData = exchange.getAttribute(Constants.META_DATA);
@@ -67,19 +67,22 @@ public class TarsPlugin extends AbstractShenyuPlugin {
             Object error = ShenyuResultWrap.error(ShenyuResultEnum.META_DATA_ERROR.getCode(), ShenyuResultEnum.META_DATA_ERROR.getMsg(), null);
             return WebFluxResultUtils.result(exchange, error);
         }
-        if (StringUtils.isNoneBlank(metaData.getParameterTypes()) && StringUtils.isBlank(body)) {
+        if (StringUtils.isNoneBlank(metaData.getParameterTypes()) && CachedRequestBody.isBlank(body)) {
             exchange.getResponse().setStatusCode(HttpStatus.INTERNAL_SERVER_ERROR);
             Object error = ShenyuResultWrap.error(ShenyuResultEnum.TARS_HAVE_BODY_PARAM.getCode(), ShenyuResultEnum.TARS_HAVE_BODY_PARAM.getMsg(), null);
             return WebFluxResultUtils.result(exchange, error);
         }
         TarsInvokePrxList tarsInvokePrxList = ApplicationConfigCache.getInstance().get(metaData.getPath());
-        int index = RANDOM.nextInt(tarsInvokePrxList.getTarsInvokePrxList().size());
-        Object prx = tarsInvokePrxList.getTarsInvokePrxList().get(index).getInvokePrx();
-        Method method = tarsInvokePrxList.getMethod();
+        TarsInvokePrx tarsInvokePrx = tarsInvokePrxList.select();
+        TarsInvoker invoker = tarsInvokePrxList.getInvoker();
         CompletableFuture future;
         try {
-            future = (CompletableFuture) method
-                    .invoke(prx, PrxInfoUtil.getParamArray(tarsInvokePrxList.getParamTypes(), tarsInvokePrxList.getParamNames(), body));
+            if (Objects.isNull(tarsInvokePrx) || Objects.isNull(invoker)) {
+                throw new ShenyuException("tars proxy is not ready, path: " + metaData.getPath());
+            }
+            Object[] params = PrxInfoUtil.getParamArray(tarsInvokePrxList.getParamConverters(), tarsInvokePrxList.getParamNames(),
+                    CachedRequestBody.isBlank(body) ? Collections.emptyMap() : body.asMap());
+            future = (CompletableFuture) invoker.invoke(tarsInvokePrx.getInvokePrx(), params);
         } catch (Exception e) {
             log.error("Invoke tars error", e);
             exchange.getResponse().setStatusCode(HttpStatus.INTERNAL_SERVER_ERROR);
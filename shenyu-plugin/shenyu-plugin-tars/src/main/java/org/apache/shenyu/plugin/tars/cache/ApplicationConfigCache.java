@@ -33,6 +33,7 @@ import org.apache.commons.lang3.tuple.Pair;
 import org.apache.shenyu.common.exception.ShenyuException;
 import org.apache.shenyu.plugin.tars.proxy.TarsInvokePrx;
 import org.apache.shenyu.plugin.tars.proxy.TarsInvokePrxList;
+import org.apache.shenyu.plugin.tars.proxy.TarsInvoker;
 import org.apache.shenyu.plugin.tars.util.PrxInfoUtil;
 import org.apache.shenyu.plugin.tars.util.ReturnValueResolver;
 import org.assertj.core.internal.bytebuddy.ByteBuddy;
@@ -40,6 +41,10 @@ import org.assertj.core.internal.bytebuddy.description.annotation.AnnotationDesc
 import org.assertj.core.internal.bytebuddy.description.modifier.Visibility;
 import org.assertj.core.internal.bytebuddy.dynamic.DynamicType;
 import org.assertj.core.internal.bytebuddy.dynamic.loading.ClassLoadingStrategy;
+import org.assertj.core.internal.bytebuddy.dynamic.loading.MultipleParentClassLoader;
+import org.assertj.core.internal.bytebuddy.implementation.MethodCall;
+import org.assertj.core.internal.bytebuddy.implementation.bytecode.assign.Assigner;
+import org.assertj.core.internal.bytebuddy.matcher.ElementMatchers;
 import org.apache.shenyu.common.dto.MetaData;
 import org.apache.shenyu.common.dto.SelectorData;
 import org.apache.shenyu.common.dto.convert.DivideUpstream;
@@ -70,7 +75,7 @@ public final class ApplicationConfigCache {
             .build(new CacheLoader<String, TarsInvokePrxList>() {
                 @Override
                 public TarsInvokePrxList load(final String key) {
-                    return new TarsInvokePrxList(new CopyOnWriteArrayList<>(), null, null, null);
+                    return new TarsInvokePrxList(new CopyOnWriteArrayList<>(), null, null, null, null, null);
                 }
             });
 
@@ -129,18 +134,17 @@ public final class ApplicationConfigCache {
                                         classDefinition.defineMethod(PrxInfoUtil.getMethodName(methodInfo.methodName),
                                                 ReturnValueResolver.getCallBackType(PrxInfoUtil.getParamClass(methodInfo.getReturnType())),
                                                 Visibility.PUBLIC);
-                                if (CollectionUtils.isNotEmpty(methodInfo.getParams())) {
-                                    Class<?>[] paramTypes = new Class[methodInfo.getParams().size()];
-                                    String[] paramNames = new String[methodInfo.getParams().size()];
-                                    for (int i = 0; i < methodInfo.getParams().size(); i++) {
-                                        Pair<String, String> pair = methodInfo.getParams().get(i);
-                                        paramTypes[i] = PrxInfoUtil.getParamClass(pair.getKey());
-                                        paramNames[i] = pair.getValue();
-                                        definition = definition.withParameter(paramTypes[i], paramNames[i]);
-                                        prxParamCache.put(getClassMethodKey(clazzName, methodInfo.getMethodName()), new TarsParamInfo(paramTypes, paramNames));
-                                    }
-                                    classDefinition = definition.withoutCode();
+                                int paramCount = CollectionUtils.isEmpty(methodInfo.getParams()) ? 0 : methodInfo.getParams().size();
+                                Class<?>[] paramTypes = new Class[paramCount];
+                                String[] paramNames = new String[paramCount];
+                                for (int i = 0; i < paramCount; i++) {
+                                    Pair<String, String> pair = methodInfo.getParams().get(i);
+                                    paramTypes[i] = PrxInfoUtil.getParamClass(pair.getKey());
+                                    paramNames[i] = pair.getValue();
+                                    definition = definition.withParameter(paramTypes[i], paramNames[i]);
                                 }
+                                prxParamCache.put(getClassMethodKey(clazzName, methodInfo.getMethodName()), new TarsParamInfo(paramTypes, paramNames));
+                                classDefinition = definition.withoutCode();
                             }
                             Class<?> prxClazz = classDefinition.annotateType(AnnotationDescription.Builder.ofType(Servant.class).build())
                                     .make()
@@ -227,12 +231,12 @@ public final class ApplicationConfigCache {
         tarsInvokePrxList.getTarsInvokePrxList().clear();
         if (tarsInvokePrxList.getMethod() == null) {
             TarsParamInfo tarsParamInfo = prxParamCache.get(getClassMethodKey(prxClass.getName(), metaData.getMethodName()));
-            Object prx = communicator.stringToProxy(prxClass, PrxInfoUtil.getObjectName(upstreamList.get(0).getUpstreamUrl(), metaData.getServiceName()));
-            Method method = prx.getClass().getDeclaredMethod(
-                    PrxInfoUtil.getMethodName(metaData.getMethodName()), tarsParamInfo.getParamTypes());
-            tarsInvokePrxList.setMethod(method);
+            Method method = prxClass.getMethod(PrxInfoUtil.getMethodName(metaData.getMethodName()), tarsParamInfo.getParamTypes());
             tarsInvokePrxList.setParamTypes(tarsParamInfo.getParamTypes());
             tarsInvokePrxList.setParamNames(tarsParamInfo.getParamNames());
+            tarsInvokePrxList.setParamConverters(PrxInfoUtil.getParamConverters(tarsParamInfo.getParamTypes()));
+            tarsInvokePrxList.setInvoker(createInvoker(method));
+            tarsInvokePrxList.setMethod(method);
         }
         tarsInvokePrxList.getTarsInvokePrxList().addAll(upstreamList.stream().map(upstream -> {
             Object strProxy = communicator.stringToProxy(prxClass, PrxInfoUtil.getObjectName(upstream.getUpstreamUrl(), metaData.getServiceName()));
@@ -240,6 +244,32 @@ public final class ApplicationConfigCache {
         }).collect(Collectors.toList()));
     }
 
+    /**
+     * Generate the invoker which calls the proxy interface method directly, the params are unboxed from the array.
+     *
+     * @param method the proxy interface method
+     * @return the invoker
+     */
+    private static TarsInvoker createInvoker(final Method method) {
+        MethodCall methodCall = MethodCall.invoke(method).onArgument(0);
+        if (method.getParameterCount() > 0) {
+            methodCall = methodCall.withArgumentArrayElements(1, method.getParameterCount());
+        }
+        try {
+            return new ByteBuddy()
+                    .subclass(TarsInvoker.class)
+                    .method(ElementMatchers.named("invoke"))
+                    .intercept(methodCall.withAssigner(Assigner.DEFAULT, Assigner.Typing.DYNAMIC))
+                    .make()
+                    .load(new MultipleParentClassLoader.Builder().append(method.getDeclaringClass(), TarsInvoker.class).build(),
+                            ClassLoadingStrategy.Default.WRAPPER)
+                    .getLoaded()
+                    .newInstance();
+        } catch (InstantiationException | IllegalAccessException e) {
+            throw new ShenyuException(e);
+        }
+    }
+
     /**
      * invalidate.
      *
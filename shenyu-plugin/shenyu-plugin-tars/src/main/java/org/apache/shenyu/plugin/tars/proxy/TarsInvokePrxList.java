@@ -24,6 +24,8 @@ import lombok.NoArgsConstructor;
 
 import java.lang.reflect.Method;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
 
 /**
  * Tars path invoke metadata.
@@ -41,4 +43,27 @@ public class TarsInvokePrxList {
     private Class<?>[] paramTypes;
 
     private String[] paramNames;
+
+    private TarsInvoker invoker;
+
+    private Function<Object, Object>[] paramConverters;
+
+    /**
+     * Select a proxy at random.
+     *
+     * @return the proxy, or null when there is no upstream
+     */
+    public TarsInvokePrx select() {
+        for (; ;) {
+            int size = tarsInvokePrxList.size();
+            if (size == 0) {
+                return null;
+            }
+            try {
+                return tarsInvokePrxList.get(ThreadLocalRandom.current().nextInt(size));
+            } catch (IndexOutOfBoundsException ignored) {
+                // the upstream list shrank concurrently, select again
+            }
+        }
+    }
 }
@@ -24,6 +24,7 @@ import org.apache.shenyu.common.utils.GsonUtils;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Objects;
 import java.util.function.Function;
 
 /**
@@ -141,20 +142,53 @@ public class PrxInfoUtil {
      * @return the param to invoke
      */
     public static Object[] getParamArray(final Class<?>[] paramTypes, final String[] paramNames, final String body) {
-        Map<String, Object> bodyMap = GsonUtils.getInstance().convertToMap(body);
+        return getParamArray(paramTypes, paramNames, GsonUtils.getInstance().convertToMap(body));
+    }
+
+    /**
+     * Get param to invoke tars server.
+     *
+     * @param paramTypes paramTypes
+     * @param paramNames paramNames
+     * @param bodyMap the body parsed by {@link GsonUtils#convertToMap(String)}
+     * @return the param to invoke
+     */
+    public static Object[] getParamArray(final Class<?>[] paramTypes, final String[] paramNames, final Map<String, Object> bodyMap) {
+        return getParamArray(getParamConverters(paramTypes), paramNames, bodyMap);
+    }
+
+    /**
+     * Get param to invoke tars server with the converters of {@link #getParamConverters(Class[])}.
+     *
+     * @param paramConverters paramConverters
+     * @param paramNames paramNames
+     * @param bodyMap the body parsed by {@link GsonUtils#convertToMap(String)}
+     * @return the param to invoke
+     */
+    public static Object[] getParamArray(final Function<Object, Object>[] paramConverters, final String[] paramNames, final Map<String, Object> bodyMap) {
         Object[] param = new Object[paramNames.length];
         for (int i = 0; i < paramNames.length; i++) {
-            String paramName = paramNames[i];
-            Class<?> paramType = paramTypes[i];
-            if (PRIMITIVE_TYPE.containsKey(paramType.getName())) {
-                param[i] = PRIMITIVE_TYPE.get(paramType.getName()).getFunc().apply(bodyMap.get(paramName));
-            } else {
-                param[i] = bodyMap.get(paramName);
-            }
+            param[i] = paramConverters[i].apply(bodyMap.get(paramNames[i]));
         }
         return param;
     }
 
+    /**
+     * Get the converters from the body values to the param types, resolved once per method.
+     *
+     * @param paramTypes paramTypes
+     * @return the converters
+     */
+    @SuppressWarnings("unchecked")
+    public static Function<Object, Object>[] getParamConverters(final Class<?>[] paramTypes) {
+        Function<Object, Object>[] converters = new Function[paramTypes.length];
+        for (int i = 0; i < paramTypes.length; i++) {
+            PrimitiveType primitiveType = PRIMITIVE_TYPE.get(paramTypes[i].getName());
+            converters[i] = Objects.isNull(primitiveType) ? Function.identity() : primitiveType.getFunc();
+        }
+        return converters;
+    }
+
     @AllArgsConstructor
     @Getter
     static class PrimitiveType {
@@ -26,11 +26,14 @@ import org.apache.shenyu.common.enums.PluginEnum;
 import org.apache.shenyu.common.enums.RpcTypeEnum;
 import org.apache.shenyu.plugin.api.ShenyuPluginChain;
 import org.apache.shenyu.plugin.api.context.ShenyuContext;
+import org.apache.shenyu.plugin.api.param.CachedRequestBody;
 import org.apache.shenyu.plugin.api.result.DefaultShenyuResult;
 import org.apache.shenyu.plugin.api.result.ShenyuResult;
 import org.apache.shenyu.plugin.api.utils.SpringBeanUtils;
 import org.apache.shenyu.plugin.tars.cache.ApplicationConfigCache;
+import org.apache.shenyu.plugin.tars.proxy.TarsInvokePrx;
 import org.apache.shenyu.plugin.tars.proxy.TarsInvokePrxList;
+import org.apache.shenyu.plugin.tars.util.PrxInfoUtil;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -43,15 +46,12 @@ import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
-import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -114,7 +114,7 @@ public class TarsPluginTest {
         ShenyuContext context = mock(ShenyuContext.class);
         exchange.getAttributes().put(Constants.CONTEXT, context);
         exchange.getAttributes().put(Constants.META_DATA, metaData);
-        exchange.getAttributes().put(Constants.PARAM_TRANSFORM, "{\"param1\":1,\"param2\":2}");
+        exchange.getAttributes().put(Constants.PARAM_TRANSFORM, CachedRequestBody.of("{\"param1\":1,\"param2\":2}"));
         when(chain.execute(exchange)).thenReturn(Mono.empty());
         RuleData data = mock(RuleData.class);
         SelectorData selectorData = mock(SelectorData.class);
@@ -122,22 +122,26 @@ public class TarsPluginTest {
     }
 
     @Test
-    public void testTarsPluginNormal() throws InvocationTargetException, IllegalAccessException {
+    public void testTarsPluginNormal() {
         ShenyuContext context = mock(ShenyuContext.class);
         exchange.getAttributes().put(Constants.CONTEXT, context);
         exchange.getAttributes().put(Constants.META_DATA, metaData);
-        exchange.getAttributes().put(Constants.PARAM_TRANSFORM, "{\"param1\":\"1\",\"param2\":\"1\"}");
+        exchange.getAttributes().put(Constants.PARAM_TRANSFORM, CachedRequestBody.of("{\"param1\":\"1\",\"param2\":\"1\"}"));
         when(chain.execute(exchange)).thenReturn(Mono.empty());
-        RuleData data = mock(RuleData.class);
-        SelectorData selectorData = mock(SelectorData.class);
+        final RuleData data = mock(RuleData.class);
+        final SelectorData selectorData = mock(SelectorData.class);
         TarsInvokePrxList tarsInvokePrxList = ApplicationConfigCache.getInstance().get(metaData.getPath());
-        Method method = mock(Method.class);
         ExecutorService executorService = Executors.newFixedThreadPool(1,
                 ShenyuThreadFactory.create("long-polling", true));
         CompletableFuture<String> stringCompletableFuture = CompletableFuture.supplyAsync(() -> "", executorService);
-        when(method.invoke(any(), any())).thenReturn(stringCompletableFuture);
-        tarsInvokePrxList.setMethod(method);
+        tarsInvokePrxList.setInvoker((prx, params) -> stringCompletableFuture);
+        tarsInvokePrxList.setParamConverters(PrxInfoUtil.getParamConverters(new Class<?>[]{String.class, String.class}));
+        tarsInvokePrxList.setParamNames(new String[]{"param1", "param2"});
+        if (tarsInvokePrxList.getTarsInvokePrxList().isEmpty()) {
+            tarsInvokePrxList.getTarsInvokePrxList().add(new TarsInvokePrx(new Object(), "127.0.0.1:8080"));
+        }
         StepVerifier.create(tarsPluginUnderTest.doExecute(exchange, chain, selectorData, data)).expectSubscription().verifyComplete();
+        assertEquals("", exchange.getAttributes().get(Constants.RPC_RESULT));
     }
 
     @Test
@@ -22,6 +22,10 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.junit.MockitoJUnitRunner;
 
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
 import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 
@@ -75,4 +79,13 @@ public class PrxInfoUtilTest {
                         new String[]{"int", "double", "long", "short", "byte", "boolean", "char", "float"},
                         "{\"int\":11,\"double\":1.321321312,\"long\":131231312,\"short\":11,\"byte\":0,\"boolean\":false,\"char\":'a',\"float\":1.321321312}"));
     }
+
+    @Test
+    public void testGetParamArrayWithConverters() {
+        Function<Object, Object>[] converters = PrxInfoUtil.getParamConverters(new Class<?>[]{int.class, String.class});
+        Map<String, Object> body = new HashMap<>();
+        body.put("id", 1L);
+        body.put("name", "shenyu");
+        assertArrayEquals(new Object[]{1, "shenyu"}, PrxInfoUtil.getParamArray(converters, new String[]{"id", "name"}, body));
+    }
 }
@@ -27,7 +27,6 @@ import org.apache.shenyu.common.enums.PluginEnum;
 import org.apache.shenyu.common.enums.WafEnum;
 import org.apache.shenyu.common.enums.WafModelEnum;
 import org.apache.shenyu.plugin.api.ShenyuPluginChain;
-import org.apache.shenyu.plugin.api.result.ShenyuResultWrap;
 import org.apache.shenyu.plugin.api.utils.WebFluxResultUtils;
 import org.apache.shenyu.plugin.base.AbstractShenyuPlugin;
 import org.apache.shenyu.plugin.base.utils.CacheKeyUtils;
@@ -54,8 +53,7 @@ public class WafPlugin extends AbstractShenyuPlugin {
                 return chain.execute(exchange);
             }
             exchange.getResponse().setStatusCode(HttpStatus.FORBIDDEN);
-            Object error = ShenyuResultWrap.error(HttpStatus.FORBIDDEN.value(), Constants.REJECT_MSG, null);
-            return WebFluxResultUtils.result(exchange, error);
+            return WebFluxResultUtils.error(exchange, HttpStatus.FORBIDDEN.value(), Constants.REJECT_MSG);
         }
         String handle = rule.getHandle();
         WafHandle wafHandle = WafPluginDataHandler.CACHED_HANDLE.get().obtainHandle(CacheKeyUtils.INST.getKey(rule));
@@ -65,8 +63,7 @@ public class WafPlugin extends AbstractShenyuPlugin {
         }
         if (WafEnum.REJECT.getName().equals(wafHandle.getPermission())) {
             exchange.getResponse().setStatusCode(HttpStatus.FORBIDDEN);
-            Object error = ShenyuResultWrap.error(Integer.parseInt(wafHandle.getStatusCode()), Constants.REJECT_MSG, null);
-            return WebFluxResultUtils.result(exchange, error);
+            return WebFluxResultUtils.error(exchange, Integer.parseInt(wafHandle.getStatusCode()), Constants.REJECT_MSG);
         }
         return chain.execute(exchange);
     }
@@ -44,6 +44,15 @@ public class JsonMessage {
      */
     private static Map<String, MethodDescriptor<DynamicMessage, DynamicMessage>> methodDescriptorCache = Maps.newConcurrentMap();
 
+    /**
+     * the json message descriptor, which is immutable and shared by all messages.
+     */
+    private static final Descriptors.Descriptor JSON_DESCRIPTOR = buildJsonMarshallerDescriptor();
+
+    private static final Descriptors.FieldDescriptor JSON_FIELD = JSON_DESCRIPTOR.findFieldByName(GrpcConstants.JSON_DESCRIPTOR_PROTO_FIELD_NAME);
+
+    private static final DynamicMessageMarshaller JSON_MARSHALLER = new DynamicMessageMarshaller(JSON_DESCRIPTOR);
+
     /**
      * Dynamic build JsonMarshaller Descriptor.
      *
@@ -97,11 +106,7 @@ public class JsonMessage {
      * @return DynamicMessage
      */
     public static DynamicMessage buildJsonMessage(final String jsonParam) {
-        // build Descriptor and set request param
-        Descriptors.Descriptor jsonDescriptor = buildJsonMarshallerDescriptor();
-        DynamicMessage.Builder jsonDynamicMessage = DynamicMessage.newBuilder(jsonDescriptor);
-        jsonDynamicMessage.setField(jsonDescriptor.findFieldByName(GrpcConstants.JSON_DESCRIPTOR_PROTO_FIELD_NAME), jsonParam);
-        return jsonDynamicMessage.build();
+        return DynamicMessage.newBuilder(JSON_DESCRIPTOR).setField(JSON_FIELD, jsonParam).build();
     }
 
     /**
@@ -110,9 +115,7 @@ public class JsonMessage {
      * @return DynamicMessage
      */
     public static DynamicMessage buildJsonMessage() {
-        Descriptors.Descriptor jsonDescriptor = buildJsonMarshallerDescriptor();
-        DynamicMessage.Builder jsonDynamicMessage = DynamicMessage.newBuilder(jsonDescriptor);
-        return jsonDynamicMessage.build();
+        return DynamicMessage.getDefaultInstance(JSON_DESCRIPTOR);
     }
 
     /**
@@ -164,6 +167,25 @@ public class JsonMessage {
         return methodDescriptor;
     }
 
+    /**
+     * Build json marshaller MethodDescriptor, the marshaller is shared and the descriptor is not cached.
+     *
+     * @param serviceName service name
+     * @param methodName  method name
+     * @param methodType  methodType
+     * @return MethodDescriptor
+     */
+    public static MethodDescriptor<DynamicMessage, DynamicMessage> buildJsonMarshallerMethodDescriptor(final String serviceName,
+                                                                                                       final String methodName,
+                                                                                                       final MethodDescriptor.MethodType methodType) {
+        return MethodDescriptor.<DynamicMessage, DynamicMessage>newBuilder()
+                .setType(getMethodType(methodType))
+                .setFullMethodName(MethodDescriptor.generateFullMethodName(serviceName + GrpcConstants.GRPC_JSON_SERVICE, methodName))
+                .setRequestMarshaller(JSON_MARSHALLER)
+                .setResponseMarshaller(JSON_MARSHALLER)
+                .build();
+    }
+
     /**
      * getMethodType.
      *
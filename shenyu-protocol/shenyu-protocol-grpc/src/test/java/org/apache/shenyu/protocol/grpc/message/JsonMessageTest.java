@@ -33,6 +33,7 @@ import java.util.List;
 
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertEquals;
 import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
@@ -115,6 +116,19 @@ public class JsonMessageTest {
         assertFalse(echo.isSafe());
     }
 
+    @Test
+    public void testBuildJsonMarshallerMethodDescriptor() {
+        MethodDescriptor<DynamicMessage, DynamicMessage> echo = JsonMessage.buildJsonMarshallerMethodDescriptor("echo.service",
+                "echo", MethodDescriptor.MethodType.SERVER_STREAMING);
+        MethodDescriptor<DynamicMessage, DynamicMessage> other = JsonMessage.buildJsonMarshallerMethodDescriptor("echo.service",
+                "other", MethodDescriptor.MethodType.UNARY);
+
+        assertEquals("echo.service" + GrpcConstants.GRPC_JSON_SERVICE + "/echo", echo.getFullMethodName());
+        assertEquals(MethodDescriptor.MethodType.SERVER_STREAMING, echo.getType());
+        assertSame(echo.getRequestMarshaller(), other.getResponseMarshaller());
+        assertSame(JsonMessage.buildJsonMessage().getDescriptorForType(), JsonMessage.buildJsonMessage("{}").getDescriptorForType());
+    }
+
     @Test
     public void testParseOfDynamicMessageMarshaller() {
         String jsonParam = "{\"text\":\"hello world\"}";
@@ -24,6 +24,8 @@ import org.apache.shenyu.plugin.base.handler.PluginDataHandler;
 import org.apache.shenyu.plugin.grpc.GrpcPlugin;
 import org.apache.shenyu.plugin.grpc.context.GrpcShenyuContextDecorator;
 import org.apache.shenyu.plugin.grpc.handler.GrpcPluginDataHandler;
+import org.apache.shenyu.plugin.grpc.subscriber.GrpcMetaDataSubscriber;
+import org.apache.shenyu.sync.data.api.MetaDataSubscriber;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -62,4 +64,14 @@ public class GrpcPluginConfiguration {
     public ShenyuContextDecorator grpcShenyuContextDecorator() {
         return new GrpcShenyuContextDecorator();
     }
+
+    /**
+     * Grpc meta data subscriber.
+     *
+     * @return the meta data subscriber
+     */
+    @Bean
+    public MetaDataSubscriber grpcMetaDataSubscriber() {
+        return new GrpcMetaDataSubscriber();
+    }
 }
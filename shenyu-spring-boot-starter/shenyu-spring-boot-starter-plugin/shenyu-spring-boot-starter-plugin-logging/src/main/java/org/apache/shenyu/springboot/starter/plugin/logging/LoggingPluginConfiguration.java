@@ -18,7 +18,14 @@
 package org.apache.shenyu.springboot.starter.plugin.logging;
 
 import org.apache.shenyu.plugin.api.ShenyuPlugin;
+import org.apache.shenyu.plugin.base.handler.PluginDataHandler;
 import org.apache.shenyu.plugin.logging.LoggingPlugin;
+import org.apache.shenyu.plugin.logging.accesslog.AccessLogCollector;
+import org.apache.shenyu.plugin.logging.accesslog.AccessLogSink;
+import org.apache.shenyu.plugin.logging.accesslog.Slf4jAccessLogSink;
+import org.apache.shenyu.plugin.logging.handler.LoggingPluginDataHandler;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.SearchStrategy;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -28,14 +35,47 @@ import org.springframework.context.annotation.Configuration;
 @Configuration
 public class LoggingPluginConfiguration {
 
+    /**
+     * Access log sink.
+     *
+     * @return the access log sink
+     */
+    @Bean
+    @ConditionalOnMissingBean(value = AccessLogSink.class, search = SearchStrategy.ALL)
+    public AccessLogSink accessLogSink() {
+        return new Slf4jAccessLogSink();
+    }
+
+    /**
+     * Access log collector.
+     *
+     * @param accessLogSink the access log sink
+     * @return the access log collector
+     */
+    @Bean(destroyMethod = "close")
+    public AccessLogCollector accessLogCollector(final AccessLogSink accessLogSink) {
+        return new AccessLogCollector(accessLogSink);
+    }
+
     /**
      * Logging plugin shenyu plugin.
      *
+     * @param accessLogCollector the access log collector
      * @return the shenyu plugin
      */
     @Bean
-    public ShenyuPlugin loggingPlugin() {
-        return new LoggingPlugin();
+    public ShenyuPlugin loggingPlugin(final AccessLogCollector accessLogCollector) {
+        return new LoggingPlugin(accessLogCollector);
+    }
+
+    /**
+     * Logging plugin data handler.
+     *
+     * @return the plugin data handler
+     */
+    @Bean
+    public PluginDataHandler loggingPluginDataHandler() {
+        return new LoggingPluginDataHandler();
     }
 
 }
@@ -21,11 +21,13 @@ import org.apache.shenyu.common.constant.Constants;
 import org.apache.shenyu.plugin.api.ShenyuPlugin;
 import org.apache.shenyu.plugin.base.handler.PluginDataHandler;
 import org.apache.shenyu.plugin.param.mapping.ParamMappingPlugin;
+import org.apache.shenyu.plugin.param.mapping.config.ParamMappingProperties;
 import org.apache.shenyu.plugin.param.mapping.handler.ParamMappingPluginDataHandler;
 import org.apache.shenyu.plugin.param.mapping.strategy.FormDataOperator;
 import org.apache.shenyu.plugin.param.mapping.strategy.JsonOperator;
 import org.apache.shenyu.plugin.param.mapping.strategy.DefaultOperator;
 import org.apache.shenyu.plugin.param.mapping.strategy.Operator;
+import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.MediaType;
@@ -39,16 +41,28 @@ import java.util.Map;
 @Configuration
 public class ParamMappingPluginConfiguration {
 
+    /**
+     * Param mapping properties.
+     *
+     * @return the param mapping properties
+     */
+    @Bean
+    @ConfigurationProperties(prefix = "shenyu.param-mapping")
+    public ParamMappingProperties paramMappingProperties() {
+        return new ParamMappingProperties();
+    }
+
     /**
      * Param mapping plugin.
      *
+     * @param properties the param mapping properties
      * @return the shenyu plugin
      */
     @Bean
-    public ShenyuPlugin paramMappingPlugin() {
+    public ShenyuPlugin paramMappingPlugin(final ParamMappingProperties properties) {
         Map<String, Operator> operatorMap = new HashMap<>(4);
         operatorMap.put(Constants.DEFAULT, new DefaultOperator());
-        operatorMap.put(MediaType.APPLICATION_JSON.toString(), new JsonOperator());
+        operatorMap.put(MediaType.APPLICATION_JSON.toString(), new JsonOperator(properties.getMaxBodySize()));
         operatorMap.put(MediaType.APPLICATION_FORM_URLENCODED.toString(), new FormDataOperator());
         return new ParamMappingPlugin(operatorMap);
     }
@@ -20,8 +20,11 @@ package org.apache.shenyu.springboot.starter.plugin.param.mapping;
 import org.apache.shenyu.common.enums.PluginEnum;
 import org.apache.shenyu.plugin.api.ShenyuPlugin;
 import org.apache.shenyu.plugin.param.mapping.ParamMappingPlugin;
+import org.apache.shenyu.plugin.param.mapping.config.ParamMappingProperties;
+import org.apache.shenyu.plugin.param.mapping.strategy.JsonOperator;
 import org.junit.Test;
 import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.context.ConfigurationPropertiesAutoConfiguration;
 import org.springframework.boot.test.context.runner.ApplicationContextRunner;
 import org.springframework.boot.test.context.runner.ContextConsumer;
 
@@ -42,4 +45,13 @@ public class ParamMappingPluginConfigurationTest {
         };
         runner.run(contextConsumer);
     }
+
+    @Test
+    public void testMaxBodySize() {
+        ApplicationContextRunner runner = new ApplicationContextRunner()
+                .withConfiguration(AutoConfigurations.of(ConfigurationPropertiesAutoConfiguration.class, ParamMappingPluginConfiguration.class));
+        runner.run(context -> assertThat(context.getBean(ParamMappingProperties.class).getMaxBodySize()).isEqualTo(JsonOperator.DEFAULT_MAX_BODY_SIZE));
+        runner.withPropertyValues("shenyu.param-mapping.max-body-size=1024")
+                .run(context -> assertThat(context.getBean(ParamMappingProperties.class).getMaxBodySize()).isEqualTo(1024));
+    }
 }
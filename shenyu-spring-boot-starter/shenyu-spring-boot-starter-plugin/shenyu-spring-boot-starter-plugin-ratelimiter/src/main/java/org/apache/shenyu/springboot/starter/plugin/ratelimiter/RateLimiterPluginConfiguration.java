@@ -20,6 +20,7 @@ package org.apache.shenyu.springboot.starter.plugin.ratelimiter;
 import org.apache.shenyu.plugin.api.ShenyuPlugin;
 import org.apache.shenyu.plugin.base.handler.PluginDataHandler;
 import org.apache.shenyu.plugin.ratelimiter.RateLimiterPlugin;
+import org.apache.shenyu.plugin.ratelimiter.executor.ClusterRateLimiter;
 import org.apache.shenyu.plugin.ratelimiter.executor.RedisRateLimiter;
 import org.apache.shenyu.plugin.ratelimiter.handler.RateLimiterPluginDataHandler;
 import org.springframework.context.annotation.Bean;
@@ -31,14 +32,25 @@ import org.springframework.context.annotation.Configuration;
 @Configuration
 public class RateLimiterPluginConfiguration {
     
+    /**
+     * Cluster rate limiter, reports the demand of the node to admin over the sync channel.
+     *
+     * @return the cluster rate limiter
+     */
+    @Bean
+    public ClusterRateLimiter clusterRateLimiter() {
+        return new ClusterRateLimiter();
+    }
+
     /**
      * RateLimiter plugin.
      *
+     * @param clusterRateLimiter the cluster rate limiter
      * @return the shenyu plugin
      */
-    @Bean
-    public ShenyuPlugin rateLimiterPlugin() {
-        return new RateLimiterPlugin(new RedisRateLimiter());
+    @Bean(destroyMethod = "close")
+    public ShenyuPlugin rateLimiterPlugin(final ClusterRateLimiter clusterRateLimiter) {
+        return new RateLimiterPlugin(new RedisRateLimiter(), clusterRateLimiter);
     }
     
     /**
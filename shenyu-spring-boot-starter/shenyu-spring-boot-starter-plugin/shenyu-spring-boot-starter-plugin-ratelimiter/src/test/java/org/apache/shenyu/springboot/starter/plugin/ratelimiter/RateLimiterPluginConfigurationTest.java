@@ -20,6 +20,7 @@ package org.apache.shenyu.springboot.starter.plugin.ratelimiter;
 import org.apache.shenyu.common.enums.PluginEnum;
 import org.apache.shenyu.plugin.api.ShenyuPlugin;
 import org.apache.shenyu.plugin.base.handler.PluginDataHandler;
+import org.apache.shenyu.sync.data.api.QuotaDataSubscriber;
 import org.junit.Test;
 import org.springframework.boot.autoconfigure.AutoConfigurations;
 import org.springframework.boot.test.context.runner.ApplicationContextRunner;
@@ -42,6 +43,7 @@ public class RateLimiterPluginConfigurationTest {
             .run(
                 context -> {
                     assertThat(context).hasSingleBean(PluginDataHandler.class);
+                    assertThat(context).hasSingleBean(QuotaDataSubscriber.class);
                     ShenyuPlugin plugin = context.getBean("rateLimiterPlugin", ShenyuPlugin.class);
                     assertThat(plugin.named()).isEqualTo(PluginEnum.RATE_LIMITER.getName());
                 }
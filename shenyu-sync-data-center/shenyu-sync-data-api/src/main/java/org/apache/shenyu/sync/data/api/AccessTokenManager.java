@@ -0,0 +1,122 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.sync.data.api;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.shenyu.common.constant.Constants;
+import org.apache.shenyu.common.utils.GsonUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+/**
+ * Access token manager, logs in to admin with the dashboard user of the sync config and keeps the token admin
+ * issues, which authenticates the requests of the node on admin paths outside of the white list.
+ */
+@Slf4j
+public final class AccessTokenManager {
+
+    private static final int TIMEOUT_MILLIS = 3000;
+
+    private final String server;
+
+    private final String username;
+
+    private final String password;
+
+    private volatile String accessToken;
+
+    /**
+     * Instantiates a new Access token manager.
+     *
+     * @param server   the admin server, like http://127.0.0.1:9095
+     * @param username the dashboard user name
+     * @param password the dashboard user password
+     */
+    public AccessTokenManager(final String server, final String username, final String password) {
+        this.server = StringUtils.removeEnd(server, "/");
+        this.username = username;
+        this.password = password;
+    }
+
+    /**
+     * Whether a dashboard user is configured.
+     *
+     * @return true if the node can log in
+     */
+    public boolean isConfigured() {
+        return StringUtils.isNotBlank(username) && Objects.nonNull(password);
+    }
+
+    /**
+     * Get the access token, logs in first if there is none.
+     *
+     * @return the access token, null if no user is configured or the login failed
+     */
+    public String getAccessToken() {
+        if (Objects.isNull(accessToken) && isConfigured()) {
+            accessToken = login();
+        }
+        return accessToken;
+    }
+
+    /**
+     * Forget the access token admin rejected, the next {@link #getAccessToken()} logs in again.
+     */
+    public void invalidate() {
+        accessToken = null;
+    }
+
+    private String login() {
+        HttpURLConnection connection = null;
+        try {
+            String url = server + Constants.LOGIN_PATH + "?userName=" + URLEncoder.encode(username, StandardCharsets.UTF_8.name())
+                    + "&password=" + URLEncoder.encode(password, StandardCharsets.UTF_8.name());
+            connection = (HttpURLConnection) new URL(url).openConnection();
+            connection.setConnectTimeout(TIMEOUT_MILLIS);
+            connection.setReadTimeout(TIMEOUT_MILLIS);
+            try (InputStream inputStream = connection.getInputStream(); Reader reader = new InputStreamReader(inputStream, StandardCharsets.UTF_8)) {
+                JsonObject result = GsonUtils.getGson().fromJson(reader, JsonObject.class);
+                JsonElement data = Objects.isNull(result) ? null : result.get("data");
+                if (Objects.isNull(data) || !data.isJsonObject() || !data.getAsJsonObject().has("token")) {
+                    log.warn("login to admin[{}] as {} failed: {}", server, username, result);
+                    return null;
+                }
+                return data.getAsJsonObject().get("token").getAsString();
+            }
+        } catch (IOException | JsonParseException e) {
+            log.warn("login to admin[{}] failed: {}", server, e.getMessage());
+            return null;
+        } finally {
+            if (Objects.nonNull(connection)) {
+                connection.disconnect();
+            }
+        }
+    }
+}
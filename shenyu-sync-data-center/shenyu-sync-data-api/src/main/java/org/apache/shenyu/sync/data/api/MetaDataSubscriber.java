@@ -43,4 +43,10 @@ public interface MetaDataSubscriber {
      */
     default void refresh() {
     }
+    
+    /**
+     * On synced, called after the full meta data is delivered.
+     */
+    default void onSynced() {
+    }
 }
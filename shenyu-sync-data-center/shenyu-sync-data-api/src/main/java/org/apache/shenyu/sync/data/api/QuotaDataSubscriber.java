@@ -0,0 +1,43 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.sync.data.api;
+
+import org.apache.shenyu.common.dto.QuotaData;
+
+import java.util.List;
+
+/**
+ * The interface Quota data subscriber, reports the demand of a gateway node to admin
+ * and receives the shares of the cluster wide limits admin assigns to the node.
+ */
+public interface QuotaDataSubscriber {
+
+    /**
+     * Report the demand observed since the last report.
+     *
+     * @return the quota data with the limit and the demand of every key
+     */
+    List<QuotaData> report();
+
+    /**
+     * On subscribe.
+     *
+     * @param quotaDataList the quota data with the share of every key
+     */
+    void onSubscribe(List<QuotaData> quotaDataList);
+}
@@ -100,6 +100,7 @@ public class ConsulCacheHandler {
                 subscriber.unSubscribe(metaData);
                 subscriber.onSubscribe(metaData);
             }));
+            metaDataSubscribers.forEach(MetaDataSubscriber::onSynced);
         } catch (JsonParseException e) {
             log.error("sync meta data have error:", e);
         }
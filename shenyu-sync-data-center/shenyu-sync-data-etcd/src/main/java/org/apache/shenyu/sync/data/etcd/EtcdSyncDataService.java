@@ -148,6 +148,7 @@ public class EtcdSyncDataService implements SyncDataService, AutoCloseable {
                 subscribeMetaDataChanges(realPath);
             });
         }
+        metaDataSubscribers.forEach(MetaDataSubscriber::onSynced);
         subscribeChildChanges(ConfigGroupEnum.META_DATA, metaDataPath);
     }
 
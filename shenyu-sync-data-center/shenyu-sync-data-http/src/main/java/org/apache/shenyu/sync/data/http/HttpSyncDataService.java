@@ -23,10 +23,17 @@ import com.google.gson.Gson;
 import com.google.gson.JsonArray;
 import com.google.gson.JsonObject;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -34,14 +41,20 @@ import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.shenyu.common.concurrent.ShenyuThreadFactory;
+import org.apache.shenyu.common.constant.Constants;
 import org.apache.shenyu.common.constant.HttpConstants;
 import org.apache.shenyu.common.dto.ConfigData;
+import org.apache.shenyu.common.dto.QuotaData;
 import org.apache.shenyu.common.enums.ConfigGroupEnum;
 import org.apache.shenyu.common.exception.ShenyuException;
+import org.apache.shenyu.common.utils.GsonUtils;
 import org.apache.shenyu.common.utils.ThreadUtils;
+import org.apache.shenyu.common.utils.UUIDUtils;
+import org.apache.shenyu.sync.data.api.AccessTokenManager;
 import org.apache.shenyu.sync.data.api.AuthDataSubscriber;
 import org.apache.shenyu.sync.data.api.MetaDataSubscriber;
 import org.apache.shenyu.sync.data.api.PluginDataSubscriber;
+import org.apache.shenyu.sync.data.api.QuotaDataSubscriber;
 import org.apache.shenyu.sync.data.api.SyncDataService;
 import org.apache.shenyu.sync.data.http.config.HttpConfig;
 import org.apache.shenyu.sync.data.http.refresh.DataRefreshFactory;
@@ -51,6 +64,7 @@ import org.springframework.http.MediaType;
 import org.springframework.http.client.OkHttp3ClientHttpRequestFactory;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
+import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 
@@ -65,6 +79,8 @@ public class HttpSyncDataService implements SyncDataService, AutoCloseable {
 
     private static final Gson GSON = new Gson();
 
+    private static final long QUOTA_REPORT_INTERVAL = 1000;
+
     /**
      * default: 10s.
      */
@@ -83,12 +99,26 @@ public class HttpSyncDataService implements SyncDataService, AutoCloseable {
 
     private DataRefreshFactory factory;
 
+    private List<QuotaDataSubscriber> quotaDataSubscribers;
+
+    private ScheduledExecutorService quotaExecutor;
+
+    private final Map<String, AccessTokenManager> accessTokenManagers = new ConcurrentHashMap<>();
+
+    private final String nodeId = UUIDUtils.getInstance().generateShortUuid();
+
     public HttpSyncDataService(final HttpConfig httpConfig, final PluginDataSubscriber pluginDataSubscriber,
                                final List<MetaDataSubscriber> metaDataSubscribers, final List<AuthDataSubscriber> authDataSubscribers) {
+        this(httpConfig, pluginDataSubscriber, metaDataSubscribers, authDataSubscribers, Collections.emptyList());
+    }
+
+    public HttpSyncDataService(final HttpConfig httpConfig, final PluginDataSubscriber pluginDataSubscriber, final List<MetaDataSubscriber> metaDataSubscribers,
+                               final List<AuthDataSubscriber> authDataSubscribers, final List<QuotaDataSubscriber> quotaDataSubscribers) {
         this.factory = new DataRefreshFactory(pluginDataSubscriber, metaDataSubscribers, authDataSubscribers);
         this.httpConfig = httpConfig;
         this.serverList = Lists.newArrayList(Splitter.on(",").split(httpConfig.getUrl()));
         this.httpClient = createRestTemplate();
+        this.quotaDataSubscribers = quotaDataSubscribers;
         this.start();
     }
 
@@ -110,6 +140,11 @@ public class HttpSyncDataService implements SyncDataService, AutoCloseable {
                     ShenyuThreadFactory.create("http-long-polling", true));
             // start long polling, each server creates a thread to listen for changes.
             this.serverList.forEach(server -> this.executor.execute(new HttpLongPollingTask(server)));
+            // report the demand of the node, the admin which answers assigns the shares of the node.
+            if (!quotaDataSubscribers.isEmpty() && checkQuotaUser()) {
+                this.quotaExecutor = new ScheduledThreadPoolExecutor(1, ShenyuThreadFactory.create("http-quota-report", true));
+                this.quotaExecutor.scheduleAtFixedRate(this::reportQuota, QUOTA_REPORT_INTERVAL, QUOTA_REPORT_INTERVAL, TimeUnit.MILLISECONDS);
+            }
         } else {
             log.info("shenyu http long polling was started, executor=[{}]", executor);
         }
@@ -203,9 +238,58 @@ public class HttpSyncDataService implements SyncDataService, AutoCloseable {
         }
     }
 
+    private boolean checkQuotaUser() {
+        if (StringUtils.isBlank(httpConfig.getUsername()) || Objects.isNull(httpConfig.getPassword())) {
+            log.warn("no admin user is configured for the http sync, the cluster rate limiters limit on every node alone.");
+            return false;
+        }
+        return true;
+    }
+
+    private void reportQuota() {
+        List<QuotaData> quotaDataList = new ArrayList<>();
+        quotaDataSubscribers.forEach(subscriber -> quotaDataList.addAll(subscriber.report()));
+        if (quotaDataList.isEmpty()) {
+            return;
+        }
+        String body = GsonUtils.getInstance().toJson(quotaDataList);
+        // the first admin which answers owns the allocation, the others are only tried when it is unreachable
+        for (String server : serverList) {
+            String quotaUrl = server + "/configs/quota?nodeId=" + nodeId;
+            AccessTokenManager accessTokenManager = accessTokenManagers.computeIfAbsent(server,
+                key -> new AccessTokenManager(key, httpConfig.getUsername(), httpConfig.getPassword()));
+            String accessToken = accessTokenManager.getAccessToken();
+            if (Objects.isNull(accessToken)) {
+                continue;
+            }
+            HttpHeaders headers = new HttpHeaders();
+            headers.setContentType(MediaType.APPLICATION_JSON);
+            headers.set(Constants.X_ACCESS_TOKEN, accessToken);
+            HttpEntity<String> httpEntity = new HttpEntity<>(body, headers);
+            try {
+                String json = this.httpClient.postForEntity(quotaUrl, httpEntity, String.class).getBody();
+                JsonArray data = GSON.fromJson(json, JsonObject.class).getAsJsonArray("data");
+                if (data != null) {
+                    List<QuotaData> shares = GsonUtils.getInstance().fromList(data.toString(), QuotaData.class);
+                    quotaDataSubscribers.forEach(subscriber -> subscriber.onSubscribe(shares));
+                }
+                return;
+            } catch (HttpClientErrorException.Unauthorized e) {
+                log.warn("report quota to server[{}] is unauthorized, log in again", server);
+                accessTokenManager.invalidate();
+            } catch (RestClientException e) {
+                log.warn("report quota to server[{}] fail, {}", server, e.getMessage());
+            }
+        }
+    }
+
     @Override
     public void close() throws Exception {
         RUNNING.set(false);
+        if (quotaExecutor != null) {
+            quotaExecutor.shutdownNow();
+            quotaExecutor = null;
+        }
         if (executor != null) {
             executor.shutdownNow();
             // help gc
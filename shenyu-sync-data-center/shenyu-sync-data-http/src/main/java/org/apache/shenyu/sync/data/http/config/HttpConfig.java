@@ -30,4 +30,14 @@ public class HttpConfig {
     private Integer delayTime;
     
     private Integer connectionTimeout;
+
+    /**
+     * the dashboard user the quota reports are authenticated with.
+     */
+    private String username;
+
+    /**
+     * the password of the dashboard user.
+     */
+    private String password;
 }
@@ -66,5 +66,6 @@ public class MetaDataRefresh extends AbstractDataRefresh<MetaData> {
         } else {
             data.forEach(metaData -> metaDataSubscribers.forEach(subscriber -> subscriber.onSubscribe(metaData)));
         }
+        metaDataSubscribers.forEach(MetaDataSubscriber::onSynced);
     }
 }
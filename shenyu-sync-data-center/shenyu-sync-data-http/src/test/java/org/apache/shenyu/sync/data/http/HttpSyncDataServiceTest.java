@@ -20,13 +20,16 @@ package org.apache.shenyu.sync.data.http;
 import com.github.tomakehurst.wiremock.core.WireMockConfiguration;
 import com.github.tomakehurst.wiremock.junit.WireMockRule;
 import lombok.SneakyThrows;
+import org.apache.shenyu.common.constant.Constants;
 import org.apache.shenyu.common.dto.ConfigData;
 import org.apache.shenyu.common.dto.PluginData;
+import org.apache.shenyu.common.dto.QuotaData;
 import org.apache.shenyu.common.enums.ConfigGroupEnum;
 import org.apache.shenyu.common.utils.GsonUtils;
 import org.apache.shenyu.sync.data.api.AuthDataSubscriber;
 import org.apache.shenyu.sync.data.api.MetaDataSubscriber;
 import org.apache.shenyu.sync.data.api.PluginDataSubscriber;
+import org.apache.shenyu.sync.data.api.QuotaDataSubscriber;
 import org.apache.shenyu.sync.data.http.config.HttpConfig;
 import org.junit.After;
 import org.junit.Before;
@@ -44,14 +47,19 @@ import java.util.Map;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
 import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
 import static com.github.tomakehurst.wiremock.client.WireMock.post;
+import static com.github.tomakehurst.wiremock.client.WireMock.postRequestedFor;
 import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.class)
 public class HttpSyncDataServiceTest {
@@ -65,6 +73,8 @@ public class HttpSyncDataServiceTest {
 
     private AuthDataSubscriber authDataSubscriber;
 
+    private QuotaDataSubscriber quotaDataSubscriber;
+
     private HttpSyncDataService httpSyncDataService;
 
     @Before
@@ -81,6 +91,19 @@ public class HttpSyncDataServiceTest {
                         .withBody(this.mockConfigsListenResponseJson())
                         .withStatus(200))
         );
+        wireMockRule.stubFor(get(urlPathEqualTo("/platform/login"))
+                .willReturn(aResponse()
+                        .withHeader(HttpHeaders.CONTENT_TYPE, ContentType.APPLICATION_JSON.toString())
+                        .withBody("{\"code\":200,\"data\":{\"userName\":\"admin\",\"token\":\"token\"}}")
+                        .withStatus(200))
+        );
+        wireMockRule.stubFor(post(urlPathEqualTo("/configs/quota"))
+                .withHeader(Constants.X_ACCESS_TOKEN, equalTo("token"))
+                .willReturn(aResponse()
+                        .withHeader(HttpHeaders.CONTENT_TYPE, ContentType.APPLICATION_JSON.toString())
+                        .withBody(this.mockConfigsQuotaResponseJson())
+                        .withStatus(200))
+        );
 
         HttpConfig httpConfig = new HttpConfig();
         httpConfig.setUrl(this.getMockServerUrl());
@@ -88,11 +111,15 @@ public class HttpSyncDataServiceTest {
         httpConfig.setConnectionTimeout(3000);
         // set delay time
         httpConfig.setDelayTime(3);
+        httpConfig.setUsername("admin");
+        httpConfig.setPassword("123456");
         this.pluginDataSubscriber = mock(PluginDataSubscriber.class);
         this.metaDataSubscriber = mock(MetaDataSubscriber.class);
         this.authDataSubscriber = mock(AuthDataSubscriber.class);
-        this.httpSyncDataService = new HttpSyncDataService(httpConfig, pluginDataSubscriber,
-                Collections.singletonList(metaDataSubscriber), Collections.singletonList(authDataSubscriber));
+        this.quotaDataSubscriber = mock(QuotaDataSubscriber.class);
+        when(quotaDataSubscriber.report()).thenReturn(Collections.singletonList(new QuotaData("rule-1", 100, 80, 0)));
+        this.httpSyncDataService = new HttpSyncDataService(httpConfig, pluginDataSubscriber, Collections.singletonList(metaDataSubscriber),
+                Collections.singletonList(authDataSubscriber), Collections.singletonList(quotaDataSubscriber));
     }
 
     @After
@@ -111,6 +138,13 @@ public class HttpSyncDataServiceTest {
         verify(pluginDataSubscriber, atLeastOnce()).refreshPluginDataAll();
         verify(metaDataSubscriber, atLeastOnce()).refresh();
         verify(authDataSubscriber, atLeastOnce()).refresh();
+        verify(quotaDataSubscriber, timeout(5000).atLeastOnce())
+                .onSubscribe(Collections.singletonList(new QuotaData("rule-1", 100, 80, 50)));
+        wireMockRule.verify(getRequestedFor(urlPathEqualTo("/platform/login"))
+                .withQueryParam("userName", equalTo("admin")).withQueryParam("password", equalTo("123456")));
+        wireMockRule.verify(postRequestedFor(urlPathEqualTo("/configs/quota"))
+                .withHeader(Constants.X_ACCESS_TOKEN, equalTo("token"))
+                .withRequestBody(equalTo(GsonUtils.getInstance().toJson(Collections.singletonList(new QuotaData("rule-1", 100, 80, 0))))));
     }
 
     private String getMockServerUrl() {
@@ -122,6 +156,14 @@ public class HttpSyncDataServiceTest {
         return "{\"code\":200,\"message\":\"success\",\"data\":[\"PLUGIN\"]}";
     }
 
+    // mock configs quota api response
+    private String mockConfigsQuotaResponseJson() {
+        Map<String, Object> response = new HashMap<>();
+        response.put("data", Collections.singletonList(new QuotaData("rule-1", 100, 80, 50)));
+        response.put("code", 200);
+        return GsonUtils.getInstance().toJson(response);
+    }
+
     // mock configs fetch api response
     @SneakyThrows
     private String mockConfigsFetchResponseJson() {
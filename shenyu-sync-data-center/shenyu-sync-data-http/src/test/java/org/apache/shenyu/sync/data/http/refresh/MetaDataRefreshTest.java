@@ -31,6 +31,9 @@ import java.util.List;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 public final class MetaDataRefreshTest {
 
@@ -73,6 +76,16 @@ public final class MetaDataRefreshTest {
         metaDataRefresh.refresh(metaDataList);
     }
 
+    @Test
+    public void testRefreshSynced() {
+        MetaDataSubscriber subscriber = mock(MetaDataSubscriber.class);
+        MetaDataRefresh metaDataRefresh = new MetaDataRefresh(Collections.singletonList(subscriber));
+        metaDataRefresh.refresh(Collections.emptyList());
+        verify(subscriber).onSynced();
+        metaDataRefresh.refresh(Collections.singletonList(new MetaData()));
+        verify(subscriber, times(2)).onSynced();
+    }
+
     private MetaDataRefresh buildMockMetaDataRefresh() {
         List<MetaDataSubscriber> metaDataSubscribers = new ArrayList<>();
         metaDataSubscribers.add(new MetaDataSubscriber() {
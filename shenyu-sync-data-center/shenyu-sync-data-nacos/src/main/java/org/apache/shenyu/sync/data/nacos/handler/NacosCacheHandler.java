@@ -115,6 +115,7 @@ public class NacosCacheHandler {
                 subscriber.unSubscribe(metaData);
                 subscriber.onSubscribe(metaData);
             }));
+            metaDataSubscribers.forEach(MetaDataSubscriber::onSynced);
         } catch (JsonParseException e) {
             log.error("sync meta data have error:", e);
         }
@@ -20,17 +20,22 @@ package org.apache.shenyu.plugin.sync.data.websocket;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.shenyu.common.concurrent.ShenyuThreadFactory;
+import org.apache.shenyu.common.dto.QuotaData;
 import org.apache.shenyu.plugin.sync.data.websocket.client.ShenyuWebsocketClient;
 import org.apache.shenyu.plugin.sync.data.websocket.config.WebsocketConfig;
+import org.apache.shenyu.sync.data.api.AccessTokenManager;
 import org.apache.shenyu.sync.data.api.AuthDataSubscriber;
 import org.apache.shenyu.sync.data.api.MetaDataSubscriber;
 import org.apache.shenyu.sync.data.api.PluginDataSubscriber;
+import org.apache.shenyu.sync.data.api.QuotaDataSubscriber;
 import org.apache.shenyu.sync.data.api.SyncDataService;
 import org.java_websocket.client.WebSocketClient;
+import org.java_websocket.exceptions.WebsocketNotConnectedException;
 
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
@@ -42,7 +47,9 @@ import java.util.concurrent.TimeUnit;
 @Slf4j
 public class WebsocketSyncDataService implements SyncDataService, AutoCloseable {
 
-    private final List<WebSocketClient> clients = new ArrayList<>();
+    private static final long QUOTA_REPORT_INTERVAL = 1000;
+
+    private final List<ShenyuWebsocketClient> clients = new ArrayList<>();
 
     private final ScheduledThreadPoolExecutor executor;
 
@@ -58,11 +65,31 @@ public class WebsocketSyncDataService implements SyncDataService, AutoCloseable
                                     final PluginDataSubscriber pluginDataSubscriber,
                                     final List<MetaDataSubscriber> metaDataSubscribers,
                                     final List<AuthDataSubscriber> authDataSubscribers) {
+        this(websocketConfig, pluginDataSubscriber, metaDataSubscribers, authDataSubscribers, Collections.emptyList());
+    }
+
+    /**
+     * Instantiates a new Websocket sync cache, which also reports the demand of the quota data subscribers to admin.
+     *
+     * @param websocketConfig      the websocket config
+     * @param pluginDataSubscriber the plugin data subscriber
+     * @param metaDataSubscribers  the meta data subscribers
+     * @param authDataSubscribers  the auth data subscribers
+     * @param quotaDataSubscribers the quota data subscribers
+     */
+    public WebsocketSyncDataService(final WebsocketConfig websocketConfig,
+                                    final PluginDataSubscriber pluginDataSubscriber,
+                                    final List<MetaDataSubscriber> metaDataSubscribers,
+                                    final List<AuthDataSubscriber> authDataSubscribers,
+                                    final List<QuotaDataSubscriber> quotaDataSubscribers) {
         String[] urls = StringUtils.split(websocketConfig.getUrls(), ",");
-        executor = new ScheduledThreadPoolExecutor(urls.length, ShenyuThreadFactory.create("websocket-connect", true));
+        executor = new ScheduledThreadPoolExecutor(urls.length + 1, ShenyuThreadFactory.create("websocket-connect", true));
         for (String url : urls) {
             try {
-                clients.add(new ShenyuWebsocketClient(new URI(url), Objects.requireNonNull(pluginDataSubscriber), metaDataSubscribers, authDataSubscribers));
+                URI uri = new URI(url);
+                AccessTokenManager accessTokenManager = new AccessTokenManager(adminServer(uri), websocketConfig.getUsername(), websocketConfig.getPassword());
+                clients.add(new ShenyuWebsocketClient(uri, Objects.requireNonNull(pluginDataSubscriber), metaDataSubscribers, authDataSubscribers,
+                        quotaDataSubscribers, quotaDataSubscribers.isEmpty() ? null : accessTokenManager));
             } catch (URISyntaxException e) {
                 log.error("websocket url({}) is error", url, e);
             }
@@ -93,6 +120,9 @@ public class WebsocketSyncDataService implements SyncDataService, AutoCloseable
                     }
                 }, 10, 10, TimeUnit.SECONDS);
             }
+            if (!quotaDataSubscribers.isEmpty() && checkQuotaUser(websocketConfig)) {
+                executor.scheduleAtFixedRate(() -> report(quotaDataSubscribers), QUOTA_REPORT_INTERVAL, QUOTA_REPORT_INTERVAL, TimeUnit.MILLISECONDS);
+            }
             /* client.setProxy(new Proxy(Proxy.Type.HTTP, new InetSocketAddress("proxyaddress", 80)));*/
         } catch (InterruptedException e) {
             log.info("websocket connection...exception....", e);
@@ -100,9 +130,43 @@ public class WebsocketSyncDataService implements SyncDataService, AutoCloseable
 
     }
 
+    private void report(final List<QuotaDataSubscriber> quotaDataSubscribers) {
+        List<QuotaData> quotaDataList = new ArrayList<>();
+        quotaDataSubscribers.forEach(subscriber -> quotaDataList.addAll(subscriber.report()));
+        if (quotaDataList.isEmpty()) {
+            return;
+        }
+        // the first admin which is connected owns the allocation, the others only take over when it is unreachable
+        for (ShenyuWebsocketClient client : clients) {
+            if (!client.isOpen()) {
+                continue;
+            }
+            try {
+                client.report(quotaDataList);
+                return;
+            } catch (WebsocketNotConnectedException e) {
+                log.warn("websocket report quota to [{}] failed: {}", client.getURI(), e.getMessage());
+            }
+        }
+    }
+
+    private static boolean checkQuotaUser(final WebsocketConfig websocketConfig) {
+        if (StringUtils.isBlank(websocketConfig.getUsername()) || Objects.isNull(websocketConfig.getPassword())) {
+            log.warn("no admin user is configured for the websocket sync, the cluster rate limiters limit on every node alone.");
+            return false;
+        }
+        return true;
+    }
+
+    private static String adminServer(final URI uri) {
+        // ws://127.0.0.1:9095/websocket is served by the admin at http://127.0.0.1:9095
+        String scheme = "wss".equalsIgnoreCase(uri.getScheme()) ? "https" : "http";
+        return scheme + "://" + uri.getAuthority() + StringUtils.substringBeforeLast(StringUtils.defaultString(uri.getPath()), "/");
+    }
+
     @Override
     public void close() {
-        for (WebSocketClient client : clients) {
+        for (ShenyuWebsocketClient client : clients) {
             if (!client.isClosed()) {
                 client.close();
             }
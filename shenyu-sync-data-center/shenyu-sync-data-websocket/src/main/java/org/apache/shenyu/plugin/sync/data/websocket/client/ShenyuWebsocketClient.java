@@ -18,16 +18,22 @@
 package org.apache.shenyu.plugin.sync.data.websocket.client;
 
 import java.net.URI;
+import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.shenyu.common.constant.Constants;
+import org.apache.shenyu.common.dto.QuotaData;
 import org.apache.shenyu.common.dto.WebsocketData;
 import org.apache.shenyu.common.enums.ConfigGroupEnum;
 import org.apache.shenyu.common.enums.DataEventTypeEnum;
 import org.apache.shenyu.common.utils.GsonUtils;
 import org.apache.shenyu.plugin.sync.data.websocket.handler.WebsocketDataHandler;
+import org.apache.shenyu.sync.data.api.AccessTokenManager;
 import org.apache.shenyu.sync.data.api.AuthDataSubscriber;
 import org.apache.shenyu.sync.data.api.MetaDataSubscriber;
 import org.apache.shenyu.sync.data.api.PluginDataSubscriber;
+import org.apache.shenyu.sync.data.api.QuotaDataSubscriber;
 import org.java_websocket.client.WebSocketClient;
 import org.java_websocket.handshake.ServerHandshake;
 
@@ -41,6 +47,10 @@ public final class ShenyuWebsocketClient extends WebSocketClient {
 
     private final WebsocketDataHandler websocketDataHandler;
 
+    private final List<QuotaDataSubscriber> quotaDataSubscribers;
+
+    private final AccessTokenManager accessTokenManager;
+
     /**
      * Instantiates a new shenyu websocket client.
      *
@@ -51,8 +61,66 @@ public final class ShenyuWebsocketClient extends WebSocketClient {
      */
     public ShenyuWebsocketClient(final URI serverUri, final PluginDataSubscriber pluginDataSubscriber,
                                  final List<MetaDataSubscriber> metaDataSubscribers, final List<AuthDataSubscriber> authDataSubscribers) {
+        this(serverUri, pluginDataSubscriber, metaDataSubscribers, authDataSubscribers, Collections.emptyList());
+    }
+
+    /**
+     * Instantiates a new shenyu websocket client.
+     *
+     * @param serverUri             the server uri
+     * @param pluginDataSubscriber the plugin data subscriber
+     * @param metaDataSubscribers   the meta data subscribers
+     * @param authDataSubscribers   the auth data subscribers
+     * @param quotaDataSubscribers  the quota data subscribers
+     */
+    public ShenyuWebsocketClient(final URI serverUri, final PluginDataSubscriber pluginDataSubscriber, final List<MetaDataSubscriber> metaDataSubscribers,
+                                 final List<AuthDataSubscriber> authDataSubscribers, final List<QuotaDataSubscriber> quotaDataSubscribers) {
+        this(serverUri, pluginDataSubscriber, metaDataSubscribers, authDataSubscribers, quotaDataSubscribers, null);
+    }
+
+    /**
+     * Instantiates a new shenyu websocket client, which authenticates its quota reports with the access token of admin.
+     *
+     * @param serverUri             the server uri
+     * @param pluginDataSubscriber the plugin data subscriber
+     * @param metaDataSubscribers   the meta data subscribers
+     * @param authDataSubscribers   the auth data subscribers
+     * @param quotaDataSubscribers  the quota data subscribers
+     * @param accessTokenManager    the access token manager, null if the connection is not authenticated
+     */
+    public ShenyuWebsocketClient(final URI serverUri, final PluginDataSubscriber pluginDataSubscriber, final List<MetaDataSubscriber> metaDataSubscribers,
+                                 final List<AuthDataSubscriber> authDataSubscribers, final List<QuotaDataSubscriber> quotaDataSubscribers,
+                                 final AccessTokenManager accessTokenManager) {
         super(serverUri);
         this.websocketDataHandler = new WebsocketDataHandler(pluginDataSubscriber, metaDataSubscribers, authDataSubscribers);
+        this.quotaDataSubscribers = quotaDataSubscribers;
+        this.accessTokenManager = accessTokenManager;
+    }
+
+    @Override
+    public void connect() {
+        if (Objects.nonNull(accessTokenManager)) {
+            // admin checks the token once per connection, so every connection logs in again
+            accessTokenManager.invalidate();
+            String accessToken = accessTokenManager.getAccessToken();
+            if (Objects.nonNull(accessToken)) {
+                addHeader(Constants.X_ACCESS_TOKEN, accessToken);
+            } else {
+                removeHeader(Constants.X_ACCESS_TOKEN);
+            }
+        }
+        super.connect();
+    }
+
+    /**
+     * Report the demand of the node to admin, admin answers with the shares assigned to the node.
+     *
+     * @param quotaDataList the quota data with the limit and the demand of every key
+     */
+    public void report(final List<QuotaData> quotaDataList) {
+        if (isOpen()) {
+            send(GsonUtils.getInstance().toJson(new WebsocketData<>(null, DataEventTypeEnum.QUOTA.name(), quotaDataList)));
+        }
     }
 
     @Override
@@ -80,8 +148,13 @@ public final class ShenyuWebsocketClient extends WebSocketClient {
 
     @SuppressWarnings("ALL")
     private void handleResult(final String result) {
-        log.info("handleResult({})", result);
         WebsocketData websocketData = GsonUtils.getInstance().fromJson(result, WebsocketData.class);
+        if (DataEventTypeEnum.QUOTA.name().equals(websocketData.getEventType())) {
+            List<QuotaData> quotaDataList = GsonUtils.getInstance().fromList(GsonUtils.getInstance().toJson(websocketData.getData()), QuotaData.class);
+            quotaDataSubscribers.forEach(subscriber -> subscriber.onSubscribe(quotaDataList));
+            return;
+        }
+        log.info("handleResult({})", result);
         ConfigGroupEnum groupEnum = ConfigGroupEnum.acquireByName(websocketData.getGroupType());
         String eventType = websocketData.getEventType();
         String json = GsonUtils.getInstance().toJson(websocketData.getData());
@@ -27,4 +27,14 @@ public class WebsocketConfig {
      * 127.0.0.1:8888,127.0.0.1:8889
      */
     private String urls;
+
+    /**
+     * the dashboard user the quota reports are authenticated with.
+     */
+    private String username;
+
+    /**
+     * the password of the dashboard user.
+     */
+    private String password;
 }
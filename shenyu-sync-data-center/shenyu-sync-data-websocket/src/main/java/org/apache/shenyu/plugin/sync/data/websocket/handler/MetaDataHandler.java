@@ -20,6 +20,7 @@ package org.apache.shenyu.plugin.sync.data.websocket.handler;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.apache.shenyu.common.dto.MetaData;
+import org.apache.shenyu.common.enums.DataEventTypeEnum;
 import org.apache.shenyu.common.utils.GsonUtils;
 import org.apache.shenyu.sync.data.api.MetaDataSubscriber;
 
@@ -31,6 +32,16 @@ public class MetaDataHandler extends AbstractDataHandler<MetaData> {
 
     private final List<MetaDataSubscriber> metaDataSubscribers;
 
+    @Override
+    public void handle(final String json, final String eventType) {
+        super.handle(json, eventType);
+        DataEventTypeEnum eventTypeEnum = DataEventTypeEnum.acquireByName(eventType);
+        // the refresh carries the full meta data, even if it is empty
+        if (DataEventTypeEnum.REFRESH == eventTypeEnum || DataEventTypeEnum.MYSELF == eventTypeEnum) {
+            metaDataSubscribers.forEach(MetaDataSubscriber::onSynced);
+        }
+    }
+
     @Override
     public List<MetaData> convert(final String json) {
         return GsonUtils.getInstance().fromList(json, MetaData.class);
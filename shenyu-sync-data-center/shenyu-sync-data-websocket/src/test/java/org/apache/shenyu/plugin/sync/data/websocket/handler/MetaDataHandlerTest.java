@@ -19,6 +19,7 @@ package org.apache.shenyu.plugin.sync.data.websocket.handler;
 
 import com.google.gson.Gson;
 import org.apache.shenyu.common.dto.MetaData;
+import org.apache.shenyu.common.enums.DataEventTypeEnum;
 import org.apache.shenyu.sync.data.api.MetaDataSubscriber;
 import org.junit.Test;
 
@@ -28,6 +29,7 @@ import java.util.List;
 import static org.junit.Assert.assertThat;
 import static org.hamcrest.core.Is.is;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 public final class MetaDataHandlerTest {
@@ -80,6 +82,15 @@ public final class MetaDataHandlerTest {
                 subscribers.forEach(subscriber -> verify(subscriber).unSubscribe(metaData)));
     }
 
+    @Test
+    public void testHandleSynced() {
+        Gson gson = new Gson();
+        metaDataHandler.handle(gson.toJson(createFakeMetaDataObjects(2)), DataEventTypeEnum.UPDATE.name());
+        subscribers.forEach(subscriber -> verify(subscriber, never()).onSynced());
+        metaDataHandler.handle(gson.toJson(new LinkedList<>()), DataEventTypeEnum.MYSELF.name());
+        subscribers.forEach(subscriber -> verify(subscriber).onSynced());
+    }
+
     private List<MetaData> createFakeMetaDataObjects(final int count) {
         List<MetaData> result = new LinkedList<>();
         for (int i = 1; i <= count; i++) {
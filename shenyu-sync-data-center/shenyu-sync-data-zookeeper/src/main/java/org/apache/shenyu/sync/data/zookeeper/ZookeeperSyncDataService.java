@@ -163,6 +163,7 @@ public class ZookeeperSyncDataService implements SyncDataService, AutoCloseable
                 subscribeMetaDataChanges(realPath);
             });
         }
+        metaDataSubscribers.forEach(MetaDataSubscriber::onSynced);
         subscribeChildChanges(ConfigGroupEnum.META_DATA, metaDataPath, childrenList);
     }
 
@@ -0,0 +1,247 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.web.admission;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shenyu.common.concurrent.ShenyuThreadFactory;
+import org.apache.shenyu.common.constant.Constants;
+import org.apache.shenyu.common.dto.RuleData;
+import org.apache.shenyu.metrics.constant.LabelNames;
+import org.apache.shenyu.metrics.reporter.MetricsReporter;
+import org.apache.shenyu.web.configuration.properties.ShenyuConfig;
+import org.springframework.web.server.ServerWebExchange;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Global admission controller, which sheds the new requests when the event loops lag behind or too many requests are pending.
+ *
+ * <p>The pressure is the highest ratio of the sampled event loop lag and of the pending requests to their limits.
+ * Every {@link PriorityClass} is shed from its own pressure: the requests are rejected right away once no configured
+ * class is admitted any more, otherwise the first matched rule decides through the {@link Constants#ADMISSION_CHECK} attribute.
+ * Admitting a request reads two volatile fields and updates one counter, the lag is measured by a sampler thread.
+ */
+@Slf4j
+public final class AdmissionController implements AutoCloseable {
+
+    private static final String[] LABEL_NAMES = {"priority"};
+
+    private static final String[] UNMATCHED_LABEL_VALUES = {"unmatched"};
+
+    private final Supplier<? extends Executor> eventLoops;
+
+    private final long maxLagNanos;
+
+    private final int maxPending;
+
+    private final long sampleIntervalNanos;
+
+    private final PriorityClass defaultPriority;
+
+    private final Map<String, PriorityClass> rulePriorities;
+
+    private final PriorityClass highestPriority;
+
+    private final Map<PriorityClass, Predicate<RuleData>> checks = new EnumMap<>(PriorityClass.class);
+
+    private final Map<PriorityClass, LongAdder> rejected = new EnumMap<>(PriorityClass.class);
+
+    private final LongAdder unmatchedRejected = new LongAdder();
+
+    private final AtomicInteger pending = new AtomicInteger();
+
+    private volatile long lagNanos;
+
+    private volatile boolean probing;
+
+    private volatile long probeSubmittedAt;
+
+    private ScheduledExecutorService sampler;
+
+    /**
+     * Instantiates a new admission controller.
+     *
+     * @param loadShedding the load shedding config
+     * @param eventLoops   the event loops whose scheduling lag is sampled
+     */
+    public AdmissionController(final ShenyuConfig.LoadShedding loadShedding, final Supplier<? extends Executor> eventLoops) {
+        this.eventLoops = eventLoops;
+        this.maxLagNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(1L, loadShedding.getMaxEventLoopLag()));
+        this.maxPending = Math.max(1, loadShedding.getMaxPending());
+        this.sampleIntervalNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(1L, loadShedding.getSampleInterval()));
+        this.defaultPriority = Objects.isNull(loadShedding.getDefaultPriority()) ? PriorityClass.NORMAL : loadShedding.getDefaultPriority();
+        this.rulePriorities = Collections.unmodifiableMap(new HashMap<>(loadShedding.getRulePriorities()));
+        PriorityClass highest = defaultPriority;
+        for (PriorityClass priorityClass : rulePriorities.values()) {
+            if (priorityClass.compareTo(highest) > 0) {
+                highest = priorityClass;
+            }
+        }
+        this.highestPriority = highest;
+        for (PriorityClass priorityClass : PriorityClass.values()) {
+            rejected.put(priorityClass, new LongAdder());
+            checks.put(priorityClass, rule -> admit(rule, priorityClass));
+        }
+    }
+
+    /**
+     * Register the metrics and start sampling the event loop lag.
+     */
+    public synchronized void start() {
+        if (Objects.isNull(sampler)) {
+            registerMetrics();
+            sampler = new ScheduledThreadPoolExecutor(1, ShenyuThreadFactory.create("shenyu-admission-sampler", true));
+            sampler.scheduleAtFixedRate(this::sample, sampleIntervalNanos, sampleIntervalNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Try to admit the request, an admitted request must be {@link #release() released} once completed.
+     *
+     * @param exchange the exchange
+     * @return false when the request is rejected
+     */
+    public boolean tryAcquire(final ServerWebExchange exchange) {
+        PriorityClass lowest = PriorityClass.lowestAdmitted(pressure());
+        if (Objects.isNull(lowest) || lowest.compareTo(highestPriority) > 0) {
+            unmatchedRejected.increment();
+            return false;
+        }
+        if (lowest.compareTo(PriorityClass.LOW) > 0) {
+            exchange.getAttributes().put(Constants.ADMISSION_CHECK, checks.get(lowest));
+        }
+        pending.incrementAndGet();
+        return true;
+    }
+
+    /**
+     * Release an admitted request.
+     */
+    public void release() {
+        pending.decrementAndGet();
+    }
+
+    /**
+     * Get the current pressure, as the highest ratio of the event loop lag and of the pending requests to their limits.
+     *
+     * @return the pressure
+     */
+    public double pressure() {
+        return Math.max((double) lagNanos / maxLagNanos, (double) pending.get() / maxPending);
+    }
+
+    /**
+     * Get the priority class of the rule.
+     *
+     * @param rule the rule
+     * @return the priority class
+     */
+    public PriorityClass priorityOf(final RuleData rule) {
+        PriorityClass priorityClass = rulePriorities.get(rule.getId());
+        if (Objects.isNull(priorityClass)) {
+            priorityClass = rulePriorities.get(rule.getName());
+        }
+        return Objects.isNull(priorityClass) ? defaultPriority : priorityClass;
+    }
+
+    /**
+     * Get the last sampled event loop lag.
+     *
+     * @return the lag in nanoseconds
+     */
+    public long getLagNanos() {
+        return lagNanos;
+    }
+
+    /**
+     * Get the pending requests.
+     *
+     * @return the pending requests
+     */
+    public int getPending() {
+        return pending.get();
+    }
+
+    /**
+     * Sample the event loop lag, and report the metrics.
+     */
+    public void sample() {
+        long now = System.nanoTime();
+        if (probing) {
+            // the previous probe is still queued, so the event loop is at least that late
+            lagNanos = Math.max(lagNanos, now - probeSubmittedAt);
+        } else {
+            probeSubmittedAt = now;
+            probing = true;
+            try {
+                eventLoops.get().execute(() -> {
+                    lagNanos = System.nanoTime() - now;
+                    probing = false;
+                });
+            } catch (RejectedExecutionException e) {
+                probing = false;
+                log.warn("the admission probe is rejected by the event loops:{}", e.getMessage());
+            }
+        }
+        report();
+    }
+
+    @Override
+    public synchronized void close() {
+        if (Objects.nonNull(sampler)) {
+            sampler.shutdownNow();
+            sampler = null;
+        }
+    }
+
+    private boolean admit(final RuleData rule, final PriorityClass lowest) {
+        PriorityClass priorityClass = priorityOf(rule);
+        if (priorityClass.compareTo(lowest) >= 0) {
+            return true;
+        }
+        rejected.get(priorityClass).increment();
+        return false;
+    }
+
+    private void registerMetrics() {
+        MetricsReporter.registerGauge(LabelNames.ADMISSION_EVENT_LOOP_LAG, "the shenyu admission event loop lag millis");
+        MetricsReporter.registerGauge(LabelNames.ADMISSION_PENDING, "the shenyu admission pending requests");
+        MetricsReporter.registerCounter(LabelNames.ADMISSION_REJECTED_TOTAL, LABEL_NAMES, "the shenyu admission rejected total count");
+    }
+
+    private void report() {
+        MetricsReporter.gaugeSet(LabelNames.ADMISSION_EVENT_LOOP_LAG, lagNanos / (double) TimeUnit.MILLISECONDS.toNanos(1));
+        MetricsReporter.gaugeSet(LabelNames.ADMISSION_PENDING, pending.get());
+        MetricsReporter.counterIncrement(LabelNames.ADMISSION_REJECTED_TOTAL, UNMATCHED_LABEL_VALUES, unmatchedRejected.sumThenReset());
+        rejected.forEach((priorityClass, count) -> MetricsReporter.counterIncrement(LabelNames.ADMISSION_REJECTED_TOTAL,
+                new String[]{priorityClass.name()}, count.sumThenReset()));
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.web.admission;
+
+/**
+ * The priority class of the requests matching a rule, lower classes are shed first when the gateway is overloaded.
+ */
+public enum PriorityClass {
+
+    /**
+     * Shed from half of the limits.
+     */
+    LOW(0.5),
+
+    /**
+     * Shed from three quarters of the limits.
+     */
+    NORMAL(0.75),
+
+    /**
+     * Shed from the limits.
+     */
+    HIGH(1.0),
+
+    /**
+     * Shed from twice the limits.
+     */
+    CRITICAL(2.0);
+
+    private static final PriorityClass[] CLASSES = values();
+
+    private final double shedPressure;
+
+    PriorityClass(final double shedPressure) {
+        this.shedPressure = shedPressure;
+    }
+
+    /**
+     * Get the pressure from which the class is shed.
+     *
+     * @return the pressure, as the ratio to the limits
+     */
+    public double getShedPressure() {
+        return shedPressure;
+    }
+
+    /**
+     * Get the lowest class still admitted under the pressure.
+     *
+     * @param pressure the pressure, as the ratio to the limits
+     * @return the class, or null when every class is shed
+     */
+    public static PriorityClass lowestAdmitted(final double pressure) {
+        for (PriorityClass priorityClass : CLASSES) {
+            if (pressure < priorityClass.shedPressure) {
+                return priorityClass;
+            }
+        }
+        return null;
+    }
+}
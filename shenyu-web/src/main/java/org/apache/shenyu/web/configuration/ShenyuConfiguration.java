@@ -18,6 +18,7 @@
 package org.apache.shenyu.web.configuration;
 
 import lombok.extern.slf4j.Slf4j;
+import org.apache.shenyu.web.admission.AdmissionController;
 import org.apache.shenyu.web.configuration.properties.ShenyuConfig;
 import org.apache.shenyu.web.configuration.properties.ExcludePathProperties;
 import org.apache.shenyu.web.filter.CrossFilter;
@@ -32,8 +33,12 @@ import org.apache.shenyu.plugin.api.ShenyuPlugin;
 import org.apache.shenyu.plugin.base.ParamTransformPlugin;
 import org.apache.shenyu.plugin.base.cache.CommonPluginDataSubscriber;
 import org.apache.shenyu.plugin.base.handler.PluginDataHandler;
+import org.apache.shenyu.plugin.base.warmup.ReferenceWarmup;
+import org.apache.shenyu.plugin.base.warmup.ReferenceWarmupMetaDataSubscriber;
+import org.apache.shenyu.sync.data.api.MetaDataSubscriber;
 import org.apache.shenyu.sync.data.api.PluginDataSubscriber;
 import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.ConfigurationProperties;
@@ -44,6 +49,8 @@ import org.springframework.context.annotation.Import;
 import org.springframework.core.annotation.Order;
 import org.springframework.web.reactive.DispatcherHandler;
 import org.springframework.web.server.WebFilter;
+import reactor.netty.http.HttpResources;
+import reactor.netty.resources.LoopResources;
 
 import java.util.Collections;
 import java.util.Comparator;
@@ -63,15 +70,32 @@ public class ShenyuConfiguration {
      * Init ShenyuWebHandler.
      *
      * @param plugins this plugins is All impl ShenyuPlugin.
+     * @param admissionController the admission controller
      * @return {@linkplain ShenyuWebHandler}
      */
     @Bean("webHandler")
-    public ShenyuWebHandler shenyuWebHandler(final ObjectProvider<List<ShenyuPlugin>> plugins) {
+    public ShenyuWebHandler shenyuWebHandler(final ObjectProvider<List<ShenyuPlugin>> plugins, final ObjectProvider<AdmissionController> admissionController) {
         List<ShenyuPlugin> pluginList = plugins.getIfAvailable(Collections::emptyList);
         List<ShenyuPlugin> shenyuPlugins = pluginList.stream()
                 .sorted(Comparator.comparingInt(ShenyuPlugin::getOrder)).collect(Collectors.toList());
         shenyuPlugins.forEach(shenyuPlugin -> log.info("load plugin:[{}] [{}]", shenyuPlugin.named(), shenyuPlugin.getClass().getName()));
-        return new ShenyuWebHandler(shenyuPlugins);
+        return new ShenyuWebHandler(shenyuPlugins, admissionController.getIfAvailable());
+    }
+
+    /**
+     * The admission controller which sheds the requests when the gateway is overloaded.
+     *
+     * @param shenyuConfig the shenyu config
+     * @return the admission controller
+     */
+    @Bean
+    @ConditionalOnClass(name = "reactor.netty.http.HttpResources")
+    @ConditionalOnProperty(name = "shenyu.loadShedding.enabled", havingValue = "true")
+    public AdmissionController admissionController(final ShenyuConfig shenyuConfig) {
+        AdmissionController admissionController = new AdmissionController(shenyuConfig.getLoadShedding(),
+            () -> HttpResources.get().onServer(LoopResources.DEFAULT_NATIVE));
+        admissionController.start();
+        return admissionController;
     }
 
     /**
@@ -87,11 +111,12 @@ public class ShenyuConfiguration {
     /**
      * Param transform plugin shenyu plugin.
      *
+     * @param shenyuConfig the shenyu config
      * @return the shenyu plugin
      */
     @Bean
-    public ShenyuPlugin paramTransformPlugin() {
-        return new ParamTransformPlugin();
+    public ShenyuPlugin paramTransformPlugin(final ShenyuConfig shenyuConfig) {
+        return new ParamTransformPlugin(shenyuConfig.getParamTransform().getMaxInMemorySize());
     }
 
     /**
@@ -142,7 +167,7 @@ public class ShenyuConfiguration {
     @Order(-10)
     @ConditionalOnProperty(name = "shenyu.file.enabled", havingValue = "true")
     public WebFilter fileSizeFilter(final ShenyuConfig shenyuConfig) {
-        return new FileSizeFilter(shenyuConfig.getFileMaxSize());
+        return new FileSizeFilter(shenyuConfig.getFileMaxSize(), shenyuConfig.getFileMaxSizeRoutes());
     }
 
     /**
@@ -192,4 +217,30 @@ public class ShenyuConfiguration {
     public WebFilter webSocketWebFilter() {
         return new WebSocketParamFilter();
     }
+
+    /**
+     * The warm-up of the rpc references.
+     *
+     * @param shenyuConfig the shenyu config
+     * @return the reference warmup
+     */
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(name = "shenyu.warmup.enabled", havingValue = "true")
+    public ReferenceWarmup referenceWarmup(final ShenyuConfig shenyuConfig) {
+        ShenyuConfig.Warmup warmup = shenyuConfig.getWarmup();
+        ReferenceWarmup referenceWarmup = ReferenceWarmup.getInstance();
+        referenceWarmup.enable(warmup.getParallelism(), warmup.getTimeout());
+        return referenceWarmup;
+    }
+
+    /**
+     * The meta data subscriber which tells the reference warm-up when the full metadata is synced.
+     *
+     * @return the meta data subscriber
+     */
+    @Bean
+    @ConditionalOnProperty(name = "shenyu.warmup.enabled", havingValue = "true")
+    public MetaDataSubscriber referenceWarmupMetaDataSubscriber() {
+        return new ReferenceWarmupMetaDataSubscriber();
+    }
 }
@@ -18,6 +18,10 @@
 package org.apache.shenyu.web.configuration.properties;
 
 import lombok.Data;
+import org.apache.shenyu.web.admission.PriorityClass;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 /**
  * The type shenyu config.
@@ -32,4 +36,74 @@ public class ShenyuConfig {
     private Integer upstreamScheduledTime = 30;
 
     private Integer fileMaxSize = 10;
+
+    /**
+     * The file max size in MB by ant path pattern, overriding {@link #fileMaxSize}.
+     */
+    private Map<String, Integer> fileMaxSizeRoutes = new LinkedHashMap<>();
+
+    private ParamTransform paramTransform = new ParamTransform();
+
+    private Warmup warmup = new Warmup();
+
+    private LoadShedding loadShedding = new LoadShedding();
+
+    /**
+     * The param transform of the rpc requests, see {@code ParamTransformPlugin}.
+     */
+    @Data
+    public static class ParamTransform {
+
+        /**
+         * The max bytes of a json body kept in memory, -1 for no limit.
+         */
+        private int maxInMemorySize = 256 * 1024;
+    }
+
+    /**
+     * The warm-up of the rpc references, see {@code ReferenceWarmup}.
+     */
+    @Data
+    public static class Warmup {
+
+        private boolean enabled;
+
+        private int parallelism = 8;
+
+        /**
+         * The max milliseconds the readiness waits for the warm-up.
+         */
+        private long timeout = 30000;
+    }
+
+    /**
+     * The load shedding of the gateway, see {@code AdmissionController}.
+     */
+    @Data
+    public static class LoadShedding {
+
+        private boolean enabled;
+
+        /**
+         * The event loop scheduling lag in milliseconds from which the gateway is at full pressure.
+         */
+        private long maxEventLoopLag = 200;
+
+        /**
+         * The pending requests from which the gateway is at full pressure.
+         */
+        private int maxPending = 10000;
+
+        /**
+         * The milliseconds between two event loop lag samples.
+         */
+        private long sampleInterval = 100;
+
+        private PriorityClass defaultPriority = PriorityClass.NORMAL;
+
+        /**
+         * The priority class by rule id or rule name, overriding {@link #defaultPriority}.
+         */
+        private Map<String, PriorityClass> rulePriorities = new LinkedHashMap<>();
+    }
 }
@@ -20,84 +20,97 @@ package org.apache.shenyu.web.filter;
 import org.apache.shenyu.plugin.api.result.ShenyuResultEnum;
 import org.apache.shenyu.plugin.api.result.ShenyuResultWrap;
 import org.apache.shenyu.plugin.api.utils.WebFluxResultUtils;
-import org.apache.shenyu.plugin.base.support.BodyInserterContext;
-import org.apache.shenyu.plugin.base.support.CachedBodyOutputMessage;
 import org.springframework.core.io.buffer.DataBuffer;
-import org.springframework.http.HttpHeaders;
+import org.springframework.core.io.buffer.DataBufferLimitException;
+import org.springframework.core.io.buffer.DataBufferUtils;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
-import org.springframework.http.ReactiveHttpOutputMessage;
-import org.springframework.http.codec.HttpMessageReader;
 import org.springframework.http.server.reactive.ServerHttpRequest;
 import org.springframework.http.server.reactive.ServerHttpRequestDecorator;
 import org.springframework.http.server.reactive.ServerHttpResponse;
 import org.springframework.lang.NonNull;
-import org.springframework.web.reactive.function.BodyInserter;
-import org.springframework.web.reactive.function.BodyInserters;
-import org.springframework.web.reactive.function.server.HandlerStrategies;
-import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.util.AntPathMatcher;
 import org.springframework.web.server.ServerWebExchange;
 import org.springframework.web.server.WebFilter;
 import org.springframework.web.server.WebFilterChain;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
-import java.util.List;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * The type File size filter.
+ *
+ * <p>Multipart bodies are never buffered, a request is rejected up front when its Content-Length is over the limit,
+ * otherwise the bytes are counted as they flow to the upstream and the body fails once the limit is crossed.
  */
 public class FileSizeFilter implements WebFilter {
 
     private static final int BYTES_PER_MB = 1024 * 1024;
 
-    private final int fileMaxSize;
+    private static final AntPathMatcher MATCHER = new AntPathMatcher();
+
+    private final long fileMaxSize;
 
-    private final List<HttpMessageReader<?>> messageReaders;
+    private final Map<String, Long> routeMaxSizes;
 
     public FileSizeFilter(final int fileMaxSize) {
-        HandlerStrategies handlerStrategies = HandlerStrategies.builder().codecs(configurer -> configurer.defaultCodecs().maxInMemorySize(fileMaxSize * BYTES_PER_MB)).build();
-        this.messageReaders = handlerStrategies.messageReaders();
-        this.fileMaxSize = fileMaxSize;
+        this(fileMaxSize, Collections.emptyMap());
+    }
+
+    /**
+     * Instantiates a new File size filter.
+     *
+     * @param fileMaxSize   the default max size in MB
+     * @param routeMaxSizes the max size in MB by ant path pattern, the first matched pattern wins
+     */
+    public FileSizeFilter(final int fileMaxSize, final Map<String, Integer> routeMaxSizes) {
+        this.fileMaxSize = (long) fileMaxSize * BYTES_PER_MB;
+        this.routeMaxSizes = new LinkedHashMap<>(routeMaxSizes.size());
+        routeMaxSizes.forEach((pattern, size) -> this.routeMaxSizes.put(pattern, (long) size * BYTES_PER_MB));
     }
 
     @Override
     public Mono<Void> filter(@NonNull final ServerWebExchange exchange, @NonNull final WebFilterChain chain) {
         MediaType mediaType = exchange.getRequest().getHeaders().getContentType();
         if (MediaType.MULTIPART_FORM_DATA.isCompatibleWith(mediaType)) {
-            ServerRequest serverRequest = ServerRequest.create(exchange,
-                    messageReaders);
-            return serverRequest.bodyToMono(DataBuffer.class)
-                    .flatMap(size -> {
-                        if (size.capacity() > BYTES_PER_MB * fileMaxSize) {
-                            ServerHttpResponse response = exchange.getResponse();
-                            response.setStatusCode(HttpStatus.BAD_REQUEST);
-                            Object error = ShenyuResultWrap.error(ShenyuResultEnum.PAYLOAD_TOO_LARGE.getCode(), ShenyuResultEnum.PAYLOAD_TOO_LARGE.getMsg(), null);
-                            return WebFluxResultUtils.result(exchange, error);
-                        }
-                        BodyInserter<Mono<DataBuffer>, ReactiveHttpOutputMessage> bodyInsert = BodyInserters.fromPublisher(Mono.just(size), DataBuffer.class);
-                        HttpHeaders headers = new HttpHeaders();
-                        headers.putAll(exchange.getRequest().getHeaders());
-                        headers.remove(HttpHeaders.CONTENT_LENGTH);
-                        CachedBodyOutputMessage outputMessage = new CachedBodyOutputMessage(
-                                exchange, headers);
-                        return bodyInsert.insert(outputMessage, new BodyInserterContext())
-                                .then(Mono.defer(() -> {
-                                    ServerHttpRequest decorator = decorate(exchange, outputMessage);
-                                    return chain.filter(exchange.mutate().request(decorator).build());
-
-                                }));
-                    });
+            long maxSize = obtainMaxSize(exchange.getRequest().getURI().getPath());
+            if (exchange.getRequest().getHeaders().getContentLength() > maxSize) {
+                ServerHttpResponse response = exchange.getResponse();
+                response.setStatusCode(HttpStatus.BAD_REQUEST);
+                Object error = ShenyuResultWrap.error(ShenyuResultEnum.PAYLOAD_TOO_LARGE.getCode(), ShenyuResultEnum.PAYLOAD_TOO_LARGE.getMsg(), null);
+                return WebFluxResultUtils.result(exchange, error);
+            }
+            return chain.filter(exchange.mutate().request(decorate(exchange.getRequest(), maxSize)).build());
         }
         return chain.filter(exchange);
 
     }
 
-    private ServerHttpRequestDecorator decorate(final ServerWebExchange exchange, final CachedBodyOutputMessage outputMessage) {
-        return new ServerHttpRequestDecorator(exchange.getRequest()) {
+    private long obtainMaxSize(final String path) {
+        for (Map.Entry<String, Long> entry : routeMaxSizes.entrySet()) {
+            if (MATCHER.match(entry.getKey(), path)) {
+                return entry.getValue();
+            }
+        }
+        return fileMaxSize;
+    }
+
+    private ServerHttpRequestDecorator decorate(final ServerHttpRequest request, final long maxSize) {
+        return new ServerHttpRequestDecorator(request) {
             @Override
             public Flux<DataBuffer> getBody() {
-                return outputMessage.getBody();
+                AtomicLong total = new AtomicLong();
+                return super.getBody().map(buffer -> {
+                    if (total.addAndGet(buffer.readableByteCount()) > maxSize) {
+                        DataBufferUtils.release(buffer);
+                        throw new DataBufferLimitException(ShenyuResultEnum.PAYLOAD_TOO_LARGE.getMsg() + " max bytes : " + maxSize);
+                    }
+                    return buffer;
+                });
             }
         };
     }
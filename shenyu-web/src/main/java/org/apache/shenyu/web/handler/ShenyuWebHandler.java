@@ -19,6 +19,10 @@ package org.apache.shenyu.web.handler;
 
 import org.apache.shenyu.plugin.api.ShenyuPlugin;
 import org.apache.shenyu.plugin.api.ShenyuPluginChain;
+import org.apache.shenyu.plugin.api.result.ShenyuResultEnum;
+import org.apache.shenyu.plugin.api.utils.WebFluxResultUtils;
+import org.apache.shenyu.web.admission.AdmissionController;
+import org.springframework.http.HttpStatus;
 import org.springframework.lang.NonNull;
 import org.springframework.web.server.ServerWebExchange;
 import org.springframework.web.server.WebHandler;
@@ -36,6 +40,8 @@ public final class ShenyuWebHandler implements WebHandler {
 
     private final List<ShenyuPlugin> plugins;
     
+    private final AdmissionController admissionController;
+    
     private final boolean scheduled;
 
     private Scheduler scheduler;
@@ -46,7 +52,18 @@ public final class ShenyuWebHandler implements WebHandler {
      * @param plugins the plugins
      */
     public ShenyuWebHandler(final List<ShenyuPlugin> plugins) {
+        this(plugins, null);
+    }
+    
+    /**
+     * Instantiates a new shenyu web handler.
+     *
+     * @param plugins the plugins
+     * @param admissionController the admission controller, null if the load shedding is disabled
+     */
+    public ShenyuWebHandler(final List<ShenyuPlugin> plugins, final AdmissionController admissionController) {
         this.plugins = plugins;
+        this.admissionController = admissionController;
         String enabled = System.getProperty("shenyu.scheduler.enabled", "false");
         this.scheduled = Boolean.parseBoolean(enabled);
         if (scheduled) {
@@ -69,7 +86,14 @@ public final class ShenyuWebHandler implements WebHandler {
      */
     @Override
     public Mono<Void> handle(@NonNull final ServerWebExchange exchange) {
+        if (Objects.nonNull(admissionController) && !admissionController.tryAcquire(exchange)) {
+            exchange.getResponse().setStatusCode(HttpStatus.SERVICE_UNAVAILABLE);
+            return WebFluxResultUtils.error(exchange, ShenyuResultEnum.GATEWAY_OVERLOADED);
+        }
         Mono<Void> execute = new DefaultShenyuPluginChain(plugins).execute(exchange);
+        if (Objects.nonNull(admissionController)) {
+            execute = execute.doFinally(signalType -> admissionController.release());
+        }
         if (scheduled) {
             return execute.subscribeOn(scheduler);
         }
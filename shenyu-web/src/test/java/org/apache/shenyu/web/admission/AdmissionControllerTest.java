@@ -0,0 +1,167 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.web.admission;
+
+import org.apache.shenyu.common.constant.Constants;
+import org.apache.shenyu.common.dto.RuleData;
+import org.apache.shenyu.metrics.constant.LabelNames;
+import org.apache.shenyu.metrics.reporter.MetricsReporter;
+import org.apache.shenyu.metrics.spi.MetricsRegister;
+import org.apache.shenyu.web.configuration.properties.ShenyuConfig;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.ServerWebExchange;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Test case for {@link AdmissionController}.
+ */
+public final class AdmissionControllerTest {
+
+    private final List<Runnable> probes = new ArrayList<>();
+
+    private ShenyuConfig.LoadShedding loadShedding;
+
+    @Before
+    public void setUp() {
+        loadShedding = new ShenyuConfig.LoadShedding();
+        loadShedding.setEnabled(true);
+        loadShedding.setMaxPending(4);
+        loadShedding.setMaxEventLoopLag(100);
+        loadShedding.getRulePriorities().put("checkout", PriorityClass.CRITICAL);
+        loadShedding.getRulePriorities().put("report", PriorityClass.LOW);
+    }
+
+    @Test
+    public void testPriorityOf() {
+        AdmissionController controller = new AdmissionController(loadShedding, () -> probes::add);
+        assertEquals(PriorityClass.CRITICAL, controller.priorityOf(rule("1", "checkout")));
+        assertEquals(PriorityClass.NORMAL, controller.priorityOf(rule("2", "other")));
+        loadShedding.getRulePriorities().put("3", PriorityClass.HIGH);
+        assertEquals(PriorityClass.HIGH, new AdmissionController(loadShedding, () -> probes::add).priorityOf(rule("3", "report")));
+    }
+
+    @Test
+    public void testShedByPriority() {
+        AdmissionController controller = new AdmissionController(loadShedding, () -> probes::add);
+        ServerWebExchange first = exchange();
+        assertTrue(controller.tryAcquire(first));
+        assertNull(first.getAttribute(Constants.ADMISSION_CHECK));
+        assertTrue(controller.tryAcquire(exchange()));
+        ServerWebExchange third = exchange();
+        assertTrue(controller.tryAcquire(third));
+        Predicate<RuleData> check = third.getAttribute(Constants.ADMISSION_CHECK);
+        assertNotNull(check);
+        assertFalse(check.test(rule("1", "report")));
+        assertTrue(check.test(rule("2", "other")));
+        ServerWebExchange fourth = exchange();
+        assertTrue(controller.tryAcquire(fourth));
+        check = fourth.getAttribute(Constants.ADMISSION_CHECK);
+        assertNotNull(check);
+        assertFalse(check.test(rule("2", "other")));
+        assertTrue(check.test(rule("3", "checkout")));
+        assertEquals(4, controller.getPending());
+        controller.release();
+        controller.release();
+        controller.release();
+        controller.release();
+        assertEquals(0, controller.getPending());
+    }
+
+    @Test
+    public void testRejectWhenNoPriorityIsAdmitted() {
+        loadShedding.getRulePriorities().clear();
+        AdmissionController controller = new AdmissionController(loadShedding, () -> probes::add);
+        assertTrue(controller.tryAcquire(exchange()));
+        assertTrue(controller.tryAcquire(exchange()));
+        assertTrue(controller.tryAcquire(exchange()));
+        assertFalse(controller.tryAcquire(exchange()));
+        assertEquals(3, controller.getPending());
+    }
+
+    @Test
+    public void testSampleEventLoopLag() throws InterruptedException {
+        AdmissionController controller = new AdmissionController(loadShedding, () -> probes::add);
+        controller.sample();
+        assertEquals(1, probes.size());
+        TimeUnit.MILLISECONDS.sleep(210);
+        controller.sample();
+        assertEquals(1, probes.size());
+        assertTrue(controller.getLagNanos() >= TimeUnit.MILLISECONDS.toNanos(210));
+        assertTrue(controller.pressure() >= 2.0);
+        assertFalse(controller.tryAcquire(exchange()));
+        probes.get(0).run();
+        controller.sample();
+        assertEquals(2, probes.size());
+        probes.get(1).run();
+        assertTrue(controller.getLagNanos() < TimeUnit.MILLISECONDS.toNanos(150));
+    }
+
+    @Test
+    public void testReport() {
+        MetricsRegister metricsRegister = mock(MetricsRegister.class);
+        MetricsReporter.register(metricsRegister);
+        // only the samples of the test are reported
+        loadShedding.setSampleInterval(60000);
+        AdmissionController controller = new AdmissionController(loadShedding, () -> probes::add);
+        try {
+            controller.start();
+            verify(metricsRegister).registerGauge(eq(LabelNames.ADMISSION_EVENT_LOOP_LAG), any(), anyString());
+            verify(metricsRegister).registerGauge(eq(LabelNames.ADMISSION_PENDING), any(), anyString());
+            verify(metricsRegister).registerCounter(eq(LabelNames.ADMISSION_REJECTED_TOTAL), any(), anyString());
+            reset(metricsRegister);
+            assertTrue(controller.tryAcquire(exchange()));
+            controller.sample();
+            controller.sample();
+            verify(metricsRegister, never()).registerGauge(anyString(), any(), anyString());
+            verify(metricsRegister, never()).registerCounter(anyString(), any(), anyString());
+            verify(metricsRegister, atLeast(2)).gaugeSet(LabelNames.ADMISSION_PENDING, null, 1);
+        } finally {
+            controller.close();
+            MetricsReporter.register(null);
+        }
+    }
+
+    private static RuleData rule(final String id, final String name) {
+        return RuleData.builder().id(id).name(name).build();
+    }
+
+    private static ServerWebExchange exchange() {
+        return MockServerWebExchange.from(MockServerHttpRequest.get("localhost").build());
+    }
+}
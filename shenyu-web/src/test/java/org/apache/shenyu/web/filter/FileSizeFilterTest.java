@@ -22,17 +22,28 @@ import org.apache.shenyu.plugin.api.utils.SpringBeanUtils;
 import org.junit.Before;
 import org.junit.Test;
 import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferLimitException;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.server.reactive.ServerHttpRequest;
 import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
 import org.springframework.mock.web.server.MockServerWebExchange;
 import org.springframework.web.server.ServerWebExchange;
 import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
+import java.util.Collections;
+
+import static org.junit.Assert.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.http.HttpHeaders.CONTENT_TYPE;
 import static org.springframework.http.MediaType.MULTIPART_FORM_DATA;
@@ -42,6 +53,8 @@ import static org.springframework.http.MediaType.MULTIPART_FORM_DATA;
  */
 public class FileSizeFilterTest {
 
+    private static final int BYTES_PER_MB = 1024 * 1024;
+
     @Before
     public void setup() {
         GenericApplicationContext context = new GenericApplicationContext();
@@ -74,4 +87,53 @@ public class FileSizeFilterTest {
         voidMono = fileSizeFilter.filter(webExchange, webFilterChain);
         StepVerifier.create(voidMono).expectSubscription().verifyComplete();
     }
+
+    @Test
+    public void testFilterRejectByContentLength() {
+        ServerWebExchange webExchange = multipart(MockServerHttpRequest
+                .post("http://localhost:8080/upload")
+                .contentType(MediaType.TEXT_PLAIN)
+                .contentLength(2 * BYTES_PER_MB)
+                .body("test"));
+        WebFilterChain webFilterChain = mock(WebFilterChain.class);
+        FileSizeFilter fileSizeFilter = new FileSizeFilter(1);
+        StepVerifier.create(fileSizeFilter.filter(webExchange, webFilterChain)).expectSubscription().verifyComplete();
+        verify(webFilterChain, never()).filter(any());
+        assertEquals(HttpStatus.BAD_REQUEST, webExchange.getResponse().getStatusCode());
+    }
+
+    @Test
+    public void testFilterStreamingLimitByRoute() {
+        byte[] body = new byte[2 * BYTES_PER_MB];
+        WebFilterChain webFilterChain = mock(WebFilterChain.class);
+        when(webFilterChain.filter(any())).thenAnswer(invocation -> {
+            ServerWebExchange exchange = invocation.getArgument(0);
+            return DataBufferUtils.join(exchange.getRequest().getBody()).doOnNext(DataBufferUtils::release).then();
+        });
+        FileSizeFilter fileSizeFilter = new FileSizeFilter(10, Collections.singletonMap("/upload/**", 1));
+
+        ServerWebExchange limited = multipart(MockServerHttpRequest
+                .post("http://localhost:8080/upload/file")
+                .contentType(MediaType.TEXT_PLAIN)
+                .body(Flux.just(wrap(body, 0, BYTES_PER_MB), wrap(body, BYTES_PER_MB, BYTES_PER_MB))));
+        StepVerifier.create(fileSizeFilter.filter(limited, webFilterChain)).expectError(DataBufferLimitException.class).verify();
+
+        ServerWebExchange unlimited = multipart(MockServerHttpRequest
+                .post("http://localhost:8080/other")
+                .contentType(MediaType.TEXT_PLAIN)
+                .body(Flux.just(wrap(body, 0, BYTES_PER_MB), wrap(body, BYTES_PER_MB, BYTES_PER_MB))));
+        StepVerifier.create(fileSizeFilter.filter(unlimited, webFilterChain)).expectSubscription().verifyComplete();
+    }
+
+    private ServerWebExchange multipart(final MockServerHttpRequest request) {
+        ServerWebExchange webExchange = MockServerWebExchange.from(request);
+        ServerHttpRequest mutatedRequest = webExchange.getRequest().mutate().header(CONTENT_TYPE,
+                String.valueOf(MULTIPART_FORM_DATA)).build();
+        return webExchange.mutate().request(mutatedRequest).build();
+    }
+
+    private DataBuffer wrap(final byte[] bytes, final int offset, final int length) {
+        DataBuffer buffer = new DefaultDataBufferFactory().allocateBuffer(length);
+        return buffer.write(bytes, offset, length);
+    }
 }
@@ -20,19 +20,32 @@ package org.apache.shenyu.web.handler;
 import org.apache.shenyu.common.constant.Constants;
 import org.apache.shenyu.plugin.api.ShenyuPlugin;
 import org.apache.shenyu.plugin.api.context.ShenyuContext;
+import org.apache.shenyu.plugin.api.result.DefaultShenyuResult;
+import org.apache.shenyu.plugin.api.result.ShenyuResult;
+import org.apache.shenyu.plugin.api.utils.SpringBeanUtils;
+import org.apache.shenyu.web.admission.AdmissionController;
+import org.apache.shenyu.web.configuration.properties.ShenyuConfig;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.HttpStatus;
 import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
 import org.springframework.mock.web.server.MockServerWebExchange;
 import org.springframework.web.server.ServerWebExchange;
+import reactor.core.Disposable;
 import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
 
 import java.net.InetSocketAddress;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 /**
  * test for ShenyuWebHandler.
@@ -63,4 +76,26 @@ public class ShenyuWebHandlerTest {
         Mono<Void> handle = shenyuWebHandler.handle(exchange);
         Assert.assertNotNull(handle);
     }
+
+    @Test
+    public void handleOverloaded() {
+        ConfigurableApplicationContext context = mock(ConfigurableApplicationContext.class);
+        when(context.getBean(ShenyuResult.class)).thenReturn(new DefaultShenyuResult());
+        SpringBeanUtils.getInstance().setCfgContext(context);
+        ShenyuConfig.LoadShedding loadShedding = new ShenyuConfig.LoadShedding();
+        loadShedding.setMaxPending(1);
+        AdmissionController admissionController = new AdmissionController(loadShedding, () -> Runnable::run);
+        ShenyuPlugin plugin = mock(ShenyuPlugin.class);
+        when(plugin.skip(any())).thenReturn(false);
+        when(plugin.execute(any(), any())).thenReturn(Mono.never());
+        ShenyuWebHandler handler = new ShenyuWebHandler(Collections.singletonList(plugin), admissionController);
+        final ServerWebExchange pending = MockServerWebExchange.from(MockServerHttpRequest.get("localhost").build());
+        final Disposable disposable = handler.handle(pending).subscribe();
+        assertEquals(1, admissionController.getPending());
+        final ServerWebExchange rejected = MockServerWebExchange.from(MockServerHttpRequest.get("localhost").build());
+        StepVerifier.create(handler.handle(rejected)).verifyComplete();
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, rejected.getResponse().getStatusCode());
+        disposable.dispose();
+        assertEquals(0, admissionController.getPending());
+    }
 }